@@ -0,0 +1,162 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.hibernate.internal.build.AllowSysOut;
+
+/**
+ * Compares two JMH result files in CSV format ({@code -rf csv}) and reports, per benchmark and
+ * parameter combination, the relative change of the score.  Exits with a non-zero status if any
+ * benchmark regressed by more than the given threshold (in percent, default 10).
+ * <p>
+ * Usage: {@code BaselineComparison <baseline.csv> <current.csv> [threshold]}
+ */
+public final class BaselineComparison {
+	private BaselineComparison() {
+	}
+
+	@AllowSysOut
+	public static void main(String[] args) throws IOException {
+		if ( args.length < 2 ) {
+			System.out.println( "Usage: BaselineComparison <baseline.csv> <current.csv> [threshold-percent]" );
+			System.exit( 2 );
+		}
+		final Map<String, Result> baseline = read( Path.of( args[0] ) );
+		final Map<String, Result> current = read( Path.of( args[1] ) );
+		final double threshold = args.length > 2 ? Double.parseDouble( args[2] ) : 10d;
+
+		int regressions = 0;
+		for ( Map.Entry<String, Result> entry : current.entrySet() ) {
+			final Result now = entry.getValue();
+			final Result before = baseline.get( entry.getKey() );
+			if ( before == null ) {
+				System.out.printf( Locale.ROOT, "  NEW   %s: %.3f %s%n", entry.getKey(), now.score, now.unit );
+				continue;
+			}
+			final double change = ( now.score - before.score ) / before.score * 100d;
+			// for throughput higher is better, for all time-based modes lower is better
+			final double worsening = now.higherIsBetter() ? -change : change;
+			final boolean regressed = worsening > threshold
+					&& Math.abs( now.score - before.score ) > now.error + before.error;
+			if ( regressed ) {
+				regressions++;
+			}
+			System.out.printf(
+					Locale.ROOT,
+					"%s %s: %.3f -> %.3f %s (%+.1f%%)%n",
+					regressed ? "! SLOWER" : "  ok    ",
+					entry.getKey(),
+					before.score,
+					now.score,
+					now.unit,
+					change
+			);
+		}
+
+		if ( regressions > 0 ) {
+			System.out.printf( Locale.ROOT, "%d benchmark(s) regressed by more than %.1f%%%n", regressions, threshold );
+			System.exit( 1 );
+		}
+	}
+
+	private static Map<String, Result> read(Path file) throws IOException {
+		final List<String> lines = Files.readAllLines( file, StandardCharsets.UTF_8 );
+		final Map<String, Result> results = new LinkedHashMap<>();
+		if ( lines.isEmpty() ) {
+			return results;
+		}
+		final List<String> header = parseLine( lines.get( 0 ) );
+		for ( int i = 1; i < lines.size(); i++ ) {
+			if ( lines.get( i ).isBlank() ) {
+				continue;
+			}
+			final List<String> columns = parseLine( lines.get( i ) );
+			final StringBuilder key = new StringBuilder( columns.get( 0 ) );
+			for ( int c = 7; c < columns.size() && c < header.size(); c++ ) {
+				if ( !columns.get( c ).isEmpty() ) {
+					key.append( " [" ).append( header.get( c ).replace( "Param: ", "" ) )
+							.append( '=' ).append( columns.get( c ) ).append( ']' );
+				}
+			}
+			results.put(
+					key.toString(),
+					new Result(
+							columns.get( 1 ),
+							Double.parseDouble( columns.get( 4 ) ),
+							columns.get( 5 ).isEmpty() || "NaN".equals( columns.get( 5 ) )
+									? 0d
+									: Double.parseDouble( columns.get( 5 ) ),
+							columns.get( 6 )
+					)
+			);
+		}
+		return results;
+	}
+
+	private static List<String> parseLine(String line) {
+		final List<String> columns = new ArrayList<>();
+		final StringBuilder column = new StringBuilder();
+		boolean quoted = false;
+		for ( int i = 0; i < line.length(); i++ ) {
+			final char c = line.charAt( i );
+			if ( quoted ) {
+				if ( c == '"' ) {
+					if ( i + 1 < line.length() && line.charAt( i + 1 ) == '"' ) {
+						column.append( '"' );
+						i++;
+					}
+					else {
+						quoted = false;
+					}
+				}
+				else {
+					column.append( c );
+				}
+			}
+			else if ( c == '"' ) {
+				quoted = true;
+			}
+			else if ( c == ',' ) {
+				columns.add( column.toString() );
+				column.setLength( 0 );
+			}
+			else {
+				column.append( c );
+			}
+		}
+		columns.add( column.toString() );
+		return columns;
+	}
+
+	private static final class Result {
+		private final String mode;
+		private final double score;
+		private final double error;
+		private final String unit;
+
+		private Result(String mode, double score, double error, String unit) {
+			this.mode = mode;
+			this.score = score;
+			this.error = error;
+			this.unit = unit;
+		}
+
+		private boolean higherIsBetter() {
+			return "thrpt".equals( mode );
+		}
+	}
+}
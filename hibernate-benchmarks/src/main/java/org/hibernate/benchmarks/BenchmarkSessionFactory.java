@@ -0,0 +1,92 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.benchmarks.model.Customer;
+import org.hibernate.benchmarks.model.PurchaseOrder;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * Builds the {@link SessionFactory} shared by the benchmarks: the {@link Customer} /
+ * {@link PurchaseOrder} model mapped to a private in-memory H2 database.
+ */
+public final class BenchmarkSessionFactory {
+	private BenchmarkSessionFactory() {
+	}
+
+	/**
+	 * Build a SessionFactory over a fresh in-memory H2 database named {@code databaseName}.
+	 *
+	 * @param databaseName Distinguishes the H2 database so concurrently set-up states do not share data
+	 * @param overrides Additional settings, applied last
+	 */
+	public static SessionFactoryImplementor build(String databaseName, Map<String, Object> overrides) {
+		final StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.URL, "jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1" )
+				.applySetting( AvailableSettings.USER, "sa" )
+				.applySetting( AvailableSettings.PASS, "" )
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.applySetting( AvailableSettings.STATEMENT_BATCH_SIZE, 50 )
+				.applySetting( AvailableSettings.SHOW_SQL, false )
+				.applySetting( AvailableSettings.GENERATE_STATISTICS, false )
+				.applySettings( overrides )
+				.build();
+		try {
+			return (SessionFactoryImplementor) new MetadataSources( registry )
+					.addAnnotatedClass( Customer.class )
+					.addAnnotatedClass( PurchaseOrder.class )
+					.buildMetadata()
+					.buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( registry );
+			throw e;
+		}
+	}
+
+	public static SessionFactoryImplementor build(String databaseName) {
+		return build( databaseName, Map.of() );
+	}
+
+	/**
+	 * Insert {@code orderCount} orders, spread over {@code customerCount} customers.
+	 */
+	public static void populate(SessionFactory sessionFactory, int customerCount, int orderCount) {
+		try ( StatelessSession session = sessionFactory.openStatelessSession() ) {
+			final Transaction transaction = session.beginTransaction();
+			final Customer[] customers = new Customer[customerCount];
+			for ( int i = 0; i < customerCount; i++ ) {
+				customers[i] = new Customer( i, "customer #" + i, "customer" + i + "@example.org", i % 5 );
+				session.insert( customers[i] );
+			}
+			final LocalDate start = LocalDate.of( 2020, 1, 1 );
+			for ( int i = 0; i < orderCount; i++ ) {
+				session.insert(
+						new PurchaseOrder(
+								i,
+								"PO-" + i,
+								start.plusDays( i % 1000 ),
+								BigDecimal.valueOf( i, 2 ),
+								customers[i % customerCount]
+						)
+				);
+			}
+			transaction.commit();
+		}
+	}
+}
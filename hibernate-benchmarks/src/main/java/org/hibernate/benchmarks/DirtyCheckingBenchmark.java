@@ -0,0 +1,90 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.benchmarks.model.PurchaseOrder;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link Session#flush()} over a persistence context holding {@link #managedEntities}
+ * entities, {@link #modifiedEntities} of which are changed before each flush.  With no
+ * modifications this isolates the dirty-checking performed by
+ * {@link org.hibernate.event.internal.DefaultFlushEntityEventListener}.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 10, time = 1 )
+@Fork( 2 )
+public class DirtyCheckingBenchmark {
+	@Param( { "1000", "10000" } )
+	public int managedEntities;
+
+	@Param( { "0", "10" } )
+	public int modifiedEntities;
+
+	private SessionFactoryImplementor sessionFactory;
+	private Session session;
+	private Transaction transaction;
+	private List<PurchaseOrder> orders;
+	private long round;
+
+	@Setup
+	public void setUpSessionFactory() {
+		sessionFactory = BenchmarkSessionFactory.build( "dirty_checking" );
+		BenchmarkSessionFactory.populate( sessionFactory, 100, managedEntities );
+	}
+
+	@TearDown
+	public void tearDownSessionFactory() {
+		sessionFactory.close();
+	}
+
+	@Setup( Level.Iteration )
+	public void openSession() {
+		session = sessionFactory.openSession();
+		transaction = session.beginTransaction();
+		orders = session.createQuery( "from PurchaseOrder", PurchaseOrder.class ).getResultList();
+	}
+
+	@TearDown( Level.Iteration )
+	public void closeSession() {
+		transaction.rollback();
+		session.close();
+	}
+
+	@Benchmark
+	public void flush() {
+		round++;
+		for ( int i = 0; i < modifiedEntities; i++ ) {
+			orders.get( (int) ( ( round * modifiedEntities + i ) % managedEntities ) )
+					.setTotal( BigDecimal.valueOf( round ) );
+		}
+		session.flush();
+	}
+}
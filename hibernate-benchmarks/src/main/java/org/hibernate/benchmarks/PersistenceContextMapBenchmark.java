@@ -0,0 +1,80 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.internal.util.collections.OpenAddressingMap;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link HashMap} with {@link OpenAddressingMap}, as used for the entity and
+ * collection maps of the persistence context, when populating and probing large maps.
+ * Run with {@code -prof gc} to compare the allocation per entry.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 10, time = 1 )
+@Fork( 2 )
+public class PersistenceContextMapBenchmark {
+	@Param( { "HashMap", "OpenAddressingMap" } )
+	public String implementation;
+
+	@Param( { "500000" } )
+	public int entries;
+
+	private Long[] keys;
+	private Map<Long, Object> populated;
+
+	@Setup
+	public void setUp() {
+		keys = new Long[entries];
+		for ( int i = 0; i < entries; i++ ) {
+			keys[i] = (long) i * 31;
+		}
+		populated = populate();
+	}
+
+	private Map<Long, Object> newMap() {
+		return "HashMap".equals( implementation ) ? new HashMap<>() : new OpenAddressingMap<>();
+	}
+
+	@Benchmark
+	public Map<Long, Object> populate() {
+		final Map<Long, Object> map = newMap();
+		for ( Long key : keys ) {
+			map.put( key, key );
+		}
+		return map;
+	}
+
+	@Benchmark
+	public int lookup() {
+		int hits = 0;
+		for ( Long key : keys ) {
+			if ( populated.get( key ) != null ) {
+				hits++;
+			}
+		}
+		return hits;
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.internal.ParameterMetadataImpl;
+import org.hibernate.query.internal.QueryParameterBindingsImpl;
+import org.hibernate.query.spi.QueryEngine;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.sqm.internal.DomainParameterXref;
+import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the three phases of query translation separately, bypassing the query plan cache:
+ * <ol>
+ *     <li>{@link #buildSemanticModel} - HQL parsing and {@link org.hibernate.query.hql.internal.SemanticQueryBuilder}</li>
+ *     <li>{@link #convertToSqlAst} - {@link org.hibernate.query.sqm.sql.BaseSqmToSqlAstConverter}</li>
+ *     <li>{@link #renderSql} - {@link org.hibernate.sql.ast.spi.AbstractSqlAstTranslator}</li>
+ * </ol>
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 10, time = 1 )
+@Fork( 2 )
+public class QueryTranslationBenchmark {
+	@Param( {
+			"from PurchaseOrder o where o.id = :id",
+			"select o.code, c.name from PurchaseOrder o join o.customer c where c.rating > :rating and o.shipped = false order by o.orderDate desc",
+			"select c.name, count(o), sum(o.total) from PurchaseOrder o join o.customer c group by c.name having count(o) > 1",
+			"from PurchaseOrder o where o.customer.id in (select c.id from Customer c where c.email like :pattern)"
+	} )
+	public String hql;
+
+	private SessionFactoryImplementor sessionFactory;
+	private QueryEngine queryEngine;
+	private SqmSelectStatement<?> sqm;
+	private DomainParameterXref domainParameterXref;
+	private QueryParameterBindings parameterBindings;
+	private SelectStatement sqlAst;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build( "query_translation" );
+		queryEngine = sessionFactory.getQueryEngine();
+		sqm = (SqmSelectStatement<?>) buildSemanticModel();
+		domainParameterXref = DomainParameterXref.from( sqm );
+		parameterBindings = QueryParameterBindingsImpl.from(
+				new ParameterMetadataImpl( domainParameterXref.getQueryParameters() ),
+				sessionFactory
+		);
+		sqlAst = convertToSqlAst();
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public SqmStatement<Object> buildSemanticModel() {
+		return queryEngine.getHqlTranslator().translate( hql, null );
+	}
+
+	@Benchmark
+	public SelectStatement convertToSqlAst() {
+		return queryEngine.getSqmTranslatorFactory()
+				.createSelectTranslator(
+						sqm,
+						QueryOptions.NONE,
+						domainParameterXref,
+						parameterBindings,
+						LoadQueryInfluencers.NONE,
+						sessionFactory,
+						true
+				)
+				.translate()
+				.getSqlAst();
+	}
+
+	@Benchmark
+	public JdbcOperationQuerySelect renderSql() {
+		return sessionFactory.getJdbcServices()
+				.getJdbcEnvironment()
+				.getSqlAstTranslatorFactory()
+				.buildSelectTranslator( sessionFactory, sqlAst )
+				.translate( JdbcParameterBindings.NO_BINDINGS, QueryOptions.NONE );
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.benchmarks.model.Customer;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.testing.cache.CachingRegionFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jakarta.persistence.SharedCacheMode;
+
+/**
+ * Measures the throughput of concurrent access to a {@code READ_WRITE} entity region through
+ * {@link org.hibernate.cache.spi.support.AbstractReadWriteAccess}, which guards each cached
+ * item with a lock.  The {@code mixed} group has readers hitting the cache while a writer
+ * goes through the {@code lockItem} / {@code afterUpdate} cycle of an update, on different keys.
+ * <p>
+ * Run with {@code -t} (or {@code -tg} for the group) set to the number of cores to see how
+ * throughput scales.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 10, time = 1 )
+@Fork( 2 )
+public class ReadWriteCacheContentionBenchmark {
+	@Param( { "1000" } )
+	public int cachedEntities;
+
+	private SessionFactoryImplementor sessionFactory;
+	private EntityDataAccess cacheAccess;
+	private Object[] keys;
+	private Object[] entries;
+
+	@Setup
+	public void setUpSessionFactory() {
+		sessionFactory = BenchmarkSessionFactory.build(
+				"read_write_cache",
+				Map.of(
+						AvailableSettings.USE_SECOND_LEVEL_CACHE, true,
+						AvailableSettings.CACHE_REGION_FACTORY, CachingRegionFactory.class.getName(),
+						AvailableSettings.JAKARTA_SHARED_CACHE_MODE, SharedCacheMode.ALL,
+						AvailableSettings.DEFAULT_CACHE_CONCURRENCY_STRATEGY, "read-write"
+				)
+		);
+		BenchmarkSessionFactory.populate( sessionFactory, cachedEntities, 0 );
+
+		final EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor( Customer.class );
+		cacheAccess = persister.getCacheAccessStrategy();
+		keys = new Object[cachedEntities];
+		for ( int i = 0; i < cachedEntities; i++ ) {
+			keys[i] = cacheAccess.generateCacheKey( i, persister, sessionFactory, null );
+		}
+
+		// loading puts every customer into the cache
+		entries = new Object[cachedEntities];
+		sessionFactory.inSession( session -> {
+			session.createQuery( "from Customer", Customer.class ).getResultList();
+			for ( int i = 0; i < cachedEntities; i++ ) {
+				entries[i] = cacheAccess.get( session, keys[i] );
+			}
+		} );
+	}
+
+	@TearDown
+	public void tearDownSessionFactory() {
+		sessionFactory.close();
+	}
+
+	@State( Scope.Thread )
+	public static class SessionState {
+		private SessionImplementor session;
+		private int next;
+
+		@Setup
+		public void openSession(ReadWriteCacheContentionBenchmark benchmark) {
+			session = (SessionImplementor) benchmark.sessionFactory.openSession();
+			// start each thread on different keys
+			next = System.identityHashCode( this );
+		}
+
+		@TearDown
+		public void closeSession() {
+			session.close();
+		}
+
+		private int nextIndex(int count) {
+			next = ( next + 1 ) & Integer.MAX_VALUE;
+			return next % count;
+		}
+	}
+
+	@Benchmark
+	@Threads( 4 )
+	public Object read(SessionState state) {
+		return cacheAccess.get( state.session, keys[state.nextIndex( cachedEntities )] );
+	}
+
+	@Benchmark
+	@Group( "mixed" )
+	@GroupThreads( 3 )
+	public Object mixedRead(SessionState state) {
+		return cacheAccess.get( state.session, keys[state.nextIndex( cachedEntities )] );
+	}
+
+	@Benchmark
+	@Group( "mixed" )
+	@GroupThreads( 1 )
+	public boolean mixedWrite(SessionState state) {
+		final int index = state.nextIndex( cachedEntities );
+		final SoftLock lock = cacheAccess.lockItem( state.session, keys[index], null );
+		return cacheAccess.afterUpdate( state.session, keys[index], entries[index], null, null, lock );
+	}
+}
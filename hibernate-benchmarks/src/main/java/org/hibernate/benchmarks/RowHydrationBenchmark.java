@@ -0,0 +1,80 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.benchmarks.model.PurchaseOrder;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the reading of query results, exercising
+ * {@link org.hibernate.sql.results.internal.StandardRowReader} and
+ * {@link org.hibernate.sql.results.jdbc.internal.JdbcValuesResultSetImpl}
+ * for scalar, entity and join-fetched entity results.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 10, time = 1 )
+@Fork( 2 )
+public class RowHydrationBenchmark {
+	@Param( { "100", "10000" } )
+	public int rows;
+
+	private SessionFactoryImplementor sessionFactory;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build( "row_hydration" );
+		BenchmarkSessionFactory.populate( sessionFactory, Math.max( 1, rows / 10 ), rows );
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public List<Object[]> scalars() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createQuery( "select o.id, o.code, o.orderDate, o.total from PurchaseOrder o", Object[].class )
+					.getResultList();
+		}
+	}
+
+	@Benchmark
+	public List<PurchaseOrder> entities() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createQuery( "from PurchaseOrder", PurchaseOrder.class ).getResultList();
+		}
+	}
+
+	@Benchmark
+	public List<PurchaseOrder> entitiesWithFetchedAssociation() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createQuery( "from PurchaseOrder o join fetch o.customer", PurchaseOrder.class )
+					.getResultList();
+		}
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+/**
+ * Order entity of the benchmark domain model, referencing a {@link Customer}.
+ */
+@Entity
+@Table( name = "purchase_orders" )
+public class PurchaseOrder {
+	@Id
+	private Integer id;
+	private String code;
+	private LocalDate orderDate;
+	private BigDecimal total;
+	private boolean shipped;
+	@ManyToOne( fetch = FetchType.LAZY )
+	private Customer customer;
+
+	protected PurchaseOrder() {
+	}
+
+	public PurchaseOrder(Integer id, String code, LocalDate orderDate, BigDecimal total, Customer customer) {
+		this.id = id;
+		this.code = code;
+		this.orderDate = orderDate;
+		this.total = total;
+		this.customer = customer;
+	}
+
+	public Integer getId() {
+		return id;
+	}
+
+	public String getCode() {
+		return code;
+	}
+
+	public void setCode(String code) {
+		this.code = code;
+	}
+
+	public LocalDate getOrderDate() {
+		return orderDate;
+	}
+
+	public BigDecimal getTotal() {
+		return total;
+	}
+
+	public void setTotal(BigDecimal total) {
+		this.total = total;
+	}
+
+	public boolean isShipped() {
+		return shipped;
+	}
+
+	public void setShipped(boolean shipped) {
+		this.shipped = shipped;
+	}
+
+	public Customer getCustomer() {
+		return customer;
+	}
+}
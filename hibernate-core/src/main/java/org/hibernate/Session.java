@@ -11,6 +11,7 @@ import java.util.List;
 import jakarta.persistence.CacheRetrieveMode;
 import jakarta.persistence.CacheStoreMode;
 import jakarta.persistence.PessimisticLockScope;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.graph.RootGraph;
 import org.hibernate.query.Query;
 import org.hibernate.stat.SessionStatistics;
@@ -1221,6 +1222,24 @@ public interface Session extends SharedSessionContract, EntityManager {
 	 */
 	void setReadOnly(Object entityOrProxy, boolean readOnly);
 
+	/**
+	 * Hint that the given entity or proxy may have been modified, so that
+	 * the next flush dirty-checks it.
+	 * <p>
+	 * This is only needed when {@value org.hibernate.cfg.AvailableSettings#TRACK_TOUCHED_ENTITIES}
+	 * is enabled, since a flush then only dirty-checks the entities touched since the
+	 * previous flush, and only for entities enhanced for lazy loading whose mutable
+	 * attribute values were modified in place. Otherwise, it has no effect.
+	 *
+	 * @param entityOrProxy an entity or proxy associated with this session
+	 *
+	 * @since 6.2
+	 */
+	default void markTouched(Object entityOrProxy) {
+		unwrap( SharedSessionContractImplementor.class ).getPersistenceContextInternal()
+				.markEntityTouched( entityOrProxy );
+	}
+
 	/**
 	 * Is the {@link org.hibernate.annotations.FetchProfile fetch profile}
 	 * with the given name enabled in this session?
@@ -336,6 +336,9 @@ public interface SessionFactoryBuilder {
 	 * This allows more efficient SQL execution via the use of batching for
 	 * the updates; the cost is that the determination of the ordering is far
 	 * less efficient than not ordering.
+	 * <p>
+	 * The deletes are then grouped by entity as well, in the order of the
+	 * foreign keys between the entities, for the same purpose.
 	 *
 	 * @param enabled {@code true} indicates that ordering should be enabled; {@code false} indicates not
 	 *
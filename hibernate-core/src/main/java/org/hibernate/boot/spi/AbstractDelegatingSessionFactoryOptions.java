@@ -82,6 +82,16 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isAllowRefreshDetachedEntity();
 	}
 
+	@Override
+	public int getParallelDirtyCheckingThreshold() {
+		return delegate.getParallelDirtyCheckingThreshold();
+	}
+
+	@Override
+	public boolean isTouchedEntityTrackingEnabled() {
+		return delegate.isTouchedEntityTrackingEnabled();
+	}
+
 	@Override
 	public Object getBeanManagerReference() {
 		return delegate.getBeanManagerReference();
@@ -267,6 +277,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isDirectReferenceCacheEntriesEnabled();
 	}
 
+	@Override
+	public boolean isDirtyCheckOptimizerEnabled() {
+		return delegate.isDirtyCheckOptimizerEnabled();
+	}
+
 	@Override
 	public boolean isAutoEvictCollectionCache() {
 		return delegate.isAutoEvictCollectionCache();
@@ -287,6 +302,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isJdbcBatchVersionedData();
 	}
 
+	@Override
+	public int getJdbcBatchPipelineDepth() {
+		return delegate.getJdbcBatchPipelineDepth();
+	}
+
 	@Override
 	public boolean isScrollableResultSetsEnabled() {
 		return delegate.isScrollableResultSetsEnabled();
@@ -407,6 +427,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.inClauseParameterPaddingEnabled();
 	}
 
+	@Override
+	public boolean inClauseParameterArrayEnabled() {
+		return delegate.inClauseParameterArrayEnabled();
+	}
+
 	@Override
 	public int getQueryStatisticsMaxSize() {
 		return delegate.getQueryStatisticsMaxSize();
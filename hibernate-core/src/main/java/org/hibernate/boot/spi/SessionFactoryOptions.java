@@ -80,6 +80,25 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 		return false;
 	}
 
+	/**
+	 * The minimum number of managed entities for which the dirty checking
+	 * of a flush is performed in parallel, or {@code 0} if it never is.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#PARALLEL_DIRTY_CHECKING_THRESHOLD
+	 */
+	default int getParallelDirtyCheckingThreshold() {
+		return 0;
+	}
+
+	/**
+	 * Should a flush only dirty-check the entities touched since the previous flush?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#TRACK_TOUCHED_ENTITIES
+	 */
+	default boolean isTouchedEntityTrackingEnabled() {
+		return false;
+	}
+
 	/**
 	 * The name to be used for the SessionFactory.  This is used both in:<ul>
 	 *     <li>in-VM serialization</li>
@@ -172,6 +191,15 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isDirectReferenceCacheEntriesEnabled();
 
+	/**
+	 * Should a specialized dirty checker be generated for each entity class?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#GENERATE_DIRTY_CHECKERS
+	 */
+	default boolean isDirtyCheckOptimizerEnabled() {
+		return false;
+	}
+
 	boolean isAutoEvictCollectionCache();
 
 	SchemaAutoTooling getSchemaAutoTooling();
@@ -180,6 +208,15 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isJdbcBatchVersionedData();
 
+	/**
+	 * The maximum number of JDBC batches kept open at the same time during a flush.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_PIPELINE_DEPTH
+	 */
+	default int getJdbcBatchPipelineDepth() {
+		return 1;
+	}
+
 	boolean isScrollableResultSetsEnabled();
 
 	boolean isGetGeneratedKeysEnabled();
@@ -261,6 +298,13 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 		return false;
 	}
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#IN_CLAUSE_PARAMETER_ARRAY
+	 */
+	default boolean inClauseParameterArrayEnabled() {
+		return false;
+	}
+
 	default int getQueryStatisticsMaxSize() {
 		return Statistics.DEFAULT_QUERY_STATISTICS_MAX_SIZE;
 	}
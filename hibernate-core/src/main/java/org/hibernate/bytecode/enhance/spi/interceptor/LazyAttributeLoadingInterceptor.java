@@ -68,6 +68,10 @@ public class LazyAttributeLoadingInterceptor extends AbstractLazyLoadInterceptor
 		if ( !isAttributeLoaded( attributeName ) ) {
 			attributeInitialized( attributeName );
 		}
+		final SharedSessionContractImplementor session = getLinkedSession();
+		if ( session != null && session.isOpenOrWaitingForAutoClose() ) {
+			session.getPersistenceContextInternal().markEntityTouched( target );
+		}
 		return newValue;
 	}
 
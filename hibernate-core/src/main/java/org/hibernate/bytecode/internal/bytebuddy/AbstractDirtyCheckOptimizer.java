@@ -0,0 +1,74 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.bytecode.internal.bytebuddy;
+
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.bytecode.spi.DirtyCheckOptimizer;
+import org.hibernate.type.Type;
+
+/**
+ * Base class for the {@link DirtyCheckOptimizer}s generated by {@link BytecodeProviderImpl}.
+ * <p>
+ * The generated {@code findDirty} method is unrolled over the attributes of the entity,
+ * each attribute getting its own {@link Type#isDirty} call site. Dirty attributes are
+ * collected into a {@code long} bit set, so entities with more than {@link #MAX_ATTRIBUTES}
+ * attributes are not supported.
+ * <p>
+ * This class needs to be public, as it is the super class of the generated classes,
+ * which are defined in the package of the entity class.
+ */
+public abstract class AbstractDirtyCheckOptimizer implements DirtyCheckOptimizer {
+	public static final int MAX_ATTRIBUTES = Long.SIZE;
+
+	public static final int NOT_DIRTY = 0;
+	public static final int DIRTY = 1;
+	public static final int CHECK = 2;
+
+	protected final Type[] types;
+	protected final boolean[][] includeColumns;
+
+	protected AbstractDirtyCheckOptimizer(Type[] types, boolean[][] includeColumns) {
+		this.types = types;
+		this.includeColumns = includeColumns;
+	}
+
+	/**
+	 * Resolve the outcome of the dirty check for an attribute which may not have been fetched,
+	 * mirroring {@code DirtyHelper}: an unfetched current value is never dirty, while an
+	 * unfetched loaded value is always dirty.
+	 *
+	 * @return {@link #NOT_DIRTY}, {@link #DIRTY}, or {@link #CHECK} if the values need to be compared
+	 */
+	public static int fetchState(Object currentValue, Object previousValue) {
+		if ( currentValue == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+			return NOT_DIRTY;
+		}
+		else if ( previousValue == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+			return DIRTY;
+		}
+		else {
+			return CHECK;
+		}
+	}
+
+	/**
+	 * Convert the bit set of dirty attributes to the array of their indexes.
+	 *
+	 * @return The indexes of the dirty attributes, or {@code null} if no attribute is dirty.
+	 */
+	public static int[] toDirtyIndexes(long dirty) {
+		if ( dirty == 0L ) {
+			return null;
+		}
+		final int[] indexes = new int[Long.bitCount( dirty )];
+		int count = 0;
+		for ( long remaining = dirty; remaining != 0L; remaining &= remaining - 1 ) {
+			indexes[count++] = Long.numberOfTrailingZeros( remaining );
+		}
+		return indexes;
+	}
+}
@@ -28,6 +28,7 @@ import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
 import org.hibernate.bytecode.enhance.spi.interceptor.BytecodeLazyAttributeInterceptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
 import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.bytecode.spi.DirtyCheckOptimizer;
 import org.hibernate.bytecode.spi.ProxyFactoryFactory;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
 import org.hibernate.engine.spi.CompositeOwner;
@@ -35,6 +36,7 @@ import org.hibernate.engine.spi.CompositeTracker;
 import org.hibernate.engine.spi.Managed;
 import org.hibernate.engine.spi.PersistentAttributeInterceptable;
 import org.hibernate.engine.spi.PersistentAttributeInterceptor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.ReflectHelper;
@@ -73,6 +75,7 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( BytecodeProviderImpl.class );
 	private static final String INSTANTIATOR_PROXY_NAMING_SUFFIX = "HibernateInstantiator";
 	private static final String OPTIMIZER_PROXY_NAMING_SUFFIX = "HibernateAccessOptimizer";
+	private static final String DIRTY_CHECKER_NAMING_SUFFIX = "HibernateDirtyCheckOptimizer";
 	private static final ElementMatcher.Junction<NamedElement> newInstanceMethodName = ElementMatchers.named(
 			"newInstance" );
 	private static final ElementMatcher.Junction<NamedElement> getPropertyValuesMethodName = ElementMatchers.named(
@@ -81,6 +84,8 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 			"setPropertyValues" );
 	private static final ElementMatcher.Junction<NamedElement> getPropertyNamesMethodName = ElementMatchers.named(
 			"getPropertyNames" );
+	private static final ElementMatcher.Junction<NamedElement> findDirtyMethodName = ElementMatchers.named(
+			"findDirty" );
 	private static final Member EMBEDDED_MEMBER = new Member() {
 		@Override
 		public Class<?> getDeclaringClass() {
@@ -264,6 +269,37 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		}
 	}
 
+	@Override
+	public DirtyCheckOptimizer getDirtyCheckOptimizer(
+			Class<?> clazz,
+			org.hibernate.type.Type[] types,
+			boolean[] dirtyCheckable,
+			boolean[][] includeColumns) {
+		if ( types.length > AbstractDirtyCheckOptimizer.MAX_ATTRIBUTES ) {
+			// the dirty attributes are collected into a long bit set
+			return null;
+		}
+
+		final Class<?> dirtyChecker = byteBuddyState.load( clazz, byteBuddy -> byteBuddy
+				.with( new NamingStrategy.SuffixingRandom(
+						DIRTY_CHECKER_NAMING_SUFFIX,
+						new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( clazz.getName() )
+				) )
+				.subclass( AbstractDirtyCheckOptimizer.class )
+				.method( findDirtyMethodName )
+				.intercept( new Implementation.Simple( new FindDirty( dirtyCheckable ) ) )
+		);
+
+		try {
+			return (DirtyCheckOptimizer) dirtyChecker
+					.getDeclaredConstructor( org.hibernate.type.Type[].class, boolean[][].class )
+					.newInstance( types, includeColumns );
+		}
+		catch (Exception exception) {
+			throw new HibernateException( exception );
+		}
+	}
+
 	private static class ForeignPackageClassInfo {
 		final Class<?> clazz;
 		final List<Member> getters = new ArrayList<>();
@@ -1141,6 +1177,141 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		}
 	}
 
+	/**
+	 * Generates {@code findDirty(Object[] currentState, Object[] previousState, SharedSessionContractImplementor session)}
+	 * unrolled over the attributes, so that every attribute has its own, monomorphic {@code Type#isDirty} call site.
+	 */
+	private static class FindDirty implements ByteCodeAppender {
+
+		// local variable slots following this, currentState, previousState and session
+		private static final int DIRTY_SLOT = 4;
+		private static final int FETCH_STATE_SLOT = 6;
+
+		private final boolean[] dirtyCheckable;
+
+		public FindDirty(boolean[] dirtyCheckable) {
+			this.dirtyCheckable = dirtyCheckable;
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			final String supportName = Type.getInternalName( AbstractDirtyCheckOptimizer.class );
+			final List<TypeDescription> locals = Arrays.asList(
+					implementationContext.getInstrumentedType(),
+					TypeDescription.ForLoadedType.of( Object[].class ),
+					TypeDescription.ForLoadedType.of( Object[].class ),
+					TypeDescription.ForLoadedType.of( SharedSessionContractImplementor.class ),
+					TypeDescription.ForLoadedType.of( long.class ),
+					TypeDescription.ForLoadedType.of( int.class )
+			);
+
+			// long dirty = 0L;
+			methodVisitor.visitInsn( Opcodes.LCONST_0 );
+			methodVisitor.visitVarInsn( Opcodes.LSTORE, DIRTY_SLOT );
+
+			for ( int index = 0; index < dirtyCheckable.length; index++ ) {
+				final Label dirtyLabel = new Label();
+				final Label nextLabel = new Label();
+
+				// int fetchState = fetchState( currentState[index], previousState[index] );
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+				methodVisitor.visitLdcInsn( index );
+				methodVisitor.visitInsn( Opcodes.AALOAD );
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 2 );
+				methodVisitor.visitLdcInsn( index );
+				methodVisitor.visitInsn( Opcodes.AALOAD );
+				methodVisitor.visitMethodInsn(
+						Opcodes.INVOKESTATIC,
+						supportName,
+						"fetchState",
+						Type.getMethodDescriptor( Type.INT_TYPE, Type.getType( Object.class ), Type.getType( Object.class ) ),
+						false
+				);
+				methodVisitor.visitVarInsn( Opcodes.ISTORE, FETCH_STATE_SLOT );
+
+				// if ( fetchState == NOT_DIRTY ) continue;
+				methodVisitor.visitVarInsn( Opcodes.ILOAD, FETCH_STATE_SLOT );
+				methodVisitor.visitJumpInsn( Opcodes.IFEQ, nextLabel );
+				// if ( fetchState == DIRTY ) mark dirty
+				methodVisitor.visitVarInsn( Opcodes.ILOAD, FETCH_STATE_SLOT );
+				methodVisitor.visitLdcInsn( AbstractDirtyCheckOptimizer.DIRTY );
+				methodVisitor.visitJumpInsn( Opcodes.IF_ICMPEQ, dirtyLabel );
+
+				if ( dirtyCheckable[index] ) {
+					// if ( !types[index].isDirty( previousState[index], currentState[index], includeColumns[index], session ) ) continue;
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, 0 );
+					methodVisitor.visitFieldInsn(
+							Opcodes.GETFIELD,
+							supportName,
+							"types",
+							Type.getDescriptor( org.hibernate.type.Type[].class )
+					);
+					methodVisitor.visitLdcInsn( index );
+					methodVisitor.visitInsn( Opcodes.AALOAD );
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, 2 );
+					methodVisitor.visitLdcInsn( index );
+					methodVisitor.visitInsn( Opcodes.AALOAD );
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+					methodVisitor.visitLdcInsn( index );
+					methodVisitor.visitInsn( Opcodes.AALOAD );
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, 0 );
+					methodVisitor.visitFieldInsn(
+							Opcodes.GETFIELD,
+							supportName,
+							"includeColumns",
+							Type.getDescriptor( boolean[][].class )
+					);
+					methodVisitor.visitLdcInsn( index );
+					methodVisitor.visitInsn( Opcodes.AALOAD );
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, 3 );
+					methodVisitor.visitMethodInsn(
+							Opcodes.INVOKEINTERFACE,
+							Type.getInternalName( org.hibernate.type.Type.class ),
+							"isDirty",
+							Type.getMethodDescriptor(
+									Type.BOOLEAN_TYPE,
+									Type.getType( Object.class ),
+									Type.getType( Object.class ),
+									Type.getType( boolean[].class ),
+									Type.getType( SharedSessionContractImplementor.class )
+							),
+							true
+					);
+					methodVisitor.visitJumpInsn( Opcodes.IFEQ, nextLabel );
+				}
+				else {
+					methodVisitor.visitJumpInsn( Opcodes.GOTO, nextLabel );
+				}
+
+				// dirty |= 1L << index;
+				methodVisitor.visitLabel( dirtyLabel );
+				implementationContext.getFrameGeneration().full( methodVisitor, Collections.emptyList(), locals );
+				methodVisitor.visitVarInsn( Opcodes.LLOAD, DIRTY_SLOT );
+				methodVisitor.visitLdcInsn( 1L << index );
+				methodVisitor.visitInsn( Opcodes.LOR );
+				methodVisitor.visitVarInsn( Opcodes.LSTORE, DIRTY_SLOT );
+
+				methodVisitor.visitLabel( nextLabel );
+				implementationContext.getFrameGeneration().full( methodVisitor, Collections.emptyList(), locals );
+			}
+
+			// return toDirtyIndexes( dirty );
+			methodVisitor.visitVarInsn( Opcodes.LLOAD, DIRTY_SLOT );
+			methodVisitor.visitMethodInsn(
+					Opcodes.INVOKESTATIC,
+					supportName,
+					"toDirtyIndexes",
+					Type.getMethodDescriptor( Type.getType( int[].class ), Type.LONG_TYPE ),
+					false
+			);
+			methodVisitor.visitInsn( Opcodes.ARETURN );
+			return new Size( 5, FETCH_STATE_SLOT + 1 );
+		}
+	}
+
 	private static void findAccessors(
 			Class<?> clazz,
 			String[] getterNames,
@@ -12,6 +12,7 @@ import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.property.access.spi.PropertyAccess;
 import org.hibernate.service.Service;
+import org.hibernate.type.Type;
 
 /**
  * Contract for providers of bytecode services to Hibernate.
@@ -56,6 +57,23 @@ public interface BytecodeProvider extends Service {
 	 */
 	ReflectionOptimizer getReflectionOptimizer(Class<?> clazz, Map<String, PropertyAccess> propertyAccessMap);
 
+	/**
+	 * Retrieve a DirtyCheckOptimizer specialized for the attributes of the given entity class.
+	 *
+	 * @param clazz The entity class.
+	 * @param types The types of all attributes, in the order of the entity state arrays.
+	 * @param dirtyCheckable Whether each attribute participates in dirty checking.
+	 * @param includeColumns The columns to be included in the dirty checking, per attribute.
+	 * @return The dirty check optimizer, or {@code null} if this provider cannot generate one for the entity.
+	 */
+	default DirtyCheckOptimizer getDirtyCheckOptimizer(
+			Class<?> clazz,
+			Type[] types,
+			boolean[] dirtyCheckable,
+			boolean[][] includeColumns) {
+		return null;
+	}
+
 	/**
 	 * Returns a byte code enhancer that implements the enhancements described in the supplied enhancement context.
 	 *
@@ -0,0 +1,31 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.bytecode.spi;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * Represents dirty checking optimized for the attributes of a particular entity type.
+ * <p>
+ * Implementations are equivalent to the attribute-by-attribute comparison performed by
+ * {@link org.hibernate.persister.entity.EntityPersister#findDirty}, but are specialized
+ * for a single entity type, so that each attribute comparison is its own call site.
+ *
+ * @see BytecodeProvider#getDirtyCheckOptimizer
+ */
+public interface DirtyCheckOptimizer {
+	/**
+	 * Locate the indexes of all attributes considered to be dirty.
+	 *
+	 * @param currentState The current state of the entity
+	 * @param previousState The loaded state snapshot of the entity
+	 * @param session The session in which the check is occurring.
+	 *
+	 * @return The indexes of the dirty attributes, or {@code null} if no attribute is dirty.
+	 */
+	int[] findDirty(Object[] currentState, Object[] previousState, SharedSessionContractImplementor session);
+}
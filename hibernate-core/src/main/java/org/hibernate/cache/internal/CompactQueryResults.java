@@ -0,0 +1,272 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
+
+/**
+ * The rows of a cached query result, stored column by column.
+ * <p>
+ * A column whose non-null values are all of the same primitive wrapper type,
+ * which is the case of the identifiers of entities and of most scalar columns,
+ * is held as an array of the primitive type, along with a bitmap of its null
+ * values, rather than as one boxed value per row.  Other columns are held as
+ * arrays of their values.  Primitive arrays are also written as raw bytes by
+ * Java serialization, which keeps the results compact for distributed regions.
+ * <p>
+ * The results are exposed as the list of rows they were built from, preceded
+ * by the {@link JdbcValuesMetadata} if there was one, the rows being rebuilt
+ * on access.
+ */
+final class CompactQueryResults extends AbstractList<Object> implements RandomAccess, Serializable {
+	private final JdbcValuesMetadata metadata;
+	private final int rowCount;
+	private final Object[] columns;
+	// the bitmaps of the null values of the primitive columns, null when a column has none
+	private final long[][] nulls;
+
+	private CompactQueryResults(JdbcValuesMetadata metadata, int rowCount, Object[] columns, long[][] nulls) {
+		this.metadata = metadata;
+		this.rowCount = rowCount;
+		this.columns = columns;
+		this.nulls = nulls;
+	}
+
+	/**
+	 * Copy the given query results into their compact form, or into a plain list
+	 * when they are not a list of rows of the same length.
+	 */
+	static List<?> from(List<?> results) {
+		final int offset = !results.isEmpty() && results.get( 0 ) instanceof JdbcValuesMetadata ? 1 : 0;
+		final int rowCount = results.size() - offset;
+		if ( rowCount == 0 || !( results.get( offset ) instanceof Object[] ) ) {
+			return new ArrayList<>( results );
+		}
+		final int columnCount = ( (Object[]) results.get( offset ) ).length;
+		for ( int i = offset; i < results.size(); i++ ) {
+			final Object row = results.get( i );
+			if ( !( row instanceof Object[] ) || ( (Object[]) row ).length != columnCount ) {
+				return new ArrayList<>( results );
+			}
+		}
+
+		final Object[] columns = new Object[columnCount];
+		final long[][] nulls = new long[columnCount][];
+		for ( int column = 0; column < columnCount; column++ ) {
+			final Object[] values = new Object[rowCount];
+			for ( int row = 0; row < rowCount; row++ ) {
+				values[row] = ( (Object[]) results.get( offset + row ) )[column];
+			}
+			columns[column] = toPrimitiveArray( values );
+			if ( columns[column] == null ) {
+				columns[column] = values;
+			}
+			else {
+				nulls[column] = nullBitmap( values );
+			}
+		}
+		return new CompactQueryResults(
+				offset == 0 ? null : (JdbcValuesMetadata) results.get( 0 ),
+				rowCount,
+				columns,
+				nulls
+		);
+	}
+
+	/**
+	 * The values as an array of primitives, or {@code null} if they are not all
+	 * of the same primitive wrapper type.
+	 */
+	private static Object toPrimitiveArray(Object[] values) {
+		Class<?> type = null;
+		for ( Object value : values ) {
+			if ( value != null ) {
+				if ( type == null ) {
+					type = value.getClass();
+				}
+				else if ( type != value.getClass() ) {
+					return null;
+				}
+			}
+		}
+		if ( type == Long.class ) {
+			final long[] array = new long[values.length];
+			for ( int i = 0; i < values.length; i++ ) {
+				array[i] = values[i] == null ? 0L : (Long) values[i];
+			}
+			return array;
+		}
+		else if ( type == Integer.class ) {
+			final int[] array = new int[values.length];
+			for ( int i = 0; i < values.length; i++ ) {
+				array[i] = values[i] == null ? 0 : (Integer) values[i];
+			}
+			return array;
+		}
+		else if ( type == Short.class ) {
+			final short[] array = new short[values.length];
+			for ( int i = 0; i < values.length; i++ ) {
+				array[i] = values[i] == null ? 0 : (Short) values[i];
+			}
+			return array;
+		}
+		else if ( type == Byte.class ) {
+			final byte[] array = new byte[values.length];
+			for ( int i = 0; i < values.length; i++ ) {
+				array[i] = values[i] == null ? 0 : (Byte) values[i];
+			}
+			return array;
+		}
+		else if ( type == Double.class ) {
+			final double[] array = new double[values.length];
+			for ( int i = 0; i < values.length; i++ ) {
+				array[i] = values[i] == null ? 0D : (Double) values[i];
+			}
+			return array;
+		}
+		else if ( type == Float.class ) {
+			final float[] array = new float[values.length];
+			for ( int i = 0; i < values.length; i++ ) {
+				array[i] = values[i] == null ? 0F : (Float) values[i];
+			}
+			return array;
+		}
+		else if ( type == Boolean.class ) {
+			final boolean[] array = new boolean[values.length];
+			for ( int i = 0; i < values.length; i++ ) {
+				array[i] = values[i] != null && (Boolean) values[i];
+			}
+			return array;
+		}
+		else if ( type == Character.class ) {
+			final char[] array = new char[values.length];
+			for ( int i = 0; i < values.length; i++ ) {
+				array[i] = values[i] == null ? 0 : (Character) values[i];
+			}
+			return array;
+		}
+		else {
+			return null;
+		}
+	}
+
+	private static long[] nullBitmap(Object[] values) {
+		long[] bitmap = null;
+		for ( int i = 0; i < values.length; i++ ) {
+			if ( values[i] == null ) {
+				if ( bitmap == null ) {
+					bitmap = new long[( values.length + 63 ) >>> 6];
+				}
+				bitmap[i >>> 6] |= 1L << i;
+			}
+		}
+		return bitmap;
+	}
+
+	@Override
+	public int size() {
+		return metadata == null ? rowCount : rowCount + 1;
+	}
+
+	@Override
+	public Object get(int index) {
+		if ( metadata != null ) {
+			if ( index == 0 ) {
+				return metadata;
+			}
+			index--;
+		}
+		if ( index < 0 || index >= rowCount ) {
+			throw new IndexOutOfBoundsException( "Index: " + index + ", Size: " + size() );
+		}
+		final Object[] row = new Object[columns.length];
+		for ( int column = 0; column < columns.length; column++ ) {
+			row[column] = getValue( column, index );
+		}
+		return row;
+	}
+
+	private Object getValue(int column, int row) {
+		final long[] bitmap = nulls[column];
+		if ( bitmap != null && ( bitmap[row >>> 6] & ( 1L << row ) ) != 0 ) {
+			return null;
+		}
+		final Object values = columns[column];
+		if ( values instanceof Object[] ) {
+			return ( (Object[]) values )[row];
+		}
+		else if ( values instanceof long[] ) {
+			return ( (long[]) values )[row];
+		}
+		else if ( values instanceof int[] ) {
+			return ( (int[]) values )[row];
+		}
+		else if ( values instanceof short[] ) {
+			return ( (short[]) values )[row];
+		}
+		else if ( values instanceof byte[] ) {
+			return ( (byte[]) values )[row];
+		}
+		else if ( values instanceof double[] ) {
+			return ( (double[]) values )[row];
+		}
+		else if ( values instanceof float[] ) {
+			return ( (float[]) values )[row];
+		}
+		else if ( values instanceof boolean[] ) {
+			return ( (boolean[]) values )[row];
+		}
+		else {
+			return ( (char[]) values )[row];
+		}
+	}
+
+	/**
+	 * The number of bytes taken by the primitive columns and their null bitmaps.
+	 */
+	long getPrimitiveColumnsSize() {
+		long size = 0;
+		for ( int column = 0; column < columns.length; column++ ) {
+			final Object values = columns[column];
+			if ( values instanceof long[] || values instanceof double[] ) {
+				size += 8L * rowCount;
+			}
+			else if ( values instanceof int[] || values instanceof float[] ) {
+				size += 4L * rowCount;
+			}
+			else if ( values instanceof short[] || values instanceof char[] ) {
+				size += 2L * rowCount;
+			}
+			else if ( values instanceof byte[] || values instanceof boolean[] ) {
+				size += rowCount;
+			}
+			if ( nulls[column] != null ) {
+				size += 8L * nulls[column].length;
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * The columns which could not be stored as arrays of primitives.
+	 */
+	List<Object[]> getObjectColumns() {
+		final List<Object[]> objectColumns = new ArrayList<>();
+		for ( Object values : columns ) {
+			if ( values instanceof Object[] ) {
+				objectColumns.add( (Object[]) values );
+			}
+		}
+		return objectColumns;
+	}
+}
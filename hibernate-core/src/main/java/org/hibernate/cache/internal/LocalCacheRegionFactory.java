@@ -0,0 +1,114 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import java.util.Map;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.support.DomainDataRegionImpl;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.OffHeapStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+
+import static org.hibernate.cfg.AvailableSettings.LOCAL_CACHE_EXPIRE_AFTER_WRITE;
+import static org.hibernate.cfg.AvailableSettings.LOCAL_CACHE_MAX_SIZE;
+import static org.hibernate.cfg.AvailableSettings.LOCAL_CACHE_OFF_HEAP;
+
+/**
+ * A {@link org.hibernate.cache.spi.RegionFactory} keeping the cached data in
+ * memory, in caches bounded by the approximate size of their entries and
+ * evicting entries according to the W-TinyLFU policy.
+ * <p>
+ * The size of each region is limited by {@value org.hibernate.cfg.AvailableSettings#LOCAL_CACHE_MAX_SIZE},
+ * and its entries may expire after {@value org.hibernate.cfg.AvailableSettings#LOCAL_CACHE_EXPIRE_AFTER_WRITE},
+ * both of which may be overridden for a specific region by appending the region name to the setting name.
+ * The update timestamps region is never evicted, since losing the timestamp of a query space would let
+ * stale query results be used.
+ * <p>
+ * When {@value org.hibernate.cfg.AvailableSettings#LOCAL_CACHE_OFF_HEAP} is enabled, the state of cached
+ * entities is kept outside the Java heap by {@link OffHeapStorageAccess}.
+ *
+ * @see org.hibernate.internal.util.collections.TinyLfuCache
+ */
+public class LocalCacheRegionFactory extends RegionFactoryTemplate {
+	/**
+	 * The default maximum size of a region, 32 MiB
+	 */
+	public static final long DEFAULT_MAX_SIZE = 32L * 1024 * 1024;
+
+	private Map<String, Object> configValues;
+	private boolean offHeap;
+
+	@Override
+	protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+		this.configValues = configValues;
+		this.offHeap = ConfigurationHelper.getBoolean( LOCAL_CACHE_OFF_HEAP, configValues );
+	}
+
+	@Override
+	protected void releaseFromUse() {
+		configValues = null;
+	}
+
+	@Override
+	public DomainDataRegion buildDomainDataRegion(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		verifyStarted();
+		return new DomainDataRegionImpl(
+				regionConfig,
+				this,
+				createDomainDataStorageAccess( regionConfig, buildingContext ),
+				getImplicitCacheKeysFactory(),
+				buildingContext
+		);
+	}
+
+	@Override
+	protected DomainDataStorageAccess createDomainDataStorageAccess(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		final String regionName = regionConfig.getRegionName();
+		return offHeap
+				? new OffHeapStorageAccess( getMaxSize( regionName ), getExpiration( regionName ) )
+				: createStorageAccess( regionName );
+	}
+
+	@Override
+	protected StorageAccess createQueryResultsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return createStorageAccess( regionName );
+	}
+
+	@Override
+	protected StorageAccess createTimestampsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return new LocalCacheStorageAccess( Long.MAX_VALUE, 0 );
+	}
+
+	private LocalCacheStorageAccess createStorageAccess(String regionName) {
+		return new LocalCacheStorageAccess( getMaxSize( regionName ), getExpiration( regionName ) );
+	}
+
+	private long getMaxSize(String regionName) {
+		final long defaultMaxSize = ConfigurationHelper.getLong( LOCAL_CACHE_MAX_SIZE, configValues, DEFAULT_MAX_SIZE );
+		return ConfigurationHelper.getLong( LOCAL_CACHE_MAX_SIZE + '.' + regionName, configValues, defaultMaxSize );
+	}
+
+	private long getExpiration(String regionName) {
+		final long defaultExpiration = ConfigurationHelper.getLong( LOCAL_CACHE_EXPIRE_AFTER_WRITE, configValues, 0 );
+		return ConfigurationHelper.getLong( LOCAL_CACHE_EXPIRE_AFTER_WRITE + '.' + regionName, configValues, defaultExpiration );
+	}
+}
@@ -0,0 +1,193 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cache.spi.ExtendedStatisticsSupport;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.CollectionCacheEntry;
+import org.hibernate.cache.spi.support.AbstractReadWriteAccess;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.TinyLfuCache;
+
+/**
+ * StorageAccess implementation of {@link LocalCacheRegionFactory}, keeping
+ * the data of a region in a {@link TinyLfuCache} weighing entries by their
+ * approximate size in bytes.
+ */
+public class LocalCacheStorageAccess implements DomainDataStorageAccess, ExtendedStatisticsSupport {
+	private static final int OBJECT_OVERHEAD = 16;
+	private static final int REFERENCE_SIZE = 8;
+	private static final int MAX_DEPTH = 4;
+
+	private final TinyLfuCache<Object, Object> cache;
+
+	/**
+	 * @param maximumSize The maximum size of the data, in bytes
+	 * @param expireAfterWrite The time after which entries expire, in seconds, or {@code 0} if they never do
+	 */
+	public LocalCacheStorageAccess(long maximumSize, long expireAfterWrite) {
+		this.cache = new TinyLfuCache<>(
+				maximumSize,
+				expireAfterWrite,
+				TimeUnit.SECONDS,
+				(key, value) -> estimateSize( key, MAX_DEPTH ) + estimateSize( value, MAX_DEPTH )
+		);
+	}
+
+	public TinyLfuCache<Object, Object> getUnderlyingCache() {
+		return cache;
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return cache.containsKey( key );
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		return cache.get( key );
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		cache.put( key, value );
+	}
+
+	@Override
+	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		cache.remove( key );
+	}
+
+	@Override
+	public void clearCache(SharedSessionContractImplementor session) {
+		cache.clear();
+	}
+
+	@Override
+	public void evictData() {
+		cache.clear();
+	}
+
+	@Override
+	public void evictData(Object key) {
+		cache.remove( key );
+	}
+
+	@Override
+	public void release() {
+		cache.clear();
+	}
+
+	@Override
+	public long getElementCountInMemory() {
+		return cache.size();
+	}
+
+	@Override
+	public long getElementCountOnDisk() {
+		return 0;
+	}
+
+	@Override
+	public long getSizeInMemory() {
+		return cache.weightedSize();
+	}
+
+	/**
+	 * A rough estimate of the memory retained by the given cached object,
+	 * looking into the structures stored by Hibernate up to the given depth.
+	 */
+	public static long estimateSize(Object object, int depth) {
+		if ( object == null ) {
+			return 0;
+		}
+		else if ( depth == 0 ) {
+			return OBJECT_OVERHEAD;
+		}
+		else if ( object instanceof String ) {
+			return OBJECT_OVERHEAD + 24 + 2L * ( (String) object ).length();
+		}
+		else if ( object instanceof Number || object instanceof Boolean || object instanceof Character
+				|| object instanceof Enum ) {
+			return OBJECT_OVERHEAD + REFERENCE_SIZE;
+		}
+		else if ( object instanceof byte[] ) {
+			return OBJECT_OVERHEAD + ( (byte[]) object ).length;
+		}
+		else if ( object instanceof char[] ) {
+			return OBJECT_OVERHEAD + 2L * ( (char[]) object ).length;
+		}
+		else if ( object instanceof Object[] ) {
+			final Object[] array = (Object[]) object;
+			long size = OBJECT_OVERHEAD + (long) REFERENCE_SIZE * array.length;
+			for ( Object element : array ) {
+				size += estimateSize( element, depth - 1 );
+			}
+			return size;
+		}
+		else if ( object instanceof CompactQueryResults ) {
+			final CompactQueryResults results = (CompactQueryResults) object;
+			long size = OBJECT_OVERHEAD + 4 * REFERENCE_SIZE + results.getPrimitiveColumnsSize();
+			for ( Object[] column : results.getObjectColumns() ) {
+				size += estimateSize( column, depth - 1 );
+			}
+			return size;
+		}
+		else if ( object instanceof Collection ) {
+			final Collection<?> collection = (Collection<?>) object;
+			long size = 3 * OBJECT_OVERHEAD + 2L * REFERENCE_SIZE * collection.size();
+			for ( Object element : collection ) {
+				size += estimateSize( element, depth - 1 );
+			}
+			return size;
+		}
+		else if ( object instanceof Map ) {
+			final Map<?, ?> map = (Map<?, ?>) object;
+			long size = 3 * OBJECT_OVERHEAD + 4L * REFERENCE_SIZE * map.size();
+			for ( Map.Entry<?, ?> entry : map.entrySet() ) {
+				size += estimateSize( entry.getKey(), depth - 1 ) + estimateSize( entry.getValue(), depth - 1 );
+			}
+			return size;
+		}
+		else if ( object instanceof CacheEntry ) {
+			final CacheEntry entry = (CacheEntry) object;
+			return entry.isReferenceEntry()
+					? OBJECT_OVERHEAD + 2 * REFERENCE_SIZE
+					: OBJECT_OVERHEAD + 3 * REFERENCE_SIZE
+							+ estimateSize( entry.getDisassembledState(), depth - 1 )
+							+ estimateSize( entry.getVersion(), depth - 1 );
+		}
+		else if ( object instanceof CollectionCacheEntry ) {
+			return OBJECT_OVERHEAD + REFERENCE_SIZE
+					+ estimateSize( ( (CollectionCacheEntry) object ).getState(), depth - 1 );
+		}
+		else if ( object instanceof AbstractReadWriteAccess.Lockable ) {
+			return OBJECT_OVERHEAD + 4 * REFERENCE_SIZE
+					+ estimateSize( ( (AbstractReadWriteAccess.Lockable) object ).getValue(), depth - 1 );
+		}
+		else if ( object instanceof QueryResultsCacheImpl.CacheItem ) {
+			return OBJECT_OVERHEAD + 2 * REFERENCE_SIZE
+					+ estimateSize( ( (QueryResultsCacheImpl.CacheItem) object ).getResults(), depth - 1 );
+		}
+		else if ( object instanceof CacheKeyImplementation ) {
+			return OBJECT_OVERHEAD + 4 * REFERENCE_SIZE
+					+ estimateSize( ( (CacheKeyImplementation) object ).getId(), depth - 1 );
+		}
+		else if ( object instanceof NaturalIdCacheKey ) {
+			return OBJECT_OVERHEAD + 4 * REFERENCE_SIZE
+					+ estimateSize( ( (NaturalIdCacheKey) object ).getNaturalIdValues(), depth - 1 );
+		}
+		else {
+			return OBJECT_OVERHEAD + 2 * REFERENCE_SIZE;
+		}
+	}
+}
@@ -57,7 +57,7 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 
 		final CacheItem cacheItem = new CacheItem(
 				session.getCacheTransactionSynchronization().getCachingTimestamp(),
-				deepCopy( results )
+				CompactQueryResults.from( results )
 		);
 
 		try {
@@ -154,6 +154,11 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 		return "QueryResultsCache(" + cacheRegion.getName() + ')';
 	}
 
+	/**
+	 * The cached results of a query, along with the time they were cached at.
+	 * The rows are kept in the columnar form of {@link CompactQueryResults}
+	 * whenever possible.
+	 */
 	public static class CacheItem implements Serializable {
 		private final long timestamp;
 		private final List<?> results;
@@ -162,5 +167,9 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 			this.timestamp = timestamp;
 			this.results = results;
 		}
+
+		List<?> getResults() {
+			return results;
+		}
 	}
 }
@@ -12,6 +12,9 @@ import java.util.Collection;
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.TimestampsCache;
 import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.cache.spi.support.DirectAccessRegionTemplate;
+import org.hibernate.cache.spi.support.ObservableStorageAccess;
+import org.hibernate.cache.spi.support.StorageAccess;
 import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -21,6 +24,11 @@ import org.jboss.logging.Logger;
 
 /**
  * Standard implementation of TimestampsCache
+ * <p>
+ * When the storage of the region is an {@link ObservableStorageAccess}, the
+ * timestamps read from the region are mirrored in process until the storage
+ * notifies a change to them, so that checking cached query results does not
+ * access the region.
  *
  * @author Steve Ebersole
  */
@@ -30,9 +38,23 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 	public static final boolean DEBUG_ENABLED = log.isDebugEnabled();
 
 	private final TimestampsRegion timestampsRegion;
+	private final TimestampsMirror mirror;
 
 	public TimestampsCacheEnabledImpl(TimestampsRegion timestampsRegion) {
 		this.timestampsRegion = timestampsRegion;
+		this.mirror = createMirror( timestampsRegion );
+	}
+
+	private static TimestampsMirror createMirror(TimestampsRegion timestampsRegion) {
+		if ( timestampsRegion instanceof DirectAccessRegionTemplate ) {
+			final StorageAccess storageAccess = ( (DirectAccessRegionTemplate) timestampsRegion ).getStorageAccess();
+			if ( storageAccess instanceof ObservableStorageAccess ) {
+				final TimestampsMirror mirror = new TimestampsMirror();
+				( (ObservableStorageAccess) storageAccess ).addChangeListener( mirror );
+				return mirror;
+			}
+		}
+		return null;
 	}
 
 	@Override
@@ -69,6 +91,9 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 			}
 			finally {
 				eventListenerManager.cachePutEnd();
+				if ( mirror != null ) {
+					mirror.entryChanged( space );
+				}
 			}
 
 			if ( stats ) {
@@ -99,6 +124,9 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 			}
 			finally {
 				eventListenerManager.cachePutEnd();
+				if ( mirror != null ) {
+					mirror.entryChanged( space );
+				}
 
 				if ( stats ) {
 					statistics.updateTimestampsCachePut();
@@ -175,6 +203,12 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 	}
 
 	private Long getLastUpdateTimestampForSpace(Serializable space, SharedSessionContractImplementor session) {
+		return mirror == null
+				? getLastUpdateTimestampFromRegion( space, session )
+				: mirror.getTimestamp( space, key -> getLastUpdateTimestampFromRegion( key, session ) );
+	}
+
+	private Long getLastUpdateTimestampFromRegion(Object space, SharedSessionContractImplementor session) {
 		Long ts = null;
 		try {
 			session.getEventListenerManager().cacheGetStart();
@@ -0,0 +1,63 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.hibernate.cache.spi.support.ObservableStorageAccess;
+
+/**
+ * An in-process copy of the last update timestamps of the query spaces read
+ * from an {@link ObservableStorageAccess}, including the absence of timestamp.
+ * <p>
+ * A timestamp is only ever copied from the storage, and the copy is dropped
+ * whenever the storage notifies a change to it, to be read again from the
+ * storage the next time it is needed.
+ */
+class TimestampsMirror implements ObservableStorageAccess.ChangeListener {
+	private static final Object NO_TIMESTAMP = new Object();
+
+	// the number of query spaces is bounded by the number of tables
+	private final Map<Object, Object> timestamps = new ConcurrentHashMap<>();
+	// incremented by every change, so that timestamps read from the storage
+	// concurrently with a change are not kept
+	private final AtomicLong changes = new AtomicLong();
+
+	/**
+	 * The timestamp of the given space, read from the storage by the given
+	 * function when there is no copy of it
+	 */
+	Long getTimestamp(Object space, Function<Object, Long> storageRead) {
+		final Object timestamp = timestamps.get( space );
+		if ( timestamp != null ) {
+			return timestamp == NO_TIMESTAMP ? null : (Long) timestamp;
+		}
+		final long changeCount = changes.get();
+		final Long storedTimestamp = storageRead.apply( space );
+		timestamps.put( space, storedTimestamp == null ? NO_TIMESTAMP : storedTimestamp );
+		// checked after the put, since a change between the check and the put would be missed
+		if ( changes.get() != changeCount ) {
+			timestamps.remove( space );
+		}
+		return storedTimestamp;
+	}
+
+	@Override
+	public void entryChanged(Object space) {
+		changes.incrementAndGet();
+		timestamps.remove( space );
+	}
+
+	@Override
+	public void cleared() {
+		changes.incrementAndGet();
+		timestamps.clear();
+	}
+}
@@ -0,0 +1,542 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.cache.CacheException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.Type;
+
+/**
+ * Binary CacheEntry format for entities, used instead of Java serialization by
+ * {@link org.hibernate.cache.spi.support.OffHeapStorageAccess}.  The entry is
+ * structured as a byte array holding its disassembled state and version.
+ * <p>
+ * The value of each attribute is written according to the Java type of the
+ * attribute, when it is one of the common basic types or an enum.  Other
+ * values, including those of attributes whose disassembled form differs from
+ * their Java type, are preceded by a tag identifying their type, and written
+ * using Java serialization only as a last resort.
+ */
+public class BinaryCacheEntry implements CacheEntryStructure {
+	private static final byte NULL = 0;
+	private static final byte TYPED = 1;
+	private static final byte TAGGED = 2;
+
+	private static final byte TAG_NULL = 0;
+	private static final byte TAG_UNFETCHED = 1;
+	private static final byte TAG_UNKNOWN = 2;
+	private static final byte TAG_OBJECT_ARRAY = 3;
+	private static final byte TAG_SERIALIZABLE_ARRAY = 4;
+	private static final byte TAG_SERIALIZED = 5;
+	private static final byte TAG_BASIC = 6;
+
+	private final String entityName;
+	private final ValueCodec[] attributeCodecs;
+
+	/**
+	 * Constructs a BinaryCacheEntry strategy
+	 *
+	 * @param persister The persister of the entity, which must be the subclass of the entries
+	 */
+	public BinaryCacheEntry(EntityPersister persister) {
+		this.entityName = persister.getEntityName();
+		final Type[] propertyTypes = persister.getPropertyTypes();
+		this.attributeCodecs = new ValueCodec[propertyTypes.length];
+		for ( int i = 0; i < propertyTypes.length; i++ ) {
+			attributeCodecs[i] = propertyTypes[i] instanceof BasicType
+					? codecFor( ( (BasicType<?>) propertyTypes[i] ).getJavaTypeDescriptor().getJavaTypeClass() )
+					: null;
+		}
+	}
+
+	/**
+	 * @return The binary form of the given {@link CacheEntry}, or {@code null} if some value has none
+	 */
+	@Override
+	public Object structure(Object item) {
+		final CacheEntry entry = (CacheEntry) item;
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try ( DataOutputStream out = new DataOutputStream( bytes ) ) {
+			write( entry.getDisassembledState(), out );
+			writeTagged( entry.getVersion(), out );
+		}
+		catch (IOException e) {
+			return null;
+		}
+		return bytes.toByteArray();
+	}
+
+	@Override
+	public Object destructure(Object structured, SessionFactoryImplementor factory) {
+		try ( DataInputStream in = new DataInputStream( new ByteArrayInputStream( (byte[]) structured ) ) ) {
+			final Serializable[] state = read( in );
+			return new StandardCacheEntryImpl( state, entityName, readTagged( in ) );
+		}
+		catch (IOException e) {
+			throw new CacheException( "Unable to read cache entry of " + entityName, e );
+		}
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static ValueCodec codecFor(Class<?> javaType) {
+		if ( javaType != null && javaType.isEnum() ) {
+			return new EnumCodec( (Class) javaType );
+		}
+		return BasicCodec.forClass( javaType );
+	}
+
+	private void write(Serializable[] state, DataOutput out) throws IOException {
+		if ( state.length != attributeCodecs.length ) {
+			// not the state of this entity, should not happen
+			throw new NotSerializableException( "Unexpected number of attribute values" );
+		}
+		for ( int i = 0; i < state.length; i++ ) {
+			final Object value = state[i];
+			final ValueCodec codec = attributeCodecs[i];
+			if ( value == null ) {
+				out.writeByte( NULL );
+			}
+			else if ( codec != null && codec.accepts( value ) ) {
+				out.writeByte( TYPED );
+				codec.write( value, out );
+			}
+			else {
+				out.writeByte( TAGGED );
+				writeTagged( value, out );
+			}
+		}
+	}
+
+	private Serializable[] read(DataInput in) throws IOException {
+		final Serializable[] state = new Serializable[attributeCodecs.length];
+		for ( int i = 0; i < state.length; i++ ) {
+			switch ( in.readByte() ) {
+				case NULL:
+					break;
+				case TYPED:
+					state[i] = (Serializable) attributeCodecs[i].read( in );
+					break;
+				default:
+					state[i] = (Serializable) readTagged( in );
+			}
+		}
+		return state;
+	}
+
+	private static void writeTagged(Object value, DataOutput out) throws IOException {
+		if ( value == null ) {
+			out.writeByte( TAG_NULL );
+		}
+		else if ( value == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+			out.writeByte( TAG_UNFETCHED );
+		}
+		else if ( value == PropertyAccessStrategyBackRefImpl.UNKNOWN ) {
+			out.writeByte( TAG_UNKNOWN );
+		}
+		else if ( value.getClass() == Object[].class || value.getClass() == Serializable[].class ) {
+			final Object[] array = (Object[]) value;
+			out.writeByte( value.getClass() == Object[].class ? TAG_OBJECT_ARRAY : TAG_SERIALIZABLE_ARRAY );
+			out.writeInt( array.length );
+			for ( Object element : array ) {
+				writeTagged( element, out );
+			}
+		}
+		else {
+			final BasicCodec codec = BasicCodec.forClass( value.getClass() );
+			if ( codec != null ) {
+				out.writeByte( TAG_BASIC + codec.ordinal() );
+				codec.write( value, out );
+			}
+			else if ( value instanceof Serializable ) {
+				final byte[] bytes = SerializationHelper.serialize( (Serializable) value );
+				out.writeByte( TAG_SERIALIZED );
+				out.writeInt( bytes.length );
+				out.write( bytes );
+			}
+			else {
+				throw new NotSerializableException( value.getClass().getName() );
+			}
+		}
+	}
+
+	private static Object readTagged(DataInput in) throws IOException {
+		final byte tag = in.readByte();
+		switch ( tag ) {
+			case TAG_NULL:
+				return null;
+			case TAG_UNFETCHED:
+				return LazyPropertyInitializer.UNFETCHED_PROPERTY;
+			case TAG_UNKNOWN:
+				return PropertyAccessStrategyBackRefImpl.UNKNOWN;
+			case TAG_OBJECT_ARRAY:
+			case TAG_SERIALIZABLE_ARRAY: {
+				final int length = in.readInt();
+				final Object[] array = tag == TAG_OBJECT_ARRAY ? new Object[length] : new Serializable[length];
+				for ( int i = 0; i < length; i++ ) {
+					array[i] = readTagged( in );
+				}
+				return array;
+			}
+			case TAG_SERIALIZED: {
+				final byte[] bytes = new byte[in.readInt()];
+				in.readFully( bytes );
+				return SerializationHelper.deserialize( bytes );
+			}
+			default:
+				return BasicCodec.values()[tag - TAG_BASIC].read( in );
+		}
+	}
+
+	private interface ValueCodec {
+		boolean accepts(Object value);
+
+		void write(Object value, DataOutput out) throws IOException;
+
+		Object read(DataInput in) throws IOException;
+	}
+
+	private static class EnumCodec<E extends Enum<E>> implements ValueCodec {
+		private final Class<E> enumClass;
+		private final E[] constants;
+
+		private EnumCodec(Class<E> enumClass) {
+			this.enumClass = enumClass;
+			this.constants = enumClass.getEnumConstants();
+		}
+
+		@Override
+		public boolean accepts(Object value) {
+			return enumClass.isInstance( value );
+		}
+
+		@Override
+		public void write(Object value, DataOutput out) throws IOException {
+			out.writeInt( ( (Enum<?>) value ).ordinal() );
+		}
+
+		@Override
+		public Object read(DataInput in) throws IOException {
+			return constants[in.readInt()];
+		}
+	}
+
+	/**
+	 * Codecs of the common basic types, applying only to values of exactly the type
+	 */
+	private enum BasicCodec implements ValueCodec {
+		STRING( String.class ) {
+			@Override
+			public void write(Object value, DataOutput out) throws IOException {
+				writeBytes( ( (String) value ).getBytes( StandardCharsets.UTF_8 ), out );
+			}
+
+			@Override
+			public Object read(DataInput in) throws IOException {
+				return new String( readBytes( in ), StandardCharsets.UTF_8 );
+			}
+		},
+		LONG( Long.class ) {
+			@Override
+			public void write(Object value, DataOutput out) throws IOException {
+				out.writeLong( (Long) value );
+			}
+
+			@Override
+			public Object read(DataInput in) throws IOException {
+				return in.readLong();
+			}
+		},
+		INTEGER( Integer.class ) {
+			@Override
+			public void write(Object value, DataOutput out) throws IOException {
+				out.writeInt( (Integer) value );
+			}
+
+			@Override
+			public Object read(DataInput in) throws IOException {
+				return in.readInt();
+			}
+		},
+		SHORT( Short.class ) {
+			@Override
+			public void write(Object value, DataOutput out) throws IOException {
+				out.writeShort( (Short) value );
+			}
+
+			@Override
+			public Object read(DataInput in) throws IOException {
+				return in.readShort();
+			}
+		},
+		BYTE( Byte.class ) {
+			@Override
+			public void write(Object value, DataOutput out) throws IOException {
+				out.writeByte( (Byte) value );
+			}
+
+			@Override
+			public Object read(DataInput in) throws IOException {
+				return in.readByte();
+			}
+		},
+		BOOLEAN( Boolean.class ) {
+			@Override
+			public void write(Object value, DataOutput out) throws IOException {
+				out.writeBoolean( (Boolean) value );
+			}
+
+			@Override
+			public Object read(DataInput in) throws IOException {
+				return in.readBoolean();
+			}
+		},
+		CHARACTER( Character.class ) {
+			@Override
+			public void write(Object value, DataOutput out) throws IOException {
+				out.writeChar( (Character) value );
+			}
+
+			@Override
+			public Object read(DataInput in) throws IOException {
+				return in.readChar();
+			}
+		},
+		DOUBLE( Double.class ) {
+			@Override
+			public void write(Object value, DataOutput out) throws IOException {
+				out.writeDouble( (Double) value );
+			}
+
+			@Override
+			public Object read(DataInput in) throws IOException {
+				return in.readDouble();
+			}
+		},
+		FLOAT( Float.class ) {
+			@Override
+			public void write(Object value, DataOutput out) throws IOException {
+				out.writeFloat( (Float) value );
+			}
+
+			@Override
+			public Object read(DataInput in) throws IOException {
+				return in.readFloat();
+			}
+		},
+		BIG_INTEGER( BigInteger.class ) {
+			@Override
+			public void write(Object value, DataOutput out) throws IOException {
+				writeBytes( ( (BigInteger) value ).toByteArray(), out );
+			}
+
+			@Override
+			public Object read(DataInput in) throws IOException {
+				return new BigInteger( readBytes( in ) );
+			}
+		},
+		BIG_DECIMAL( BigDecimal.class ) {
+			@Override
+			public void write(Object value, DataOutput out) throws IOException {
+				final BigDecimal decimal = (BigDecimal) value;
+				out.writeInt( decimal.scale() );
+				writeBytes( decimal.unscaledValue().toByteArray(), out );
+			}
+
+			@Override
+			public Object read(DataInput in) throws IOException {
+				final int scale = in.readInt();
+				return new BigDecimal( new BigInteger( readBytes( in ) ), scale );
+			}
+		},
+		BYTES( byte[].class ) {
+			@Override
+			public void write(Object value, DataOutput out) throws IOException {
+				writeBytes( (byte[]) value, out );
+			}
+
+			@Override
+			public Object read(DataInput in) throws IOException {
+				return readBytes( in );
+			}
+		},
+		UUID_( UUID.class ) {
+			@Override
+			public void write(Object value, DataOutput out) throws IOException {
+				out.writeLong( ( (UUID) value ).getMostSignificantBits() );
+				out.writeLong( ( (UUID) value ).getLeastSignificantBits() );
+			}
+
+			@Override
+			public Object read(DataInput in) throws IOException {
+				return new UUID( in.readLong(), in.readLong() );
+			}
+		},
+		LOCAL_DATE( LocalDate.class ) {
+			@Override
+			public void write(Object value, DataOutput out) throws IOException {
+				out.writeLong( ( (LocalDate) value ).toEpochDay() );
+			}
+
+			@Override
+			public Object read(DataInput in) throws IOException {
+				return LocalDate.ofEpochDay( in.readLong() );
+			}
+		},
+		LOCAL_TIME( LocalTime.class ) {
+			@Override
+			public void write(Object value, DataOutput out) throws IOException {
+				out.writeLong( ( (LocalTime) value ).toNanoOfDay() );
+			}
+
+			@Override
+			public Object read(DataInput in) throws IOException {
+				return LocalTime.ofNanoOfDay( in.readLong() );
+			}
+		},
+		LOCAL_DATE_TIME( LocalDateTime.class ) {
+			@Override
+			public void write(Object value, DataOutput out) throws IOException {
+				final LocalDateTime dateTime = (LocalDateTime) value;
+				out.writeLong( dateTime.toLocalDate().toEpochDay() );
+				out.writeLong( dateTime.toLocalTime().toNanoOfDay() );
+			}
+
+			@Override
+			public Object read(DataInput in) throws IOException {
+				return LocalDateTime.of(
+						LocalDate.ofEpochDay( in.readLong() ),
+						LocalTime.ofNanoOfDay( in.readLong() )
+				);
+			}
+		},
+		INSTANT( Instant.class ) {
+			@Override
+			public void write(Object value, DataOutput out) throws IOException {
+				out.writeLong( ( (Instant) value ).getEpochSecond() );
+				out.writeInt( ( (Instant) value ).getNano() );
+			}
+
+			@Override
+			public Object read(DataInput in) throws IOException {
+				return Instant.ofEpochSecond( in.readLong(), in.readInt() );
+			}
+		},
+		DATE( java.util.Date.class ) {
+			@Override
+			public void write(Object value, DataOutput out) throws IOException {
+				out.writeLong( ( (java.util.Date) value ).getTime() );
+			}
+
+			@Override
+			public Object read(DataInput in) throws IOException {
+				return new java.util.Date( in.readLong() );
+			}
+		},
+		SQL_DATE( java.sql.Date.class ) {
+			@Override
+			public void write(Object value, DataOutput out) throws IOException {
+				out.writeLong( ( (java.sql.Date) value ).getTime() );
+			}
+
+			@Override
+			public Object read(DataInput in) throws IOException {
+				return new java.sql.Date( in.readLong() );
+			}
+		},
+		SQL_TIME( java.sql.Time.class ) {
+			@Override
+			public void write(Object value, DataOutput out) throws IOException {
+				out.writeLong( ( (java.sql.Time) value ).getTime() );
+			}
+
+			@Override
+			public Object read(DataInput in) throws IOException {
+				return new java.sql.Time( in.readLong() );
+			}
+		},
+		SQL_TIMESTAMP( java.sql.Timestamp.class ) {
+			@Override
+			public void write(Object value, DataOutput out) throws IOException {
+				out.writeLong( ( (java.sql.Timestamp) value ).getTime() );
+				out.writeInt( ( (java.sql.Timestamp) value ).getNanos() );
+			}
+
+			@Override
+			public Object read(DataInput in) throws IOException {
+				final java.sql.Timestamp timestamp = new java.sql.Timestamp( in.readLong() );
+				timestamp.setNanos( in.readInt() );
+				return timestamp;
+			}
+		};
+
+		private static final Map<Class<?>, BasicCodec> BY_CLASS = new HashMap<>();
+		static {
+			for ( BasicCodec codec : values() ) {
+				BY_CLASS.put( codec.javaType, codec );
+			}
+			BY_CLASS.put( long.class, LONG );
+			BY_CLASS.put( int.class, INTEGER );
+			BY_CLASS.put( short.class, SHORT );
+			BY_CLASS.put( byte.class, BYTE );
+			BY_CLASS.put( boolean.class, BOOLEAN );
+			BY_CLASS.put( char.class, CHARACTER );
+			BY_CLASS.put( double.class, DOUBLE );
+			BY_CLASS.put( float.class, FLOAT );
+		}
+
+		private final Class<?> javaType;
+
+		BasicCodec(Class<?> javaType) {
+			this.javaType = javaType;
+		}
+
+		static BasicCodec forClass(Class<?> javaType) {
+			return BY_CLASS.get( javaType );
+		}
+
+		@Override
+		public boolean accepts(Object value) {
+			return value.getClass() == javaType;
+		}
+
+		private static void writeBytes(byte[] bytes, DataOutput out) throws IOException {
+			out.writeInt( bytes.length );
+			out.write( bytes );
+		}
+
+		private static byte[] readBytes(DataInput in) throws IOException {
+			final byte[] bytes = new byte[in.readInt()];
+			in.readFully( bytes );
+			return bytes;
+		}
+	}
+}
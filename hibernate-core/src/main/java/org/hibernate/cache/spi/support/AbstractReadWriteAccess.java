@@ -10,7 +10,9 @@ import java.io.Serializable;
 import java.util.Comparator;
 import java.util.Locale;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -24,21 +26,43 @@ import org.jboss.logging.Logger;
 import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
 
 /**
+ * Base support for {@link org.hibernate.cache.spi.access.AccessType#READ_WRITE READ_WRITE}
+ * access to cached data.
+ * <p>
+ * Reading and writing the cached item of a key is guarded by a read-write lock.
+ * Rather than a single lock for the whole region, the keys are spread over a
+ * small number of lock stripes, so that accesses to different keys rarely contend.
+ *
  * @author Steve Ebersole
  */
 public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAccess {
 	private static final Logger log = Logger.getLogger( AbstractReadWriteAccess.class );
 
+	private static final int MAX_STRIPES = 16;
+	private static final int STRIPES = stripeCount( Runtime.getRuntime().availableProcessors() );
+
 	private final UUID uuid = UUID.randomUUID();
 	private final AtomicLong nextLockId = new AtomicLong();
-	private final ReentrantReadWriteLock reentrantReadWriteLock = new ReentrantReadWriteLock();
-	private final Lock readLock = reentrantReadWriteLock.readLock();
-	private final Lock writeLock = reentrantReadWriteLock.writeLock();
+	private final ReentrantReadWriteLock[] locks;
 
 	protected AbstractReadWriteAccess(
 			DomainDataRegion domainDataRegion,
 			DomainDataStorageAccess storageAccess) {
 		super( domainDataRegion, storageAccess );
+		this.locks = new ReentrantReadWriteLock[STRIPES];
+		for ( int i = 0; i < locks.length; i++ ) {
+			locks[i] = new ReentrantReadWriteLock();
+		}
+	}
+
+	/**
+	 * The smallest power of two allowing four stripes per processor,
+	 * but no more than {@value #MAX_STRIPES}, since every region access
+	 * has its own stripes
+	 */
+	static int stripeCount(int processors) {
+		final int minimum = Math.max( 1, processors ) * 4;
+		return Math.min( MAX_STRIPES, Integer.highestOneBit( minimum - 1 ) << 1 );
 	}
 
 	protected abstract Comparator getVersionComparator();
@@ -51,12 +75,132 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		return nextLockId.getAndIncrement();
 	}
 
+	private ReentrantReadWriteLock lock(Object key) {
+		final int hash = key.hashCode();
+		// spread the high bits, as done by HashMap
+		return locks[( hash ^ ( hash >>> 16 ) ) & ( locks.length - 1 )];
+	}
+
+	/**
+	 * The lock guarding reads of the cached item of the given key
+	 */
+	protected Lock readLock(Object key) {
+		return lock( key ).readLock();
+	}
+
+	/**
+	 * The lock guarding changes to the cached item of the given key
+	 */
+	protected Lock writeLock(Object key) {
+		return lock( key ).writeLock();
+	}
+
+	/**
+	 * A read lock covering the whole region, that is, the read locks of all the stripes
+	 *
+	 * @deprecated Use {@link #readLock(Object)}, which only locks the stripe of the key
+	 */
+	@Deprecated(since = "6.2")
 	protected Lock readLock() {
-		return readLock;
+		final Lock[] stripes = new Lock[locks.length];
+		for ( int i = 0; i < locks.length; i++ ) {
+			stripes[i] = locks[i].readLock();
+		}
+		return new AllStripesLock( stripes );
 	}
 
+	/**
+	 * A write lock covering the whole region, that is, the write locks of all the stripes
+	 *
+	 * @deprecated Use {@link #writeLock(Object)}, which only locks the stripe of the key
+	 */
+	@Deprecated(since = "6.2")
 	protected Lock writeLock() {
-		return writeLock;
+		final Lock[] stripes = new Lock[locks.length];
+		for ( int i = 0; i < locks.length; i++ ) {
+			stripes[i] = locks[i].writeLock();
+		}
+		return new AllStripesLock( stripes );
+	}
+
+	/**
+	 * Acquires the locks of all the stripes, always in the same order, and
+	 * releases them in the reverse order
+	 */
+	private static class AllStripesLock implements Lock {
+		private final Lock[] stripes;
+
+		private AllStripesLock(Lock[] stripes) {
+			this.stripes = stripes;
+		}
+
+		@Override
+		public void lock() {
+			for ( Lock stripe : stripes ) {
+				stripe.lock();
+			}
+		}
+
+		@Override
+		public void lockInterruptibly() throws InterruptedException {
+			int locked = 0;
+			try {
+				for ( ; locked < stripes.length; locked++ ) {
+					stripes[locked].lockInterruptibly();
+				}
+			}
+			finally {
+				if ( locked < stripes.length ) {
+					unlock( locked );
+				}
+			}
+		}
+
+		@Override
+		public boolean tryLock() {
+			for ( int i = 0; i < stripes.length; i++ ) {
+				if ( !stripes[i].tryLock() ) {
+					unlock( i );
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+			final long deadline = System.nanoTime() + unit.toNanos( time );
+			int locked = 0;
+			try {
+				for ( ; locked < stripes.length; locked++ ) {
+					if ( !stripes[locked].tryLock( deadline - System.nanoTime(), TimeUnit.NANOSECONDS ) ) {
+						return false;
+					}
+				}
+				return true;
+			}
+			finally {
+				if ( locked < stripes.length ) {
+					unlock( locked );
+				}
+			}
+		}
+
+		@Override
+		public void unlock() {
+			unlock( stripes.length );
+		}
+
+		private void unlock(int count) {
+			for ( int i = count - 1; i >= 0; i-- ) {
+				stripes[i].unlock();
+			}
+		}
+
+		@Override
+		public Condition newCondition() {
+			throw new UnsupportedOperationException( "Conditions are not supported by the region-wide lock" );
+		}
 	}
 
 	/**
@@ -69,6 +213,7 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		if ( debugEnabled ) {
 			log.debugf( "Getting cached data from region [`%s` (%s)] by key [%s]", getRegion().getName(), getAccessType(), key );
 		}
+		final Lock readLock = readLock( key );
 		try {
 			readLock.lock();
 			final Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
@@ -99,12 +244,32 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		}
 	}
 
+	/**
+	 * Returns <code>null</code> for the items which are not readable, as {@link #get} does.
+	 * The items are read without taking the locks of their keys: a cached item is never
+	 * modified, only replaced, and locked items are never readable anyway.
+	 */
+	@Override
+	public Object[] getAll(SharedSessionContractImplementor session, Object[] keys) {
+		if ( log.isDebugEnabled() ) {
+			log.debugf( "Getting cached data from region [`%s` (%s)] by %s keys", getRegion().getName(), getAccessType(), keys.length );
+		}
+		final Object[] items = getStorageAccess().getAllFromCache( keys, session );
+		final long txTimestamp = session.getCacheTransactionSynchronization().getCachingTimestamp();
+		for ( int i = 0; i < items.length; i++ ) {
+			final Lockable item = (Lockable) items[i];
+			items[i] = item != null && item.isReadable( txTimestamp ) ? item.getValue() : null;
+		}
+		return items;
+	}
+
 	@Override
 	public boolean putFromLoad(
 			SharedSessionContractImplementor session,
 			Object key,
 			Object value,
 			Object version) {
+		final Lock writeLock = writeLock( key );
 		try {
 			final boolean debugEnabled = log.isDebugEnabled();
 			if ( debugEnabled ) {
@@ -154,6 +319,7 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 
 	@Override
 	public SoftLock lockItem(SharedSessionContractImplementor session, Object key, Object version) {
+		final Lock writeLock = writeLock( key );
 		try {
 			writeLock.lock();
 
@@ -176,6 +342,7 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 
 	@Override
 	public void unlockItem(SharedSessionContractImplementor session, Object key, SoftLock lock) {
+		final Lock writeLock = writeLock( key );
 		try {
 			if ( log.isDebugEnabled() ) {
 				log.debugf(
@@ -320,6 +487,14 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 			return value;
 		}
 
+		Object getVersion() {
+			return version;
+		}
+
+		long getTimestamp() {
+			return timestamp;
+		}
+
 		@Override
 		public boolean isUnlockable(SoftLock lock) {
 			return false;
@@ -24,4 +24,21 @@ public interface DomainDataStorageAccess extends StorageAccess {
 	default void putFromLoad(Object key, Object value, SharedSessionContractImplementor session) {
 		putIntoCache( key, value, session );
 	}
+
+	/**
+	 * Get the items of several keys from the cache, with a single call to the
+	 * underlying cache when it supports it
+	 *
+	 * @return the items, in the order of the keys, with {@code null} for the
+	 * keys having no item
+	 *
+	 * @implNote the method default is to call {@link #getFromCache} for each key
+	 */
+	default Object[] getAllFromCache(Object[] keys, SharedSessionContractImplementor session) {
+		final Object[] values = new Object[keys.length];
+		for ( int i = 0; i < keys.length; i++ ) {
+			values[i] = getFromCache( keys[i], session );
+		}
+		return values;
+	}
 }
@@ -7,6 +7,7 @@
 package org.hibernate.cache.spi.support;
 
 import java.util.Comparator;
+import java.util.concurrent.locks.Lock;
 
 import org.hibernate.cache.cfg.spi.EntityDataCachingConfig;
 import org.hibernate.cache.spi.CacheKeysFactory;
@@ -80,8 +81,9 @@ public class EntityReadWriteAccess extends AbstractReadWriteAccess implements En
 
 	@Override
 	public boolean afterInsert(SharedSessionContractImplementor session, Object key, Object value, Object version) {
+		final Lock writeLock = writeLock( key );
 		try {
-			writeLock().lock();
+			writeLock.lock();
 			Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
 			if ( item == null ) {
 				getStorageAccess().putIntoCache(
@@ -96,7 +98,7 @@ public class EntityReadWriteAccess extends AbstractReadWriteAccess implements En
 			}
 		}
 		finally {
-			writeLock().unlock();
+			writeLock.unlock();
 		}
 	}
 
@@ -118,8 +120,9 @@ public class EntityReadWriteAccess extends AbstractReadWriteAccess implements En
 			Object currentVersion,
 			Object previousVersion,
 			SoftLock lock) {
+		final Lock writeLock = writeLock( key );
 		try {
-			writeLock().lock();
+			writeLock.lock();
 			Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
 
 			if ( item != null && item.isUnlockable( lock ) ) {
@@ -143,7 +146,7 @@ public class EntityReadWriteAccess extends AbstractReadWriteAccess implements En
 			}
 		}
 		finally {
-			writeLock().unlock();
+			writeLock.unlock();
 		}
 	}
 
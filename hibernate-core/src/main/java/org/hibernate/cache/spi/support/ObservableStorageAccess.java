@@ -0,0 +1,40 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.support;
+
+/**
+ * A {@link StorageAccess} notifying listeners of the changes made to its
+ * entries, including the changes made by other nodes sharing a distributed
+ * cache, which allows the entries to be mirrored in process.
+ * <p>
+ * When the storage of the {@link org.hibernate.cache.spi.TimestampsRegion}
+ * is observable, the standard {@link org.hibernate.cache.spi.TimestampsCache}
+ * keeps a local copy of the timestamps of the query spaces, so that checking
+ * whether cached query results are up-to-date does not access the cache.
+ */
+public interface ObservableStorageAccess extends StorageAccess {
+	/**
+	 * Register a listener to be notified of the changes made to the entries,
+	 * until this storage is released
+	 */
+	void addChangeListener(ChangeListener listener);
+
+	/**
+	 * Notified of the changes made to the entries of an {@link ObservableStorageAccess}
+	 */
+	interface ChangeListener {
+		/**
+		 * The entry with the given key was put, replaced, removed or expired
+		 */
+		void entryChanged(Object key);
+
+		/**
+		 * All entries were removed
+		 */
+		void cleared();
+	}
+}
@@ -0,0 +1,334 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.support;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Memory allocated outside the Java heap, in direct {@link ByteBuffer} slabs,
+ * handed out in chunks whose size is a power of two.  Each slab is dedicated
+ * to the chunks of one size, and freed chunks are reused by later allocations
+ * of the same size.  A slab whose chunks were all freed goes back to a pool of
+ * empty slabs, from which it may be dedicated to another size, so that the
+ * memory follows the sizes of the stored entries.
+ * <p>
+ * Chunks are read without locking.  Each chunk starts with a stamp, unique to
+ * each allocation, which readers check before and after copying the content
+ * of the chunk, so that a read concurrent with the chunk being freed and
+ * reused is detected rather than returning the data of another entry.  Since
+ * the chunks of a slab dedicated to another size start at other offsets, the
+ * readers also check the generation of the slab, which changes every time
+ * the slab is dedicated.
+ */
+class OffHeapMemory {
+	private static final VarHandle STAMP =
+			MethodHandles.byteBufferViewVarHandle( long[].class, ByteOrder.nativeOrder() );
+
+	static final int SLAB_SIZE = 1 << 20;
+	private static final int MIN_CHUNK_SHIFT = 6;
+	private static final int MAX_CHUNK_SHIFT = 20;
+	private static final int HEADER_SIZE = Long.BYTES;
+
+	private final Slab[] slabs;
+	private final Slab[] emptySlabs;
+	private final SizeClass[] sizeClasses = new SizeClass[MAX_CHUNK_SHIFT - MIN_CHUNK_SHIFT + 1];
+	private final ReentrantLock lock = new ReentrantLock();
+	private final AtomicLong stamps = new AtomicLong();
+	private int slabCount;
+	private int emptySlabCount;
+	private volatile long allocatedBytes;
+
+	/**
+	 * @param capacity The maximum number of bytes to allocate, rounded up to a whole number of slabs
+	 */
+	OffHeapMemory(long capacity) {
+		final long slabCount = capacity / SLAB_SIZE + ( capacity % SLAB_SIZE == 0 ? 0 : 1 );
+		this.slabs = new Slab[(int) Math.max( 1, Math.min( slabCount, Integer.MAX_VALUE ) )];
+		this.emptySlabs = new Slab[slabs.length];
+		for ( int i = 0; i < sizeClasses.length; i++ ) {
+			sizeClasses[i] = new SizeClass( 1 << ( i + MIN_CHUNK_SHIFT ) );
+		}
+	}
+
+	/**
+	 * The size of the chunk holding the given number of bytes, or {@code -1}
+	 * if they do not fit in a slab
+	 */
+	static int chunkSize(int length) {
+		final int size = length + HEADER_SIZE;
+		if ( size > SLAB_SIZE ) {
+			return -1;
+		}
+		return Math.max( 1 << MIN_CHUNK_SHIFT, Integer.highestOneBit( size - 1 ) << 1 );
+	}
+
+	/**
+	 * The number of bytes currently held by allocated chunks
+	 */
+	long getAllocatedBytes() {
+		return allocatedBytes;
+	}
+
+	/**
+	 * Copy the given bytes to a newly allocated chunk.
+	 *
+	 * @return The chunk, or {@code null} if no memory is left for a chunk of this size
+	 */
+	Chunk store(byte[] bytes) {
+		final int chunkSize = chunkSize( bytes.length );
+		if ( chunkSize < 0 ) {
+			return null;
+		}
+		final Chunk chunk;
+		lock.lock();
+		try {
+			chunk = allocate( chunkSize, bytes.length );
+		}
+		finally {
+			lock.unlock();
+		}
+		if ( chunk == null ) {
+			return null;
+		}
+		final ByteBuffer buffer = chunk.slab.buffer;
+		STAMP.setVolatile( buffer, chunk.offset, chunk.stamp );
+		// the content must not become visible before the stamp and generation invalidating previous readers
+		VarHandle.releaseFence();
+		buffer.duplicate().position( chunk.offset + HEADER_SIZE ).put( bytes );
+		return chunk;
+	}
+
+	/**
+	 * Copy the content of the given chunk.
+	 *
+	 * @return The content, or {@code null} if the chunk was freed and reused meanwhile
+	 */
+	byte[] load(Chunk chunk) {
+		final Slab slab = chunk.slab;
+		if ( !isCurrent( chunk ) ) {
+			return null;
+		}
+		final byte[] bytes = new byte[chunk.length];
+		slab.buffer.duplicate().position( chunk.offset + HEADER_SIZE ).get( bytes );
+		// the content must be read before checking the stamp again
+		VarHandle.acquireFence();
+		return isCurrent( chunk ) ? bytes : null;
+	}
+
+	private static boolean isCurrent(Chunk chunk) {
+		return chunk.slab.generation == chunk.generation
+				&& (long) STAMP.getVolatile( chunk.slab.buffer, chunk.offset ) == chunk.stamp;
+	}
+
+	void free(Chunk chunk) {
+		lock.lock();
+		try {
+			final Slab slab = chunk.slab;
+			if ( slab.generation != chunk.generation ) {
+				// the memory was released meanwhile
+				return;
+			}
+			slab.free( chunk.offset );
+			if ( slab.used == 0 ) {
+				slab.sizeClass.remove( slab );
+				emptySlabs[emptySlabCount++] = slab;
+			}
+			else if ( !slab.available ) {
+				slab.sizeClass.add( slab );
+			}
+			allocatedBytes -= chunk.chunkSize;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Drop the slabs, once the chunks are not used anymore
+	 */
+	void release() {
+		lock.lock();
+		try {
+			for ( SizeClass sizeClass : sizeClasses ) {
+				sizeClass.clear();
+			}
+			for ( int i = 0; i < slabCount; i++ ) {
+				slabs[i].generation++;
+			}
+			Arrays.fill( slabs, null );
+			Arrays.fill( emptySlabs, null );
+			slabCount = 0;
+			emptySlabCount = 0;
+			allocatedBytes = 0;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private Chunk allocate(int chunkSize, int length) {
+		final SizeClass sizeClass = sizeClassFor( chunkSize );
+		Slab slab = sizeClass.peek();
+		if ( slab == null ) {
+			slab = emptySlab();
+			if ( slab == null ) {
+				return null;
+			}
+			slab.dedicate( sizeClass );
+			sizeClass.add( slab );
+		}
+		final int offset = slab.allocate();
+		if ( slab.isFull() ) {
+			sizeClass.remove( slab );
+		}
+		allocatedBytes += chunkSize;
+		return new Chunk( slab, offset, slab.generation, stamps.incrementAndGet(), length, chunkSize );
+	}
+
+	private Slab emptySlab() {
+		if ( emptySlabCount > 0 ) {
+			final Slab slab = emptySlabs[--emptySlabCount];
+			emptySlabs[emptySlabCount] = null;
+			return slab;
+		}
+		if ( slabCount == slabs.length ) {
+			return null;
+		}
+		final Slab slab = new Slab( ByteBuffer.allocateDirect( SLAB_SIZE ).order( ByteOrder.nativeOrder() ) );
+		slabs[slabCount++] = slab;
+		return slab;
+	}
+
+	private SizeClass sizeClassFor(int chunkSize) {
+		return sizeClasses[Integer.numberOfTrailingZeros( chunkSize ) - MIN_CHUNK_SHIFT];
+	}
+
+	/**
+	 * A chunk of memory holding the serialized form of a cached value.
+	 */
+	static final class Chunk {
+		private final Slab slab;
+		private final int offset;
+		private final int generation;
+		private final long stamp;
+		private final int length;
+		private final int chunkSize;
+
+		private Chunk(Slab slab, int offset, int generation, long stamp, int length, int chunkSize) {
+			this.slab = slab;
+			this.offset = offset;
+			this.generation = generation;
+			this.stamp = stamp;
+			this.length = length;
+			this.chunkSize = chunkSize;
+		}
+
+		int getChunkSize() {
+			return chunkSize;
+		}
+	}
+
+	/**
+	 * A slab, carved into chunks of the size it is currently dedicated to.
+	 * Guarded by the lock, except for the generation.
+	 */
+	private static final class Slab {
+		private final ByteBuffer buffer;
+		private volatile int generation;
+		private SizeClass sizeClass;
+		// whether the slab has room, and is listed by its size class
+		private boolean available;
+		private int used;
+		private int carved;
+		private int[] free = new int[16];
+		private int freeCount;
+
+		private Slab(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		private void dedicate(SizeClass sizeClass) {
+			generation++;
+			this.sizeClass = sizeClass;
+			used = 0;
+			carved = 0;
+			freeCount = 0;
+		}
+
+		private int allocate() {
+			used++;
+			if ( freeCount > 0 ) {
+				return free[--freeCount];
+			}
+			final int offset = carved;
+			carved += sizeClass.chunkSize;
+			return offset;
+		}
+
+		private void free(int offset) {
+			used--;
+			if ( freeCount == free.length ) {
+				free = Arrays.copyOf( free, freeCount * 2 );
+			}
+			free[freeCount++] = offset;
+		}
+
+		private boolean isFull() {
+			return freeCount == 0 && carved == SLAB_SIZE;
+		}
+	}
+
+	/**
+	 * The slabs dedicated to chunks of one size which have room for more chunks.
+	 * Guarded by the lock.
+	 */
+	private static final class SizeClass {
+		private final int chunkSize;
+		private Slab[] available = new Slab[4];
+		private int availableCount;
+
+		private SizeClass(int chunkSize) {
+			this.chunkSize = chunkSize;
+		}
+
+		private Slab peek() {
+			return availableCount == 0 ? null : available[availableCount - 1];
+		}
+
+		private void add(Slab slab) {
+			if ( availableCount == available.length ) {
+				available = Arrays.copyOf( available, availableCount * 2 );
+			}
+			available[availableCount++] = slab;
+			slab.available = true;
+		}
+
+		private void remove(Slab slab) {
+			if ( slab.available ) {
+				for ( int i = availableCount - 1; i >= 0; i-- ) {
+					if ( available[i] == slab ) {
+						available[i] = available[--availableCount];
+						available[availableCount] = null;
+						break;
+					}
+				}
+				slab.available = false;
+			}
+		}
+
+		private void clear() {
+			Arrays.fill( available, 0, availableCount, null );
+			availableCount = 0;
+		}
+	}
+}
@@ -0,0 +1,210 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.support;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cache.internal.LocalCacheRegionFactory;
+import org.hibernate.cache.internal.LocalCacheStorageAccess;
+import org.hibernate.cache.spi.ExtendedStatisticsSupport;
+import org.hibernate.cache.spi.entry.BinaryCacheEntry;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.TinyLfuCache;
+
+/**
+ * StorageAccess implementation of {@link LocalCacheRegionFactory} keeping the
+ * state of cached entities outside the Java heap.
+ * <p>
+ * The disassembled state of each entity cache entry is written in the binary
+ * form defined by {@link BinaryCacheEntry} to a chunk of {@link OffHeapMemory},
+ * and read back only when the entry is hit.  Only a small handle to the chunk is
+ * kept on the heap.  Other cached values, such as locks, collection entries and
+ * natural id resolutions, are kept on the heap as they are, and so are entity
+ * entries which cannot be written in binary form or for which no memory is left.
+ */
+public class OffHeapStorageAccess implements DomainDataStorageAccess, ExtendedStatisticsSupport {
+	private static final int MAX_DEPTH = 4;
+
+	private final OffHeapMemory memory;
+	private final TinyLfuCache<Object, Object> cache;
+	private final Map<String, BinaryCacheEntry> structures = new ConcurrentHashMap<>();
+
+	/**
+	 * @param maximumSize The maximum size of the data, in bytes, also bounding the memory allocated outside the heap
+	 * @param expireAfterWrite The time after which entries expire, in seconds, or {@code 0} if they never do
+	 */
+	public OffHeapStorageAccess(long maximumSize, long expireAfterWrite) {
+		this.memory = new OffHeapMemory( maximumSize );
+		this.cache = new TinyLfuCache<>(
+				maximumSize,
+				expireAfterWrite,
+				TimeUnit.SECONDS,
+				OffHeapStorageAccess::weigh
+		) {
+			@Override
+			protected void onRemoval(Object key, Object value) {
+				if ( value instanceof OffHeapEntry ) {
+					memory.free( ( (OffHeapEntry) value ).chunk );
+				}
+			}
+		};
+	}
+
+	private static long weigh(Object key, Object value) {
+		final long keySize = LocalCacheStorageAccess.estimateSize( key, MAX_DEPTH );
+		return value instanceof OffHeapEntry
+				? keySize + ( (OffHeapEntry) value ).chunk.getChunkSize()
+				: keySize + LocalCacheStorageAccess.estimateSize( value, MAX_DEPTH );
+	}
+
+	/**
+	 * The number of bytes currently allocated outside the heap
+	 */
+	public long getOffHeapSize() {
+		return memory.getAllocatedBytes();
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return cache.containsKey( key );
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final Object value = cache.get( key );
+		return value instanceof OffHeapEntry ? read( (OffHeapEntry) value ) : value;
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		cache.put( key, write( value, session ) );
+	}
+
+	@Override
+	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		cache.remove( key );
+	}
+
+	@Override
+	public void clearCache(SharedSessionContractImplementor session) {
+		cache.clear();
+	}
+
+	@Override
+	public void evictData() {
+		cache.clear();
+	}
+
+	@Override
+	public void evictData(Object key) {
+		cache.remove( key );
+	}
+
+	@Override
+	public void release() {
+		cache.clear();
+		memory.release();
+	}
+
+	@Override
+	public long getElementCountInMemory() {
+		return cache.size();
+	}
+
+	@Override
+	public long getElementCountOnDisk() {
+		return 0;
+	}
+
+	@Override
+	public long getSizeInMemory() {
+		return cache.weightedSize();
+	}
+
+	private Object write(Object value, SharedSessionContractImplementor session) {
+		if ( value instanceof AbstractReadWriteAccess.Item ) {
+			final AbstractReadWriteAccess.Item item = (AbstractReadWriteAccess.Item) value;
+			if ( item.getValue() instanceof StandardCacheEntryImpl ) {
+				final OffHeapEntry entry = write( (StandardCacheEntryImpl) item.getValue(), session, item );
+				return entry == null ? value : entry;
+			}
+		}
+		else if ( value instanceof StandardCacheEntryImpl ) {
+			final OffHeapEntry entry = write( (StandardCacheEntryImpl) value, session, null );
+			return entry == null ? value : entry;
+		}
+		return value;
+	}
+
+	private OffHeapEntry write(
+			StandardCacheEntryImpl cacheEntry,
+			SharedSessionContractImplementor session,
+			AbstractReadWriteAccess.Item item) {
+		final BinaryCacheEntry structure = structure( cacheEntry.getSubclass(), session );
+		if ( structure == null ) {
+			return null;
+		}
+		final byte[] bytes = (byte[]) structure.structure( cacheEntry );
+		if ( bytes == null ) {
+			// some value has no binary form, keep the entry on the heap
+			return null;
+		}
+		final OffHeapMemory.Chunk chunk = memory.store( bytes );
+		if ( chunk == null ) {
+			return null;
+		}
+		return item == null
+				? new OffHeapEntry( chunk, cacheEntry.getSubclass(), null, 0, false )
+				: new OffHeapEntry( chunk, cacheEntry.getSubclass(), item.getVersion(), item.getTimestamp(), true );
+	}
+
+	private Object read(OffHeapEntry entry) {
+		final byte[] bytes = memory.load( entry.chunk );
+		if ( bytes == null ) {
+			// the entry was removed and its memory reused since it was looked up
+			return null;
+		}
+		final Object cacheEntry = structures.get( entry.subclass ).destructure( bytes, null );
+		return entry.item
+				? new AbstractReadWriteAccess.Item( cacheEntry, entry.itemVersion, entry.timestamp )
+				: cacheEntry;
+	}
+
+	private BinaryCacheEntry structure(String entityName, SharedSessionContractImplementor session) {
+		final BinaryCacheEntry structure = structures.get( entityName );
+		if ( structure != null || session == null ) {
+			return structure;
+		}
+		return structures.computeIfAbsent(
+				entityName,
+				name -> new BinaryCacheEntry( session.getFactory().getMappingMetamodel().getEntityDescriptor( name ) )
+		);
+	}
+
+	/**
+	 * The on-heap handle of an entity cache entry stored outside the heap,
+	 * along with the read-write item wrapping it, if any.
+	 */
+	private static final class OffHeapEntry {
+		private final OffHeapMemory.Chunk chunk;
+		private final String subclass;
+		private final Object itemVersion;
+		private final long timestamp;
+		private final boolean item;
+
+		private OffHeapEntry(OffHeapMemory.Chunk chunk, String subclass, Object itemVersion, long timestamp, boolean item) {
+			this.chunk = chunk;
+			this.subclass = subclass;
+			this.itemVersion = itemVersion;
+			this.timestamp = timestamp;
+			this.item = item;
+		}
+	}
+}
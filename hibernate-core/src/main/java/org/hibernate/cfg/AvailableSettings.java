@@ -1016,6 +1016,58 @@ public interface AvailableSettings {
 	 */
 	String BATCH_STRATEGY = "hibernate.jdbc.factory_class";
 
+	/**
+	 * Specifies the maximum number of JDBC batches, each for a different entity,
+	 * which may be kept open at the same time during a flush. By default, a batch
+	 * is executed as soon as a row is added to a batch for a different entity. A
+	 * greater value allows rows to keep being added to a batch after rows for other
+	 * entities were batched, so that a flush which interleaves the mutations of
+	 * several entities needs fewer round trips to the database.
+	 * <p>
+	 * Batches are always executed in the order in which they were started, and a
+	 * batch is only resumed if no mapped foreign key relates its tables with the
+	 * tables of the batches started after it. Otherwise, the open batches are
+	 * executed first.
+	 * <p>
+	 * Has no effect unless {@value #STATEMENT_BATCH_SIZE} enables batching. The
+	 * default is {@code 1}.
+	 *
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#getJdbcBatchPipelineDepth()
+	 */
+	String STATEMENT_BATCH_PIPELINE_DEPTH = "hibernate.jdbc.batch_pipeline_depth";
+
+	/**
+	 * Specifies the maximum number of rows inserted by a single statement when
+	 * batching inserts. When greater than {@code 1}, the rows of a batch of inserts
+	 * are written using statements of form {@code insert ... values (...), (...)},
+	 * as rendered by {@link org.hibernate.dialect.Dialect#getMultiRowInsertString},
+	 * instead of a JDBC batch of single-row inserts. Statements are further limited
+	 * by {@link org.hibernate.dialect.Dialect#getParameterCountLimit()} and
+	 * {@link org.hibernate.dialect.Dialect#getValuesListRowCountLimit()}.
+	 * <p>
+	 * Has no effect unless {@value #STATEMENT_BATCH_SIZE} enables batching, and
+	 * does not apply to entities with identity columns, which are never batched.
+	 * Disabled by default.
+	 */
+	String STATEMENT_BATCH_MULTI_ROW_INSERT_SIZE = "hibernate.jdbc.multi_row_insert_size";
+
+	/**
+	 * Specifies the maximum number of rows deleted by a single statement when
+	 * batching deletes. When greater than {@code 1}, the rows of a batch of deletes
+	 * restricted by a single key column are deleted using statements of form
+	 * {@code delete from ... where key in (?, ?, ...)}, instead of a JDBC batch of
+	 * single-row deletes. Statements are further limited by
+	 * {@link org.hibernate.dialect.Dialect#getParameterCountLimit()}.
+	 * <p>
+	 * Applies to the removal of entities which are not versioned, have no custom
+	 * delete SQL and use no other optimistic locking, and to the removal of all
+	 * the rows of a collection. Has no effect unless {@value #STATEMENT_BATCH_SIZE}
+	 * enables batching. Disabled by default.
+	 *
+	 * @see org.hibernate.engine.jdbc.batch.spi.BatchKey#isKeyListDeleteAllowed()
+	 */
+	String STATEMENT_BATCH_MULTI_ROW_DELETE_SIZE = "hibernate.jdbc.multi_row_delete_size";
+
 	/**
 	 * When enabled, specifies that {@link jakarta.persistence.Version versioned}
 	 * data should be included in batching.
@@ -1053,6 +1105,50 @@ public interface AvailableSettings {
 	 */
 	String FLUSH_BEFORE_COMPLETION = "hibernate.transaction.flush_before_completion";
 
+	/**
+	 * Specifies the minimum number of entities managed by a session for which
+	 * the current state of the entities is compared with their loaded state in
+	 * parallel during flush, using the common {@link java.util.concurrent.ForkJoinPool}.
+	 * <p>
+	 * Only the comparison itself is parallelized, the resulting updates are still
+	 * scheduled in the usual order. Attribute accessors of the entities must not
+	 * interact with the session.
+	 * <p>
+	 * Since the state of the entities is compared before they are flushed, the
+	 * comparison is not parallelized when an {@link org.hibernate.Interceptor},
+	 * a {@link org.hibernate.event.spi.PreUpdateEventListener}, a custom
+	 * {@link org.hibernate.event.spi.FlushEntityEventListener} or a JPA
+	 * {@link jakarta.persistence.PreUpdate} callback of a managed entity might
+	 * modify entities during the flush.
+	 * <p>
+	 * Disabled by default.
+	 *
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#getParallelDirtyCheckingThreshold()
+	 */
+	String PARALLEL_DIRTY_CHECKING_THRESHOLD = "hibernate.flush.parallel_dirty_checking_threshold";
+
+	/**
+	 * When enabled, specifies that a flush should only dirty-check the entities
+	 * which were touched since the previous flush, instead of every entity managed
+	 * by the session.
+	 * <p>
+	 * This only applies to entities enhanced for lazy loading, since only their
+	 * attribute writes can be intercepted. Such an entity counts as touched if one
+	 * of its attributes was written, if it was merged, or if it was explicitly marked
+	 * by {@link org.hibernate.Session#markTouched(Object)}. The latter is needed when
+	 * a mutable attribute value, for example an embeddable or a {@link java.util.Date},
+	 * is modified in place, which does not write the attribute.
+	 * <p>
+	 * Nothing is recorded for any other entity: entities which are not enhanced,
+	 * entities enhanced for dirty tracking, and entities reattached without a loaded
+	 * state are always dirty-checked.
+	 * <p>
+	 * Disabled by default.
+	 *
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#isTouchedEntityTrackingEnabled()
+	 */
+	String TRACK_TOUCHED_ENTITIES = "hibernate.flush.track_touched_entities";
+
 	/**
 	 * Specifies how Hibernate should manage JDBC connections in terms of acquisition
 	 * and release.
@@ -1140,6 +1236,9 @@ public interface AvailableSettings {
 
 	/**
 	 * Enable ordering of update statements by primary key value.
+	 * <p>
+	 * Also groups the delete statements by entity, ordered so that the rows of
+	 * an entity are deleted before the rows they reference through a foreign key.
 	 *
 	 * @see org.hibernate.boot.SessionFactoryBuilder#applyOrderingOfUpdates(boolean)
 	 */
@@ -1404,6 +1503,37 @@ public interface AvailableSettings {
 	 */
 	String USE_DIRECT_REFERENCE_CACHE_ENTRIES = "hibernate.cache.use_reference_entries";
 
+	/**
+	 * The maximum approximate size, in bytes, of each region of the
+	 * {@link org.hibernate.cache.internal.LocalCacheRegionFactory}.  The limit
+	 * of a specific region may be set by appending its name to the setting name,
+	 * for example {@code hibernate.cache.local.max_size.com.acme.Customer}.
+	 * <p>
+	 * The default is 32 MiB.
+	 */
+	String LOCAL_CACHE_MAX_SIZE = "hibernate.cache.local.max_size";
+
+	/**
+	 * The number of seconds after which the entries of each region of the
+	 * {@link org.hibernate.cache.internal.LocalCacheRegionFactory} expire.  The
+	 * expiration of a specific region may be set by appending its name to the
+	 * setting name.
+	 * <p>
+	 * By default, entries do not expire.
+	 */
+	String LOCAL_CACHE_EXPIRE_AFTER_WRITE = "hibernate.cache.local.expire_after_write";
+
+	/**
+	 * When enabled, the {@link org.hibernate.cache.internal.LocalCacheRegionFactory}
+	 * keeps the state of cached entities outside the Java heap, in a compact binary
+	 * form which is read back only on a cache hit.  The memory allocated outside the
+	 * heap by each entity, collection or natural id region is bounded by
+	 * {@value #LOCAL_CACHE_MAX_SIZE}.
+	 * <p>
+	 * The default is {@code false}.
+	 */
+	String LOCAL_CACHE_OFF_HEAP = "hibernate.cache.local.off_heap";
+
 
 
 
@@ -1446,6 +1576,21 @@ public interface AvailableSettings {
 	 */
 	String BYTECODE_PROVIDER = "hibernate.bytecode.provider";
 
+	/**
+	 * When enabled, specifies that Hibernate should generate, for each entity class,
+	 * a specialized dirty checker which compares the loaded state snapshot of an
+	 * instance with its current state during flush. This avoids the generic,
+	 * attribute-by-attribute dirty checking loop for entities which are not
+	 * enhanced for dirty tracking.
+	 * <p>
+	 * Disabled by default.
+	 *
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#isDirtyCheckOptimizerEnabled()
+	 *
+	 * @since 6.2
+	 */
+	String GENERATE_DIRTY_CHECKERS = "hibernate.bytecode.generate_dirty_checkers";
+
 	String JPAQL_STRICT_COMPLIANCE= "hibernate.query.jpaql_strict_compliance";
 
 	/**
@@ -1472,6 +1617,9 @@ public interface AvailableSettings {
 	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache
 	 * query interpretation cache}.
 	 * <p>
+	 * Entries of long queries count as several entries, one per 512 characters
+	 * of the query.
+	 * <p>
 	 * The default maximum is
 	 * {@value org.hibernate.query.spi.QueryEngine#DEFAULT_QUERY_PLAN_MAX_COUNT}.
 	 *
@@ -1479,6 +1627,20 @@ public interface AvailableSettings {
 	 */
 	String QUERY_PLAN_CACHE_MAX_SIZE = "hibernate.query.plan_cache_max_size";
 
+	/**
+	 * Specifies a {@link org.hibernate.query.spi.QueryInterpretationCacheStorageFactory}
+	 * creating the storage of the caches maintained by the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache query interpretation cache}.
+	 * Can specify an instance, a class, or the name of a class.
+	 * <p>
+	 * By default, each cache evicts entries according to the W-TinyLFU policy, bounding
+	 * the total weight of the entries by {@value #QUERY_PLAN_CACHE_MAX_SIZE}, where
+	 * longer queries weigh more.
+	 *
+	 * @since 6.2
+	 */
+	String QUERY_PLAN_CACHE_STORAGE_FACTORY = "hibernate.query.plan_cache_storage_factory";
+
 	/**
 	 * The maximum number of {@link org.hibernate.query.ParameterMetadata} instances
 	 * maintained by the {@link org.hibernate.query.spi.QueryInterpretationCache}.
@@ -2544,6 +2706,24 @@ public interface AvailableSettings {
 	 */
 	String IN_CLAUSE_PARAMETER_PADDING = "hibernate.query.in_clause_parameter_padding";
 
+	/**
+	 * When enabled, a parameter occurring as the only element of a SQL {@code IN}
+	 * predicate and bound to multiple values is bound to a single JDBC array of the
+	 * values, and the predicate is rendered e.g. as {@code test = any(?)}, instead of
+	 * expanding to as many bind parameters as there are values.  The SQL is then the
+	 * same for all the numbers of values.
+	 * <p>
+	 * Only applies on databases with {@linkplain org.hibernate.dialect.Dialect#supportsStandardArrays()
+	 * standard arrays}, and to parameters occurring once in the query whose values are
+	 * of a basic type without converter.  Other multi-valued parameters are expanded,
+	 * and {@value #IN_CLAUSE_PARAMETER_PADDING} still applies to them.
+	 * <p>
+	 * The default is {@code false}.
+	 *
+	 * @since 6.2
+	 */
+	String IN_CLAUSE_PARAMETER_ARRAY = "hibernate.query.in_clause_parameter_array";
+
 	/**
 	 * This setting controls the number of {@link org.hibernate.stat.QueryStatistics}
 	 * entries that will be stored by the Hibernate {@link org.hibernate.stat.Statistics}
@@ -895,6 +895,11 @@ public class DB2Dialect extends Dialect {
 		return BIND_PARAMETERS_NUMBER_LIMIT;
 	}
 
+	@Override
+	public int getParameterCountLimit() {
+		return BIND_PARAMETERS_NUMBER_LIMIT;
+	}
+
 	@Override
 	public String generatedAs(String generatedAs) {
 		return " generated always as (" + generatedAs + ")";
@@ -3274,6 +3274,28 @@ public abstract class Dialect implements ConversionContext {
 		return 0;
 	}
 
+	/**
+	 * Return the limit that the underlying database, or its JDBC driver, places
+	 * on the number of parameters of a single statement.
+	 *
+	 * @return int The limit, or zero-or-less to indicate no limit.
+	 */
+	public int getParameterCountLimit() {
+		return 0;
+	}
+
+	/**
+	 * Return the limit that the underlying database places on the number of
+	 * rows of the values list of a single insert statement.
+	 *
+	 * @return int The limit, or zero-or-less to indicate no limit.
+	 *
+	 * @see #getMultiRowInsertString(String, int)
+	 */
+	public int getValuesListRowCountLimit() {
+		return 0;
+	}
+
 	/**
 	 * HHH-4635
 	 * Oracle expects all Lob values to be last in inserts and updates.
@@ -3651,6 +3673,37 @@ public abstract class Dialect implements ConversionContext {
 		return true;
 	}
 
+	/**
+	 * Render an insert statement which inserts the given number of rows at once,
+	 * given the statement which inserts a single row.
+	 *
+	 * @param insert The insert statement for a single row, of form
+	 * {@code insert into table (columns) values (values)}
+	 * @param rowCount The number of rows to insert
+	 *
+	 * @return The multi-row insert statement, or {@code null} if the given
+	 * statement cannot be turned into a multi-row insert
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_MULTI_ROW_INSERT_SIZE
+	 */
+	public String getMultiRowInsertString(String insert, int rowCount) {
+		if ( !supportsValuesListForInsert() ) {
+			return null;
+		}
+		final int valuesIndex = insert.indexOf( ") values (" );
+		if ( valuesIndex < 0 || insert.charAt( insert.length() - 1 ) != ')' ) {
+			// no values list, or something like a returning clause after it
+			return null;
+		}
+		final String values = insert.substring( valuesIndex + 9 );
+		final StringBuilder buffer = new StringBuilder( insert.length() + ( values.length() + 1 ) * ( rowCount - 1 ) );
+		buffer.append( insert );
+		for ( int i = 1; i < rowCount; i++ ) {
+			buffer.append( ',' ).append( values );
+		}
+		return buffer.toString();
+	}
+
 	/**
 	 * Does this dialect support {@code SKIP_LOCKED} timeout.
 	 *
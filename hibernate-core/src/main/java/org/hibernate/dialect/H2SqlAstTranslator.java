@@ -31,6 +31,7 @@ import org.hibernate.sql.ast.tree.from.QueryPartTableReference;
 import org.hibernate.sql.ast.tree.from.TableGroup;
 import org.hibernate.sql.ast.tree.from.TableReference;
 import org.hibernate.sql.ast.tree.predicate.BooleanExpressionPredicate;
+import org.hibernate.sql.ast.tree.predicate.InArrayPredicate;
 import org.hibernate.sql.ast.tree.predicate.InSubQueryPredicate;
 import org.hibernate.sql.ast.tree.select.QueryPart;
 import org.hibernate.sql.ast.tree.select.SelectClause;
@@ -170,6 +171,24 @@ public class H2SqlAstTranslator<T extends JdbcOperation> extends AbstractSqlAstT
 		emulateSelectTupleComparison( lhsExpressions, tuple.getExpressions(), operator, true );
 	}
 
+	@Override
+	public void visitInArrayPredicate(InArrayPredicate inArrayPredicate) {
+		// Quantified comparisons with arrays are supported as of 2.0
+		if ( getDialect().getVersion().isBefore( 2 ) ) {
+			if ( inArrayPredicate.isNegated() ) {
+				appendSql( "not " );
+			}
+			appendSql( "array_contains(" );
+			inArrayPredicate.getArrayExpression().accept( this );
+			appendSql( ',' );
+			renderInArrayTestExpression( inArrayPredicate );
+			appendSql( CLOSE_PARENTHESIS );
+		}
+		else {
+			super.visitInArrayPredicate( inArrayPredicate );
+		}
+	}
+
 	@Override
 	public void visitInSubQueryPredicate(InSubQueryPredicate inSubQueryPredicate) {
 		final SqlTuple lhsTuple;
@@ -25,6 +25,7 @@ import org.hibernate.sql.ast.tree.expression.Literal;
 import org.hibernate.sql.ast.tree.expression.SqlTuple;
 import org.hibernate.sql.ast.tree.expression.Summarization;
 import org.hibernate.sql.ast.tree.predicate.BooleanExpressionPredicate;
+import org.hibernate.sql.ast.tree.predicate.InArrayPredicate;
 import org.hibernate.sql.ast.tree.select.QueryPart;
 import org.hibernate.sql.exec.spi.JdbcOperation;
 import org.hibernate.type.descriptor.jdbc.ArrayJdbcType;
@@ -57,6 +58,17 @@ public class HSQLSqlAstTranslator<T extends JdbcOperation> extends AbstractSqlAs
 		}
 	}
 
+	@Override
+	public void visitInArrayPredicate(InArrayPredicate inArrayPredicate) {
+		renderInArrayTestExpression( inArrayPredicate );
+		if ( inArrayPredicate.isNegated() ) {
+			appendSql( " not" );
+		}
+		appendSql( " in(unnest(" );
+		inArrayPredicate.getArrayExpression().accept( this );
+		appendSql( "))" );
+	}
+
 	@Override
 	protected boolean supportsArrayConstructor() {
 		return true;
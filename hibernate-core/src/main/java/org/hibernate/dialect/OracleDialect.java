@@ -945,6 +945,12 @@ public class OracleDialect extends Dialect {
 		return PARAM_LIST_SIZE_LIMIT;
 	}
 
+	@Override
+	public String getMultiRowInsertString(String insert, int rowCount) {
+		// row value constructors with several rows are only supported since 23c
+		return getVersion().isSameOrAfter( 23 ) ? super.getMultiRowInsertString( insert, rowCount ) : null;
+	}
+
 	@Override
 	public boolean forceLobAsLastValue() {
 		return true;
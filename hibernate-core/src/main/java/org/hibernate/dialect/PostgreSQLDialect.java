@@ -659,6 +659,12 @@ public class PostgreSQLDialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public int getParameterCountLimit() {
+		// the driver sends the number of parameters as a 2-byte integer
+		return Short.MAX_VALUE;
+	}
+
 	@Override
 	public boolean supportsPartitionBy() {
 		return true;
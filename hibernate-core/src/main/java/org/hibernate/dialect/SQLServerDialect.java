@@ -112,6 +112,7 @@ import static org.hibernate.type.descriptor.DateTimeUtils.appendAsTimestampWithM
 public class SQLServerDialect extends AbstractTransactSQLDialect {
 	private final static DatabaseVersion MINIMUM_VERSION = DatabaseVersion.make( 10, 0 );
 	private static final int PARAM_LIST_SIZE_LIMIT = 2100;
+	private static final int VALUES_LIST_ROW_COUNT_LIMIT = 1000;
 
 	private final StandardSequenceExporter exporter;
 	private final UniqueDelegate uniqueDelegate = new AlterTableUniqueIndexDelegate(this);
@@ -578,6 +579,16 @@ public class SQLServerDialect extends AbstractTransactSQLDialect {
 		return PARAM_LIST_SIZE_LIMIT;
 	}
 
+	@Override
+	public int getParameterCountLimit() {
+		return PARAM_LIST_SIZE_LIMIT;
+	}
+
+	@Override
+	public int getValuesListRowCountLimit() {
+		return VALUES_LIST_ROW_COUNT_LIMIT;
+	}
+
 	@Override
 	public IdentityColumnSupport getIdentityColumnSupport() {
 		return new SQLServerIdentityColumnSupport();
@@ -24,6 +24,7 @@ import org.hibernate.sql.ast.tree.from.DerivedTableReference;
 import org.hibernate.sql.ast.tree.from.NamedTableReference;
 import org.hibernate.sql.ast.tree.from.TableGroup;
 import org.hibernate.sql.ast.tree.from.TableReference;
+import org.hibernate.sql.ast.tree.predicate.InArrayPredicate;
 import org.hibernate.sql.ast.tree.select.QueryPart;
 import org.hibernate.sql.ast.tree.select.QuerySpec;
 import org.hibernate.sql.ast.tree.select.SelectClause;
@@ -74,6 +75,17 @@ public class SpannerSqlAstTranslator<T extends JdbcOperation> extends AbstractSq
 		emulateSelectTupleComparison( lhsExpressions, tuple.getExpressions(), operator, true );
 	}
 
+	@Override
+	public void visitInArrayPredicate(InArrayPredicate inArrayPredicate) {
+		renderInArrayTestExpression( inArrayPredicate );
+		if ( inArrayPredicate.isNegated() ) {
+			appendSql( " not" );
+		}
+		appendSql( " in unnest(" );
+		inArrayPredicate.getArrayExpression().accept( this );
+		appendSql( CLOSE_PARENTHESIS );
+	}
+
 	@Override
 	protected void renderPartitionItem(Expression expression) {
 		if ( expression instanceof Literal ) {
@@ -9,6 +9,7 @@ package org.hibernate.engine.internal;
 import org.hibernate.cache.spi.access.CachedDomainDataAccess;
 import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.ArrayHelper;
 
 /**
  * @author Steve Ebersole
@@ -35,4 +36,25 @@ public final class CacheHelper {
 		return cachedValue;
 	}
 
+	/**
+	 * Look up several keys with a single call to the second-level cache
+	 *
+	 * @return the cached values, in the order of the keys, with {@code null} for the keys not found in cache
+	 */
+	public static Object[] fromSharedCache(
+			SharedSessionContractImplementor session,
+			Object[] cacheKeys,
+			CachedDomainDataAccess cacheAccess) {
+		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+		Object[] cachedValues = null;
+		eventListenerManager.cacheGetStart();
+		try {
+			cachedValues = cacheAccess.getAll( session, cacheKeys );
+		}
+		finally {
+			eventListenerManager.cacheGetEnd( cachedValues != null && ArrayHelper.countNonNull( cachedValues ) > 0 );
+		}
+		return cachedValues;
+	}
+
 }
@@ -16,7 +16,6 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -57,6 +56,7 @@ import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.internal.util.collections.ConcurrentReferenceHashMap;
 import org.hibernate.internal.util.collections.IdentityMap;
+import org.hibernate.internal.util.collections.OpenAddressingMap;
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
@@ -99,6 +99,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 	private final SharedSessionContractImplementor session;
 	private EntityEntryContext entityEntryContext;
+	private final boolean touchedEntityTrackingEnabled;
 
 	/*
 		Everything else below should be carefully initialized only on first need;
@@ -109,7 +110,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 
 	// Loaded entity instances, by EntityKey
-	private HashMap<EntityKey, Object> entitiesByKey;
+	private OpenAddressingMap<EntityKey, Object> entitiesByKey;
 
 	// Loaded entity instances, by EntityUniqueKey
 	private HashMap<EntityUniqueKey, Object> entitiesByUniqueKey;
@@ -119,16 +120,16 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	// Snapshots of current database state for entities
 	// that have *not* been loaded
-	private HashMap<EntityKey, Object> entitySnapshotsByKey;
+	private OpenAddressingMap<EntityKey, Object> entitySnapshotsByKey;
 
 	// Identity map of array holder ArrayHolder instances, by the array instance
-	private IdentityHashMap<Object, PersistentCollection<?>> arrayHolders;
+	private OpenAddressingMap<Object, PersistentCollection<?>> arrayHolders;
 
 	// Identity map of CollectionEntry instances, by the collection wrapper
 	private IdentityMap<PersistentCollection<?>, CollectionEntry> collectionEntries;
 
 	// Collection wrappers, by the CollectionKey
-	private HashMap<CollectionKey, PersistentCollection<?>> collectionsByKey;
+	private OpenAddressingMap<CollectionKey, PersistentCollection<?>> collectionsByKey;
 
 	// Set of EntityKeys of deleted objects
 	private HashSet<EntityKey> nullifiableEntityKeys;
@@ -149,7 +150,10 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	// Parent entities cache by their child for cascading
 	// May be empty or not contains all relation
-	private IdentityHashMap<Object,Object> parentsByChild;
+	private OpenAddressingMap<Object,Object> parentsByChild;
+
+	// Identity set of the entities touched since the last flush, when tracking them
+	private OpenAddressingMap<Object,Object> touchedEntities;
 
 	private int cascading;
 	private int loadCounter;
@@ -170,6 +174,8 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	public StatefulPersistenceContext(SharedSessionContractImplementor session) {
 		this.session = session;
 		this.entityEntryContext = new EntityEntryContext( this );
+		this.touchedEntityTrackingEnabled = session.getFactory().getSessionFactoryOptions()
+				.isTouchedEntityTrackingEnabled();
 	}
 
 	private ConcurrentMap<EntityKey, Object> getOrInitializeProxiesByKey() {
@@ -247,6 +253,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		entitiesByUniqueKey = null;
 		entityEntryContext.clear();
 		parentsByChild = null;
+		touchedEntities = null;
 		entitySnapshotsByKey = null;
 		collectionsByKey = null;
 		nonlazyCollections = null;
@@ -328,7 +335,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		else {
 			final Object[] snapshot = persister.getDatabaseSnapshot( id, session );
 			if ( entitySnapshotsByKey == null ) {
-				entitySnapshotsByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
+				entitySnapshotsByKey = new OpenAddressingMap<>( INIT_COLL_SIZE );
 			}
 			entitySnapshotsByKey.put( key, snapshot == null ? NO_ROW : snapshot );
 			return snapshot;
@@ -398,7 +405,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public void addEntity(EntityKey key, Object entity) {
 		if ( entitiesByKey == null ) {
-			entitiesByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
+			entitiesByKey = new OpenAddressingMap<>( INIT_COLL_SIZE );
 		}
 		entitiesByKey.put( key, entity );
 		final BatchFetchQueue fetchQueue = this.batchFetchQueue;
@@ -417,6 +424,19 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		return entitiesByKey != null && entitiesByKey.containsKey( key );
 	}
 
+	@Override
+	public Object getEntity(Object id, EntityPersister persister) {
+		return entitiesByKey == null
+				? null
+				: entitiesByKey.get( EntityKey.hashCode( id, persister ), id, persister, EntityKey::matches );
+	}
+
+	@Override
+	public boolean containsEntity(Object id, EntityPersister persister) {
+		return entitiesByKey != null
+				&& entitiesByKey.containsKey( EntityKey.hashCode( id, persister ), id, persister, EntityKey::matches );
+	}
+
 	@Override
 	public Object removeEntity(EntityKey key) {
 		final Object entity;
@@ -471,9 +491,55 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public EntityEntry removeEntry(Object entity) {
+		if ( touchedEntities != null ) {
+			touchedEntities.remove( entity );
+		}
 		return entityEntryContext.removeEntityEntry( entity );
 	}
 
+	@Override
+	public void markEntityTouched(Object entityOrProxy) {
+		if ( touchedEntityTrackingEnabled ) {
+			final Object entity;
+			final LazyInitializer lazyInitializer = HibernateProxy.extractLazyInitializer( entityOrProxy );
+			if ( lazyInitializer != null ) {
+				if ( lazyInitializer.isUninitialized() ) {
+					// nothing could have been modified through it
+					return;
+				}
+				entity = lazyInitializer.getImplementation();
+			}
+			else {
+				entity = entityOrProxy;
+			}
+			// the writes to any other entity are not intercepted, so it is always checked
+			if ( isAttributeWriteIntercepted( entity ) && isEntryFor( entity ) ) {
+				if ( touchedEntities == null ) {
+					touchedEntities = OpenAddressingMap.identity( INIT_COLL_SIZE );
+				}
+				touchedEntities.put( entity, entity );
+			}
+		}
+	}
+
+	@Override
+	public boolean isEntityTouched(Object entity) {
+		return !touchedEntityTrackingEnabled
+			|| !isAttributeWriteIntercepted( entity )
+			|| touchedEntities != null && touchedEntities.containsKey( entity );
+	}
+
+	private static boolean isAttributeWriteIntercepted(Object entity) {
+		return isPersistentAttributeInterceptable( entity )
+			&& asPersistentAttributeInterceptable( entity ).$$_hibernate_getInterceptor()
+					instanceof LazyAttributeLoadingInterceptor;
+	}
+
+	@Override
+	public void clearTouchedEntities() {
+		touchedEntities = null;
+	}
+
 	@Override
 	public boolean isEntryFor(Object entity) {
 		return entityEntryContext.hasEntityEntry( entity );
@@ -776,7 +842,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public void addEnhancedProxy(EntityKey key, PersistentAttributeInterceptable entity) {
 		if ( entitiesByKey == null ) {
-			entitiesByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
+			entitiesByKey = new OpenAddressingMap<>( INIT_COLL_SIZE );
 		}
 		entitiesByKey.put( key, entity );
 	}
@@ -789,7 +855,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		// these 2 are not always the same.  Same is true in the case of ToOne associations with property-ref...
 		final EntityPersister ownerPersister = collectionPersister.getOwnerEntityPersister();
 		if ( ownerPersister.getIdentifierType().getReturnedClass().isInstance( key ) ) {
-			return getEntity( session.generateEntityKey( key, collectionPersister.getOwnerEntityPersister() ) );
+			return getEntity( key, collectionPersister.getOwnerEntityPersister() );
 		}
 
 		// we have a property-ref type mapping for the collection key.  But that could show up a few ways here...
@@ -800,7 +866,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( ownerId == null ) {
 				return null;
 			}
-			return getEntity( session.generateEntityKey( ownerId, ownerPersister ) );
+			return getEntity( ownerId, ownerPersister );
 		}
 
 		final CollectionType collectionType = collectionPersister.getCollectionType();
@@ -836,11 +902,11 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			//			in place of natural id snapshots.  BUt really its better to just do it the right way ^^ if we start
 			// 			going that route
 			final Object ownerId = ownerPersister.getIdByUniqueKey( key, collectionType.getLHSPropertyName(), session );
-			return getEntity( session.generateEntityKey( ownerId, ownerPersister ) );
+			return getEntity( ownerId, ownerPersister );
 		}
 
 		// as a last resort this is what the old code did...
-		return getEntity( session.generateEntityKey( key, collectionPersister.getOwnerEntityPersister() ) );
+		return getEntity( key, collectionPersister.getOwnerEntityPersister() );
 	}
 
 	@Override
@@ -974,6 +1040,13 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		return collectionsByKey == null ? null : collectionsByKey.get( collectionKey );
 	}
 
+	@Override
+	public PersistentCollection<?> getCollection(CollectionPersister persister, Object key) {
+		return collectionsByKey == null
+				? null
+				: collectionsByKey.get( CollectionKey.hashCode( persister, key ), persister, key, CollectionKey::matches );
+	}
+
 	@Override
 	public void addNonLazyCollection(PersistentCollection<?> collection) {
 		if ( nonlazyCollections == null ) {
@@ -1017,7 +1090,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	public void addCollectionHolder(PersistentCollection<?> holder) {
 		//TODO:refactor + make this method private
 		if ( arrayHolders == null ) {
-			arrayHolders = new IdentityHashMap<>( INIT_COLL_SIZE );
+			arrayHolders = OpenAddressingMap.identity( INIT_COLL_SIZE );
 		}
 		arrayHolders.put( holder.getValue(), holder );
 	}
@@ -1620,6 +1693,12 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		);
 		writeCollectionToStream( nullifiableEntityKeys, oos, "nullifiableEntityKey", EntityKey::serialize );
 		writeCollectionToStream( deletedUnloadedEntityKeys, oos, "deletedUnloadedEntityKeys", EntityKey::serialize );
+		writeMapToStream(
+				touchedEntities,
+				oos,
+				"touchedEntities",
+				(entry, stream) -> stream.writeObject( entry.getKey() )
+		);
 	}
 
 	private interface Serializer<E> {
@@ -1692,7 +1771,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( traceEnabled ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitiesByKey entries" );
 			}
-			rtn.entitiesByKey = CollectionHelper.mapOfSize(Math.max(count, INIT_COLL_SIZE));
+			rtn.entitiesByKey = new OpenAddressingMap<>( Math.max( count, INIT_COLL_SIZE ) );
 			for ( int i = 0; i < count; i++ ) {
 				rtn.entitiesByKey.put( EntityKey.deserialize( ois, sfi ), ois.readObject() );
 			}
@@ -1732,7 +1811,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( traceEnabled ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitySnapshotsByKey entries" );
 			}
-			rtn.entitySnapshotsByKey = CollectionHelper.mapOfSize(Math.max(count, INIT_COLL_SIZE));
+			rtn.entitySnapshotsByKey = new OpenAddressingMap<>( Math.max( count, INIT_COLL_SIZE ) );
 			for ( int i = 0; i < count; i++ ) {
 				rtn.entitySnapshotsByKey.put( EntityKey.deserialize( ois, sfi ), ois.readObject() );
 			}
@@ -1743,7 +1822,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( traceEnabled ) {
 				LOG.trace( "Starting deserialization of [" + count + "] collectionsByKey entries" );
 			}
-			rtn.collectionsByKey = CollectionHelper.mapOfSize(Math.max(count, INIT_COLL_SIZE));
+			rtn.collectionsByKey = new OpenAddressingMap<>( Math.max( count, INIT_COLL_SIZE ) );
 			for ( int i = 0; i < count; i++ ) {
 				rtn.collectionsByKey.put(
 						CollectionKey.deserialize( ois, session ),
@@ -1767,7 +1846,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 				LOG.trace( "Starting deserialization of [" + count + "] arrayHolders entries" );
 			}
 			if ( count != 0 ) {
-				rtn.arrayHolders = new IdentityHashMap<>(Math.max(count, INIT_COLL_SIZE));
+				rtn.arrayHolders = OpenAddressingMap.identity( Math.max( count, INIT_COLL_SIZE ) );
 				for ( int i = 0; i < count; i++ ) {
 					rtn.arrayHolders.put( ois.readObject(), (PersistentCollection<?>) ois.readObject() );
 				}
@@ -1791,6 +1870,18 @@ public class StatefulPersistenceContext implements PersistenceContext {
 				rtn.deletedUnloadedEntityKeys.add( EntityKey.deserialize( ois, sfi ) );
 			}
 
+			count = ois.readInt();
+			if ( traceEnabled ) {
+				LOG.trace( "Starting deserialization of [" + count + "] touchedEntities entries" );
+			}
+			if ( count != 0 ) {
+				rtn.touchedEntities = OpenAddressingMap.identity( Math.max( count, INIT_COLL_SIZE ) );
+				for ( int i = 0; i < count; i++ ) {
+					final Object entity = ois.readObject();
+					rtn.touchedEntities.put( entity, entity );
+				}
+			}
+
 		}
 		catch ( HibernateException he ) {
 			throw new InvalidObjectException( he.getMessage() );
@@ -1802,7 +1893,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public void addChildParent(Object child, Object parent) {
 		if ( parentsByChild == null ) {
-			parentsByChild = new IdentityHashMap<>( INIT_COLL_SIZE );
+			parentsByChild = OpenAddressingMap.identity( INIT_COLL_SIZE );
 		}
 		parentsByChild.put( child, parent );
 	}
@@ -1907,7 +1998,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public PersistentCollection<?> addCollectionByKey(CollectionKey collectionKey, PersistentCollection<?> persistentCollection) {
 		if ( collectionsByKey == null ) {
-			collectionsByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
+			collectionsByKey = new OpenAddressingMap<>( INIT_COLL_SIZE );
 		}
 		return collectionsByKey.put( collectionKey, persistentCollection );
 	}
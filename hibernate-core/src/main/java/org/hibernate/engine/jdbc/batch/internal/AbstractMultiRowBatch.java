@@ -0,0 +1,290 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.hibernate.HibernateException;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
+import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.jdbc.Expectations;
+import org.hibernate.sql.model.TableMapping;
+
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_TRACE_ENABLED;
+
+/**
+ * Base support for batches which, rather than relying on JDBC batching,
+ * execute statements affecting the rows of several additions to the batch
+ * at once.
+ * <p>
+ * The values bound for each row are kept until the batch is executed, since
+ * the number of rows handled by the last statement is only known then.  The
+ * parameters of each row are bound after those of the previous rows.
+ */
+public abstract class AbstractMultiRowBatch extends BatchImpl {
+	private final Dialect dialect;
+	private final int multiRowSize;
+
+	private final Map<String, TableRows> rowsByTable = new HashMap<>();
+	private int batchPosition;
+
+	protected AbstractMultiRowBatch(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			int batchSizeToUse,
+			int multiRowSize,
+			Dialect dialect,
+			JdbcCoordinator jdbcCoordinator) {
+		super( key, statementGroup, batchSizeToUse, jdbcCoordinator );
+		this.dialect = dialect;
+		this.multiRowSize = multiRowSize;
+	}
+
+	protected Dialect getDialect() {
+		return dialect;
+	}
+
+	/**
+	 * The SQL affecting the given number of rows, for a statement of the batch
+	 */
+	protected abstract String getMultiRowSqlString(PreparedStatementDetails statementDetails, int rowCount);
+
+	/**
+	 * The limit on the number of rows affected by a single statement, besides the
+	 * limit on its number of parameters, or zero-or-less to indicate no limit
+	 */
+	protected int getRowCountLimit() {
+		return 0;
+	}
+
+	/**
+	 * The exception reported when a statement affected an unexpected number of rows
+	 */
+	protected HibernateException unexpectedRowCount(String tableName, int affectedRowCount, int expectedRowCount) {
+		return new HibernateException(
+				String.format(
+						Locale.ROOT,
+						"Multi-row mutation of `%s` affected %s rows, expected %s",
+						tableName,
+						affectedRowCount,
+						expectedRowCount
+				)
+		);
+	}
+
+	@Override
+	public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecker inclusionChecker) {
+		if ( BATCH_TRACE_ENABLED ) {
+			BATCH_LOGGER.tracef(
+					"Adding to multi-row batch (%s) - `%s`",
+					batchPosition + 1,
+					getKey().toLoggableString()
+			);
+		}
+
+		final SharedSessionContractImplementor session =
+				(SharedSessionContractImplementor) getJdbcCoordinator().getJdbcSessionOwner();
+		getStatementGroup().forEachStatement( (tableName, statementDetails) -> {
+			final TableMapping tableDetails = statementDetails.getMutatingTableDetails();
+			if ( inclusionChecker != null && !inclusionChecker.include( tableDetails ) ) {
+				return;
+			}
+
+			final BindingGroup bindingGroup = jdbcValueBindings.getBindingGroup( tableDetails.getTableName() );
+			rowsByTable.computeIfAbsent( tableName, name -> new TableRows( statementDetails ) )
+					.add( bindingGroup == null ? Collections.emptyList() : new ArrayList<>( bindingGroup.getBindings() ) );
+			jdbcValueBindings.afterStatement( tableDetails, session );
+		} );
+
+		batchPosition++;
+		if ( batchPosition == getBatchSizeToUse() ) {
+			notifyObserversImplicitExecution();
+			performExecution();
+		}
+	}
+
+	@Override
+	public void execute() {
+		notifyObserversExplicitExecution();
+		try {
+			if ( batchPosition > 0 ) {
+				performExecution();
+			}
+		}
+		finally {
+			releaseStatements();
+		}
+	}
+
+	@Override
+	protected void performExecution() {
+		if ( BATCH_TRACE_ENABLED ) {
+			BATCH_LOGGER.tracef(
+					"Executing multi-row batch (%s / %s) - `%s`",
+					batchPosition,
+					getBatchSizeToUse(),
+					getKey().toLoggableString()
+			);
+		}
+
+		try {
+			// the statements of the group are ordered so that the foreign keys
+			// between the tables of the entity are respected
+			getStatementGroup().forEachStatement( (tableName, statementDetails) -> {
+				final TableRows tableRows = rowsByTable.get( tableName );
+				if ( tableRows != null ) {
+					tableRows.execute();
+				}
+			} );
+		}
+		catch (RuntimeException e) {
+			abortBatch( e );
+			throw e;
+		}
+		finally {
+			clearRows();
+		}
+	}
+
+	private void clearRows() {
+		for ( TableRows tableRows : rowsByTable.values() ) {
+			tableRows.rows.clear();
+		}
+		batchPosition = 0;
+	}
+
+	@Override
+	public void release() {
+		clearRows();
+		super.release();
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "(" + getKey().toLoggableString() + ")";
+	}
+
+	/**
+	 * The rows to mutate in one of the tables
+	 */
+	private class TableRows {
+		private final PreparedStatementDetails statementDetails;
+		private final int parameterCount;
+		private final int rowsPerStatement;
+		private final List<List<Binding>> rows = new ArrayList<>();
+
+		private String multiRowSql;
+
+		private TableRows(PreparedStatementDetails statementDetails) {
+			this.statementDetails = statementDetails;
+			this.parameterCount = statementDetails.getParameterCount();
+			final int parameterCountLimit = dialect.getParameterCountLimit();
+			final int rowCountLimit = getRowCountLimit();
+			int rows = multiRowSize;
+			if ( parameterCountLimit > 0 ) {
+				rows = Math.min( rows, parameterCountLimit / parameterCount );
+			}
+			if ( rowCountLimit > 0 ) {
+				rows = Math.min( rows, rowCountLimit );
+			}
+			this.rowsPerStatement = Math.max( 1, rows );
+		}
+
+		private void add(List<Binding> bindings) {
+			rows.add( bindings );
+		}
+
+		private void execute() {
+			for ( int start = 0; start < rows.size(); start += rowsPerStatement ) {
+				final int rowCount = Math.min( rowsPerStatement, rows.size() - start );
+				executeStatement( start, rowCount );
+			}
+		}
+
+		private String getSqlString(int rowCount) {
+			if ( rowCount == 1 ) {
+				return statementDetails.getSqlString();
+			}
+			else if ( rowCount == rowsPerStatement ) {
+				if ( multiRowSql == null ) {
+					multiRowSql = getMultiRowSqlString( statementDetails, rowCount );
+				}
+				return multiRowSql;
+			}
+			else {
+				return getMultiRowSqlString( statementDetails, rowCount );
+			}
+		}
+
+		private void executeStatement(int start, int rowCount) {
+			final JdbcCoordinator jdbcCoordinator = getJdbcCoordinator();
+			final SharedSessionContractImplementor session =
+					(SharedSessionContractImplementor) jdbcCoordinator.getJdbcSessionOwner();
+			final String sql = getSqlString( rowCount );
+			session.getJdbcServices().getSqlStatementLogger().logStatement( sql );
+			final PreparedStatement statement = jdbcCoordinator.getMutationStatementPreparer()
+					.prepareStatement( sql, false );
+			try {
+				for ( int row = 0; row < rowCount; row++ ) {
+					final int offset = row * parameterCount;
+					for ( Binding binding : rows.get( start + row ) ) {
+						try {
+							binding.getValueBinder().bind(
+									statement,
+									binding.getValue(),
+									binding.getPosition() + offset,
+									session
+							);
+						}
+						catch (SQLException e) {
+							throw session.getJdbcServices().getSqlExceptionHelper().convert(
+									e,
+									String.format(
+											Locale.ROOT,
+											"Unable to bind parameter #%s - %s",
+											binding.getPosition() + offset,
+											binding.getValue()
+									),
+									sql
+							);
+						}
+					}
+				}
+
+				final int affectedRowCount = jdbcCoordinator.getResultSetReturn().executeUpdate( statement );
+				if ( affectedRowCount >= 0 && affectedRowCount != rowCount
+						&& statementDetails.getExpectation() != Expectations.NONE ) {
+					throw unexpectedRowCount(
+							statementDetails.getMutatingTableDetails().getTableName(),
+							affectedRowCount,
+							rowCount
+					);
+				}
+			}
+			finally {
+				jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+				jdbcCoordinator.afterStatementExecution();
+			}
+		}
+	}
+}
@@ -19,6 +19,7 @@ public class BasicBatchKey implements BatchKey {
 	private final String comparison;
 	private final int statementCount;
 	private final Expectation expectation;
+	private final boolean keyListDeleteAllowed;
 
 	/**
 	 * Constructs a BasicBatchKey with {@link Expectations#NONE}
@@ -34,9 +35,21 @@ public class BasicBatchKey implements BatchKey {
 	 * @param expectation The expectation for the batch
 	 */
 	public BasicBatchKey(String comparison, Expectation expectation) {
+		this( comparison, expectation, false );
+	}
+
+	/**
+	 * Constructs a BasicBatchKey
+	 *
+	 * @param comparison A string used to compare batch keys.
+	 * @param expectation The expectation for the batch
+	 * @param keyListDeleteAllowed See {@link BatchKey#isKeyListDeleteAllowed()}
+	 */
+	public BasicBatchKey(String comparison, Expectation expectation, boolean keyListDeleteAllowed) {
 		this.comparison = comparison;
 		this.statementCount = 1;
 		this.expectation = expectation;
+		this.keyListDeleteAllowed = keyListDeleteAllowed;
 	}
 
 	@Override
@@ -49,6 +62,11 @@ public class BasicBatchKey implements BatchKey {
 		return statementCount;
 	}
 
+	@Override
+	public boolean isKeyListDeleteAllowed() {
+		return keyListDeleteAllowed;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if ( this == o ) {
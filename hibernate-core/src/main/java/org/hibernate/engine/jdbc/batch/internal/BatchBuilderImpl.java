@@ -10,12 +10,14 @@ import java.util.Collections;
 import java.util.function.Supplier;
 
 import org.hibernate.Internal;
+import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
 import org.hibernate.engine.jdbc.mutation.internal.PreparedStatementGroupSingleTable;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.sql.model.TableMapping;
 import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
@@ -31,6 +33,8 @@ import static org.hibernate.jdbc.Expectations.NONE;
  */
 public class BatchBuilderImpl implements BatchBuilder {
 	private final int globalBatchSize;
+	private final int multiRowInsertSize;
+	private final int multiRowDeleteSize;
 
 	/**
 	 * Constructs a BatchBuilderImpl
@@ -39,14 +43,32 @@ public class BatchBuilderImpl implements BatchBuilder {
 	 * on {@link #buildBatch}
 	 */
 	public BatchBuilderImpl(int globalBatchSize) {
+		this( globalBatchSize, 0, 0 );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param globalBatchSize The batch size to use.  Can be overridden
+	 * on {@link #buildBatch}
+	 * @param multiRowInsertSize The maximum number of rows inserted by a
+	 * single statement, or {@code 1} or less to use JDBC batching
+	 * @param multiRowDeleteSize The maximum number of rows deleted by a
+	 * single statement, or {@code 1} or less to use JDBC batching
+	 */
+	public BatchBuilderImpl(int globalBatchSize, int multiRowInsertSize, int multiRowDeleteSize) {
 		if ( BATCH_TRACE_ENABLED ) {
 			BATCH_LOGGER.tracef(
-					"Using standard BatchBuilder (%s)",
-					globalBatchSize
+					"Using standard BatchBuilder (%s, %s, %s)",
+					globalBatchSize,
+					multiRowInsertSize,
+					multiRowDeleteSize
 			);
 		}
 
 		this.globalBatchSize = globalBatchSize;
+		this.multiRowInsertSize = multiRowInsertSize;
+		this.multiRowDeleteSize = multiRowDeleteSize;
 	}
 
 	public int getJdbcBatchSize() {
@@ -64,7 +86,39 @@ public class BatchBuilderImpl implements BatchBuilder {
 				: explicitBatchSize;
 		assert batchSize > 1;
 
-		return new BatchImpl( key, statementGroupSupplier.get(), batchSize, jdbcCoordinator );
+		final PreparedStatementGroup statementGroup = statementGroupSupplier.get();
+		if ( multiRowInsertSize > 1 ) {
+			final Dialect dialect = getDialect( jdbcCoordinator );
+			if ( MultiRowInsertBatch.isApplicable( statementGroup, dialect ) ) {
+				return new MultiRowInsertBatch(
+						key,
+						statementGroup,
+						batchSize,
+						Math.min( batchSize, multiRowInsertSize ),
+						dialect,
+						jdbcCoordinator
+				);
+			}
+		}
+		if ( multiRowDeleteSize > 1 && MultiRowDeleteBatch.isApplicable( key, statementGroup ) ) {
+			return new MultiRowDeleteBatch(
+					key,
+					statementGroup,
+					batchSize,
+					Math.min( batchSize, multiRowDeleteSize ),
+					getDialect( jdbcCoordinator ),
+					jdbcCoordinator
+			);
+		}
+		return new BatchImpl( key, statementGroup, batchSize, jdbcCoordinator );
+	}
+
+	private static Dialect getDialect(JdbcCoordinator jdbcCoordinator) {
+		return jdbcCoordinator.getJdbcSessionOwner()
+				.getJdbcSessionContext()
+				.getServiceRegistry()
+				.getService( JdbcServices.class )
+				.getDialect();
 	}
 
 
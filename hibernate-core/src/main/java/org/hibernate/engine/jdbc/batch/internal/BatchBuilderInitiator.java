@@ -50,7 +50,9 @@ public class BatchBuilderInitiator implements StandardServiceInitiator<BatchBuil
 
 		if ( builder == null ) {
 			return new BatchBuilderImpl(
-					ConfigurationHelper.getInt( Environment.STATEMENT_BATCH_SIZE, configurationValues, 1 )
+					ConfigurationHelper.getInt( Environment.STATEMENT_BATCH_SIZE, configurationValues, 1 ),
+					ConfigurationHelper.getInt( AvailableSettings.STATEMENT_BATCH_MULTI_ROW_INSERT_SIZE, configurationValues, 0 ),
+					ConfigurationHelper.getInt( AvailableSettings.STATEMENT_BATCH_MULTI_ROW_DELETE_SIZE, configurationValues, 0 )
 			);
 		}
 
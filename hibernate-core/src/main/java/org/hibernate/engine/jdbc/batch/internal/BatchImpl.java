@@ -97,6 +97,14 @@ public class BatchImpl implements Batch {
 		return statementGroup;
 	}
 
+	protected JdbcCoordinator getJdbcCoordinator() {
+		return jdbcCoordinator;
+	}
+
+	protected int getBatchSizeToUse() {
+		return batchSizeToUse;
+	}
+
 	@Override
 	public void addObserver(BatchObserver observer) {
 		observers.add( observer );
@@ -0,0 +1,78 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.util.Locale;
+
+import org.hibernate.HibernateException;
+import org.hibernate.StaleStateException;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.sql.model.MutationType;
+
+/**
+ * A batch of deletes which, rather than relying on JDBC batching, executes
+ * statements of form {@code delete from ... where key in (?, ?, ...)}
+ * deleting the rows of several additions to the batch at once.
+ *
+ * @see BatchKey#isKeyListDeleteAllowed()
+ * @see org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_MULTI_ROW_DELETE_SIZE
+ */
+public class MultiRowDeleteBatch extends AbstractMultiRowBatch {
+	private static final String KEY_RESTRICTION = "=?";
+
+	public MultiRowDeleteBatch(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			int batchSizeToUse,
+			int multiRowDeleteSize,
+			Dialect dialect,
+			JdbcCoordinator jdbcCoordinator) {
+		super( key, statementGroup, batchSizeToUse, multiRowDeleteSize, dialect, jdbcCoordinator );
+	}
+
+	/**
+	 * Whether all the statements of the given group are deletes restricted by
+	 * a single key column, and nothing else.
+	 */
+	public static boolean isApplicable(BatchKey key, PreparedStatementGroup statementGroup) {
+		return key.isKeyListDeleteAllowed()
+				&& statementGroup.getNumberOfStatements() > 0
+				&& !statementGroup.hasMatching( statementDetails ->
+						statementDetails.getMutationType() != MutationType.DELETE
+								|| statementDetails.getParameterCount() != 1
+								|| !statementDetails.getSqlString().endsWith( KEY_RESTRICTION ) );
+	}
+
+	@Override
+	protected String getMultiRowSqlString(PreparedStatementDetails statementDetails, int rowCount) {
+		final String sql = statementDetails.getSqlString();
+		final StringBuilder buffer = new StringBuilder( sql.length() + rowCount * 2 + 4 )
+				.append( sql, 0, sql.length() - KEY_RESTRICTION.length() )
+				.append( " in (?" );
+		for ( int i = 1; i < rowCount; i++ ) {
+			buffer.append( ",?" );
+		}
+		return buffer.append( ')' ).toString();
+	}
+
+	@Override
+	protected HibernateException unexpectedRowCount(String tableName, int affectedRowCount, int expectedRowCount) {
+		return new StaleStateException(
+				String.format(
+						Locale.ROOT,
+						"Multi-row delete from `%s` returned unexpected row count; actual row count: %s; expected: %s",
+						tableName,
+						affectedRowCount,
+						expectedRowCount
+				)
+		);
+	}
+}
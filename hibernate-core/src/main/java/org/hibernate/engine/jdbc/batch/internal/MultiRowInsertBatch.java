@@ -0,0 +1,72 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.util.Locale;
+
+import org.hibernate.HibernateException;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.sql.model.MutationType;
+
+/**
+ * A batch of inserts which, rather than relying on JDBC batching, executes
+ * insert statements for several rows at once, as rendered by
+ * {@link Dialect#getMultiRowInsertString}.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_MULTI_ROW_INSERT_SIZE
+ */
+public class MultiRowInsertBatch extends AbstractMultiRowBatch {
+
+	public MultiRowInsertBatch(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			int batchSizeToUse,
+			int multiRowInsertSize,
+			Dialect dialect,
+			JdbcCoordinator jdbcCoordinator) {
+		super( key, statementGroup, batchSizeToUse, multiRowInsertSize, dialect, jdbcCoordinator );
+	}
+
+	/**
+	 * Whether all the statements of the given group are inserts which the
+	 * dialect is able to turn into multi-row inserts.
+	 */
+	public static boolean isApplicable(PreparedStatementGroup statementGroup, Dialect dialect) {
+		return statementGroup.getNumberOfStatements() > 0
+				&& !statementGroup.hasMatching( statementDetails ->
+						statementDetails.getMutationType() != MutationType.INSERT
+								|| statementDetails.getParameterCount() <= 0
+								|| dialect.getMultiRowInsertString( statementDetails.getSqlString(), 2 ) == null );
+	}
+
+	@Override
+	protected String getMultiRowSqlString(PreparedStatementDetails statementDetails, int rowCount) {
+		return getDialect().getMultiRowInsertString( statementDetails.getSqlString(), rowCount );
+	}
+
+	@Override
+	protected int getRowCountLimit() {
+		return getDialect().getValuesListRowCountLimit();
+	}
+
+	@Override
+	protected HibernateException unexpectedRowCount(String tableName, int affectedRowCount, int expectedRowCount) {
+		return new HibernateException(
+				String.format(
+						Locale.ROOT,
+						"Multi-row insert into `%s` affected %s rows, expected %s",
+						tableName,
+						affectedRowCount,
+						expectedRowCount
+				)
+		);
+	}
+}
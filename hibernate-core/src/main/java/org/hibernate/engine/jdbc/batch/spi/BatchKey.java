@@ -39,4 +39,30 @@ public interface BatchKey {
 	default String toLoggableString() {
 		return toString();
 	}
+
+	/**
+	 * Whether the rows batched under this key and the rows batched under the
+	 * given key may be written in any order, that is, whether no foreign key
+	 * relates the tables mutated by the two batches.
+	 * <p>
+	 * Used to decide whether a batch may be resumed after batches for other keys
+	 * were started.  The default is {@code false}, which is always safe.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_PIPELINE_DEPTH
+	 */
+	default boolean isIndependentOf(BatchKey other) {
+		return false;
+	}
+
+	/**
+	 * Whether the statements batched under this key are deletes restricted by the
+	 * key of the deleted rows only, with no further side effect, so that the rows
+	 * of the batch may be deleted by a single statement restricted by a list of
+	 * keys.  The default is {@code false}.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_MULTI_ROW_DELETE_SIZE
+	 */
+	default boolean isKeyListDeleteAllowed() {
+		return false;
+	}
 }
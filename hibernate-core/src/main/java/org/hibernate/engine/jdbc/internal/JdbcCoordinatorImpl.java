@@ -13,6 +13,8 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.function.Supplier;
 
 import org.hibernate.ConnectionReleaseMode;
@@ -21,6 +23,7 @@ import org.hibernate.TransactionException;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
 import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
 import org.hibernate.engine.jdbc.spi.InvalidatableWrapper;
@@ -63,6 +66,12 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	private transient Batch currentBatch;
 
+	/**
+	 * The batches kept open when pipelining, in the order they were started
+	 */
+	private transient LinkedHashMap<BatchKey, Batch> openBatches;
+	private transient int batchPipelineDepth;
+
 	private transient long transactionTimeOutInstant = -1;
 
 	private Statement lastQuery;
@@ -164,6 +173,7 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 				LOG.closingUnreleasedBatch();
 				currentBatch.release();
 			}
+			releaseOpenBatches();
 		}
 		finally {
 			connection = logicalConnection.close();
@@ -173,6 +183,10 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	@Override
 	public Batch getBatch2(BatchKey key, Integer batchSize, Supplier<PreparedStatementGroup> statementGroupSupplier) {
+		if ( isBatchPipeliningEnabled() ) {
+			return getPipelinedBatch( key, batchSize, statementGroupSupplier );
+		}
+
 		if ( currentBatch != null ) {
 			if ( currentBatch.getKey().equals( key ) ) {
 				return currentBatch;
@@ -189,9 +203,100 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		return currentBatch;
 	}
 
+	private boolean isBatchPipeliningEnabled() {
+		if ( batchPipelineDepth == 0 ) {
+			batchPipelineDepth = sessionFactory().getSessionFactoryOptions().getJdbcBatchPipelineDepth();
+		}
+		return batchPipelineDepth > 1;
+	}
+
+	private Batch getPipelinedBatch(
+			BatchKey key,
+			Integer batchSize,
+			Supplier<PreparedStatementGroup> statementGroupSupplier) {
+		if ( openBatches == null ) {
+			openBatches = new LinkedHashMap<>();
+		}
+
+		final Batch openBatch = openBatches.get( key );
+		if ( openBatch != null ) {
+			if ( openBatch == currentBatch || isIndependentOfLaterBatches( openBatch ) ) {
+				currentBatch = openBatch;
+				return openBatch;
+			}
+			// resuming the batch would write its new rows before the rows
+			// of batches which might depend on them, or which they depend on
+			executeOpenBatches( null );
+		}
+		else if ( openBatches.size() >= batchPipelineDepth ) {
+			executeOpenBatches( openBatches.values().iterator().next() );
+		}
+
+		final BatchBuilder batchBuilder = sessionFactory().getServiceRegistry().getService( BatchBuilder.class );
+		final Batch batch = batchBuilder.buildBatch( key, batchSize, statementGroupSupplier, this );
+		batch.addObserver( new PipelinedBatchObserver( batch ) );
+		openBatches.put( key, batch );
+		currentBatch = batch;
+		return batch;
+	}
+
+	private boolean isIndependentOfLaterBatches(Batch batch) {
+		boolean later = false;
+		for ( Batch openBatch : openBatches.values() ) {
+			if ( later ) {
+				if ( !batch.getKey().isIndependentOf( openBatch.getKey() ) ) {
+					return false;
+				}
+			}
+			else if ( openBatch == batch ) {
+				later = true;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Execute the open batches, in the order they were started, up to and including
+	 * the given one, or all of them if {@code last} is null.
+	 */
+	private void executeOpenBatches(Batch last) {
+		try {
+			while ( !openBatches.isEmpty() ) {
+				final Iterator<Batch> iterator = openBatches.values().iterator();
+				final Batch batch = iterator.next();
+				iterator.remove();
+				try {
+					batch.execute();
+				}
+				finally {
+					batch.release();
+				}
+				if ( batch == last ) {
+					break;
+				}
+			}
+		}
+		catch (RuntimeException e) {
+			releaseOpenBatches();
+			throw e;
+		}
+	}
+
+	private void releaseOpenBatches() {
+		if ( openBatches != null && !openBatches.isEmpty() ) {
+			for ( Batch batch : openBatches.values() ) {
+				batch.release();
+			}
+			openBatches.clear();
+		}
+	}
+
 	@Override
 	public void executeBatch() {
-		if ( currentBatch != null ) {
+		if ( openBatches != null ) {
+			executeOpenBatches( null );
+		}
+		else if ( currentBatch != null ) {
 			try {
 				currentBatch.execute();
 			}
@@ -206,6 +311,52 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		if ( currentBatch != null ) {
 			currentBatch.release();
 		}
+		releaseOpenBatches();
+	}
+
+	@Override
+	public void beforeNonBatchedMutation() {
+		if ( openBatches != null && openBatches.size() > 1 ) {
+			final Batch current = currentBatch == null ? null : openBatches.remove( currentBatch.getKey() );
+			try {
+				executeOpenBatches( null );
+			}
+			finally {
+				if ( current != null ) {
+					openBatches.put( current.getKey(), current );
+				}
+			}
+		}
+	}
+
+	/**
+	 * When a pipelined batch is full and executes itself, the batches started
+	 * before it must be executed first.
+	 */
+	private class PipelinedBatchObserver implements BatchObserver {
+		private final Batch batch;
+
+		private PipelinedBatchObserver(Batch batch) {
+			this.batch = batch;
+		}
+
+		@Override
+		public void batchExplicitlyExecuted() {
+		}
+
+		@Override
+		public void batchImplicitlyExecuted() {
+			Batch previous = null;
+			for ( Batch openBatch : openBatches.values() ) {
+				if ( openBatch == batch ) {
+					if ( previous != null ) {
+						executeOpenBatches( previous );
+					}
+					return;
+				}
+				previous = openBatch;
+			}
+		}
 	}
 
 	private transient StatementPreparer statementPreparer;
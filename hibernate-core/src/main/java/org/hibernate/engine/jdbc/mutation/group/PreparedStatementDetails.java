@@ -12,6 +12,7 @@ import java.sql.PreparedStatement;
 import org.hibernate.Incubating;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.jdbc.Expectation;
+import org.hibernate.sql.model.MutationType;
 import org.hibernate.sql.model.TableMapping;
 
 /**
@@ -50,6 +51,20 @@ public interface PreparedStatementDetails {
 	 */
 	Expectation getExpectation();
 
+	/**
+	 * The kind of mutation performed by the statement, or {@code null} if unknown
+	 */
+	default MutationType getMutationType() {
+		return null;
+	}
+
+	/**
+	 * The number of JDBC parameters of the statement, or {@code -1} if unknown
+	 */
+	default int getParameterCount() {
+		return -1;
+	}
+
 	/**
 	 * Whether the statement is callable
 	 */
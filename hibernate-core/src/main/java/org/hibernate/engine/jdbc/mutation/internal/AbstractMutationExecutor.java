@@ -89,6 +89,7 @@ public abstract class AbstractMutationExecutor implements MutationExecutor {
 		}
 
 		// If we get here the statement is needed - make sure it is resolved
+		session.getJdbcCoordinator().beforeNonBatchedMutation();
 		session.getJdbcServices().getSqlStatementLogger().logStatement( statementDetails.getSqlString() );
 		valueBindings.beforeStatement( statementDetails, session );
 
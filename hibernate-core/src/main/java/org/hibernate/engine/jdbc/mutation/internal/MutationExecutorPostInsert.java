@@ -137,6 +137,7 @@ public class MutationExecutorPostInsert implements MutationExecutor {
 			OperationResultChecker resultChecker,
 			SharedSessionContractImplementor session) {
 		final InsertGeneratedIdentifierDelegate identityHandler = mutationTarget.getIdentityInsertDelegate();
+		session.getJdbcCoordinator().beforeNonBatchedMutation();
 		final Object id = identityHandler.performInsert( identityInsertStatementDetails, valueBindings, modelReference, session );
 
 		if ( MODEL_MUTATION_LOGGER_TRACE_ENABLED ) {
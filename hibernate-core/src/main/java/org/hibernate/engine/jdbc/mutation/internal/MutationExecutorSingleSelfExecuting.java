@@ -49,6 +49,7 @@ public class MutationExecutorSingleSelfExecuting extends AbstractMutationExecuto
 	@Override
 	protected void performSelfExecutingOperations(ValuesAnalysis valuesAnalysis, TableInclusionChecker inclusionChecker, SharedSessionContractImplementor session) {
 		if ( inclusionChecker.include( operation.getTableDetails() ) ) {
+			session.getJdbcCoordinator().beforeNonBatchedMutation();
 			operation.performMutation( valueBindings, valuesAnalysis, session );
 		}
 	}
@@ -218,6 +218,7 @@ public class MutationExecutorStandard extends AbstractMutationExecutor {
 		for ( int i = 0; i < selfExecutingMutations.size(); i++ ) {
 			final SelfExecutingUpdateOperation operation = selfExecutingMutations.get( i );
 			if ( inclusionChecker.include( operation.getTableDetails() ) ) {
+				session.getJdbcCoordinator().beforeNonBatchedMutation();
 				operation.performMutation( valueBindings, valuesAnalysis, session );
 			}
 		}
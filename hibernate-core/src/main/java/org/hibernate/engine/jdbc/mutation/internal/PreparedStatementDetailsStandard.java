@@ -15,6 +15,7 @@ import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.jdbc.Expectation;
+import org.hibernate.sql.model.MutationType;
 import org.hibernate.sql.model.PreparableMutationOperation;
 import org.hibernate.sql.model.TableMapping;
 
@@ -28,6 +29,8 @@ public class PreparedStatementDetailsStandard implements PreparedStatementDetail
 	private final String sql;
 	private final Supplier<PreparedStatement> jdbcStatementCreator;
 	private final Expectation expectation;
+	private final MutationType mutationType;
+	private final int parameterCount;
 	private final JdbcServices jdbcServices;
 
 	private PreparedStatement statement;
@@ -55,6 +58,8 @@ public class PreparedStatementDetailsStandard implements PreparedStatementDetail
 		this.sql = sql;
 		this.jdbcStatementCreator = jdbcStatementCreator;
 		this.expectation = expectation;
+		this.mutationType = tableMutation.getMutationType();
+		this.parameterCount = tableMutation.getParameterBinders().size();
 		this.jdbcServices = jdbcServices;
 	}
 
@@ -104,6 +109,16 @@ public class PreparedStatementDetailsStandard implements PreparedStatementDetail
 		return expectation;
 	}
 
+	@Override
+	public MutationType getMutationType() {
+		return mutationType;
+	}
+
+	@Override
+	public int getParameterCount() {
+		return parameterCount;
+	}
+
 	@Override
 	public String toString() {
 		return "PreparedStatementDetails(" + sql + ")";
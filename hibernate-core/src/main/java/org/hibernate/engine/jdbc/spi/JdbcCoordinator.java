@@ -64,6 +64,15 @@ public interface JdbcCoordinator extends Serializable, TransactionCoordinatorOwn
 	 */
 	void abortBatch();
 
+	/**
+	 * Notification that a mutation is about to be executed immediately, rather
+	 * than added to a batch.  Any batch kept open besides the current one, as
+	 * allowed by {@value org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_PIPELINE_DEPTH},
+	 * is executed first.
+	 */
+	default void beforeNonBatchedMutation() {
+	}
+
 	/**
 	 * Obtain the statement preparer associated with this JDBC coordinator.
 	 *
@@ -10,14 +10,17 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.PriorityQueue;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -30,6 +33,7 @@ import org.hibernate.action.internal.BulkOperationCleanupAction;
 import org.hibernate.action.internal.CollectionRecreateAction;
 import org.hibernate.action.internal.CollectionRemoveAction;
 import org.hibernate.action.internal.CollectionUpdateAction;
+import org.hibernate.action.internal.EntityAction;
 import org.hibernate.action.internal.EntityActionVetoException;
 import org.hibernate.action.internal.EntityDeleteAction;
 import org.hibernate.action.internal.EntityIdentityInsertAction;
@@ -146,7 +150,7 @@ public class ActionQueue {
 					ExecutableList<AbstractEntityInsertAction> init(ActionQueue instance) {
 						if ( instance.isOrderInsertsEnabled() ) {
 							return instance.insertions = new ExecutableList<>(
-									new InsertActionSorter()
+									InsertActionSorter.INSTANCE
 							);
 						}
 						else {
@@ -216,8 +220,16 @@ public class ActionQueue {
 						return instance.deletions;
 					}
 					ExecutableList<EntityDeleteAction> init(ActionQueue instance) {
-						// EntityDeleteAction executables never require sorting.
-						return instance.deletions = new ExecutableList<>( false );
+						if ( instance.isOrderUpdatesEnabled() ) {
+							return instance.deletions = new ExecutableList<>(
+									DeleteActionSorter.INSTANCE
+							);
+						}
+						else {
+							return instance.deletions = new ExecutableList<>(
+									false
+							);
+						}
 					}
 				}
 		);
@@ -795,6 +807,10 @@ public class ActionQueue {
 		if ( isOrderInsertsEnabled() && insertions != null ) {
 			insertions.sort();
 		}
+		if ( isOrderUpdatesEnabled() && deletions != null ) {
+			// group the deletes by entity, respecting fks
+			deletions.sort();
+		}
 	}
 
 	private boolean isOrderUpdatesEnabled() {
@@ -1035,240 +1051,236 @@ public class ActionQueue {
 	}
 
 	/**
-	 * Order the {@link #insertions} queue such that we group inserts against the same entity together (without
-	 * violating constraints). The original order is generated by cascade order, which in turn is based on the
-	 * directionality of foreign-keys. So even though we will be changing the ordering here, we need to make absolutely
-	 * certain that we do not circumvent this FK ordering to the extent of causing constraint violations.
+	 * Orders the actions of a queue such that actions against the same entity are grouped together, without
+	 * violating foreign key constraints. The original order is generated by cascade order, which in turn is based
+	 * on the directionality of foreign-keys. So even though we will be changing the ordering here, we need to make
+	 * absolutely certain that we do not circumvent this FK ordering to the extent of causing constraint violations.
 	 * <p>
-	 * Sorts the insert actions using more hashes.
-	 * </p>
-	 * NOTE: this class is not thread-safe.
-	 *
-	 * @author Jay Erb
+	 * The entity names of the actions are the nodes of a dependency graph, with an edge from each entity to the
+	 * entities it refers to. The graph is sorted topologically, in time linear in the number of actions and of
+	 * edges. Entities which depend on each other in a cycle are kept together, and their actions keep their
+	 * original relative order. Otherwise, entities are ordered by their first appearance in the queue, as far as
+	 * their dependencies allow.
+	 * <p>
+	 * NOTE: this class is stateless, and so it is thread-safe.
 	 */
-	private static class InsertActionSorter implements ExecutableList.Sorter<AbstractEntityInsertAction> {
-		/**
-		 * Singleton access
-		 */
-		public static final InsertActionSorter INSTANCE = new InsertActionSorter();
+	private abstract static class EntityActionSorter<T extends EntityAction> implements ExecutableList.Sorter<T> {
 
 		private static class BatchIdentifier {
-
 			private final String entityName;
 			private final String rootEntityName;
+			private final int index;
+
+			private final Set<String> parentEntityNames = new HashSet<>();
+			private final Set<String> childEntityNames = new HashSet<>();
 
-			private final Set<String> parentEntityNames = new HashSet<>( );
+			/**
+			 * The batches which have to be executed after this one
+			 */
+			private final Set<BatchIdentifier> successors = new LinkedHashSet<>();
 
-			private final Set<String> childEntityNames = new HashSet<>( );
+			// state of Tarjan's algorithm
+			private int visitIndex = -1;
+			private int lowLink;
+			private boolean onStack;
 
-			private BatchIdentifier parent;
+			private ComponentBatch component;
 
-			BatchIdentifier(String entityName, String rootEntityName) {
+			BatchIdentifier(String entityName, String rootEntityName, int index) {
 				this.entityName = entityName;
 				this.rootEntityName = rootEntityName;
+				this.index = index;
 			}
+		}
 
-			public BatchIdentifier getParent() {
-				return parent;
-			}
-
-			public void setParent(BatchIdentifier parent) {
-				this.parent = parent;
-			}
+		/**
+		 * A strongly connected component of the dependency graph, usually a single entity
+		 */
+		private static class ComponentBatch {
+			private final List<BatchIdentifier> members = new ArrayList<>();
+			private final List<Object> actions = new ArrayList<>();
+			private int firstIndex = Integer.MAX_VALUE;
+			private int predecessorCount;
+		}
 
-			@Override
-			public boolean equals(Object o) {
-				if ( this == o ) {
-					return true;
-				}
-				if ( !( o instanceof BatchIdentifier ) ) {
-					return false;
+		/**
+		 * Sort the actions.
+		 */
+		@Override
+		public void sort(List<T> actions) {
+			// group the actions by entity, in the order the entities first appear
+			final Map<String, BatchIdentifier> batches = new LinkedHashMap<>();
+			for ( T action : actions ) {
+				BatchIdentifier batchIdentifier = batches.get( action.getEntityName() );
+				if ( batchIdentifier == null ) {
+					batchIdentifier = new BatchIdentifier(
+							action.getEntityName(),
+							action.getPersister().getRootEntityName(),
+							batches.size()
+					);
+					batches.put( action.getEntityName(), batchIdentifier );
 				}
-				BatchIdentifier that = (BatchIdentifier) o;
-				return Objects.equals( entityName, that.entityName );
-			}
-
-			@Override
-			public int hashCode() {
-				return Objects.hash( entityName );
+				addParentChildEntityNames( action, batchIdentifier );
 			}
 
-			String getEntityName() {
-				return entityName;
+			if ( batches.size() < 2 ) {
+				// nothing to reorder
+				return;
 			}
 
-			String getRootEntityName() {
-				return rootEntityName;
-			}
+			addDependencies( batches );
+			final List<ComponentBatch> components = findComponents( batches.values() );
 
-			Set<String> getParentEntityNames() {
-				return parentEntityNames;
+			for ( T action : actions ) {
+				batches.get( action.getEntityName() ).component.actions.add( action );
 			}
 
-			Set<String> getChildEntityNames() {
-				return childEntityNames;
-			}
+			actions.clear();
+			addSorted( components, actions );
+		}
 
-			boolean hasAnyParentEntityNames(BatchIdentifier batchIdentifier) {
-				return parentEntityNames.contains( batchIdentifier.getEntityName() ) ||
-						parentEntityNames.contains( batchIdentifier.getRootEntityName() );
-			}
+		/**
+		 * Whether the actions against an entity must come before those against the entities referring to it,
+		 * or after them.
+		 */
+		abstract boolean isReferencedEntityFirst();
 
-			boolean hasAnyChildEntityNames(BatchIdentifier batchIdentifier) {
-				return childEntityNames.contains( batchIdentifier.getEntityName() );
-			}
+		abstract Object[] getState(T action);
 
-			/**
-			 * Check if this {@link BatchIdentifier} has a parent or grand parent
-			 * matching the given {@link BatchIdentifier} reference.
-			 *
-			 * @param batchIdentifier {@link BatchIdentifier} reference
-			 *
-			 * @return This {@link BatchIdentifier} has a parent matching the given {@link BatchIdentifier} reference
-			 */
-			boolean hasParent(BatchIdentifier batchIdentifier) {
-				return (
-					parent == batchIdentifier
-					|| parentEntityNames.contains( batchIdentifier.getEntityName() )
-					|| ( parentEntityNames.contains( batchIdentifier.getRootEntityName() )
-							&& !this.getEntityName().equals( batchIdentifier.getRootEntityName() ) )
-					|| parent != null && parent.hasParent( batchIdentifier, new ArrayList<>() )
-				);
+		private void addDependencies(Map<String, BatchIdentifier> batches) {
+			final Map<String, List<BatchIdentifier>> batchesByRootEntityName = new HashMap<>();
+			for ( BatchIdentifier batchIdentifier : batches.values() ) {
+				batchesByRootEntityName.computeIfAbsent( batchIdentifier.rootEntityName, name -> new ArrayList<>() )
+						.add( batchIdentifier );
 			}
 
-			private boolean hasParent(BatchIdentifier batchIdentifier, List<BatchIdentifier> stack) {
-				if ( !stack.contains( this ) && parent != null ) {
-					stack.add( this );
-					return parent.hasParent( batchIdentifier, stack );
+			for ( BatchIdentifier batchIdentifier : batches.values() ) {
+				for ( String parentEntityName : batchIdentifier.parentEntityNames ) {
+					addDependency( batches.get( parentEntityName ), batchIdentifier );
+					if ( !parentEntityName.equals( batchIdentifier.entityName ) ) {
+						// a reference to the root entity may be a reference to any of its subclasses
+						final List<BatchIdentifier> hierarchy = batchesByRootEntityName.get( parentEntityName );
+						if ( hierarchy != null ) {
+							for ( BatchIdentifier parent : hierarchy ) {
+								addDependency( parent, batchIdentifier );
+							}
+						}
+					}
+				}
+				for ( String childEntityName : batchIdentifier.childEntityNames ) {
+					addDependency( batchIdentifier, batches.get( childEntityName ) );
 				}
-				return (
-					parent == batchIdentifier
-					|| parentEntityNames.contains( batchIdentifier.getEntityName() )
-				);
 			}
 		}
 
-		// the map of batch numbers to EntityInsertAction lists
-		private Map<BatchIdentifier, List<AbstractEntityInsertAction>> actionBatches;
-
-		public InsertActionSorter() {
+		private void addDependency(BatchIdentifier parent, BatchIdentifier child) {
+			if ( parent != null && child != null && parent != child ) {
+				if ( isReferencedEntityFirst() ) {
+					parent.successors.add( child );
+				}
+				else {
+					child.successors.add( parent );
+				}
+			}
 		}
 
 		/**
-		 * Sort the insert actions.
+		 * Find the strongly connected components of the dependency graph, using Tarjan's algorithm.
 		 */
-		public void sort(List<AbstractEntityInsertAction> insertions) {
-			// optimize the hash size to eliminate a rehash.
-			this.actionBatches = new HashMap<>();
-
-			// the mapping of entity names to their latest batch numbers.
-			final List<BatchIdentifier> latestBatches = new ArrayList<>();
-
-			for ( AbstractEntityInsertAction action : insertions ) {
-				BatchIdentifier batchIdentifier = new BatchIdentifier(
-						action.getEntityName(),
-						action.getSession()
-								.getFactory()
-								.getRuntimeMetamodels()
-								.getMappingMetamodel()
-								.getEntityDescriptor( action.getEntityName() )
-								.getRootEntityName()
-				);
-
-				int index = latestBatches.indexOf( batchIdentifier );
-
-				if ( index != -1 )  {
-					batchIdentifier = latestBatches.get( index );
+		private static List<ComponentBatch> findComponents(Collection<BatchIdentifier> batches) {
+			final List<ComponentBatch> components = new ArrayList<>();
+			final ArrayDeque<BatchIdentifier> stack = new ArrayDeque<>();
+			final int[] counter = new int[1];
+			for ( BatchIdentifier batchIdentifier : batches ) {
+				if ( batchIdentifier.visitIndex < 0 ) {
+					visit( batchIdentifier, stack, counter, components );
 				}
-				else {
-					latestBatches.add( batchIdentifier );
-				}
-				addParentChildEntityNames( action, batchIdentifier );
-				addToBatch( batchIdentifier, action );
 			}
 
-			// Examine each entry in the batch list, and build the dependency graph.
-			for ( int i = 0; i < latestBatches.size(); i++ ) {
-				BatchIdentifier batchIdentifier = latestBatches.get( i );
-
-				for ( int j = i - 1; j >= 0; j-- ) {
-					BatchIdentifier prevBatchIdentifier = latestBatches.get( j );
-					if ( prevBatchIdentifier.hasAnyParentEntityNames( batchIdentifier ) ) {
-						prevBatchIdentifier.parent = batchIdentifier;
-					}
-					else if ( batchIdentifier.hasAnyChildEntityNames( prevBatchIdentifier ) ) {
-						prevBatchIdentifier.parent = batchIdentifier;
+			for ( ComponentBatch component : components ) {
+				for ( BatchIdentifier member : component.members ) {
+					for ( BatchIdentifier successor : member.successors ) {
+						if ( successor.component != component ) {
+							successor.component.predecessorCount++;
+						}
 					}
 				}
-
-				for ( int j = i + 1; j < latestBatches.size(); j++ ) {
-					BatchIdentifier nextBatchIdentifier = latestBatches.get( j );
-
-					if ( nextBatchIdentifier.hasAnyParentEntityNames( batchIdentifier ) ) {
-						nextBatchIdentifier.parent = batchIdentifier;
-						nextBatchIdentifier.getParentEntityNames().add( batchIdentifier.getEntityName() );
-					}
-					else if ( batchIdentifier.hasAnyChildEntityNames( nextBatchIdentifier ) ) {
-						nextBatchIdentifier.parent = batchIdentifier;
-						nextBatchIdentifier.getParentEntityNames().add( batchIdentifier.getEntityName() );
+				if ( component.members.size() > 1 && LOG.isDebugEnabled() ) {
+					final List<String> entityNames = new ArrayList<>();
+					for ( BatchIdentifier member : component.members ) {
+						entityNames.add( member.entityName );
 					}
+					LOG.debugf(
+							"Entities %s depend on each other, the order of their actions is not changed",
+							entityNames
+					);
 				}
 			}
+			return components;
+		}
 
-			boolean sorted = false;
-
-			long maxIterations = latestBatches.size() * latestBatches.size();
-			long iterations = 0;
-
-			sort:
-			do {
-				// Examine each entry in the batch list, sorting them based on parent/child association
-				// as depicted by the dependency graph.
-				iterations++;
-
-				for ( int i = 0; i < latestBatches.size(); i++ ) {
-					BatchIdentifier batchIdentifier = latestBatches.get( i );
-
-					// Iterate next batches and make sure that children types are after parents.
-					// Since the outer loop looks at each batch entry individually and the prior loop will reorder
-					// entries as well, we need to look and verify if the current batch is a child of the next
-					// batch or if the current batch is seen as a parent or child of the next batch.
-					for ( int j = i + 1; j < latestBatches.size(); j++ ) {
-						BatchIdentifier nextBatchIdentifier = latestBatches.get( j );
-
-						if ( batchIdentifier.hasParent( nextBatchIdentifier ) ) {
-							if ( nextBatchIdentifier.hasParent( batchIdentifier ) ) {
-								//cycle detected, no need to continue
-								break sort;
-							}
-
-							latestBatches.remove( batchIdentifier );
-							latestBatches.add( j, batchIdentifier );
-
-							continue sort;
-						}
-					}
+		private static void visit(
+				BatchIdentifier batchIdentifier,
+				ArrayDeque<BatchIdentifier> stack,
+				int[] counter,
+				List<ComponentBatch> components) {
+			batchIdentifier.visitIndex = counter[0];
+			batchIdentifier.lowLink = counter[0];
+			counter[0]++;
+			stack.push( batchIdentifier );
+			batchIdentifier.onStack = true;
+
+			for ( BatchIdentifier successor : batchIdentifier.successors ) {
+				if ( successor.visitIndex < 0 ) {
+					visit( successor, stack, counter, components );
+					batchIdentifier.lowLink = Math.min( batchIdentifier.lowLink, successor.lowLink );
+				}
+				else if ( successor.onStack ) {
+					batchIdentifier.lowLink = Math.min( batchIdentifier.lowLink, successor.visitIndex );
 				}
-				sorted = true;
 			}
-			while ( !sorted && iterations <= maxIterations );
-
-			if ( iterations > maxIterations ) {
-				LOG.warn( "The batch containing "
-						+ latestBatches.size()
-						+ " statements could not be sorted after "
-						+ maxIterations
-						+ " iterations. "
-						+ "This might indicate a circular entity relationship." );
+
+			if ( batchIdentifier.lowLink == batchIdentifier.visitIndex ) {
+				final ComponentBatch component = new ComponentBatch();
+				BatchIdentifier member;
+				do {
+					member = stack.pop();
+					member.onStack = false;
+					member.component = component;
+					component.members.add( member );
+					component.firstIndex = Math.min( component.firstIndex, member.index );
+				}
+				while ( member != batchIdentifier );
+				components.add( component );
 			}
+		}
 
-			// Now, rebuild the insertions list. There is a batch for each entry in the name list.
-			if ( sorted ) {
-				insertions.clear();
+		/**
+		 * Add the actions of the components in topological order, preferring the component which appeared first
+		 * whenever there is a choice.
+		 */
+		@SuppressWarnings("unchecked")
+		private static <T> void addSorted(List<ComponentBatch> components, List<T> actions) {
+			final PriorityQueue<ComponentBatch> ready =
+					new PriorityQueue<>( components.size(), Comparator.comparingInt( component -> component.firstIndex ) );
+			for ( ComponentBatch component : components ) {
+				if ( component.predecessorCount == 0 ) {
+					ready.add( component );
+				}
+			}
 
-				for ( BatchIdentifier rootIdentifier : latestBatches ) {
-					List<AbstractEntityInsertAction> batch = actionBatches.get( rootIdentifier );
-					insertions.addAll( batch );
+			while ( !ready.isEmpty() ) {
+				final ComponentBatch component = ready.poll();
+				for ( Object action : component.actions ) {
+					actions.add( (T) action );
+				}
+				for ( BatchIdentifier member : component.members ) {
+					for ( BatchIdentifier successor : member.successors ) {
+						final ComponentBatch successorComponent = successor.component;
+						if ( successorComponent != component && --successorComponent.predecessorCount == 0 ) {
+							ready.add( successorComponent );
+						}
+					}
 				}
 			}
 		}
@@ -1279,16 +1291,15 @@ public class ActionQueue {
 		 * @param action The action being sorted
 		 * @param batchIdentifier The batch identifier of the entity affected by the action
 		 */
-		private void addParentChildEntityNames(AbstractEntityInsertAction action, BatchIdentifier batchIdentifier) {
-			final Object[] propertyValues = action.getState();
+		private void addParentChildEntityNames(T action, BatchIdentifier batchIdentifier) {
+			final Object[] propertyValues = getState( action );
 			final Type[] propertyTypes = action.getPersister().getPropertyTypes();
 			final Type identifierType = action.getPersister().getIdentifierType();
 
-			for ( int i = 0; i < propertyValues.length; i++ ) {
-				Object value = propertyValues[i];
-				if ( value != null ) {
-					Type type = propertyTypes[i];
-					addParentChildEntityNameByPropertyAndValue( action, batchIdentifier, type, value );
+			for ( int i = 0; i < propertyTypes.length; i++ ) {
+				final Object value = propertyValues == null ? null : propertyValues[i];
+				if ( value != null || propertyValues == null ) {
+					addParentChildEntityNameByPropertyAndValue( action, batchIdentifier, propertyTypes[i], value );
 				}
 			}
 
@@ -1303,7 +1314,7 @@ public class ActionQueue {
 		}
 
 		private void addParentChildEntityNameByPropertyAndValue(
-				AbstractEntityInsertAction action,
+				T action,
 				BatchIdentifier batchIdentifier,
 				Type type,
 				Object value) {
@@ -1318,24 +1329,24 @@ public class ActionQueue {
 
 				if ( entityType.isOneToOne() && entityType.getForeignKeyDirection() == ForeignKeyDirection.TO_PARENT ) {
 					if ( !entityType.isReferenceToPrimaryKey() ) {
-						batchIdentifier.getChildEntityNames().add( entityName );
+						batchIdentifier.childEntityNames.add( entityName );
 					}
 					if ( !rootEntityName.equals( entityName ) ) {
-						batchIdentifier.getChildEntityNames().add( rootEntityName );
+						batchIdentifier.childEntityNames.add( rootEntityName );
 					}
 				}
 				else {
-					if ( !batchIdentifier.getEntityName().equals( entityName ) ) {
-						batchIdentifier.getParentEntityNames().add( entityName );
+					if ( !batchIdentifier.entityName.equals( entityName ) ) {
+						batchIdentifier.parentEntityNames.add( entityName );
 					}
 					if ( value != null ) {
 						String valueClass = value.getClass().getName();
 						if ( !valueClass.equals( entityName ) ) {
-							batchIdentifier.getParentEntityNames().add( valueClass );
+							batchIdentifier.parentEntityNames.add( valueClass );
 						}
 					}
 					if ( !rootEntityName.equals( entityName ) ) {
-						batchIdentifier.getParentEntityNames().add( rootEntityName );
+						batchIdentifier.parentEntityNames.add( rootEntityName );
 					}
 				}
 			}
@@ -1346,9 +1357,9 @@ public class ActionQueue {
 						&& !mappingMetamodel.getCollectionDescriptor( collectionType.getRole() ).isManyToMany() ) {
 					final String entityName = collectionType.getAssociatedEntityName( sessionFactory );
 					final String rootEntityName = mappingMetamodel.getEntityDescriptor( entityName ).getRootEntityName();
-					batchIdentifier.getChildEntityNames().add( entityName );
+					batchIdentifier.childEntityNames.add( entityName );
 					if ( !rootEntityName.equals( entityName ) ) {
-						batchIdentifier.getChildEntityNames().add( rootEntityName );
+						batchIdentifier.childEntityNames.add( rootEntityName );
 					}
 				}
 			}
@@ -1364,17 +1375,50 @@ public class ActionQueue {
 				}
 			}
 		}
+	}
 
-		private void addToBatch(BatchIdentifier batchIdentifier, AbstractEntityInsertAction action) {
-			List<AbstractEntityInsertAction> actions = actionBatches.get( batchIdentifier );
+	/**
+	 * Order the {@link #insertions} queue such that we group inserts against the same entity together, with the
+	 * inserts of referenced entities first.
+	 *
+	 * @author Jay Erb
+	 */
+	private static class InsertActionSorter extends EntityActionSorter<AbstractEntityInsertAction> {
+		/**
+		 * Singleton access
+		 */
+		public static final InsertActionSorter INSTANCE = new InsertActionSorter();
 
-			if ( actions == null ) {
-				actions = new LinkedList<>();
-				actionBatches.put( batchIdentifier, actions );
-			}
-			actions.add( action );
+		@Override
+		boolean isReferencedEntityFirst() {
+			return true;
 		}
 
+		@Override
+		Object[] getState(AbstractEntityInsertAction action) {
+			return action.getState();
+		}
+	}
+
+	/**
+	 * Order the {@link #deletions} queue such that we group deletes against the same entity together, with the
+	 * deletes of referenced entities last.
+	 */
+	private static class DeleteActionSorter extends EntityActionSorter<EntityDeleteAction> {
+		/**
+		 * Singleton access
+		 */
+		public static final DeleteActionSorter INSTANCE = new DeleteActionSorter();
+
+		@Override
+		boolean isReferencedEntityFirst() {
+			return false;
+		}
+
+		@Override
+		Object[] getState(EntityDeleteAction action) {
+			return action.getState();
+		}
 	}
 
 	private abstract static class ListProvider<T extends Executable & Comparable<? super T> & Serializable> {
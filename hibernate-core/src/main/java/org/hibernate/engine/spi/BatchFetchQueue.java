@@ -6,6 +6,7 @@
  */
 package org.hibernate.engine.spi;
 
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
@@ -209,18 +210,27 @@ public class BatchFetchQueue {
 
 		LinkedHashSet<EntityKey> set =  batchLoadableEntityKeys.get( entityDescriptor.getEntityName() );
 		if ( set != null ) {
-			for ( EntityKey key : set ) {
+			final EntityPersister persister = entityDescriptor.getEntityPersister();
+			final EntityKey[] keys = set.toArray( new EntityKey[0] );
+			// whether the keys are cached is looked up a window of keys at a time
+			boolean[] cached = null;
+			int windowStart = 0;
+			for ( int k = 0; k < keys.length; k++ ) {
+				final EntityKey key = keys[k];
 				if ( checkForEnd && i == end ) {
 					// the first id found after the given id
 					return ids;
 				}
 
-				if ( entityDescriptor.getEntityPersister().getIdentifierType()
-						.isEqual( loadingId, key.getIdentifier() ) ) {
+				if ( persister.getIdentifierType().isEqual( loadingId, key.getIdentifier() ) ) {
 					end = i;
 				}
 				else {
-					if ( !isCached( key, entityDescriptor.getEntityPersister() ) ) {
+					if ( cached == null || k - windowStart >= cached.length ) {
+						windowStart = k;
+						cached = areCached( keys, k, Math.min( keys.length, k + maxBatchSize ), persister );
+					}
+					if ( !cached[k - windowStart] ) {
 						ids[i++] = key.getIdentifier();
 					}
 				}
@@ -238,19 +248,30 @@ public class BatchFetchQueue {
 		return ids;
 	}
 
-	private boolean isCached(EntityKey entityKey, EntityPersister persister) {
+	/**
+	 * Whether the entities of the keys in the given range are in the second-level
+	 * cache, looked up with a single call to the cache
+	 */
+	private boolean[] areCached(EntityKey[] entityKeys, int from, int to, EntityPersister persister) {
+		final boolean[] cached = new boolean[to - from];
 		final SharedSessionContractImplementor session = context.getSession();
-		if ( context.getSession().getCacheMode().isGetEnabled() && persister.canReadFromCache() ) {
+		if ( session.getCacheMode().isGetEnabled() && persister.canReadFromCache() ) {
 			final EntityDataAccess cache = persister.getCacheAccessStrategy();
-			final Object key = cache.generateCacheKey(
-					entityKey.getIdentifier(),
-					persister,
-					session.getFactory(),
-					session.getTenantIdentifier()
-			);
-			return CacheHelper.fromSharedCache( session, key, cache ) != null;
+			final Object[] keys = new Object[cached.length];
+			for ( int i = 0; i < keys.length; i++ ) {
+				keys[i] = cache.generateCacheKey(
+						entityKeys[from + i].getIdentifier(),
+						persister,
+						session.getFactory(),
+						session.getTenantIdentifier()
+				);
+			}
+			final Object[] values = CacheHelper.fromSharedCache( session, keys, cache );
+			for ( int i = 0; i < cached.length; i++ ) {
+				cached[i] = values[i] != null;
+			}
 		}
-		return false;
+		return cached;
 	}
 
 
@@ -319,9 +340,14 @@ public class BatchFetchQueue {
 		final LinkedHashMap<CollectionEntry, PersistentCollection<?>> map =
 				batchLoadableCollections.get( collectionPersister.getRole() );
 		if ( map != null ) {
-			for ( Entry<CollectionEntry, PersistentCollection<?>> me : map.entrySet() ) {
-				final CollectionEntry ce = me.getKey();
-				final PersistentCollection<?> collection = me.getValue();
+			@SuppressWarnings("unchecked")
+			final Entry<CollectionEntry, PersistentCollection<?>>[] entries = map.entrySet().toArray( new Entry[0] );
+			// whether the keys are cached is looked up a window of keys at a time
+			boolean[] cached = null;
+			int windowStart = 0;
+			for ( int k = 0; k < entries.length; k++ ) {
+				final CollectionEntry ce = entries[k].getKey();
+				final PersistentCollection<?> collection = entries[k].getValue();
 
 				if ( ce.getLoadedKey() == null ) {
 					// the loadedKey of the collectionEntry might be null as it might have been reset to null
@@ -352,9 +378,15 @@ public class BatchFetchQueue {
 					end = i;
 					//checkForEnd = false;
 				}
-				else if ( !isCached( ce.getLoadedKey(), collectionPersister ) ) {
-					keys[i++] = ce.getLoadedKey();
-					//count++;
+				else {
+					if ( cached == null || k - windowStart >= cached.length ) {
+						windowStart = k;
+						cached = areCached( entries, k, Math.min( entries.length, k + batchSize ), collectionPersister );
+					}
+					if ( !cached[k - windowStart] ) {
+						keys[i++] = ce.getLoadedKey();
+						//count++;
+					}
 				}
 
 				if ( i == batchSize ) {
@@ -368,19 +400,41 @@ public class BatchFetchQueue {
 		return keys; //we ran out of keys to try
 	}
 
-	private boolean isCached(Object collectionKey, CollectionPersister persister) {
-		SharedSessionContractImplementor session = context.getSession();
+	/**
+	 * Whether the collections of the entries in the given range are in the
+	 * second-level cache, looked up with a single call to the cache
+	 */
+	private boolean[] areCached(
+			Entry<CollectionEntry, PersistentCollection<?>>[] entries,
+			int from,
+			int to,
+			CollectionPersister persister) {
+		final boolean[] cached = new boolean[to - from];
+		final SharedSessionContractImplementor session = context.getSession();
 		if ( session.getCacheMode().isGetEnabled() && persister.hasCache() ) {
-			CollectionDataAccess cache = persister.getCacheAccessStrategy();
-			Object cacheKey = cache.generateCacheKey(
-					collectionKey,
-					persister,
-					session.getFactory(),
-					session.getTenantIdentifier()
-			);
-			return CacheHelper.fromSharedCache( session, cacheKey, cache ) != null;
+			final CollectionDataAccess cache = persister.getCacheAccessStrategy();
+			final Object[] keys = new Object[cached.length];
+			int count = 0;
+			for ( int i = 0; i < cached.length; i++ ) {
+				final Object collectionKey = entries[from + i].getKey().getLoadedKey();
+				// entries skipped by getCollectionBatch() are not looked up
+				if ( collectionKey != null && !entries[from + i].getValue().wasInitialized() ) {
+					keys[count++] = cache.generateCacheKey(
+							collectionKey,
+							persister,
+							session.getFactory(),
+							session.getTenantIdentifier()
+					);
+				}
+			}
+			final Object[] values = CacheHelper.fromSharedCache( session, Arrays.copyOf( keys, count ), cache );
+			for ( int i = 0, j = 0; i < cached.length; i++ ) {
+				if ( entries[from + i].getKey().getLoadedKey() != null && !entries[from + i].getValue().wasInitialized() ) {
+					cached[i] = values[j++] != null;
+				}
+			}
 		}
-		return false;
+		return cached;
 	}
 
 }
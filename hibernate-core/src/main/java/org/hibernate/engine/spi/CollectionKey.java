@@ -50,12 +50,35 @@ public final class CollectionKey implements Serializable {
 	}
 
 	private int generateHashCode() {
+		return hashCode( role, key, keyType, factory );
+	}
+
+	private static int hashCode(String role, Object key, Type keyType, SessionFactoryImplementor factory) {
 		int result = 17;
 		result = 37 * result + role.hashCode();
 		result = 37 * result + keyType.getHashCode( key, factory );
 		return result;
 	}
 
+	/**
+	 * The {@linkplain #hashCode() hash code} of the key for the given collection persister and
+	 * collection key value, without instantiating the key.
+	 *
+	 * @see #matches(CollectionKey, CollectionPersister, Object)
+	 */
+	public static int hashCode(CollectionPersister persister, Object key) {
+		return hashCode( persister.getRole(), key, persister.getKeyType(), persister.getFactory() );
+	}
+
+	/**
+	 * Whether the given key is {@linkplain #equals(Object) equal} to the key which would be
+	 * built for the given collection persister and collection key value.
+	 */
+	public static boolean matches(CollectionKey collectionKey, CollectionPersister persister, Object key) {
+		return collectionKey.role.equals( persister.getRole() )
+				&& persister.getKeyType().isEqual( collectionKey.key, key, persister.getFactory() );
+	}
+
 	public String getRole() {
 		return role;
 	}
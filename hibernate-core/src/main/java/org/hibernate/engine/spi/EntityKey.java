@@ -46,21 +46,41 @@ public final class EntityKey implements Serializable {
 	 */
 	public EntityKey(Object id, EntityPersister persister) {
 		this.persister = persister;
-		if ( id == null ) {
-			throw new AssertionFailure( "null identifier (" + persister.getEntityName() + ")" );
-		}
 		this.identifier = id;
 		this.hashCode = generateHashCode();
 	}
 
 	private int generateHashCode() {
+		return hashCode( identifier, persister );
+	}
+
+	/**
+	 * The {@linkplain #hashCode() hash code} of the key for the given identifier and persister,
+	 * without instantiating the key.
+	 *
+	 * @see #matches(EntityKey, Object, EntityPersister)
+	 */
+	public static int hashCode(Object id, EntityPersister persister) {
+		if ( id == null ) {
+			throw new AssertionFailure( "null identifier (" + persister.getEntityName() + ")" );
+		}
 		int result = 17;
 		final String rootEntityName = persister.getRootEntityName();
 		result = 37 * result + ( rootEntityName != null ? rootEntityName.hashCode() : 0 );
-		result = 37 * result + persister.getIdentifierType().getHashCode( identifier, persister.getFactory() );
+		result = 37 * result + persister.getIdentifierType().getHashCode( id, persister.getFactory() );
 		return result;
 	}
 
+	/**
+	 * Whether the given key is {@linkplain #equals(Object) equal} to the key which would be
+	 * built for the given identifier and persister.  Used together with {@link #hashCode(Object, EntityPersister)}
+	 * to look up entities without instantiating a key per lookup.
+	 */
+	public static boolean matches(EntityKey key, Object id, EntityPersister persister) {
+		return ( key.persister == persister || key.persister.getRootEntityName().equals( persister.getRootEntityName() ) )
+				&& persister.getIdentifierType().isEqual( key.identifier, id, persister.getFactory() );
+	}
+
 	public boolean isBatchLoadable() {
 		return persister.isBatchLoadable();
 	}
@@ -171,6 +171,34 @@ public interface PersistenceContext {
 	 */
 	boolean containsEntity(EntityKey key);
 
+	/**
+	 * Get the entity instance with the given identifier, equivalent to
+	 * {@code getEntity( new EntityKey( id, persister ) )} but without the need to
+	 * instantiate the key for the lookup.
+	 *
+	 * @param id The identifier of the entity
+	 * @param persister The persister of the entity
+	 *
+	 * @return The matching entity, or {@code null}
+	 */
+	default Object getEntity(Object id, EntityPersister persister) {
+		return getEntity( new EntityKey( id, persister ) );
+	}
+
+	/**
+	 * Is there an entity with the given identifier in the persistence context, equivalent to
+	 * {@code containsEntity( new EntityKey( id, persister ) )} but without the need to
+	 * instantiate the key for the lookup.
+	 *
+	 * @param id The identifier of the entity
+	 * @param persister The persister of the entity
+	 *
+	 * @return {@code true} indicates an entity was found; otherwise {@code false}
+	 */
+	default boolean containsEntity(Object id, EntityPersister persister) {
+		return containsEntity( new EntityKey( id, persister ) );
+	}
+
 	/**
 	 * Remove an entity.  Also clears up all other state associated with the entity aside from the {@link EntityEntry}
 	 *
@@ -213,6 +241,38 @@ public interface PersistenceContext {
 	 */
 	EntityEntry removeEntry(Object entity);
 
+	/**
+	 * Record that the given managed entity, or the entity behind the given proxy,
+	 * may have been modified since the last flush.
+	 * <p>
+	 * Has no effect unless touched entity tracking is enabled, and the attribute
+	 * writes of the entity are intercepted by its enhanced bytecode.
+	 *
+	 * @param entityOrProxy The entity or proxy
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#TRACK_TOUCHED_ENTITIES
+	 */
+	default void markEntityTouched(Object entityOrProxy) {
+	}
+
+	/**
+	 * Does the next flush need to dirty-check the given entity against its loaded state?
+	 * This is the case if touched entity tracking is disabled, if the attribute writes
+	 * of the entity are not intercepted, or if the entity was
+	 * {@linkplain #markEntityTouched touched} since the last flush.
+	 *
+	 * @param entity The managed entity instance
+	 */
+	default boolean isEntityTouched(Object entity) {
+		return true;
+	}
+
+	/**
+	 * Forget about the entities touched before a completed flush.
+	 */
+	default void clearTouchedEntities() {
+	}
+
 	/**
 	 * Is there an {@link EntityEntry} registration for this entity instance?
 	 *
@@ -402,6 +462,15 @@ public interface PersistenceContext {
 	 */
 	PersistentCollection<?> getCollection(CollectionKey collectionKey);
 
+	/**
+	 * Get the collection instance for the given persister and collection key value, equivalent to
+	 * {@code getCollection( new CollectionKey( persister, key ) )} but without the need to
+	 * instantiate the key for the lookup.
+	 */
+	default PersistentCollection<?> getCollection(CollectionPersister persister, Object key) {
+		return getCollection( new CollectionKey( persister, key ) );
+	}
+
 	/**
 	 * Register a collection for non-lazy loading at the end of the
 	 * two-phase load
@@ -1094,6 +1094,11 @@ public class SessionDelegatorBaseImpl implements SessionImplementor {
 		delegate.setReadOnly( entityOrProxy, readOnly );
 	}
 
+	@Override
+	public void markTouched(Object entityOrProxy) {
+		delegate.markTouched( entityOrProxy );
+	}
+
 	@Override
 	public void doWork(Work work) throws HibernateException {
 		delegate.doWork( work );
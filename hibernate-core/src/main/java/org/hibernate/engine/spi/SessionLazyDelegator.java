@@ -485,6 +485,11 @@ public class SessionLazyDelegator implements Session {
 		this.lazySession.get().setReadOnly( entityOrProxy, readOnly );
 	}
 
+	@Override
+	public void markTouched(Object entityOrProxy) {
+		this.lazySession.get().markTouched( entityOrProxy );
+	}
+
 	@Override
 	public boolean isFetchProfileEnabled(String name) throws UnknownProfileException {
 		return this.lazySession.get().isFetchProfileEnabled( name );
@@ -121,9 +121,10 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 		final Object entity = event.getEntity();
 		final EntityEntry entry = event.getEntityEntry();
 
-		final boolean mightBeDirty = entry.requiresDirtyCheck( entity );
+		final boolean mightBeDirty = mightHaveBeenTouched( entity, entry, event.getSession() )
+				&& entry.requiresDirtyCheck( entity );
 
-		final Object[] values = getValues( entity, entry, mightBeDirty, event.getSession() );
+		final Object[] values = getValues( entity, entry, mightBeDirty, event );
 
 		event.setPropertyValues( values );
 
@@ -152,7 +153,19 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 
 	}
 
-	private Object[] getValues(Object entity, EntityEntry entry, boolean mightBeDirty, SessionImplementor session) {
+	/**
+	 * When only touched entities are tracked, an entity with a loaded state is not
+	 * dirty-checked unless it was touched since the last flush, or tracks its own
+	 * dirtiness. The persistence context considers any entity whose attribute writes
+	 * are not intercepted as touched.
+	 */
+	private static boolean mightHaveBeenTouched(Object entity, EntityEntry entry, SessionImplementor session) {
+		return entry.getLoadedState() == null
+			|| isSelfDirtinessTracker( entity )
+			|| session.getPersistenceContextInternal().isEntityTouched( entity );
+	}
+
+	private Object[] getValues(Object entity, EntityEntry entry, boolean mightBeDirty, FlushEntityEvent event) {
 		final Object[] loadedState = entry.getLoadedState();
 
 		if ( entry.getStatus() == Status.DELETED ) {
@@ -164,9 +177,11 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 		}
 		else {
 			final EntityPersister persister = entry.getPersister();
+			final SessionImplementor session = event.getSession();
 			checkId( entity, persister, entry.getId(), session );
-			// grab its current state
-			Object[] values = persister.getValues( entity );
+			// grab its current state, unless it was already extracted by a parallel dirty check
+			final Object[] precomputedValues = event.getPrecomputedPropertyValues();
+			final Object[] values = precomputedValues == null ? persister.getValues( entity ) : precomputedValues;
 			checkNaturalId( persister, entity, entry, values, loadedState, session );
 			return values;
 		}
@@ -481,7 +496,9 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 			final Object entity = event.getEntity();
 			if ( loadedState != null ) {
 				// dirty check against the usual snapshot of the entity
-				dirtyProperties = persister.findDirty( values, loadedState, entity, session );
+				dirtyProperties = values == event.getPrecomputedPropertyValues()
+						? event.getPrecomputedDirtyProperties()
+						: persister.findDirty( values, loadedState, entity, session );
 				dirtyCheckPossible = true;
 			}
 			else if ( entry.getStatus() == Status.DELETED && !entry.isModifiableEntity() ) {
@@ -174,7 +174,7 @@ public class DefaultMergeEventListener
 			EntityPersister persister = source.getEntityPersister( event.getEntityName(), entity );
 			Object id = persister.getIdentifier( entity, source );
 			if ( id != null ) {
-				final Object managedEntity = persistenceContext.getEntity( source.generateEntityKey( id, persister ) );
+				final Object managedEntity = persistenceContext.getEntity( id, persister );
 				entry = persistenceContext.getEntry( managedEntity );
 				if ( entry != null ) {
 					// we have a special case of a detached entity from the
@@ -198,6 +198,8 @@ public class DefaultMergeEventListener
 		copyCache.put( entity, entity, true );  //before cascade!
 		cascadeOnMerge( source, persister, entity, copyCache );
 		copyValues( persister, entity, entity, source, copyCache );
+		// copyValues() bypasses the enhanced attribute interception
+		source.getPersistenceContextInternal().markEntityTouched( entity );
 		event.setResult( entity );
 	}
 
@@ -341,6 +343,7 @@ public class DefaultMergeEventListener
 			copyValues( persister, entity, target, source, copyCache );
 			//copyValues works by reflection, so explicitly mark the entity instance dirty
 			markInterceptorDirty( entity, target );
+			source.getPersistenceContextInternal().markEntityTouched( target );
 			event.setResult( result );
 		}
 
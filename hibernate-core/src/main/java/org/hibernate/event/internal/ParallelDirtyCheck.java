@@ -0,0 +1,222 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.internal;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.hibernate.EmptyInterceptor;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.service.spi.EventListenerGroup;
+import org.hibernate.event.spi.FlushEntityEvent;
+import org.hibernate.event.spi.FlushEntityEventListener;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.FastSessionServices;
+import org.hibernate.jpa.event.spi.CallbackRegistry;
+import org.hibernate.jpa.event.spi.CallbackType;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.Type;
+
+import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
+
+/**
+ * Compares the current state of the managed entities with their loaded state
+ * in parallel, ahead of the sequential flush of the individual entities.
+ * <p>
+ * Only the snapshot comparison is performed here: the flush events are still
+ * fired, and the update actions created, one entity after the other and in the
+ * usual order, by {@link AbstractFlushingEventListener}. The outcome of the
+ * comparison is handed to {@link DefaultFlushEntityEventListener} through the
+ * {@link FlushEntityEvent}.
+ * <p>
+ * Since the session is not thread-safe, it is not passed to the comparison, and
+ * an entity is only checked here if the {@link Type#isDirty} of each of its
+ * attributes ignores the session. This excludes embeddable and {@code @Any}
+ * attributes, while other association attributes only qualify as long as they
+ * still reference the loaded instance. All other entities are dirty-checked as
+ * usual.
+ * <p>
+ * The comparison is only valid as long as nothing modifies the entities while
+ * they are flushed one after the other. It is therefore not performed when an
+ * {@link org.hibernate.Interceptor}, a custom {@link FlushEntityEventListener}
+ * or a {@link org.hibernate.event.spi.PreUpdateEventListener}, for example the
+ * one of Bean Validation, is registered,
+ * and its outcome is discarded when one of the entities has a JPA
+ * {@link jakarta.persistence.PreUpdate} callback.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#PARALLEL_DIRTY_CHECKING_THRESHOLD
+ */
+final class ParallelDirtyCheck {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( ParallelDirtyCheck.class );
+
+	private static final int PARTITION_SIZE = 256;
+	private static final int[] NO_INDEXES = new int[0];
+	/**
+	 * Marks the persisters with an attribute which can't be compared without the session
+	 */
+	private static final int[] UNSUPPORTED = new int[0];
+
+	private final Map.Entry<Object, EntityEntry>[] entityEntries;
+	private final Map<EntityPersister, int[]> associationIndexesByPersister = new ConcurrentHashMap<>();
+	private final Map<Class<?>, Boolean> preUpdateCallbacksByClass = new ConcurrentHashMap<>();
+	private final CallbackRegistry callbackRegistry;
+	private volatile boolean preUpdateCallbacks;
+
+	// each index is written by a single partition, and read after the pool joined all of them
+	private final Object[][] propertyValues;
+	private final int[][] dirtyProperties;
+
+	private ParallelDirtyCheck(Map.Entry<Object, EntityEntry>[] entityEntries, SharedSessionContractImplementor session) {
+		this.entityEntries = entityEntries;
+		this.callbackRegistry = session.getFactory().getEventEngine().getCallbackRegistry();
+		this.propertyValues = new Object[entityEntries.length][];
+		this.dirtyProperties = new int[entityEntries.length][];
+	}
+
+	/**
+	 * Can the entities of the given session be dirty-checked ahead of their flush?
+	 */
+	static boolean isPossible(SharedSessionContractImplementor session) {
+		if ( session.getInterceptor() != EmptyInterceptor.INSTANCE ) {
+			// onFlushDirty() and findDirty() may change or inspect any entity
+			LOG.debug( "Skipping parallel dirty checking, since an Interceptor is registered" );
+			return false;
+		}
+		final SessionFactoryImplementor factory = session.getFactory();
+		final FastSessionServices fastSessionServices = factory.getFastSessionServices();
+		if ( !fastSessionServices.eventListenerGroup_PRE_UPDATE.isEmpty() ) {
+			LOG.debug( "Skipping parallel dirty checking, since a PreUpdateEventListener is registered" );
+			return false;
+		}
+		final EventListenerGroup<FlushEntityEventListener> flushListeners =
+				fastSessionServices.eventListenerGroup_FLUSH_ENTITY;
+		for ( FlushEntityEventListener listener : flushListeners.listeners() ) {
+			if ( listener.getClass() != DefaultFlushEntityEventListener.class ) {
+				LOG.debug( "Skipping parallel dirty checking, since a custom FlushEntityEventListener is registered" );
+				return false;
+			}
+		}
+		return true;
+	}
+
+	static ParallelDirtyCheck perform(Map.Entry<Object, EntityEntry>[] entityEntries, SharedSessionContractImplementor session) {
+		final ParallelDirtyCheck dirtyCheck = new ParallelDirtyCheck( entityEntries, session );
+		ForkJoinPool.commonPool().invoke( dirtyCheck.new Partition( 0, entityEntries.length ) );
+		return dirtyCheck;
+	}
+
+	/**
+	 * Hand the outcome of the comparison for the entity at the given position over to its flush event.
+	 */
+	void applyTo(FlushEntityEvent event, int position) {
+		if ( preUpdateCallbacks ) {
+			// the callbacks may modify any entity while the entities are flushed
+			return;
+		}
+		final Object[] values = propertyValues[position];
+		if ( values != null ) {
+			event.setPrecomputedDirtyCheck( values, dirtyProperties[position] );
+		}
+	}
+
+	private void check(int position) {
+		final Object entity = entityEntries[position].getKey();
+		// a callback of any entity, checked here or not, may modify the others
+		if ( preUpdateCallbacksByClass.computeIfAbsent( entity.getClass(), this::hasPreUpdateCallbacks ) ) {
+			preUpdateCallbacks = true;
+			return;
+		}
+
+		final EntityEntry entry = entityEntries[position].getValue();
+		final Object[] loadedState = entry.getLoadedState();
+		if ( entry.getStatus() != Status.MANAGED
+				|| loadedState == null
+				|| isPersistentAttributeInterceptable( entity ) ) {
+			return;
+		}
+
+		final EntityPersister persister = entry.getPersister();
+		final int[] associationIndexes =
+				associationIndexesByPersister.computeIfAbsent( persister, ParallelDirtyCheck::associationIndexes );
+		if ( associationIndexes == UNSUPPORTED ) {
+			return;
+		}
+		try {
+			final Object[] values = persister.getValues( entity );
+			for ( int index : associationIndexes ) {
+				if ( values[index] != loadedState[index] ) {
+					// comparing the association would need the session
+					return;
+				}
+			}
+			// the types of the remaining attributes, and of the associations
+			// which still reference the loaded instance, ignore the session
+			dirtyProperties[position] = persister.findDirty( values, loadedState, entity, null );
+			propertyValues[position] = values;
+		}
+		catch (RuntimeException e) {
+			// leave it to the sequential dirty check, which reports the failure
+			// in the context of the flush of this entity
+			dirtyProperties[position] = null;
+			propertyValues[position] = null;
+		}
+	}
+
+	private boolean hasPreUpdateCallbacks(Class<?> entityClass) {
+		return callbackRegistry.hasRegisteredCallbacks( entityClass, CallbackType.PRE_UPDATE );
+	}
+
+	/**
+	 * The indexes of the association attributes, or {@link #UNSUPPORTED} if an
+	 * attribute can't be compared without the session at all.
+	 */
+	private static int[] associationIndexes(EntityPersister persister) {
+		final Type[] types = persister.getPropertyTypes();
+		final int[] indexes = new int[types.length];
+		int count = 0;
+		for ( int i = 0; i < types.length; i++ ) {
+			final Type type = types[i];
+			if ( type.isComponentType() || type.isAnyType() ) {
+				return UNSUPPORTED;
+			}
+			else if ( type.isAssociationType() ) {
+				indexes[count++] = i;
+			}
+		}
+		return count == 0 ? NO_INDEXES : Arrays.copyOf( indexes, count );
+	}
+
+	private class Partition extends RecursiveAction {
+		private final int start;
+		private final int end;
+
+		private Partition(int start, int end) {
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		protected void compute() {
+			if ( end - start <= PARTITION_SIZE ) {
+				for ( int position = start; position < end; position++ ) {
+					check( position );
+				}
+			}
+			else {
+				final int middle = ( start + end ) >>> 1;
+				invokeAll( new Partition( start, middle ), new Partition( middle, end ) );
+			}
+		}
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.graph.spi;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.metamodel.model.domain.ManagedDomainType;
+
+/**
+ * An immutable snapshot of the structure of a {@linkplain GraphImplementor graph}:
+ * the graphed type, and per attribute node the sub-graphs and key sub-graphs by type.
+ * Two graphs with the same structure influence the translation of a query in the
+ * same way, regardless of their name, mutability or the order their nodes were added,
+ * so this is usable as (part of) a cache key for query plans.
+ */
+public final class GraphKey {
+	private final ManagedDomainType<?> graphedType;
+	private final Map<String, AttributeNodeKey> attributeNodes;
+	private final int hashCode;
+
+	private GraphKey(ManagedDomainType<?> graphedType, Map<String, AttributeNodeKey> attributeNodes) {
+		this.graphedType = graphedType;
+		this.attributeNodes = attributeNodes;
+		this.hashCode = 31 * graphedType.hashCode() + attributeNodes.hashCode();
+	}
+
+	public static GraphKey from(GraphImplementor<?> graph) {
+		final List<AttributeNodeImplementor<?>> attributeNodeImplementors = graph.getAttributeNodeImplementors();
+		final Map<String, AttributeNodeKey> attributeNodes;
+		if ( attributeNodeImplementors.isEmpty() ) {
+			attributeNodes = Collections.emptyMap();
+		}
+		else {
+			attributeNodes = new HashMap<>( attributeNodeImplementors.size() );
+			for ( AttributeNodeImplementor<?> attributeNode : attributeNodeImplementors ) {
+				attributeNodes.put(
+						attributeNode.getAttributeName(),
+						new AttributeNodeKey(
+								subGraphKeys( attributeNode.getSubGraphMap() ),
+								subGraphKeys( attributeNode.getKeySubGraphMap() )
+						)
+				);
+			}
+		}
+		return new GraphKey( graph.getGraphedType(), attributeNodes );
+	}
+
+	private static Map<Class<?>, GraphKey> subGraphKeys(Map<? extends Class<?>, ? extends SubGraphImplementor<?>> subGraphs) {
+		if ( subGraphs.isEmpty() ) {
+			return Collections.emptyMap();
+		}
+		final Map<Class<?>, GraphKey> subGraphKeys = new HashMap<>( subGraphs.size() );
+		for ( Map.Entry<? extends Class<?>, ? extends SubGraphImplementor<?>> entry : subGraphs.entrySet() ) {
+			subGraphKeys.put( entry.getKey(), from( entry.getValue() ) );
+		}
+		return subGraphKeys;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if ( this == o ) {
+			return true;
+		}
+		if ( !( o instanceof GraphKey ) ) {
+			return false;
+		}
+		final GraphKey that = (GraphKey) o;
+		return hashCode == that.hashCode
+				&& graphedType.equals( that.graphedType )
+				&& attributeNodes.equals( that.attributeNodes );
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
+	@Override
+	public String toString() {
+		return "GraphKey(" + graphedType.getTypeName() + attributeNodes + ")";
+	}
+
+	private static final class AttributeNodeKey {
+		private final Map<Class<?>, GraphKey> subGraphs;
+		private final Map<Class<?>, GraphKey> keySubGraphs;
+
+		private AttributeNodeKey(Map<Class<?>, GraphKey> subGraphs, Map<Class<?>, GraphKey> keySubGraphs) {
+			this.subGraphs = subGraphs;
+			this.keySubGraphs = keySubGraphs;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( !( o instanceof AttributeNodeKey ) ) {
+				return false;
+			}
+			final AttributeNodeKey that = (AttributeNodeKey) o;
+			return subGraphs.equals( that.subGraphs )
+					&& keySubGraphs.equals( that.keySubGraphs );
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * subGraphs.hashCode() + keySubGraphs.hashCode();
+		}
+
+		@Override
+		public String toString() {
+			return subGraphs.isEmpty() && keySubGraphs.isEmpty() ? "" : "(" + subGraphs + ", " + keySubGraphs + ")";
+		}
+	}
+}
@@ -0,0 +1,199 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.HibernateException;
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.internal.CoreMessageLogger;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Variation of {@link PooledOptimizer} meant for highly concurrent inserts.
+ * <p>
+ * The database value is interpreted as the hi value, exactly as by {@link PooledOptimizer},
+ * but values are handed out of the current block with an atomic increment rather than
+ * under the monitor of the optimizer.  When a quarter of the block remains, the thread
+ * which draws the value at that mark obtains the next block from the database, while
+ * the other threads keep drawing values from the current block.  Only threads finding
+ * both blocks exhausted ever wait for a database round trip.
+ * <p>
+ * The next block is fetched by a thread performing an insert, since the {@link AccessCallback}
+ * is bound to the session of that thread.  At most one round trip to the database structure
+ * is in progress at any time for a given tenant.  Since the current block still has values,
+ * a failure to fetch the next block does not fail the insert: it is logged, and the fetch is
+ * attempted again when the next value is drawn.
+ *
+ * @see PooledOptimizer
+ */
+public class PooledConcurrentOptimizer extends AbstractOptimizer implements InitialValueAwareOptimizer {
+	private static final CoreMessageLogger log = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			PooledConcurrentOptimizer.class.getName()
+	);
+
+	private final GenerationState noTenantState = new GenerationState();
+	private final Map<String, GenerationState> tenantSpecificState = new ConcurrentHashMap<>();
+
+	private long initialValue = -1;
+
+	/**
+	 * Constructs a PooledConcurrentOptimizer
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public PooledConcurrentOptimizer(Class returnClass, int incrementSize) {
+		super( returnClass, incrementSize );
+		if ( incrementSize < 1 ) {
+			throw new HibernateException( "increment size cannot be less than 1" );
+		}
+		if ( log.isTraceEnabled() ) {
+			log.tracev(
+					"Creating pooled concurrent optimizer with [incrementSize={0}; returnClass={1}]",
+					incrementSize,
+					returnClass.getName()
+			);
+		}
+	}
+
+	@Override
+	public Serializable generate(AccessCallback callback) {
+		final GenerationState generationState = locateGenerationState( callback.getTenantIdentifier() );
+		while ( true ) {
+			final Block block = generationState.current;
+			if ( block != null ) {
+				final long value = block.next.getAndIncrement();
+				if ( value <= block.hi ) {
+					if ( value == block.prefetchAt ) {
+						generationState.prefetch( block, value, callback );
+					}
+					return IdentifierGeneratorHelper.getIntegralDataTypeHolder( returnClass )
+							.initialize( value )
+							.makeValue();
+				}
+			}
+			generationState.advance( block, callback );
+		}
+	}
+
+	private GenerationState locateGenerationState(String tenantIdentifier) {
+		return tenantIdentifier == null
+				? noTenantState
+				: tenantSpecificState.computeIfAbsent( tenantIdentifier, tenant -> new GenerationState() );
+	}
+
+	@Override
+	public IntegralDataTypeHolder getLastSourceValue() {
+		final IntegralDataTypeHolder lastSourceValue = noTenantState.lastSourceValue;
+		if ( lastSourceValue == null ) {
+			throw new IllegalStateException( "Could not locate previous generation state for no-tenant" );
+		}
+		return lastSourceValue;
+	}
+
+	@Override
+	public boolean applyIncrementSizeToSourceValues() {
+		return true;
+	}
+
+	@Override
+	public void injectInitialValue(long initialValue) {
+		this.initialValue = initialValue;
+	}
+
+	/**
+	 * A range of values obtained from the database structure
+	 */
+	private static class Block {
+		private final long hi;
+		private final AtomicLong next;
+		// moved forward when the prefetch fails
+		private volatile long prefetchAt;
+
+		private Block(long lo, long hi, int incrementSize) {
+			this.hi = hi;
+			this.prefetchAt = Math.max( lo, hi - incrementSize / 4 );
+			this.next = new AtomicLong( lo );
+		}
+	}
+
+	private class GenerationState {
+		// guards the round trips to the database structure, and the prefetched block
+		private final ReentrantLock fetchLock = new ReentrantLock();
+
+		private volatile Block current;
+		private volatile IntegralDataTypeHolder lastSourceValue;
+		private Block prefetched;
+
+		/**
+		 * Fetch the block following the given one, unless another thread is already doing so
+		 */
+		private void prefetch(Block block, long mark, AccessCallback callback) {
+			if ( fetchLock.tryLock() ) {
+				try {
+					if ( current == block && prefetched == null ) {
+						prefetched = fetch( callback, false );
+					}
+				}
+				catch (RuntimeException e) {
+					// past the end of the block, advance() fetches the next block and reports the failure
+					log.warnf( e, "Could not prefetch the next block of identifier values; retrying with the next value" );
+					block.prefetchAt = mark + 1;
+				}
+				finally {
+					fetchLock.unlock();
+				}
+			}
+		}
+
+		/**
+		 * Replace the exhausted block with the prefetched one, fetching it if needed
+		 */
+		private void advance(Block exhausted, AccessCallback callback) {
+			fetchLock.lock();
+			try {
+				if ( current == exhausted ) {
+					if ( prefetched != null ) {
+						current = prefetched;
+						prefetched = null;
+					}
+					else {
+						current = fetch( callback, exhausted == null );
+					}
+				}
+			}
+			finally {
+				fetchLock.unlock();
+			}
+		}
+
+		private Block fetch(AccessCallback callback, boolean first) {
+			final IntegralDataTypeHolder hiValue = callback.getNextValue();
+			lastSourceValue = hiValue;
+			final long hi = hiValue.makeValue().longValue();
+			if ( first ) {
+				// see PooledOptimizer
+				if ( hiValue.lt( 1 ) ) {
+					log.pooledOptimizerReportedInitialValue( hiValue );
+				}
+				// the call to obtain next-value just gave us the initialValue
+				if ( ( initialValue == -1 && hi < incrementSize ) || hi == initialValue ) {
+					return new Block( hi, hi, incrementSize );
+				}
+			}
+			return new Block( hi - incrementSize + 1, hi, incrementSize );
+		}
+	}
+}
@@ -116,6 +116,15 @@ public class FilterHelper {
 		}
 	}
 
+	/**
+	 * Whether the given value of a filter parameter is a list of values,
+	 * which is expanded to one JDBC parameter per element
+	 */
+	public static boolean isMultiValued(Object parameterValue, JdbcMapping jdbcMapping) {
+		return parameterValue instanceof Iterable
+				&& !jdbcMapping.getJavaTypeDescriptor().isInstance( parameterValue );
+	}
+
 	private static boolean isTableFromPersistentClass(Map<String, String> aliasTableMap) {
 		return aliasTableMap.size() == 1 && aliasTableMap.containsKey( null );
 	}
@@ -176,27 +185,38 @@ public class FilterHelper {
 						}
 
 						final StringBuilder paramMarkers = new StringBuilder( "?" );
-						if ( parameterValue instanceof Iterable
-								&& !jdbcMapping.getJavaTypeDescriptor().isInstance( parameterValue ) ) {
+						if ( isMultiValued( parameterValue, jdbcMapping ) ) {
 							final Iterator<?> iterator = ( (Iterable<?>) parameterValue ).iterator();
 							if ( iterator.hasNext() ) {
 								final Object element = iterator.next();
-								final FilterJdbcParameter jdbcParameter = new FilterJdbcParameter( jdbcMapping, element );
+								final FilterJdbcParameter jdbcParameter = new FilterJdbcParameter(
+										jdbcMapping,
+										element,
+										filterName,
+										parameterName,
+										0
+								);
 								filterPredicate.applyParameter( jdbcParameter );
 
-								while ( iterator.hasNext() ) {
+								for ( int index = 1; iterator.hasNext(); index++ ) {
 									paramMarkers.append( ",?" );
-									filterPredicate.applyParameter( new FilterJdbcParameter( jdbcMapping, iterator.next() ) );
+									filterPredicate.applyParameter(
+											new FilterJdbcParameter( jdbcMapping, iterator.next(), filterName, parameterName, index )
+									);
 								}
 							}
 							else {
 								// We need a dummy value if the list is empty
-								filterPredicate.applyParameter( new FilterJdbcParameter( jdbcMapping, null ) );
+								filterPredicate.applyParameter(
+										new FilterJdbcParameter( jdbcMapping, null, filterName, parameterName, 0 )
+								);
 							}
 						}
 						else {
 							final Object argument = filterDefinition.processArgument( parameterValue );
-							filterPredicate.applyParameter( new FilterJdbcParameter( jdbcMapping, argument) );
+							filterPredicate.applyParameter(
+									new FilterJdbcParameter( jdbcMapping, argument, filterName, parameterName, -1 )
+							);
 						}
 
 						final String marker = ":" + filterNames[ i ] + "." + parameterName;
@@ -6,8 +6,11 @@
  */
 package org.hibernate.internal;
 
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 
+import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.sql.ast.tree.expression.JdbcParameter;
 import org.hibernate.sql.exec.internal.JdbcParameterBindingImpl;
@@ -23,11 +26,32 @@ public class FilterJdbcParameter {
 	private final JdbcParameter parameter;
 	private final JdbcMapping jdbcMapping;
 	private final Object jdbcParameterValue;
+	private final String filterName;
+	private final String parameterName;
+	private final int valueIndex;
 
 	public FilterJdbcParameter(JdbcMapping jdbcMapping, Object jdbcParameterValue) {
+		this( jdbcMapping, jdbcParameterValue, null, null, -1 );
+	}
+
+	/**
+	 * Creates a parameter for the value of the given filter parameter, or for the
+	 * element at the given index of its value if the filter parameter is multi-valued
+	 *
+	 * @param valueIndex The index of the element, or {@code -1} for a single-valued filter parameter
+	 */
+	public FilterJdbcParameter(
+			JdbcMapping jdbcMapping,
+			Object jdbcParameterValue,
+			String filterName,
+			String parameterName,
+			int valueIndex) {
 		this.parameter = new JdbcParameterImpl( jdbcMapping );
 		this.jdbcMapping = jdbcMapping;
 		this.jdbcParameterValue = jdbcParameterValue;
+		this.filterName = filterName;
+		this.parameterName = parameterName;
+		this.valueIndex = valueIndex;
 	}
 
 	public JdbcParameter getParameter() {
@@ -42,6 +66,42 @@ public class FilterJdbcParameter {
 		return new JdbcParameterBindingImpl( jdbcMapping, jdbcMapping.convertToRelationalValue( jdbcParameterValue ) );
 	}
 
+	/**
+	 * The binding of the value the filter parameter currently has in the given influencers,
+	 * which allows to execute a cached translation with other filter parameter values.
+	 * Falls back to the value this parameter was created with.
+	 */
+	public JdbcParameterBinding getBinding(LoadQueryInfluencers loadQueryInfluencers) {
+		final FilterImpl filter = filterName == null
+				? null
+				: (FilterImpl) loadQueryInfluencers.getEnabledFilter( filterName );
+		if ( filter == null ) {
+			return getBinding();
+		}
+		final Object parameterValue = filter.getParameter( parameterName );
+		final Object value;
+		if ( valueIndex < 0 ) {
+			value = filter.getFilterDefinition().processArgument( parameterValue );
+		}
+		else {
+			value = element( (Iterable<?>) parameterValue, valueIndex );
+		}
+		return new JdbcParameterBindingImpl( jdbcMapping, jdbcMapping.convertToRelationalValue( value ) );
+	}
+
+	private static Object element(Iterable<?> values, int index) {
+		if ( values instanceof List<?> ) {
+			final List<?> list = (List<?>) values;
+			return index < list.size() ? list.get( index ) : null;
+		}
+		final Iterator<?> iterator = values.iterator();
+		for ( int i = 0; i < index && iterator.hasNext(); i++ ) {
+			iterator.next();
+		}
+		// an empty list is bound as a single null value
+		return iterator.hasNext() ? iterator.next() : null;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if ( this == o ) {
@@ -1842,6 +1842,12 @@ public class SessionImpl
 		persistenceContext.setReadOnly( entity, readOnly );
 	}
 
+	@Override
+	public void markTouched(Object entityOrProxy) {
+		checkOpen();
+		persistenceContext.markEntityTouched( entityOrProxy );
+	}
+
 	@Override
 	public CacheStoreMode getCacheStoreMode() {
 		return getCacheMode().getJpaStoreMode();
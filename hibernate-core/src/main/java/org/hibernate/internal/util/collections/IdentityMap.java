@@ -6,11 +6,8 @@
  */
 package org.hibernate.internal.util.collections;
 
-import java.io.Serializable;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiConsumer;
@@ -19,12 +16,15 @@ import java.util.function.Consumer;
 /**
  * A {@code Map} where keys are compared by object identity,
  * rather than {@code equals()}.
+ * <p>
+ * Backed by an identity {@link OpenAddressingMap}, so neither lookups
+ * nor insertions allocate a wrapper or node per key.
  */
 public final class IdentityMap<K,V> implements Map<K,V> {
 
-	private final LinkedHashMap<IdentityKey<K>,V> map;
+	private final OpenAddressingMap<K,V> map;
 
-	private transient Entry<IdentityKey<K>,V>[] entryArray = null;
+	private transient Entry<K,V>[] entryArray = null;
 
 	/**
 	 * Return a new instance of this class, with iteration
@@ -34,7 +34,7 @@ public final class IdentityMap<K,V> implements Map<K,V> {
 	 * @return The map
 	 */
 	public static <K,V> IdentityMap<K,V> instantiateSequenced(int size) {
-		return new IdentityMap<>( new LinkedHashMap<>( size << 1, 0.6f ) );
+		return new IdentityMap<>( OpenAddressingMap.identity( size ) );
 	}
 
 	/**
@@ -42,7 +42,7 @@ public final class IdentityMap<K,V> implements Map<K,V> {
 	 *
 	 * @param underlyingMap The delegate map.
 	 */
-	private IdentityMap(LinkedHashMap<IdentityKey<K>,V> underlyingMap) {
+	private IdentityMap(OpenAddressingMap<K,V> underlyingMap) {
 		map = underlyingMap;
 	}
 
@@ -60,7 +60,7 @@ public final class IdentityMap<K,V> implements Map<K,V> {
 
 	public static <K,V> void onEachKey(Map<K,V> map, Consumer<K> consumer) {
 		final IdentityMap<K, V> identityMap = (IdentityMap<K, V>) map;
-		identityMap.map.forEach( (kIdentityKey, v) -> consumer.accept( kIdentityKey.key ) );
+		identityMap.map.forEach( (k, v) -> consumer.accept( k ) );
 	}
 
 	/**
@@ -69,7 +69,7 @@ public final class IdentityMap<K,V> implements Map<K,V> {
 	 */
 	@Override
 	public void forEach(BiConsumer<? super K, ? super V> action) {
-		map.forEach( (k,v) -> action.accept( k.key, v ) );
+		map.forEach( action );
 	}
 
 	public Iterator<K> keyIterator() {
@@ -87,9 +87,8 @@ public final class IdentityMap<K,V> implements Map<K,V> {
 	}
 
 	@Override
-	@SuppressWarnings("unchecked")
 	public boolean containsKey(Object key) {
-		return map.containsKey( new IdentityKey( key ) );
+		return map.containsKey( key );
 	}
 
 	@Override
@@ -99,22 +98,20 @@ public final class IdentityMap<K,V> implements Map<K,V> {
 	}
 
 	@Override
-	@SuppressWarnings( {"unchecked"})
 	public V get(Object key) {
-		return map.get( new IdentityKey( key ) );
+		return map.get( key );
 	}
 
 	@Override
 	public V put(K key, V value) {
 		this.entryArray = null;
-		return map.put( new IdentityKey<>( key ), value );
+		return map.put( key, value );
 	}
 
 	@Override
-	@SuppressWarnings( {"unchecked"})
 	public V remove(Object key) {
 		this.entryArray = null;
-		return map.remove( new IdentityKey( key ) );
+		return map.remove( key );
 	}
 
 	@Override
@@ -145,22 +142,19 @@ public final class IdentityMap<K,V> implements Map<K,V> {
 	@Override
 	public Set<Entry<K,V>> entrySet() {
 		Set<Entry<K,V>> set = CollectionHelper.setOfSize( map.size() );
-		for ( Entry<IdentityKey<K>, V> entry : map.entrySet() ) {
-			set.add( new IdentityMapEntry<>( entry.getKey().key, entry.getValue() ) );
-		}
+		map.forEach( (k, v) -> set.add( new IdentityMapEntry<>( k, v ) ) );
 		return set;
 	}
 
 	@SuppressWarnings( {"unchecked"})
 	public Entry[] entryArray() {
 		if ( entryArray == null ) {
-			entryArray = new Entry[ map.size() ];
-			final Iterator<Entry<IdentityKey<K>, V>> itr = map.entrySet().iterator();
+			final Entry<K,V>[] entries = new Entry[ map.size() ];
 			int i = 0;
-			while ( itr.hasNext() ) {
-				final Entry<IdentityKey<K>, V> me = itr.next();
-				entryArray[i++] = new IdentityMapEntry( me.getKey().key, me.getValue() );
+			for ( Entry<K,V> me : map.entrySet() ) {
+				entries[i++] = new IdentityMapEntry<>( me.getKey(), me.getValue() );
 			}
+			entryArray = entries;
 		}
 		return entryArray;
 	}
@@ -171,18 +165,18 @@ public final class IdentityMap<K,V> implements Map<K,V> {
 	}
 
 	private static final class KeyIterator<K> implements Iterator<K> {
-		private final Iterator<IdentityKey<K>> identityKeyIterator;
+		private final Iterator<K> keyIterator;
 
-		private KeyIterator(Iterator<IdentityKey<K>> iterator) {
-			identityKeyIterator = iterator;
+		private KeyIterator(Iterator<K> iterator) {
+			keyIterator = iterator;
 		}
 
 		public boolean hasNext() {
-			return identityKeyIterator.hasNext();
+			return keyIterator.hasNext();
 		}
 
 		public K next() {
-			return identityKeyIterator.next().key;
+			return keyIterator.next();
 		}
 
 		public void remove() {
@@ -214,33 +208,4 @@ public final class IdentityMap<K,V> implements Map<K,V> {
 		}
 	}
 
-	/**
-	 * We need to base the identity on {@link System#identityHashCode(Object)}
-	 */
-	private static final class IdentityKey<K> implements Serializable {
-
-		private final K key;
-
-		IdentityKey(K key) {
-			this.key = key;
-		}
-
-		@SuppressWarnings( {"EqualsWhichDoesntCheckParameterClass"})
-		@Override
-		public boolean equals(Object other) {
-			return other != null && key == ( (IdentityKey) other ).key;
-		}
-
-		@Override
-		public int hashCode() {
-			return System.identityHashCode( key );
-		}
-
-		@Override
-		public String toString() {
-			return key.toString();
-		}
-
-	}
-
 }
@@ -0,0 +1,632 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.hibernate.internal.util.MathHelper;
+
+/**
+ * A {@code Map} implementation which does not allocate a node per entry.
+ * <p>
+ * Entries are kept in parallel, densely packed key / value / hash arrays in insertion
+ * order, while lookups go through an open-addressing (linear probing) table of {@code int}
+ * positions into those arrays.  Removal clears the dense slot and compacts the probe
+ * sequence by backward shifting, so no tombstones are left in the index; the holes in the
+ * dense arrays are reclaimed on the next resize.
+ * <p>
+ * Compared to {@link java.util.HashMap} this saves the 32+ bytes of the {@code Node}
+ * allocated for every entry, which matters for the maps of the persistence context that
+ * grow with the number of managed entities.  Iteration order is insertion order, as for a
+ * {@link java.util.LinkedHashMap}.
+ * <p>
+ * Keys are either compared by {@code equals()} or, for instances obtained through
+ * {@link #identity(int)}, by identity.  {@code null} keys and values are supported.
+ * Like the JDK maps, this class is not thread-safe and its iterators are fail-fast.
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ */
+public final class OpenAddressingMap<K,V> extends AbstractMap<K,V> {
+
+	private static final int MINIMUM_CAPACITY = 4;
+
+	/**
+	 * Substitutes a {@code null} key in the dense key array, where {@code null} marks a hole
+	 */
+	private static final Object NULL_KEY = new Object();
+
+	private final boolean identity;
+
+	/**
+	 * Dense arrays, indexed by "position"; a {@code null} key marks a removed entry
+	 */
+	private Object[] keys;
+	private Object[] values;
+	private int[] hashes;
+
+	/**
+	 * The probe table, its length is a power of two and twice the dense capacity.
+	 * Each slot contains {@code position + 1} or {@code 0} when free.
+	 */
+	private int[] index;
+
+	/**
+	 * The first unused position in the dense arrays
+	 */
+	private int end;
+	private int size;
+	private int modCount;
+
+	private transient KeySet keySet;
+	private transient Values valuesView;
+	private transient EntrySet entrySet;
+
+	/**
+	 * Creates a map comparing keys by {@code equals()}, sized to hold
+	 * {@code expectedSize} entries without resizing.
+	 */
+	public OpenAddressingMap(int expectedSize) {
+		this( expectedSize, false );
+	}
+
+	public OpenAddressingMap() {
+		this( MINIMUM_CAPACITY, false );
+	}
+
+	private OpenAddressingMap(int expectedSize, boolean identity) {
+		this.identity = identity;
+		allocate( capacityFor( expectedSize ) );
+	}
+
+	/**
+	 * Creates a map comparing keys by identity, the node-free equivalent of
+	 * an insertion ordered {@link java.util.IdentityHashMap}.
+	 */
+	public static <K,V> OpenAddressingMap<K,V> identity(int expectedSize) {
+		return new OpenAddressingMap<>( expectedSize, true );
+	}
+
+	private static int capacityFor(int expectedSize) {
+		return MathHelper.ceilingPowerOfTwo( Math.max( expectedSize, MINIMUM_CAPACITY ) );
+	}
+
+	private void allocate(int capacity) {
+		keys = new Object[capacity];
+		values = new Object[capacity];
+		hashes = new int[capacity];
+		index = new int[capacity << 1];
+		end = 0;
+	}
+
+	private int hash(Object maskedKey) {
+		return spread(
+				identity || maskedKey == NULL_KEY
+						? System.identityHashCode( maskedKey )
+						: maskedKey.hashCode()
+		);
+	}
+
+	private static int spread(int hashCode) {
+		// spread the bits, since we only use the low ones for addressing
+		final int spread = hashCode * 0x9E3779B9;
+		return spread ^ ( spread >>> 16 );
+	}
+
+	private boolean matches(Object storedKey, Object maskedKey) {
+		return storedKey == maskedKey || !identity && storedKey != null && storedKey.equals( maskedKey );
+	}
+
+	private static Object mask(Object key) {
+		return key == null ? NULL_KEY : key;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <K> K unmask(Object key) {
+		return key == NULL_KEY ? null : (K) key;
+	}
+
+	/**
+	 * @return the index slot of the given key, or {@code -1}
+	 */
+	private int findSlot(Object maskedKey, int hash) {
+		final int[] index = this.index;
+		final int mask = index.length - 1;
+		int slot = hash & mask;
+		while ( true ) {
+			final int entry = index[slot];
+			if ( entry == 0 ) {
+				return -1;
+			}
+			final int position = entry - 1;
+			if ( hashes[position] == hash && matches( keys[position], maskedKey ) ) {
+				return slot;
+			}
+			slot = ( slot + 1 ) & mask;
+		}
+	}
+
+	/**
+	 * @return the dense position of the given key, or {@code -1}
+	 */
+	private int findPosition(Object key) {
+		final Object maskedKey = mask( key );
+		final int slot = findSlot( maskedKey, hash( maskedKey ) );
+		return slot < 0 ? -1 : index[slot] - 1;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return findPosition( key ) >= 0;
+	}
+
+	@Override
+	public boolean containsValue(Object value) {
+		for ( int i = 0; i < end; i++ ) {
+			if ( keys[i] != null && Objects.equals( values[i], value ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V get(Object key) {
+		final int position = findPosition( key );
+		return position < 0 ? null : (V) values[position];
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V getOrDefault(Object key, V defaultValue) {
+		final int position = findPosition( key );
+		return position < 0 ? defaultValue : (V) values[position];
+	}
+
+	/**
+	 * Look up the value of the key which {@linkplain KeyMatcher matches} the given
+	 * components, without the need to instantiate a key object just to probe the map.
+	 * Only supported by maps comparing keys by {@code equals()}.
+	 *
+	 * @param keyHashCode The {@link Object#hashCode()} the matching key would report
+	 * @param first The first component passed to the matcher
+	 * @param second The second component passed to the matcher
+	 * @param matcher Decides whether a stored key corresponds to the components
+	 */
+	public <A,B> V get(int keyHashCode, A first, B second, KeyMatcher<? super K,A,B> matcher) {
+		final int position = findPosition( keyHashCode, first, second, matcher );
+		//noinspection unchecked
+		return position < 0 ? null : (V) values[position];
+	}
+
+	/**
+	 * Whether the map contains a key which {@linkplain KeyMatcher matches} the given components.
+	 *
+	 * @see #get(int, Object, Object, KeyMatcher)
+	 */
+	public <A,B> boolean containsKey(int keyHashCode, A first, B second, KeyMatcher<? super K,A,B> matcher) {
+		return findPosition( keyHashCode, first, second, matcher ) >= 0;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <A,B> int findPosition(int keyHashCode, A first, B second, KeyMatcher<? super K,A,B> matcher) {
+		assert !identity : "Probing by components is not supported by identity maps";
+		final int hash = spread( keyHashCode );
+		final int[] index = this.index;
+		final int mask = index.length - 1;
+		int slot = hash & mask;
+		while ( true ) {
+			final int entry = index[slot];
+			if ( entry == 0 ) {
+				return -1;
+			}
+			final int position = entry - 1;
+			final Object storedKey = keys[position];
+			if ( hashes[position] == hash && storedKey != NULL_KEY && matcher.matches( (K) storedKey, first, second ) ) {
+				return position;
+			}
+			slot = ( slot + 1 ) & mask;
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V put(K key, V value) {
+		final Object maskedKey = mask( key );
+		final int hash = hash( maskedKey );
+		final int slot = findSlot( maskedKey, hash );
+		if ( slot >= 0 ) {
+			final int position = index[slot] - 1;
+			final V previous = (V) values[position];
+			values[position] = value;
+			return previous;
+		}
+
+		if ( end == keys.length ) {
+			// compact in place if at least half of the dense arrays are holes, otherwise grow
+			rehash( size <= keys.length >> 1 ? keys.length : keys.length << 1 );
+		}
+		final int position = end++;
+		keys[position] = maskedKey;
+		values[position] = value;
+		hashes[position] = hash;
+		insertIntoIndex( hash, position );
+		size++;
+		modCount++;
+		return null;
+	}
+
+	private void insertIntoIndex(int hash, int position) {
+		final int mask = index.length - 1;
+		int slot = hash & mask;
+		while ( index[slot] != 0 ) {
+			slot = ( slot + 1 ) & mask;
+		}
+		index[slot] = position + 1;
+	}
+
+	private void rehash(int newCapacity) {
+		final Object[] oldKeys = keys;
+		final Object[] oldValues = values;
+		final int[] oldHashes = hashes;
+		final int oldEnd = end;
+		allocate( newCapacity );
+		int position = 0;
+		for ( int i = 0; i < oldEnd; i++ ) {
+			if ( oldKeys[i] != null ) {
+				keys[position] = oldKeys[i];
+				values[position] = oldValues[i];
+				hashes[position] = oldHashes[i];
+				insertIntoIndex( oldHashes[i], position );
+				position++;
+			}
+		}
+		end = position;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V remove(Object key) {
+		final Object maskedKey = mask( key );
+		final int slot = findSlot( maskedKey, hash( maskedKey ) );
+		if ( slot < 0 ) {
+			return null;
+		}
+		final int position = index[slot] - 1;
+		final V previous = (V) values[position];
+		removeAt( slot, position );
+		return previous;
+	}
+
+	private void removeAt(int slot, int position) {
+		keys[position] = null;
+		values[position] = null;
+		size--;
+		modCount++;
+		if ( position == end - 1 ) {
+			end--;
+		}
+
+		// backward shift deletion: move later entries of the same probe
+		// sequence into the freed slot so that lookups never see a gap
+		final int[] index = this.index;
+		final int mask = index.length - 1;
+		int free = slot;
+		int next = slot;
+		while ( true ) {
+			next = ( next + 1 ) & mask;
+			final int entry = index[next];
+			if ( entry == 0 ) {
+				break;
+			}
+			final int home = hashes[entry - 1] & mask;
+			// the entry may move to the free slot unless its home lies cyclically in (free, next]
+			final boolean movable = next > free
+					? home <= free || home > next
+					: home <= free && home > next;
+			if ( movable ) {
+				index[free] = entry;
+				free = next;
+			}
+		}
+		index[free] = 0;
+	}
+
+	private void removePosition(int position) {
+		final int mask = index.length - 1;
+		int slot = hashes[position] & mask;
+		while ( index[slot] != position + 1 ) {
+			slot = ( slot + 1 ) & mask;
+		}
+		removeAt( slot, position );
+	}
+
+	@Override
+	public void clear() {
+		if ( size > 0 || end > 0 ) {
+			Arrays.fill( keys, 0, end, null );
+			Arrays.fill( values, 0, end, null );
+			Arrays.fill( index, 0 );
+			end = 0;
+			size = 0;
+			modCount++;
+		}
+	}
+
+	@Override
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		final int expectedModCount = modCount;
+		for ( int i = 0; i < end; i++ ) {
+			final Object key = keys[i];
+			if ( key != null ) {
+				//noinspection unchecked
+				action.accept( unmask( key ), (V) values[i] );
+			}
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+		}
+	}
+
+	@Override
+	public Set<K> keySet() {
+		if ( keySet == null ) {
+			keySet = new KeySet();
+		}
+		return keySet;
+	}
+
+	@Override
+	public Collection<V> values() {
+		if ( valuesView == null ) {
+			valuesView = new Values();
+		}
+		return valuesView;
+	}
+
+	@Override
+	public Set<Map.Entry<K,V>> entrySet() {
+		if ( entrySet == null ) {
+			entrySet = new EntrySet();
+		}
+		return entrySet;
+	}
+
+	/**
+	 * Decides whether a key stored in the map corresponds to a lookup expressed by
+	 * two components, e.g. the persister and the identifier of an entity key.
+	 * Implementations should be stateless (non-capturing) so that no allocation
+	 * happens per lookup.
+	 */
+	@FunctionalInterface
+	public interface KeyMatcher<K,A,B> {
+		boolean matches(K storedKey, A first, B second);
+	}
+
+	private abstract class DenseIterator<T> implements Iterator<T> {
+		private int next;
+		private int current = -1;
+		private int expectedModCount = modCount;
+
+		DenseIterator() {
+			advance();
+		}
+
+		private void advance() {
+			while ( next < end && keys[next] == null ) {
+				next++;
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next < end;
+		}
+
+		int nextPosition() {
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( next >= end ) {
+				throw new NoSuchElementException();
+			}
+			current = next++;
+			advance();
+			return current;
+		}
+
+		@Override
+		public void remove() {
+			if ( current < 0 ) {
+				throw new IllegalStateException();
+			}
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			removePosition( current );
+			current = -1;
+			expectedModCount = modCount;
+		}
+	}
+
+	private final class KeySet extends AbstractSet<K> {
+		@Override
+		public Iterator<K> iterator() {
+			return new DenseIterator<>() {
+				@Override
+				public K next() {
+					return unmask( keys[nextPosition()] );
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			return containsKey( o );
+		}
+
+		@Override
+		public boolean remove(Object o) {
+			final int position = findPosition( o );
+			if ( position < 0 ) {
+				return false;
+			}
+			removePosition( position );
+			return true;
+		}
+
+		@Override
+		public void clear() {
+			OpenAddressingMap.this.clear();
+		}
+	}
+
+	private final class Values extends AbstractCollection<V> {
+		@Override
+		public Iterator<V> iterator() {
+			return new DenseIterator<>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				public V next() {
+					return (V) values[nextPosition()];
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			return containsValue( o );
+		}
+
+		@Override
+		public void clear() {
+			OpenAddressingMap.this.clear();
+		}
+	}
+
+	private final class EntrySet extends AbstractSet<Map.Entry<K,V>> {
+		@Override
+		public Iterator<Map.Entry<K,V>> iterator() {
+			return new DenseIterator<>() {
+				@Override
+				public Map.Entry<K,V> next() {
+					return new PositionEntry( nextPosition() );
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			if ( !( o instanceof Map.Entry ) ) {
+				return false;
+			}
+			final Map.Entry<?,?> entry = (Map.Entry<?,?>) o;
+			final int position = findPosition( entry.getKey() );
+			return position >= 0 && Objects.equals( values[position], entry.getValue() );
+		}
+
+		@Override
+		public boolean remove(Object o) {
+			if ( !contains( o ) ) {
+				return false;
+			}
+			removePosition( findPosition( ( (Map.Entry<?,?>) o ).getKey() ) );
+			return true;
+		}
+
+		@Override
+		public void clear() {
+			OpenAddressingMap.this.clear();
+		}
+	}
+
+	/**
+	 * An entry view over a dense position, only valid until the map is next structurally modified
+	 */
+	private final class PositionEntry implements Map.Entry<K,V> {
+		private final int position;
+
+		private PositionEntry(int position) {
+			this.position = position;
+		}
+
+		@Override
+		public K getKey() {
+			return unmask( keys[position] );
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public V getValue() {
+			return (V) values[position];
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public V setValue(V value) {
+			final V previous = (V) values[position];
+			values[position] = value;
+			return previous;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( !( o instanceof Map.Entry ) ) {
+				return false;
+			}
+			final Map.Entry<?,?> that = (Map.Entry<?,?>) o;
+			return Objects.equals( getKey(), that.getKey() ) && Objects.equals( getValue(), that.getValue() );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hashCode( getKey() ) ^ Objects.hashCode( getValue() );
+		}
+
+		@Override
+		public String toString() {
+			return getKey() + "=" + getValue();
+		}
+	}
+}
@@ -0,0 +1,576 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A concurrent cache bounded by the total weight of its entries, evicting
+ * entries according to the W-TinyLFU policy.
+ * <p>
+ * New entries are admitted to a small LRU <em>window</em>.  Entries leaving
+ * the window compete with the least recently used entry of the main space for
+ * a place in the cache, the one which was accessed least frequently being
+ * evicted.  The frequencies are approximated by a count-min sketch which is
+ * periodically halved, so that the cache adapts to changes of the workload.
+ * The main space is a segmented LRU, entries accessed while on
+ * <em>probation</em> being promoted to the <em>protected</em> segment.
+ * <p>
+ * Reads never block: they are recorded in a lossy buffer which is drained
+ * under the eviction lock, either by a read finding it half full or by the
+ * next write.  Writes update the underlying map, then apply the policy under
+ * the eviction lock.
+ * <p>
+ * Entries may optionally expire a fixed time after they were written.  Expired
+ * entries are dropped when read, or evicted as any other entry when the cache
+ * is full.
+ *
+ * @param <K> The type of the keys
+ * @param <V> The type of the values
+ */
+public class TinyLfuCache<K, V> {
+	/**
+	 * Computes the weight of a cache entry, for example its approximate size
+	 * in bytes.
+	 */
+	@FunctionalInterface
+	public interface Weigher<K, V> {
+		long weigh(K key, V value);
+	}
+
+	private static final int READ_BUFFER_SIZE = 128;
+	private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+	private static final int READ_BUFFER_DRAIN_THRESHOLD = READ_BUFFER_SIZE / 2;
+
+	private static final int WINDOW = 0;
+	private static final int PROBATION = 1;
+	private static final int PROTECTED = 2;
+
+	private final ConcurrentHashMap<K, Node<K, V>> data = new ConcurrentHashMap<>();
+	private final Weigher<? super K, ? super V> weigher;
+	private final long maximumWeight;
+	private final long windowMaximum;
+	private final long protectedMaximum;
+	private final long expireAfterWriteNanos;
+
+	private final ReentrantLock evictionLock = new ReentrantLock();
+	private final AccessOrderDeque<K, V> window = new AccessOrderDeque<>();
+	private final AccessOrderDeque<K, V> probation = new AccessOrderDeque<>();
+	private final AccessOrderDeque<K, V> protectedSegment = new AccessOrderDeque<>();
+	private final FrequencySketch sketch = new FrequencySketch();
+	private long windowWeight;
+	private long protectedWeight;
+	private volatile long weightedSize;
+
+	private final AtomicReferenceArray<Node<K, V>> readBuffer = new AtomicReferenceArray<>( READ_BUFFER_SIZE );
+	private final AtomicLong readBufferWriteCount = new AtomicLong();
+	private volatile long readBufferReadCount;
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+
+	/**
+	 * Constructs a cache whose entries do not expire.
+	 *
+	 * @param maximumWeight The maximum total weight of the entries
+	 * @param weigher Computes the weight of each entry
+	 */
+	public TinyLfuCache(long maximumWeight, Weigher<? super K, ? super V> weigher) {
+		this( maximumWeight, 0, TimeUnit.NANOSECONDS, weigher );
+	}
+
+	/**
+	 * Constructs a cache.
+	 *
+	 * @param maximumWeight The maximum total weight of the entries
+	 * @param expireAfterWrite The time after which entries expire, or {@code 0} if they never do
+	 * @param unit The unit of {@code expireAfterWrite}
+	 * @param weigher Computes the weight of each entry
+	 */
+	public TinyLfuCache(
+			long maximumWeight,
+			long expireAfterWrite,
+			TimeUnit unit,
+			Weigher<? super K, ? super V> weigher) {
+		if ( maximumWeight < 0 ) {
+			throw new IllegalArgumentException( "maximum weight cannot be negative" );
+		}
+		if ( expireAfterWrite < 0 ) {
+			throw new IllegalArgumentException( "expiration time cannot be negative" );
+		}
+		this.maximumWeight = maximumWeight;
+		this.windowMaximum = Math.max( 1, maximumWeight / 100 );
+		this.protectedMaximum = ( maximumWeight - windowMaximum ) / 5 * 4;
+		this.expireAfterWriteNanos = unit.toNanos( expireAfterWrite );
+		this.weigher = weigher;
+	}
+
+	public V get(K key) {
+		final Node<K, V> node = data.get( key );
+		if ( node == null ) {
+			missCount.increment();
+			return null;
+		}
+		if ( isExpired( node ) ) {
+			removeNode( node );
+			missCount.increment();
+			return null;
+		}
+		hitCount.increment();
+		afterRead( node );
+		return node.value;
+	}
+
+	public boolean containsKey(K key) {
+		final Node<K, V> node = data.get( key );
+		return node != null && !isExpired( node );
+	}
+
+	public void put(K key, V value) {
+		final Node<K, V> node = new Node<>(
+				key,
+				value,
+				Math.max( 0, weigher.weigh( key, value ) ),
+				expireAfterWriteNanos > 0 ? System.nanoTime() : 0
+		);
+		final Node<K, V> previous = data.put( key, node );
+		evictionLock.lock();
+		try {
+			if ( previous != null ) {
+				unlink( previous );
+				onRemoval( previous.key, previous.value );
+			}
+			// a concurrent write may already have replaced or removed the node
+			if ( data.get( key ) == node ) {
+				link( node );
+			}
+			drainReadBuffer();
+			evictEntries();
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	public V remove(K key) {
+		final Node<K, V> node = data.remove( key );
+		if ( node == null ) {
+			return null;
+		}
+		evictionLock.lock();
+		try {
+			unlink( node );
+		}
+		finally {
+			evictionLock.unlock();
+		}
+		onRemoval( node.key, node.value );
+		return node.value;
+	}
+
+	public void clear() {
+		evictionLock.lock();
+		try {
+			for ( Node<K, V> node : data.values() ) {
+				if ( data.remove( node.key, node ) ) {
+					onRemoval( node.key, node.value );
+				}
+			}
+			window.clear();
+			probation.clear();
+			protectedSegment.clear();
+			windowWeight = 0;
+			protectedWeight = 0;
+			weightedSize = 0;
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	/**
+	 * The number of entries, including entries which expired but were not dropped yet
+	 */
+	public long size() {
+		return data.size();
+	}
+
+	/**
+	 * The total weight of the entries
+	 */
+	public long weightedSize() {
+		return weightedSize;
+	}
+
+	public long getMaximumWeight() {
+		return maximumWeight;
+	}
+
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	/**
+	 * Called exactly once for each entry leaving the cache, whether it was
+	 * replaced, removed, cleared, expired or evicted.  Might be called while
+	 * holding the lock used for eviction, so must not access the cache.
+	 */
+	protected void onRemoval(K key, V value) {
+	}
+
+	private boolean isExpired(Node<K, V> node) {
+		return expireAfterWriteNanos > 0 && System.nanoTime() - node.writeTime >= expireAfterWriteNanos;
+	}
+
+	private void removeNode(Node<K, V> node) {
+		if ( data.remove( node.key, node ) ) {
+			evictionLock.lock();
+			try {
+				unlink( node );
+			}
+			finally {
+				evictionLock.unlock();
+			}
+			onRemoval( node.key, node.value );
+		}
+	}
+
+	private void afterRead(Node<K, V> node) {
+		final long writeCount = readBufferWriteCount.get();
+		final long pending = writeCount - readBufferReadCount;
+		if ( pending < READ_BUFFER_SIZE && readBufferWriteCount.compareAndSet( writeCount, writeCount + 1 ) ) {
+			readBuffer.lazySet( (int) writeCount & READ_BUFFER_MASK, node );
+		}
+		// otherwise the read is dropped, it is only a hint for the policy
+		if ( pending >= READ_BUFFER_DRAIN_THRESHOLD && evictionLock.tryLock() ) {
+			try {
+				drainReadBuffer();
+			}
+			finally {
+				evictionLock.unlock();
+			}
+		}
+	}
+
+	private void drainReadBuffer() {
+		final long writeCount = readBufferWriteCount.get();
+		long readCount = readBufferReadCount;
+		for ( ; readCount < writeCount; readCount++ ) {
+			final int index = (int) readCount & READ_BUFFER_MASK;
+			final Node<K, V> node = readBuffer.get( index );
+			if ( node == null ) {
+				// the read was counted, but not published yet
+				break;
+			}
+			readBuffer.lazySet( index, null );
+			onAccess( node );
+		}
+		readBufferReadCount = readCount;
+	}
+
+	private void onAccess(Node<K, V> node) {
+		if ( !node.linked ) {
+			return;
+		}
+		sketch.increment( node.key );
+		switch ( node.queue ) {
+			case WINDOW:
+				window.moveToBack( node );
+				break;
+			case PROBATION:
+				probation.remove( node );
+				node.queue = PROTECTED;
+				protectedSegment.add( node );
+				protectedWeight += node.weight;
+				demoteFromProtected();
+				break;
+			default:
+				protectedSegment.moveToBack( node );
+		}
+	}
+
+	private void demoteFromProtected() {
+		while ( protectedWeight > protectedMaximum ) {
+			final Node<K, V> demoted = protectedSegment.poll();
+			if ( demoted == null ) {
+				return;
+			}
+			protectedWeight -= demoted.weight;
+			demoted.queue = PROBATION;
+			probation.add( demoted );
+		}
+	}
+
+	private void link(Node<K, V> node) {
+		sketch.ensureCapacity( data.size() );
+		sketch.increment( node.key );
+		node.queue = WINDOW;
+		node.linked = true;
+		window.add( node );
+		windowWeight += node.weight;
+		weightedSize += node.weight;
+	}
+
+	private void unlink(Node<K, V> node) {
+		if ( !node.linked ) {
+			return;
+		}
+		node.linked = false;
+		switch ( node.queue ) {
+			case WINDOW:
+				window.remove( node );
+				windowWeight -= node.weight;
+				break;
+			case PROBATION:
+				probation.remove( node );
+				break;
+			default:
+				protectedSegment.remove( node );
+				protectedWeight -= node.weight;
+		}
+		weightedSize -= node.weight;
+	}
+
+	private void evictEntries() {
+		// the entries leaving the window become candidates for the main space
+		Node<K, V> candidate = null;
+		while ( windowWeight > windowMaximum ) {
+			final Node<K, V> node = window.poll();
+			windowWeight -= node.weight;
+			node.queue = PROBATION;
+			probation.add( node );
+			if ( candidate == null ) {
+				candidate = node;
+			}
+		}
+
+		while ( weightedSize > maximumWeight ) {
+			final Node<K, V> victim = probation.peek();
+			if ( candidate != null && victim != null && victim != candidate ) {
+				if ( sketch.frequency( candidate.key ) > sketch.frequency( victim.key ) ) {
+					evict( victim );
+				}
+				else {
+					final Node<K, V> next = candidate.next;
+					evict( candidate );
+					candidate = next;
+				}
+			}
+			else {
+				Node<K, V> oldest = victim;
+				if ( oldest == null ) {
+					oldest = protectedSegment.peek();
+				}
+				if ( oldest == null ) {
+					oldest = window.peek();
+				}
+				if ( oldest == null ) {
+					return;
+				}
+				if ( oldest == candidate ) {
+					candidate = candidate.next;
+				}
+				evict( oldest );
+			}
+		}
+	}
+
+	private void evict(Node<K, V> node) {
+		unlink( node );
+		if ( data.remove( node.key, node ) ) {
+			onRemoval( node.key, node.value );
+		}
+		evictionCount.increment();
+	}
+
+	private static final class Node<K, V> {
+		private final K key;
+		private final V value;
+		private final long weight;
+		private final long writeTime;
+
+		// guarded by the eviction lock
+		private Node<K, V> previous;
+		private Node<K, V> next;
+		private int queue;
+		private boolean linked;
+
+		private Node(K key, V value, long weight, long writeTime) {
+			this.key = key;
+			this.value = value;
+			this.weight = weight;
+			this.writeTime = writeTime;
+		}
+	}
+
+	/**
+	 * A doubly linked list of the nodes, ordered from the least to the most recently used
+	 */
+	private static final class AccessOrderDeque<K, V> {
+		private Node<K, V> first;
+		private Node<K, V> last;
+
+		private Node<K, V> peek() {
+			return first;
+		}
+
+		private Node<K, V> poll() {
+			final Node<K, V> node = first;
+			if ( node != null ) {
+				remove( node );
+			}
+			return node;
+		}
+
+		private void add(Node<K, V> node) {
+			node.previous = last;
+			node.next = null;
+			if ( last == null ) {
+				first = node;
+			}
+			else {
+				last.next = node;
+			}
+			last = node;
+		}
+
+		private void remove(Node<K, V> node) {
+			if ( node.previous == null ) {
+				first = node.next;
+			}
+			else {
+				node.previous.next = node.next;
+			}
+			if ( node.next == null ) {
+				last = node.previous;
+			}
+			else {
+				node.next.previous = node.previous;
+			}
+			node.previous = null;
+			node.next = null;
+		}
+
+		private void moveToBack(Node<K, V> node) {
+			if ( node != last ) {
+				remove( node );
+				add( node );
+			}
+		}
+
+		private void clear() {
+			Node<K, V> node = first;
+			while ( node != null ) {
+				final Node<K, V> next = node.next;
+				node.linked = false;
+				node.previous = null;
+				node.next = null;
+				node = next;
+			}
+			first = null;
+			last = null;
+		}
+	}
+
+	/**
+	 * A count-min sketch of the access frequencies, with four 4-bit counters
+	 * per key, halved each time the number of increments reaches ten times the
+	 * capacity.  Guarded by the eviction lock.
+	 */
+	private static final class FrequencySketch {
+		private static final long[] SEEDS = {
+				0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+		};
+		private static final long RESET_MASK = 0x7777777777777777L;
+		private static final long ONE_MASK = 0x1111111111111111L;
+
+		private long[] table;
+		private int tableMask;
+		private int sampleSize;
+		private int size;
+
+		private void ensureCapacity(long capacity) {
+			final int maximum = (int) Math.min( Math.max( capacity, 16 ), 1 << 30 );
+			if ( table != null && table.length >= maximum ) {
+				return;
+			}
+			table = new long[ Integer.highestOneBit( maximum - 1 ) << 1 ];
+			tableMask = table.length - 1;
+			sampleSize = (int) Math.min( 10L * maximum, Integer.MAX_VALUE );
+			size = 0;
+		}
+
+		private int frequency(Object key) {
+			final int hash = spread( key.hashCode() );
+			final int start = ( hash & 3 ) << 2;
+			int frequency = Integer.MAX_VALUE;
+			for ( int i = 0; i < 4; i++ ) {
+				final int index = indexOf( hash, i );
+				final int count = (int) ( ( table[index] >>> ( ( start + i ) << 2 ) ) & 0xfL );
+				frequency = Math.min( frequency, count );
+			}
+			return frequency;
+		}
+
+		private void increment(Object key) {
+			final int hash = spread( key.hashCode() );
+			final int start = ( hash & 3 ) << 2;
+			boolean added = false;
+			for ( int i = 0; i < 4; i++ ) {
+				added |= incrementAt( indexOf( hash, i ), start + i );
+			}
+			if ( added && ++size == sampleSize ) {
+				reset();
+			}
+		}
+
+		private boolean incrementAt(int index, int counter) {
+			final int offset = counter << 2;
+			final long mask = 0xfL << offset;
+			if ( ( table[index] & mask ) != mask ) {
+				table[index] += 1L << offset;
+				return true;
+			}
+			return false;
+		}
+
+		private void reset() {
+			int count = 0;
+			for ( int i = 0; i < table.length; i++ ) {
+				count += Long.bitCount( table[i] & ONE_MASK );
+				table[i] = ( table[i] >>> 1 ) & RESET_MASK;
+			}
+			size = ( size >>> 1 ) - ( count >>> 2 );
+		}
+
+		private int indexOf(int hash, int i) {
+			long result = ( hash + SEEDS[i] ) * SEEDS[i];
+			result += result >>> 32;
+			return ( (int) result ) & tableMask;
+		}
+
+		private static int spread(int hash) {
+			int x = ( ( hash >>> 16 ) ^ hash ) * 0x45d9f3b;
+			x = ( ( x >>> 16 ) ^ x ) * 0x45d9f3b;
+			return ( x >>> 16 ) ^ x;
+		}
+	}
+}
@@ -22,6 +22,7 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.loader.ast.spi.CollectionLoader;
+import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryParameterBindings;
@@ -29,7 +30,10 @@ import org.hibernate.sql.ast.Clause;
 import org.hibernate.sql.ast.SqlAstTranslatorFactory;
 import org.hibernate.sql.ast.tree.expression.JdbcParameter;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.internal.ArrayParameterHelper;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingImpl;
 import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.internal.JdbcParameterImpl;
 import org.hibernate.sql.exec.spi.Callback;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
@@ -42,6 +46,9 @@ import org.jboss.logging.Logger;
 
 /**
  * A one-time use CollectionLoader for applying a batch fetch
+ * <p>
+ * On dialects which support it, the keys of the batch are bound to a single
+ * parameter as a JDBC array, so that one SQL statement serves all batch sizes.
  *
  * @author Steve Ebersole
  */
@@ -56,6 +63,11 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 	private SelectStatement batchSizeSqlAst;
 	private List<JdbcParameter> batchSizeJdbcParameters;
 
+	// null when the key cannot be bound as a JDBC array
+	private final JdbcMapping arrayJdbcMapping;
+	private JdbcParameter jdbcArrayParameter;
+	private SelectStatement arraySqlAst;
+
 	public CollectionLoaderBatchKey(
 			PluralAttributeMapping attributeMapping,
 			int batchSize,
@@ -66,18 +78,35 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 
 		this.keyJdbcCount = attributeMapping.getKeyDescriptor().getJdbcTypeCount();
 
-		this.batchSizeJdbcParameters = new ArrayList<>();
-		this.batchSizeSqlAst = LoaderSelectBuilder.createSelect(
-				attributeMapping,
-				null,
+		this.arrayJdbcMapping = ArrayParameterHelper.resolveArrayJdbcMapping(
 				attributeMapping.getKeyDescriptor(),
-				null,
-				batchSize,
-				influencers,
-				LockOptions.NONE,
-				batchSizeJdbcParameters::add,
 				sessionFactory
 		);
+		if ( arrayJdbcMapping != null ) {
+			this.jdbcArrayParameter = new JdbcParameterImpl( arrayJdbcMapping );
+			this.arraySqlAst = LoaderSelectBuilder.createSelectBySingleArrayParameter(
+					attributeMapping,
+					attributeMapping.getKeyDescriptor(),
+					influencers,
+					LockOptions.NONE,
+					jdbcArrayParameter,
+					sessionFactory
+			);
+		}
+		else {
+			this.batchSizeJdbcParameters = new ArrayList<>();
+			this.batchSizeSqlAst = LoaderSelectBuilder.createSelect(
+					attributeMapping,
+					null,
+					attributeMapping.getKeyDescriptor(),
+					null,
+					batchSize,
+					influencers,
+					LockOptions.NONE,
+					batchSizeJdbcParameters::add,
+					sessionFactory
+			);
+		}
 	}
 
 	@Override
@@ -138,6 +167,19 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 			);
 		}
 
+		if ( arrayJdbcMapping != null ) {
+			final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl( 1 );
+			jdbcParameterBindings.addBinding(
+					jdbcArrayParameter,
+					new JdbcParameterBindingImpl(
+							arrayJdbcMapping,
+							MultiKeyLoadHelper.toKeyArray( batchIds, 0, numberOfIds, arrayJdbcMapping )
+					)
+			);
+			executeBatchLoad( arraySqlAst, jdbcParameterBindings, session );
+			return;
+		}
+
 		int smallBatchStart = 0;
 		int smallBatchLength = Math.min( numberOfIds, batchSize );
 
@@ -165,17 +207,7 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 				);
 			}
 
-			final SessionFactoryImplementor sessionFactory = session.getFactory();
-			final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
-			final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
-			final SqlAstTranslatorFactory sqlAstTranslatorFactory = jdbcEnvironment.getSqlAstTranslatorFactory();
-
-			final JdbcOperationQuerySelect jdbcSelect = sqlAstTranslatorFactory
-					.buildSelectTranslator( sessionFactory, sqlAst )
-					.translate( null, QueryOptions.NONE );
-
 			final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl( keyJdbcCount * smallBatchLength );
-			jdbcSelect.bindFilterJdbcParameters( jdbcParameterBindings );
 
 			int offset = 0;
 
@@ -191,51 +223,7 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 			}
 			assert offset == jdbcParameters.size();
 
-			final SubselectFetch.RegistrationHandler subSelectFetchableKeysHandler = SubselectFetch.createRegistrationHandler(
-					session.getPersistenceContext().getBatchFetchQueue(),
-					sqlAst,
-					Collections.emptyList(),
-					jdbcParameterBindings
-			);
-
-			jdbcServices.getJdbcSelectExecutor().list(
-					jdbcSelect,
-					jdbcParameterBindings,
-					new ExecutionContext() {
-						@Override
-						public SharedSessionContractImplementor getSession() {
-							return session;
-						}
-
-						@Override
-						public QueryOptions getQueryOptions() {
-							return QueryOptions.NONE;
-						}
-
-						@Override
-						public String getQueryIdentifier(String sql) {
-							return sql;
-						}
-
-						@Override
-						public void registerLoadingEntityEntry(EntityKey entityKey, LoadingEntityEntry entry) {
-							subSelectFetchableKeysHandler.addKey( entityKey, entry );
-						}
-
-						@Override
-						public QueryParameterBindings getQueryParameterBindings() {
-							return QueryParameterBindings.NO_PARAM_BINDINGS;
-						}
-
-						@Override
-						public Callback getCallback() {
-							return null;
-						}
-
-					},
-					RowTransformerStandardImpl.instance(),
-					ListResultsConsumer.UniqueSemantic.FILTER
-			);
+			executeBatchLoad( sqlAst, jdbcParameterBindings, session );
 
 			// prepare for the next round...
 			smallBatchStart += smallBatchLength;
@@ -247,4 +235,65 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 		}
 	}
 
+	private void executeBatchLoad(
+			SelectStatement sqlAst,
+			JdbcParameterBindings jdbcParameterBindings,
+			SharedSessionContractImplementor session) {
+		final SessionFactoryImplementor sessionFactory = session.getFactory();
+		final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
+		final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
+		final SqlAstTranslatorFactory sqlAstTranslatorFactory = jdbcEnvironment.getSqlAstTranslatorFactory();
+
+		final JdbcOperationQuerySelect jdbcSelect = sqlAstTranslatorFactory
+				.buildSelectTranslator( sessionFactory, sqlAst )
+				.translate( null, QueryOptions.NONE );
+		jdbcSelect.bindFilterJdbcParameters( jdbcParameterBindings );
+
+		final SubselectFetch.RegistrationHandler subSelectFetchableKeysHandler = SubselectFetch.createRegistrationHandler(
+				session.getPersistenceContext().getBatchFetchQueue(),
+				sqlAst,
+				Collections.emptyList(),
+				jdbcParameterBindings
+		);
+
+		jdbcServices.getJdbcSelectExecutor().list(
+				jdbcSelect,
+				jdbcParameterBindings,
+				new ExecutionContext() {
+					@Override
+					public SharedSessionContractImplementor getSession() {
+						return session;
+					}
+
+					@Override
+					public QueryOptions getQueryOptions() {
+						return QueryOptions.NONE;
+					}
+
+					@Override
+					public String getQueryIdentifier(String sql) {
+						return sql;
+					}
+
+					@Override
+					public void registerLoadingEntityEntry(EntityKey entityKey, LoadingEntityEntry entry) {
+						subSelectFetchableKeysHandler.addKey( entityKey, entry );
+					}
+
+					@Override
+					public QueryParameterBindings getQueryParameterBindings() {
+						return QueryParameterBindings.NO_PARAM_BINDINGS;
+					}
+
+					@Override
+					public Callback getCallback() {
+						return null;
+					}
+
+				},
+				RowTransformerStandardImpl.instance(),
+				ListResultsConsumer.UniqueSemantic.FILTER
+		);
+	}
+
 }
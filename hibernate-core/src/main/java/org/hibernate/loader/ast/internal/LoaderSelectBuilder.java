@@ -68,6 +68,7 @@ import org.hibernate.sql.ast.tree.from.TableGroupJoin;
 import org.hibernate.sql.ast.tree.from.TableGroupJoinProducer;
 import org.hibernate.sql.ast.tree.from.TableReference;
 import org.hibernate.sql.ast.tree.predicate.ComparisonPredicate;
+import org.hibernate.sql.ast.tree.predicate.InArrayPredicate;
 import org.hibernate.sql.ast.tree.predicate.InListPredicate;
 import org.hibernate.sql.ast.tree.predicate.InSubQueryPredicate;
 import org.hibernate.sql.ast.tree.select.QueryPart;
@@ -134,7 +135,8 @@ public class LoaderSelectBuilder {
 				lockOptions,
 				determineGraphTraversalState( loadQueryInfluencers ),
 				true,
-				jdbcParameterConsumer
+				jdbcParameterConsumer,
+				null
 		);
 
 		return process.generateSelect();
@@ -203,6 +205,45 @@ public class LoaderSelectBuilder {
 		return process.generateSelect();
 	}
 
+	/**
+	 * Create an SQL AST select-statement based on matching the values of a single
+	 * parameter bound to a JDBC array of keys, which serves any number of keys
+	 *
+	 * @param loadable The root Loadable
+	 * @param restrictedPart Part to base the where-clause restriction on, which must be a single column
+	 * @param loadQueryInfluencers Any influencers (entity graph, fetch profile) to account for
+	 * @param lockOptions Pessimistic lock options to apply
+	 * @param jdbcArrayParameter The parameter to bind the JDBC array of keys to
+	 * @param sessionFactory The SessionFactory
+	 *
+	 * @see MultiKeyLoadHelper
+	 */
+	public static SelectStatement createSelectBySingleArrayParameter(
+			Loadable loadable,
+			ModelPart restrictedPart,
+			LoadQueryInfluencers loadQueryInfluencers,
+			LockOptions lockOptions,
+			JdbcParameter jdbcArrayParameter,
+			SessionFactoryImplementor sessionFactory) {
+		assert restrictedPart.getJdbcTypeCount() == 1;
+		final LoaderSelectBuilder process = new LoaderSelectBuilder(
+				sessionFactory,
+				loadable,
+				null,
+				Collections.singletonList( restrictedPart ),
+				null,
+				-1,
+				loadQueryInfluencers,
+				lockOptions != null ? lockOptions : LockOptions.NONE,
+				determineGraphTraversalState( loadQueryInfluencers ),
+				true,
+				jdbcParameter -> {},
+				jdbcArrayParameter
+		);
+
+		return process.generateSelect();
+	}
+
 	/**
 	 * Create an SQL AST select-statement used for subselect-based CollectionLoader
 	 *
@@ -249,6 +290,7 @@ public class LoaderSelectBuilder {
 	private final LoadQueryInfluencers loadQueryInfluencers;
 	private final LockOptions lockOptions;
 	private final Consumer<JdbcParameter> jdbcParameterConsumer;
+	private final JdbcParameter jdbcArrayParameter;
 	private final EntityGraphTraversalState entityGraphTraversalState;
 
 	private int fetchDepth;
@@ -267,7 +309,8 @@ public class LoaderSelectBuilder {
 			LockOptions lockOptions,
 			EntityGraphTraversalState entityGraphTraversalState,
 			boolean forceIdentifierSelection,
-			Consumer<JdbcParameter> jdbcParameterConsumer) {
+			Consumer<JdbcParameter> jdbcParameterConsumer,
+			JdbcParameter jdbcArrayParameter) {
 		this.creationContext = creationContext;
 		this.loadable = loadable;
 		this.partsToSelect = partsToSelect;
@@ -279,6 +322,7 @@ public class LoaderSelectBuilder {
 		this.entityGraphTraversalState = entityGraphTraversalState;
 		this.forceIdentifierSelection = forceIdentifierSelection;
 		this.jdbcParameterConsumer = jdbcParameterConsumer;
+		this.jdbcArrayParameter = jdbcArrayParameter;
 	}
 
 	private LoaderSelectBuilder(
@@ -302,7 +346,8 @@ public class LoaderSelectBuilder {
 				lockOptions != null ? lockOptions : LockOptions.NONE,
 				determineGraphTraversalState( loadQueryInfluencers ),
 				determineWhetherToForceIdSelection( numberOfKeysToLoad, restrictedParts ),
-				jdbcParameterConsumer
+				jdbcParameterConsumer,
+				null
 		);
 	}
 
@@ -517,7 +562,10 @@ public class LoaderSelectBuilder {
 										tableReference,
 										selection
 								);
-						if ( numberOfKeysToLoad == 1 ) {
+						if ( jdbcArrayParameter != null ) {
+							rootQuerySpec.applyPredicate( new InArrayPredicate( columnRef, jdbcArrayParameter ) );
+						}
+						else if ( numberOfKeysToLoad == 1 ) {
 							final JdbcParameter jdbcParameter = new JdbcParameterImpl( selection.getJdbcMapping() );
 							jdbcParameterConsumer.accept( jdbcParameter );
 
@@ -34,6 +34,7 @@ import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
 import org.hibernate.loader.entity.CacheEntityLoaderHelper;
 import org.hibernate.mapping.PersistentClass;
 import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryParameterBindings;
@@ -41,7 +42,10 @@ import org.hibernate.sql.ast.Clause;
 import org.hibernate.sql.ast.SqlAstTranslatorFactory;
 import org.hibernate.sql.ast.tree.expression.JdbcParameter;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.internal.ArrayParameterHelper;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingImpl;
 import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.internal.JdbcParameterImpl;
 import org.hibernate.sql.exec.spi.Callback;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
@@ -53,15 +57,22 @@ import org.hibernate.sql.results.spi.ListResultsConsumer;
 import org.jboss.logging.Logger;
 
 /**
+ * Standard MultiIdEntityLoader.  On dialects which support it, the identifiers
+ * are bound to a single parameter as a JDBC array, so that one SQL statement
+ * serves any number of identifiers, which are then loaded in a single batch
+ * unless a batch size is specified.
+ *
  * @author Steve Ebersole
  */
-public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
+public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T>, Preparable {
 	private static final Logger log = Logger.getLogger( MultiIdLoaderStandard.class );
 
 	private final EntityPersister entityDescriptor;
 	private final SessionFactoryImplementor sessionFactory;
 
 	private final int idJdbcTypeCount;
+	// null when the identifier cannot be bound as a JDBC array
+	private JdbcMapping arrayJdbcMapping;
 
 	public MultiIdLoaderStandard(
 			EntityPersister entityDescriptor,
@@ -74,6 +85,11 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 		assert idJdbcTypeCount > 0;
 	}
 
+	@Override
+	public void prepare() {
+		arrayJdbcMapping = ArrayParameterHelper.resolveArrayJdbcMapping( entityDescriptor.getIdentifierMapping(), sessionFactory );
+	}
+
 	@Override
 	public EntityMappingType getLoadable() {
 		return entityDescriptor;
@@ -114,6 +130,9 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 		if ( loadOptions.getBatchSize() != null && loadOptions.getBatchSize() > 0 ) {
 			maxBatchSize = loadOptions.getBatchSize();
 		}
+		else if ( arrayJdbcMapping != null ) {
+			maxBatchSize = ids.length;
+		}
 		else {
 			maxBatchSize = dialect.getDefaultBatchLoadSizingStrategy().determineOptimalBatchLoadSize(
 					idJdbcTypeCount,
@@ -125,15 +144,10 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 		final List<Object> idsInBatch = new ArrayList<>();
 		final List<Integer> elementPositionsLoadedByBatch = new ArrayList<>();
 
-		final boolean coerce = !sessionFactory.getJpaMetamodel().getJpaCompliance().isLoadByIdComplianceEnabled();
+		final Object[] coercedIds = coerceIds( ids, session );
+		final Object[] cachedEntries = getFromSecondLevelCache( coercedIds, lockOptions, loadOptions, session );
 		for ( int i = 0; i < ids.length; i++ ) {
-			final Object id;
-			if ( coerce ) {
-				id = entityDescriptor.getIdentifierMapping().getJavaType().coerce( ids[i], session );
-			}
-			else {
-				id = ids[i];
-			}
+			final Object id = coercedIds[i];
 			final EntityKey entityKey = new EntityKey( id, entityDescriptor );
 
 			if ( loadOptions.isSessionCheckingEnabled() || loadOptions.isSecondLevelCacheCheckingEnabled() ) {
@@ -168,10 +182,11 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 
 				if ( managedEntity == null && loadOptions.isSecondLevelCacheCheckingEnabled() ) {
 					// look for it in the SessionFactory
-					managedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
+					managedEntity = cachedEntries == null ? null : CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
 							loadEvent,
 							entityDescriptor,
-							entityKey
+							entityKey,
+							cachedEntries[i]
 					);
 				}
 
@@ -242,43 +257,68 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 			log.tracef( "#loadEntitiesById(`%s`, `%s`, ..)", entityDescriptor.getEntityName(), numberOfIdsInBatch );
 		}
 
-		final List<JdbcParameter> jdbcParameters = new ArrayList<>( numberOfIdsInBatch * idJdbcTypeCount);
-
-		final SelectStatement sqlAst = LoaderSelectBuilder.createSelect(
-				getLoadable(),
-				// null here means to select everything
-				null,
-				getLoadable().getIdentifierMapping(),
-				null,
-				numberOfIdsInBatch,
-				session.getLoadQueryInfluencers(),
-				lockOptions,
-				jdbcParameters::add,
-				sessionFactory
-		);
+		final List<JdbcParameter> jdbcParameters;
+		final SelectStatement sqlAst;
+		final JdbcParameterBindings jdbcParameterBindings;
+		if ( arrayJdbcMapping != null ) {
+			final JdbcParameter jdbcArrayParameter = new JdbcParameterImpl( arrayJdbcMapping );
+			jdbcParameters = Collections.singletonList( jdbcArrayParameter );
+			sqlAst = LoaderSelectBuilder.createSelectBySingleArrayParameter(
+					getLoadable(),
+					getLoadable().getIdentifierMapping(),
+					session.getLoadQueryInfluencers(),
+					lockOptions,
+					jdbcArrayParameter,
+					sessionFactory
+			);
+			jdbcParameterBindings = new JdbcParameterBindingsImpl( 1 );
+			jdbcParameterBindings.addBinding(
+					jdbcArrayParameter,
+					new JdbcParameterBindingImpl(
+							arrayJdbcMapping,
+							MultiKeyLoadHelper.toKeyArray( idsInBatch.toArray(), 0, numberOfIdsInBatch, arrayJdbcMapping )
+					)
+			);
+		}
+		else {
+			jdbcParameters = new ArrayList<>( numberOfIdsInBatch * idJdbcTypeCount );
+			sqlAst = LoaderSelectBuilder.createSelect(
+					getLoadable(),
+					// null here means to select everything
+					null,
+					getLoadable().getIdentifierMapping(),
+					null,
+					numberOfIdsInBatch,
+					session.getLoadQueryInfluencers(),
+					lockOptions,
+					jdbcParameters::add,
+					sessionFactory
+			);
 
-		final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
-		final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
-		final SqlAstTranslatorFactory sqlAstTranslatorFactory = jdbcEnvironment.getSqlAstTranslatorFactory();
+			jdbcParameterBindings = new JdbcParameterBindingsImpl( jdbcParameters.size() );
+			int offset = 0;
 
-		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl( jdbcParameters.size() );
-		int offset = 0;
+			for ( int i = 0; i < numberOfIdsInBatch; i++ ) {
+				final Object id = idsInBatch.get( i );
 
-		for ( int i = 0; i < numberOfIdsInBatch; i++ ) {
-			final Object id = idsInBatch.get( i );
+				offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
+						id,
+						Clause.WHERE,
+						offset,
+						entityDescriptor.getIdentifierMapping(),
+						jdbcParameters,
+						session
+				);
+			}
 
-			offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
-					id,
-					Clause.WHERE,
-					offset,
-					entityDescriptor.getIdentifierMapping(),
-					jdbcParameters,
-					session
-			);
+			// we should have used all the JdbcParameter references (created bindings for all)
+			assert offset == jdbcParameters.size();
 		}
 
-		// we should have used all the JdbcParameter references (created bindings for all)
-		assert offset == jdbcParameters.size();
+		final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
+		final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
+		final SqlAstTranslatorFactory sqlAstTranslatorFactory = jdbcEnvironment.getSqlAstTranslatorFactory();
+
 		final JdbcOperationQuerySelect jdbcSelect = sqlAstTranslatorFactory.buildSelectTranslator( sessionFactory, sqlAst )
 				.translate( jdbcParameterBindings, QueryOptions.NONE );
 
@@ -367,15 +407,10 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 			boolean foundAnyManagedEntities = false;
 			final List<Object> nonManagedIds = new ArrayList<>();
 
-			final boolean coerce = !sessionFactory.getJpaMetamodel().getJpaCompliance().isLoadByIdComplianceEnabled();
+			final Object[] coercedIds = coerceIds( ids, session );
+			final Object[] cachedEntries = getFromSecondLevelCache( coercedIds, lockOptions, loadOptions, session );
 			for ( int i = 0; i < ids.length; i++ ) {
-				final Object id;
-				if ( coerce ) {
-					id = entityDescriptor.getIdentifierMapping().getJavaType().coerce( ids[i], session );
-				}
-				else {
-					id = ids[i];
-				}
+				final Object id = coercedIds[i];
 				final EntityKey entityKey = new EntityKey( id, entityDescriptor );
 
 				LoadEvent loadEvent = new LoadEvent(
@@ -408,10 +443,11 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 				}
 
 				if ( managedEntity == null && loadOptions.isSecondLevelCacheCheckingEnabled() ) {
-					managedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
+					managedEntity = cachedEntries == null ? null : CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
 							loadEvent,
 							entityDescriptor,
-							entityKey
+							entityKey,
+							cachedEntries[i]
 					);
 				}
 
@@ -448,6 +484,9 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 		if ( loadOptions.getBatchSize() != null && loadOptions.getBatchSize() > 0 ) {
 			maxBatchSize = loadOptions.getBatchSize();
 		}
+		else if ( arrayJdbcMapping != null ) {
+			maxBatchSize = numberOfIdsLeft;
+		}
 		else {
 			maxBatchSize = session.getJdbcServices().getJdbcEnvironment().getDialect().getDefaultBatchLoadSizingStrategy().determineOptimalBatchLoadSize(
 					entityDescriptor.getIdentifierType().getColumnSpan( session.getFactory() ),
@@ -474,6 +513,48 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 		return result;
 	}
 
+	private Object[] coerceIds(Object[] ids, SharedSessionContractImplementor session) {
+		if ( sessionFactory.getJpaMetamodel().getJpaCompliance().isLoadByIdComplianceEnabled() ) {
+			return ids;
+		}
+		final Object[] coercedIds = new Object[ids.length];
+		for ( int i = 0; i < ids.length; i++ ) {
+			coercedIds[i] = entityDescriptor.getIdentifierMapping().getJavaType().coerce( ids[i], session );
+		}
+		return coercedIds;
+	}
+
+	/**
+	 * Look up, with a single call to the second-level cache, the entries of the
+	 * entities not already associated with the session
+	 *
+	 * @return the cache entries in the order of the ids, or {@code null} if the
+	 * second-level cache is not to be used
+	 */
+	private Object[] getFromSecondLevelCache(
+			Object[] ids,
+			LockOptions lockOptions,
+			MultiIdLoadOptions loadOptions,
+			SharedSessionContractImplementor session) {
+		if ( !loadOptions.isSecondLevelCacheCheckingEnabled() ) {
+			return null;
+		}
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final Object[] idsToLookUp = new Object[ids.length];
+		for ( int i = 0; i < ids.length; i++ ) {
+			if ( !loadOptions.isSessionCheckingEnabled()
+					|| !persistenceContext.containsEntity( new EntityKey( ids[i], entityDescriptor ) ) ) {
+				idsToLookUp[i] = ids[i];
+			}
+		}
+		return CacheEntityLoaderHelper.INSTANCE.getFromSecondLevelCache(
+				session.asEventSource(),
+				lockOptions.getLockMode(),
+				entityDescriptor,
+				idsToLookUp
+		);
+	}
+
 	private Boolean getReadOnlyFromLoadQueryInfluencers(SharedSessionContractImplementor session) {
 		Boolean readOnly = null;
 		final LoadQueryInfluencers loadQueryInfluencers = session.getLoadQueryInfluencers();
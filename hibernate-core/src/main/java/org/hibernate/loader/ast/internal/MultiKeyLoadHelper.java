@@ -0,0 +1,39 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.lang.reflect.Array;
+
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.sql.exec.internal.ArrayParameterHelper;
+import org.hibernate.type.BasicPluralType;
+
+/**
+ * Support for loading by multiple keys at once with a single parameter
+ * bound to a JDBC array of the keys, restricting with
+ * {@link org.hibernate.sql.ast.tree.predicate.InArrayPredicate}, so that
+ * one SQL statement serves all numbers of keys.
+ *
+ * @see LoaderSelectBuilder#createSelectBySingleArrayParameter
+ * @see ArrayParameterHelper#resolveArrayJdbcMapping
+ */
+public class MultiKeyLoadHelper {
+	private MultiKeyLoadHelper() {
+	}
+
+	/**
+	 * Copy the given keys into an array of the type expected by the given array mapping
+	 */
+	public static Object[] toKeyArray(Object[] keys, int start, int length, JdbcMapping arrayJdbcMapping) {
+		final Class<?> keyClass = ( (BasicPluralType<?, ?>) arrayJdbcMapping ).getElementType()
+				.getJavaTypeDescriptor()
+				.getJavaTypeClass();
+		final Object[] keyArray = (Object[]) Array.newInstance( keyClass, length );
+		System.arraycopy( keys, start, keyArray, 0, length );
+		return keyArray;
+	}
+}
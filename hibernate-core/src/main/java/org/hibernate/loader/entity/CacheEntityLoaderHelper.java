@@ -33,6 +33,7 @@ import org.hibernate.event.spi.LoadEventListener;
 import org.hibernate.event.spi.PostLoadEvent;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
 import org.hibernate.proxy.HibernateProxy;
@@ -234,6 +235,115 @@ public class CacheEntityLoaderHelper {
 		return processCachedEntry( entity, persister, ce, source, entityKey );
 	}
 
+	/**
+	 * Looks up the entries of several entities in the second-level cache, with a single
+	 * call to the cache, for them to be passed to
+	 * {@link #loadFromSecondLevelCache(LoadEvent, EntityPersister, EntityKey, Object)}.
+	 *
+	 * @param source The source
+	 * @param lockMode The lock mode
+	 * @param persister The persister for the entities being requested for load
+	 * @param entityIds The ids of the entities, possibly with {@code null} for those not to look up
+	 *
+	 * @return The cache entries, in the order of the ids, with {@code null} for those not found
+	 * in cache, or {@code null} if the cache cannot be used here
+	 */
+	public Object[] getFromSecondLevelCache(
+			final EventSource source,
+			final LockMode lockMode,
+			final EntityPersister persister,
+			final Object[] entityIds) {
+
+		final boolean useCache = persister.canReadFromCache()
+				&& source.getCacheMode().isGetEnabled()
+				&& lockMode.lessThan( LockMode.READ );
+
+		if ( !useCache ) {
+			return null;
+		}
+
+		final EntityDataAccess cache = persister.getCacheAccessStrategy();
+		final SessionFactoryImplementor factory = source.getFactory();
+		final int count = ArrayHelper.countNonNull( entityIds );
+		final Object[] cacheKeys = new Object[count];
+		for ( int i = 0, j = 0; i < entityIds.length; i++ ) {
+			if ( entityIds[i] != null ) {
+				cacheKeys[j++] = cache.generateCacheKey(
+						entityIds[i],
+						persister,
+						factory,
+						source.getTenantIdentifier()
+				);
+			}
+		}
+
+		final Object[] cachedEntries = CacheHelper.fromSharedCache( source, cacheKeys, cache );
+		final StatisticsImplementor statistics = factory.getStatistics();
+		final Object[] entries = new Object[entityIds.length];
+		for ( int i = 0, j = 0; i < entityIds.length; i++ ) {
+			if ( entityIds[i] != null ) {
+				entries[i] = cachedEntries[j++];
+				if ( statistics.isStatisticsEnabled() ) {
+					if ( entries[i] == null ) {
+						statistics.entityCacheMiss(
+								StatsHelper.INSTANCE.getRootEntityRole( persister ),
+								cache.getRegion().getName()
+						);
+					}
+					else {
+						statistics.entityCacheHit(
+								StatsHelper.INSTANCE.getRootEntityRole( persister ),
+								cache.getRegion().getName()
+						);
+					}
+				}
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * Loads the entity from an entry previously looked up in the second-level cache by
+	 * {@link #getFromSecondLevelCache(EventSource, LockMode, EntityPersister, Object[])}.
+	 *
+	 * @param event The load event
+	 * @param persister The persister for the entity being requested for load
+	 * @param entityKey The entity key
+	 * @param cachedEntry The cache entry of the entity, or null
+	 *
+	 * @return The entity from the second-level cache, or null.
+	 */
+	public Object loadFromSecondLevelCache(
+			final LoadEvent event,
+			final EntityPersister persister,
+			final EntityKey entityKey,
+			final Object cachedEntry) {
+		if ( cachedEntry == null ) {
+			return null;
+		}
+
+		final Object entity = processCachedEntry(
+				event.getInstanceToLoad(),
+				persister,
+				cachedEntry,
+				event.getSession(),
+				entityKey
+		);
+
+		if ( entity != null ) {
+			//PostLoad is needed for EJB3
+			final PostLoadEvent postLoadEvent = event.getPostLoadEvent()
+					.setEntity( entity )
+					.setId( event.getEntityId() )
+					.setPersister( persister );
+
+			event.getSession().getSessionFactory()
+					.getFastSessionServices()
+					.firePostLoadEvent( postLoadEvent );
+		}
+		return entity;
+	}
+
 
 	private Object getFromSharedCache(
 			final Object entityId,
@@ -12,6 +12,7 @@ import org.hibernate.engine.jdbc.mutation.MutationExecutor;
 import org.hibernate.engine.jdbc.mutation.ParameterUsage;
 import org.hibernate.engine.jdbc.mutation.spi.MutationExecutorService;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.jdbc.Expectations;
 import org.hibernate.metamodel.mapping.ForeignKeyDescriptor;
 import org.hibernate.sql.model.MutationType;
 import org.hibernate.sql.model.ast.MutatingTableReference;
@@ -46,7 +47,11 @@ public class RemoveCoordinatorStandard implements RemoveCoordinator {
 		this.mutationTarget = mutationTarget;
 		this.operationProducer = operationProducer;
 
-		this.batchKey = new BasicBatchKey( mutationTarget.getRolePath() + "#REMOVE" );
+		this.batchKey = new BasicBatchKey(
+				mutationTarget.getRolePath() + "#REMOVE",
+				Expectations.NONE,
+				mutationTarget.getCollectionTableMapping().getDeleteDetails().getCustomSql() == null
+		);
 	}
 
 	@Override
@@ -54,6 +54,8 @@ import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeDescriptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributesMetadata;
 import org.hibernate.bytecode.spi.BytecodeEnhancementMetadata;
+import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.bytecode.spi.DirtyCheckOptimizer;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
@@ -78,7 +80,6 @@ import org.hibernate.engine.jdbc.mutation.spi.MutationExecutorService;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.CachedNaturalIdValueSource;
 import org.hibernate.engine.spi.CascadeStyle;
-import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityEntryFactory;
 import org.hibernate.engine.spi.EntityKey;
@@ -349,6 +350,7 @@ public abstract class AbstractEntityPersister
 	private final boolean[][] propertyColumnUpdateable;
 	private final boolean[][] propertyColumnInsertable;
 	private final boolean[] propertySelectable;
+	private final DirtyCheckOptimizer dirtyCheckOptimizer;
 
 	private final List<Integer> lobProperties;
 
@@ -677,6 +679,10 @@ public abstract class AbstractEntityPersister
 		lazyPropertyNumbers = ArrayHelper.toIntArray( lazyNumbers );
 		lazyPropertyTypes = ArrayHelper.toTypeArray( lazyTypes );
 
+		dirtyCheckOptimizer = sessionFactoryOptions.isDirtyCheckOptimizerEnabled()
+				? resolveDirtyCheckOptimizer()
+				: null;
+
 		// SUBCLASS PROPERTY CLOSURE
 		final ArrayList<String> aliases = new ArrayList<>();
 		final ArrayList<String> formulaAliases = new ArrayList<>();
@@ -1394,7 +1400,7 @@ public abstract class AbstractEntityPersister
 				// see if there is already a collection instance associated with the session
 				// 		NOTE : can this ever happen?
 				final Object key = getCollectionKey( persister, entity, entry, session );
-				PersistentCollection<?> collection = persistenceContext.getCollection( new CollectionKey( persister, key ) );
+				PersistentCollection<?> collection = persistenceContext.getCollection( persister, key );
 				if ( collection == null ) {
 					collection = collectionType.instantiate( session, persister, key );
 					collection.setOwner( entity );
@@ -3645,13 +3651,15 @@ public abstract class AbstractEntityPersister
 	@Override
 	public int[] findDirty(Object[] currentState, Object[] previousState, Object entity, SharedSessionContractImplementor session)
 			throws HibernateException {
-		int[] props = DirtyHelper.findDirty(
-				entityMetamodel.getProperties(),
-				currentState,
-				previousState,
-				propertyColumnUpdateable,
-				session
-		);
+		final int[] props = dirtyCheckOptimizer == null
+				? DirtyHelper.findDirty(
+						entityMetamodel.getProperties(),
+						currentState,
+						previousState,
+						propertyColumnUpdateable,
+						session
+				)
+				: dirtyCheckOptimizer.findDirty( currentState, previousState, session );
 		if ( props == null ) {
 			return null;
 		}
@@ -3661,6 +3669,21 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	private DirtyCheckOptimizer resolveDirtyCheckOptimizer() {
+		if ( representationStrategy.getMode() != RepresentationMode.POJO ) {
+			return null;
+		}
+		final NonIdentifierAttribute[] properties = entityMetamodel.getProperties();
+		final Type[] types = new Type[properties.length];
+		final boolean[] dirtyCheckable = new boolean[properties.length];
+		for ( int i = 0; i < properties.length; i++ ) {
+			types[i] = properties[i].getType();
+			dirtyCheckable[i] = properties[i].isDirtyCheckable();
+		}
+		return factory.getServiceRegistry().getService( BytecodeProvider.class )
+				.getDirtyCheckOptimizer( getMappedClass(), types, dirtyCheckable, propertyColumnUpdateable );
+	}
+
 	/**
 	 * Locate the property-indices of all properties considered to be dirty.
 	 *
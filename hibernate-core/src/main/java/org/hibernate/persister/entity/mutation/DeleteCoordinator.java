@@ -18,6 +18,7 @@ import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.jdbc.Expectations;
 import org.hibernate.metamodel.mapping.EntityRowIdMapping;
 import org.hibernate.metamodel.mapping.SingularAttributeMapping;
 import org.hibernate.persister.entity.AbstractEntityPersister;
@@ -46,13 +47,37 @@ public class DeleteCoordinator extends AbstractMutationCoordinator {
 		super( entityPersister, factory );
 
 		this.staticOperationGroup = generateOperationGroup( null, true, null );
-		this.batchKey = new BasicBatchKey( entityPersister.getEntityName() + "#DELETE" );
+		this.batchKey = new EntityBatchKey(
+				entityPersister,
+				entityPersister.getEntityName() + "#DELETE",
+				Expectations.NONE,
+				isKeyListDeleteAllowed( entityPersister )
+		);
 
 		if ( !entityPersister.isVersioned() ) {
 			noVersionDeleteGroup = staticOperationGroup;
 		}
 	}
 
+	/**
+	 * Whether every delete of the entity uses the static operation group, restricted
+	 * by the id only, so that several deletes may be collapsed into one statement
+	 */
+	private static boolean isKeyListDeleteAllowed(AbstractEntityPersister entityPersister) {
+		if ( entityPersister.isVersioned()
+				|| entityPersister.optimisticLockStyle().isAllOrDirty()
+				|| entityPersister.hasRowId() ) {
+			return false;
+		}
+		final boolean[] customSql = new boolean[1];
+		entityPersister.forEachMutableTable( (tableMapping) -> {
+			if ( tableMapping.getDeleteCustomSql() != null ) {
+				customSql[0] = true;
+			}
+		} );
+		return !customSql[0];
+	}
+
 	public MutationOperationGroup getStaticDeleteGroup() {
 		return staticOperationGroup;
 	}
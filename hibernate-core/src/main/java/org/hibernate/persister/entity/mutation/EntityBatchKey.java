@@ -0,0 +1,173 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.persister.entity.mutation;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.jdbc.Expectation;
+import org.hibernate.metamodel.MappingMetamodel;
+import org.hibernate.metamodel.mapping.Association;
+import org.hibernate.metamodel.mapping.AttributeMapping;
+import org.hibernate.metamodel.mapping.DiscriminatedAssociationModelPart;
+import org.hibernate.metamodel.mapping.EmbeddableValuedModelPart;
+import org.hibernate.metamodel.mapping.ForeignKeyDescriptor;
+import org.hibernate.metamodel.mapping.ModelPart;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+
+/**
+ * A {@link BatchKey} for the mutations of an entity, aware of the tables the
+ * entity mutates and of the tables its foreign keys refer to.
+ *
+ * @see BatchKey#isIndependentOf(BatchKey)
+ */
+class EntityBatchKey extends BasicBatchKey {
+	private final AbstractEntityPersister entityPersister;
+
+	private volatile TableDependencies tableDependencies;
+
+	EntityBatchKey(AbstractEntityPersister entityPersister, String comparison) {
+		super( comparison );
+		this.entityPersister = entityPersister;
+	}
+
+	EntityBatchKey(AbstractEntityPersister entityPersister, String comparison, Expectation expectation) {
+		super( comparison, expectation );
+		this.entityPersister = entityPersister;
+	}
+
+	EntityBatchKey(
+			AbstractEntityPersister entityPersister,
+			String comparison,
+			Expectation expectation,
+			boolean keyListDeleteAllowed) {
+		super( comparison, expectation, keyListDeleteAllowed );
+		this.entityPersister = entityPersister;
+	}
+
+	@Override
+	public boolean isIndependentOf(BatchKey other) {
+		if ( !( other instanceof EntityBatchKey ) ) {
+			return false;
+		}
+		final TableDependencies these = getTableDependencies();
+		final TableDependencies those = ( (EntityBatchKey) other ).getTableDependencies();
+		return these.referencedTables != null
+				&& those.referencedTables != null
+				&& !intersects( these.mutatedTables, those.mutatedTables )
+				&& !intersects( these.referencedTables, those.mutatedTables )
+				&& !intersects( those.referencedTables, these.mutatedTables );
+	}
+
+	private TableDependencies getTableDependencies() {
+		TableDependencies dependencies = tableDependencies;
+		if ( dependencies == null ) {
+			// the metamodel is only complete once all persisters were created
+			dependencies = new TableDependencies( entityPersister );
+			tableDependencies = dependencies;
+		}
+		return dependencies;
+	}
+
+	private static boolean intersects(Set<String> first, Set<String> second) {
+		for ( String table : first ) {
+			if ( second.contains( table ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static class TableDependencies {
+		private final Set<String> mutatedTables = new HashSet<>();
+		/**
+		 * The tables referenced by foreign keys, or {@code null} if they can't be determined
+		 */
+		private final Set<String> referencedTables;
+
+		private TableDependencies(AbstractEntityPersister entityPersister) {
+			entityPersister.forEachMutableTable( tableMapping -> mutatedTables.add( tableMapping.getTableName() ) );
+			final Set<String> referencedTables = new HashSet<>();
+			this.referencedTables = collectReferencedTables( entityPersister.getIdentifierMapping(), referencedTables )
+					&& collectReferencedTables( entityPersister.getAttributeMappings(), referencedTables )
+					&& collectReferencedTables(
+							entityPersister.getFactory().getRuntimeMetamodels().getMappingMetamodel(),
+							mutatedTables,
+							referencedTables
+					)
+					? referencedTables
+					: null;
+		}
+
+		/**
+		 * The foreign key of a collection may live in one of the mutated tables, for
+		 * example the join column of a unidirectional one-to-many, which is written
+		 * through a backref rather than through an association of the entity.
+		 */
+		private static boolean collectReferencedTables(
+				MappingMetamodel mappingMetamodel,
+				Set<String> mutatedTables,
+				Set<String> tables) {
+			final Iterator<CollectionPersister> collectionPersisters =
+					mappingMetamodel.streamCollectionDescriptors().iterator();
+			while ( collectionPersisters.hasNext() ) {
+				final PluralAttributeMapping attributeMapping = collectionPersisters.next().getAttributeMapping();
+				final ForeignKeyDescriptor keyDescriptor =
+						attributeMapping == null ? null : attributeMapping.getKeyDescriptor();
+				if ( keyDescriptor == null ) {
+					// the foreign key can't be resolved
+					return false;
+				}
+				if ( mutatedTables.contains( keyDescriptor.getKeyTable() ) ) {
+					tables.add( keyDescriptor.getTargetTable() );
+				}
+			}
+			return true;
+		}
+
+		private static boolean collectReferencedTables(ModelPart identifierMapping, Set<String> tables) {
+			// derived identifiers map associations as part of the id
+			return !( identifierMapping instanceof EmbeddableValuedModelPart )
+					|| collectReferencedTables(
+							( (EmbeddableValuedModelPart) identifierMapping ).getEmbeddableTypeDescriptor()
+									.getAttributeMappings(),
+							tables
+					);
+		}
+
+		private static boolean collectReferencedTables(List<AttributeMapping> attributeMappings, Set<String> tables) {
+			for ( int i = 0; i < attributeMappings.size(); i++ ) {
+				final AttributeMapping attributeMapping = attributeMappings.get( i );
+				if ( attributeMapping instanceof DiscriminatedAssociationModelPart ) {
+					// the referenced table depends on the value
+					return false;
+				}
+				else if ( attributeMapping instanceof EmbeddableValuedModelPart ) {
+					final List<AttributeMapping> embeddedAttributeMappings =
+							( (EmbeddableValuedModelPart) attributeMapping ).getEmbeddableTypeDescriptor()
+									.getAttributeMappings();
+					if ( !collectReferencedTables( embeddedAttributeMappings, tables ) ) {
+						return false;
+					}
+				}
+				else if ( attributeMapping instanceof Association ) {
+					final Association association = (Association) attributeMapping;
+					if ( association.getSideNature() == ForeignKeyDescriptor.Nature.KEY ) {
+						tables.add( association.getForeignKeyDescriptor().getTargetTable() );
+					}
+				}
+			}
+			return true;
+		}
+	}
+}
@@ -51,7 +51,8 @@ public class InsertCoordinator extends AbstractMutationCoordinator {
 	public InsertCoordinator(AbstractEntityPersister entityPersister, SessionFactoryImplementor factory) {
 		super( entityPersister, factory );
 
-		insertBatchKey = new BasicBatchKey(
+		insertBatchKey = new EntityBatchKey(
+				entityPersister,
 				entityPersister.getEntityName() + "#INSERT",
 				null
 		);
@@ -11,12 +11,13 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 import jakarta.persistence.Tuple;
 
-import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 import org.hibernate.query.QueryLogging;
 import org.hibernate.query.spi.HqlInterpretation;
 import org.hibernate.query.spi.NonSelectQueryPlan;
 import org.hibernate.query.spi.ParameterMetadataImplementor;
 import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.query.spi.QueryInterpretationCacheStorage;
+import org.hibernate.query.spi.QueryInterpretationCacheStorageFactory;
 import org.hibernate.query.spi.QueryPlan;
 import org.hibernate.query.spi.SelectQueryPlan;
 import org.hibernate.query.spi.SimpleHqlInterpretationImpl;
@@ -29,30 +30,75 @@ import org.jboss.logging.Logger;
 
 /**
  * Standard QueryInterpretationCache implementation
+ * <p>
+ * The entries of each cache are weighed by the length of their query, an
+ * entry weighing {@code 1} per {@value #QUERY_LENGTH_PER_WEIGHT} characters
+ * started, so that the configured maximum size is the number of entries of
+ * short queries which fit in a cache.
  *
  * @author Steve Ebersole
  */
 public class QueryInterpretationCacheStandardImpl implements QueryInterpretationCache {
 	private static final Logger log = QueryLogging.subLogger( "plan.cache" );
 
+	/**
+	 * The number of characters of a query per unit of weight of its cached interpretations
+	 */
+	public static final int QUERY_LENGTH_PER_WEIGHT = 512;
+
 	/**
 	 * the cache of the actual plans...
 	 */
-	private final BoundedConcurrentHashMap<Key, QueryPlan> queryPlanCache;
+	private final QueryInterpretationCacheStorage<Key, QueryPlan> queryPlanCache;
 
-	private final BoundedConcurrentHashMap<String, HqlInterpretation> hqlInterpretationCache;
-	private final BoundedConcurrentHashMap<String, ParameterInterpretation> nativeQueryParamCache;
+	private final QueryInterpretationCacheStorage<String, HqlInterpretation> hqlInterpretationCache;
+	private final QueryInterpretationCacheStorage<String, ParameterInterpretation> nativeQueryParamCache;
 	private final Supplier<StatisticsImplementor> statisticsSupplier;
 
 	public QueryInterpretationCacheStandardImpl(int maxQueryPlanCount, Supplier<StatisticsImplementor> statisticsSupplier) {
+		this( maxQueryPlanCount, TinyLfuQueryInterpretationCacheStorageFactory.INSTANCE, statisticsSupplier );
+	}
+
+	public QueryInterpretationCacheStandardImpl(
+			int maxQueryPlanCount,
+			QueryInterpretationCacheStorageFactory storageFactory,
+			Supplier<StatisticsImplementor> statisticsSupplier) {
 		log.debugf( "Starting QueryPlanCache(%s)", maxQueryPlanCount );
 
-		this.queryPlanCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		this.hqlInterpretationCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		this.nativeQueryParamCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+		this.queryPlanCache = storageFactory.createStorage(
+				QueryInterpretationCacheStorageFactory.QUERY_PLANS,
+				maxQueryPlanCount,
+				(key, plan) -> weigh( key.getQueryLength() )
+		);
+		this.hqlInterpretationCache = storageFactory.createStorage(
+				QueryInterpretationCacheStorageFactory.HQL_INTERPRETATIONS,
+				maxQueryPlanCount,
+				(queryString, interpretation) -> weigh( queryString.length() )
+		);
+		this.nativeQueryParamCache = storageFactory.createStorage(
+				QueryInterpretationCacheStorageFactory.NATIVE_QUERY_PARAMETERS,
+				maxQueryPlanCount,
+				(queryString, interpretation) -> weigh( queryString.length() )
+		);
 		this.statisticsSupplier = statisticsSupplier;
 	}
 
+	private static long weigh(int queryLength) {
+		return Math.max( 1, ( queryLength + QUERY_LENGTH_PER_WEIGHT - 1 ) / QUERY_LENGTH_PER_WEIGHT );
+	}
+
+	public QueryInterpretationCacheStorage<Key, QueryPlan> getQueryPlanStorage() {
+		return queryPlanCache;
+	}
+
+	public QueryInterpretationCacheStorage<String, HqlInterpretation> getHqlInterpretationStorage() {
+		return hqlInterpretationCache;
+	}
+
+	public QueryInterpretationCacheStorage<String, ParameterInterpretation> getNativeQueryParameterStorage() {
+		return nativeQueryParamCache;
+	}
+
 	@Override
 	public int getNumberOfCachedHqlInterpretations() {
 		return hqlInterpretationCache.size();
@@ -91,12 +137,24 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 	@Override
 	public NonSelectQueryPlan getNonSelectQueryPlan(Key key) {
 		log.tracef( "QueryPlan#getNonSelectQueryPlan(%s)", key );
-		return null;
+		final NonSelectQueryPlan cached = (NonSelectQueryPlan) queryPlanCache.get( key );
+		if ( cached != null ) {
+			final StatisticsImplementor statistics = statisticsSupplier.get();
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.queryPlanCacheHit( key.getQueryString() );
+			}
+		}
+		return cached;
 	}
 
 	@Override
 	public void cacheNonSelectQueryPlan(Key key, NonSelectQueryPlan plan) {
 		log.tracef( "QueryPlan#cacheNonSelectQueryPlan(%s)", key );
+		queryPlanCache.put( key.prepareForStore(), plan );
+		final StatisticsImplementor statistics = statisticsSupplier.get();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.queryPlanCacheMiss( key.getQueryString() );
+		}
 	}
 
 	@Override
@@ -182,7 +240,15 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 
 	@Override
 	public void close() {
-		// todo (6.0) : clear maps/caches and LOG
+		log.debugf(
+				"Closing QueryPlanCache - plans: %s hits, %s misses, %s evictions; HQL interpretations: %s hits, %s misses, %s evictions",
+				queryPlanCache.getHitCount(),
+				queryPlanCache.getMissCount(),
+				queryPlanCache.getEvictionCount(),
+				hqlInterpretationCache.getHitCount(),
+				hqlInterpretationCache.getMissCount(),
+				hqlInterpretationCache.getEvictionCount()
+		);
 		hqlInterpretationCache.clear();
 		nativeQueryParamCache.clear();
 		queryPlanCache.clear();
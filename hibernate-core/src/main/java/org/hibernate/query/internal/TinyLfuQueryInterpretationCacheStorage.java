@@ -0,0 +1,70 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.internal;
+
+import org.hibernate.internal.util.collections.TinyLfuCache;
+import org.hibernate.query.spi.QueryInterpretationCacheStorage;
+
+/**
+ * The default {@link QueryInterpretationCacheStorage}, keeping the entries
+ * in a {@link TinyLfuCache} bounded by their total weight, so that a few
+ * large plans cannot occupy the room of many small ones, and one-off
+ * queries do not evict frequently executed ones.
+ */
+public class TinyLfuQueryInterpretationCacheStorage<K, V> implements QueryInterpretationCacheStorage<K, V> {
+	private final TinyLfuCache<K, V> cache;
+
+	public TinyLfuQueryInterpretationCacheStorage(long maximumWeight, Weigher<? super K, ? super V> weigher) {
+		this.cache = new TinyLfuCache<>( maximumWeight, weigher::weigh );
+	}
+
+	@Override
+	public V get(K key) {
+		return cache.get( key );
+	}
+
+	@Override
+	public void put(K key, V value) {
+		cache.put( key, value );
+	}
+
+	@Override
+	public int size() {
+		return (int) cache.size();
+	}
+
+	@Override
+	public void clear() {
+		cache.clear();
+	}
+
+	@Override
+	public long getHitCount() {
+		return cache.getHitCount();
+	}
+
+	@Override
+	public long getMissCount() {
+		return cache.getMissCount();
+	}
+
+	@Override
+	public long getEvictionCount() {
+		return cache.getEvictionCount();
+	}
+
+	/**
+	 * The total weight of the entries
+	 */
+	public long getWeightedSize() {
+		return cache.weightedSize();
+	}
+
+	public long getMaximumWeight() {
+		return cache.getMaximumWeight();
+	}
+}
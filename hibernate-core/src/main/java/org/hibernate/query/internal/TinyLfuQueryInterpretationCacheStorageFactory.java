@@ -0,0 +1,25 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.internal;
+
+import org.hibernate.query.spi.QueryInterpretationCacheStorage;
+import org.hibernate.query.spi.QueryInterpretationCacheStorageFactory;
+
+/**
+ * Creates a {@link TinyLfuQueryInterpretationCacheStorage} for each cache.
+ */
+public class TinyLfuQueryInterpretationCacheStorageFactory implements QueryInterpretationCacheStorageFactory {
+	public static final TinyLfuQueryInterpretationCacheStorageFactory INSTANCE = new TinyLfuQueryInterpretationCacheStorageFactory();
+
+	@Override
+	public <K, V> QueryInterpretationCacheStorage<K, V> createStorage(
+			String cacheName,
+			int maximumWeight,
+			QueryInterpretationCacheStorage.Weigher<? super K, ? super V> weigher) {
+		return new TinyLfuQueryInterpretationCacheStorage<>( maximumWeight, weigher );
+	}
+}
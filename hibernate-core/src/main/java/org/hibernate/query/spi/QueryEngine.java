@@ -17,6 +17,7 @@ import org.hibernate.Incubating;
 import org.hibernate.boot.model.FunctionContributions;
 import org.hibernate.boot.model.FunctionContributor;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.registry.selector.spi.StrategySelector;
 import org.hibernate.boot.spi.BootstrapContext;
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.cfg.AvailableSettings;
@@ -34,6 +35,7 @@ import org.hibernate.query.hql.internal.StandardHqlTranslator;
 import org.hibernate.query.hql.spi.SqmCreationOptions;
 import org.hibernate.query.internal.QueryInterpretationCacheDisabledImpl;
 import org.hibernate.query.internal.QueryInterpretationCacheStandardImpl;
+import org.hibernate.query.internal.TinyLfuQueryInterpretationCacheStorageFactory;
 import org.hibernate.query.named.NamedObjectRepository;
 import org.hibernate.query.sqm.NodeBuilder;
 import org.hibernate.query.sqm.function.SqmFunctionDescriptor;
@@ -104,7 +106,11 @@ public class QueryEngine {
 				hqlTranslator,
 				sqmTranslatorFactory,
 				sessionFactory.getServiceRegistry().getService( NativeQueryInterpreter.class ),
-				buildInterpretationCache( sessionFactory::getStatistics, sessionFactory.getProperties() ),
+				buildInterpretationCache(
+						sessionFactory::getStatistics,
+						sessionFactory.getProperties(),
+						sessionFactory.getServiceRegistry()
+				),
 				metadata.getTypeConfiguration(),
 				dialect,
 				customSqmFunctionRegistry,
@@ -257,7 +263,8 @@ public class QueryEngine {
 
 		this.interpretationCache = buildInterpretationCache(
 				() -> serviceRegistry.getService( StatisticsImplementor.class ),
-				serviceRegistry.getService( ConfigurationService.class ).getSettings()
+				serviceRegistry.getService( ConfigurationService.class ).getSettings(),
+				serviceRegistry
 		);
 	}
 
@@ -347,7 +354,8 @@ public class QueryEngine {
 
 	private static QueryInterpretationCache buildInterpretationCache(
 			Supplier<StatisticsImplementor> statisticsSupplier,
-			Map properties) {
+			Map properties,
+			ServiceRegistry serviceRegistry) {
 		final boolean explicitUseCache = ConfigurationHelper.getBoolean(
 				AvailableSettings.QUERY_PLAN_CACHE_ENABLED,
 				properties,
@@ -365,7 +373,14 @@ public class QueryEngine {
 					? explicitMaxPlanSize
 					: DEFAULT_QUERY_PLAN_MAX_COUNT;
 
-			return new QueryInterpretationCacheStandardImpl( size, statisticsSupplier );
+			final QueryInterpretationCacheStorageFactory storageFactory = serviceRegistry.getService( StrategySelector.class )
+					.resolveDefaultableStrategy(
+							QueryInterpretationCacheStorageFactory.class,
+							properties.get( AvailableSettings.QUERY_PLAN_CACHE_STORAGE_FACTORY ),
+							TinyLfuQueryInterpretationCacheStorageFactory.INSTANCE
+					);
+
+			return new QueryInterpretationCacheStandardImpl( size, storageFactory, statisticsSupplier );
 		}
 		else {
 			// disabled
@@ -30,6 +30,14 @@ public interface QueryInterpretationCache {
 			return this;
 		}
 		String getQueryString();
+
+		/**
+		 * The length of the query, or of an equivalent rendering of it, from
+		 * which the size of the interpretations cached under this key is estimated.
+		 */
+		default int getQueryLength() {
+			return getQueryString().length();
+		}
 	}
 
 	int getNumberOfCachedHqlInterpretations();
@@ -0,0 +1,74 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.spi;
+
+import java.util.function.Function;
+
+import org.hibernate.Incubating;
+
+/**
+ * The storage of one of the caches maintained by the
+ * {@linkplain QueryInterpretationCache query interpretation cache}:
+ * the query plans, the HQL interpretations or the parameters of native
+ * queries.  The storage is bounded, and decides which entries to evict
+ * when it is full.
+ *
+ * @param <K> The type of the keys
+ * @param <V> The type of the cached interpretations
+ *
+ * @see QueryInterpretationCacheStorageFactory
+ */
+@Incubating
+public interface QueryInterpretationCacheStorage<K, V> {
+	/**
+	 * Estimates the weight of an entry, relative to the entry of a short query
+	 * which weighs {@code 1}.
+	 */
+	@FunctionalInterface
+	interface Weigher<K, V> {
+		long weigh(K key, V value);
+	}
+
+	/**
+	 * The cached value, or {@code null} if there is none, counting
+	 * as either a hit or a miss
+	 */
+	V get(K key);
+
+	void put(K key, V value);
+
+	/**
+	 * The cached value, or the value created by the given function and put
+	 * in the cache.  The function might be called concurrently for the same
+	 * key.
+	 */
+	default V computeIfAbsent(K key, Function<? super K, ? extends V> creator) {
+		final V existing = get( key );
+		if ( existing != null ) {
+			return existing;
+		}
+		final V value = creator.apply( key );
+		put( key, value );
+		return value;
+	}
+
+	/**
+	 * The number of cached entries
+	 */
+	int size();
+
+	void clear();
+
+	long getHitCount();
+
+	long getMissCount();
+
+	/**
+	 * The number of entries evicted to make room for others
+	 */
+	long getEvictionCount();
+}
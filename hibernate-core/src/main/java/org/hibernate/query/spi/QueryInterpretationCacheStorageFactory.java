@@ -0,0 +1,52 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.spi;
+
+import org.hibernate.Incubating;
+
+/**
+ * Creates the {@linkplain QueryInterpretationCacheStorage storage} of the
+ * caches maintained by the standard
+ * {@linkplain QueryInterpretationCache query interpretation cache}.
+ * <p>
+ * The default implementation evicts entries according to the W-TinyLFU
+ * policy, bounding the total weight of the entries.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_STORAGE_FACTORY
+ */
+@Incubating
+public interface QueryInterpretationCacheStorageFactory {
+	/**
+	 * The name of the cache of query plans
+	 */
+	String QUERY_PLANS = "query-plans";
+
+	/**
+	 * The name of the cache of HQL interpretations
+	 */
+	String HQL_INTERPRETATIONS = "hql-interpretations";
+
+	/**
+	 * The name of the cache of the parameters of native queries
+	 */
+	String NATIVE_QUERY_PARAMETERS = "native-query-parameters";
+
+	/**
+	 * Create the storage of a cache.
+	 *
+	 * @param cacheName One of {@link #QUERY_PLANS}, {@link #HQL_INTERPRETATIONS}
+	 * or {@link #NATIVE_QUERY_PARAMETERS}
+	 * @param maximumWeight The maximum total weight of the entries, as configured by
+	 * {@value org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_MAX_SIZE}
+	 * @param weigher Estimates the weight of the entries, which implementations bounded by
+	 * the number of entries may ignore
+	 */
+	<K, V> QueryInterpretationCacheStorage<K, V> createStorage(
+			String cacheName,
+			int maximumWeight,
+			QueryInterpretationCacheStorage.Weigher<? super K, ? super V> weigher);
+}
@@ -352,7 +352,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 				},
 				session
 		);
-		sqmInterpretation.getJdbcSelect().bindFilterJdbcParameters( jdbcParameterBindings );
+		sqmInterpretation.getJdbcSelect().bindFilterJdbcParameters( jdbcParameterBindings, session.getLoadQueryInfluencers() );
 		return jdbcParameterBindings;
 	}
 
@@ -0,0 +1,1178 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.metamodel.model.domain.internal.AnyDiscriminatorSqmPath;
+import org.hibernate.query.sqm.SemanticQueryWalker;
+import org.hibernate.query.sqm.function.SelfRenderingSqmWindowFunction;
+import org.hibernate.query.sqm.sql.internal.SelfInterpretingSqmPath;
+import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.query.sqm.tree.SqmVisitableNode;
+import org.hibernate.query.sqm.tree.cte.SqmCteContainer;
+import org.hibernate.query.sqm.tree.cte.SqmCteStatement;
+import org.hibernate.query.sqm.tree.delete.SqmDeleteStatement;
+import org.hibernate.query.sqm.tree.domain.NonAggregatedCompositeSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmAnyValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmBasicValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmCorrelatedRoot;
+import org.hibernate.query.sqm.tree.domain.SqmCorrelation;
+import org.hibernate.query.sqm.tree.domain.SqmCteRoot;
+import org.hibernate.query.sqm.tree.domain.SqmDerivedRoot;
+import org.hibernate.query.sqm.tree.domain.SqmElementAggregateFunction;
+import org.hibernate.query.sqm.tree.domain.SqmEmbeddedValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmEntityValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmFkExpression;
+import org.hibernate.query.sqm.tree.domain.SqmIndexAggregateFunction;
+import org.hibernate.query.sqm.tree.domain.SqmIndexedCollectionAccessPath;
+import org.hibernate.query.sqm.tree.domain.SqmMapEntryReference;
+import org.hibernate.query.sqm.tree.domain.SqmPath;
+import org.hibernate.query.sqm.tree.domain.SqmPluralPartJoin;
+import org.hibernate.query.sqm.tree.domain.SqmPluralValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmTreatedPath;
+import org.hibernate.query.sqm.tree.expression.JpaCriteriaParameter;
+import org.hibernate.query.sqm.tree.expression.SqmAggregateFunction;
+import org.hibernate.query.sqm.tree.expression.SqmAny;
+import org.hibernate.query.sqm.tree.expression.SqmAnyDiscriminatorValue;
+import org.hibernate.query.sqm.tree.expression.SqmBinaryArithmetic;
+import org.hibernate.query.sqm.tree.expression.SqmByUnit;
+import org.hibernate.query.sqm.tree.expression.SqmCaseSearched;
+import org.hibernate.query.sqm.tree.expression.SqmCaseSimple;
+import org.hibernate.query.sqm.tree.expression.SqmCastTarget;
+import org.hibernate.query.sqm.tree.expression.SqmCoalesce;
+import org.hibernate.query.sqm.tree.expression.SqmCollation;
+import org.hibernate.query.sqm.tree.expression.SqmCollectionSize;
+import org.hibernate.query.sqm.tree.expression.SqmDistinct;
+import org.hibernate.query.sqm.tree.expression.SqmDurationUnit;
+import org.hibernate.query.sqm.tree.expression.SqmEnumLiteral;
+import org.hibernate.query.sqm.tree.expression.SqmEvery;
+import org.hibernate.query.sqm.tree.expression.SqmExpression;
+import org.hibernate.query.sqm.tree.expression.SqmExtractUnit;
+import org.hibernate.query.sqm.tree.expression.SqmFieldLiteral;
+import org.hibernate.query.sqm.tree.expression.SqmFormat;
+import org.hibernate.query.sqm.tree.expression.SqmFunction;
+import org.hibernate.query.sqm.tree.expression.SqmLiteral;
+import org.hibernate.query.sqm.tree.expression.SqmLiteralEntityType;
+import org.hibernate.query.sqm.tree.expression.SqmModifiedSubQueryExpression;
+import org.hibernate.query.sqm.tree.expression.SqmNamedParameter;
+import org.hibernate.query.sqm.tree.expression.SqmOrderedSetAggregateFunction;
+import org.hibernate.query.sqm.tree.expression.SqmOver;
+import org.hibernate.query.sqm.tree.expression.SqmOverflow;
+import org.hibernate.query.sqm.tree.expression.SqmParameterizedEntityType;
+import org.hibernate.query.sqm.tree.expression.SqmPositionalParameter;
+import org.hibernate.query.sqm.tree.expression.SqmStar;
+import org.hibernate.query.sqm.tree.expression.SqmSummarization;
+import org.hibernate.query.sqm.tree.expression.SqmToDuration;
+import org.hibernate.query.sqm.tree.expression.SqmTrimSpecification;
+import org.hibernate.query.sqm.tree.expression.SqmTuple;
+import org.hibernate.query.sqm.tree.expression.SqmUnaryOperation;
+import org.hibernate.query.sqm.tree.expression.ValueBindJpaCriteriaParameter;
+import org.hibernate.query.sqm.tree.from.SqmAttributeJoin;
+import org.hibernate.query.sqm.tree.from.SqmCrossJoin;
+import org.hibernate.query.sqm.tree.from.SqmCteJoin;
+import org.hibernate.query.sqm.tree.from.SqmDerivedJoin;
+import org.hibernate.query.sqm.tree.from.SqmEntityJoin;
+import org.hibernate.query.sqm.tree.from.SqmFrom;
+import org.hibernate.query.sqm.tree.from.SqmFromClause;
+import org.hibernate.query.sqm.tree.from.SqmJoin;
+import org.hibernate.query.sqm.tree.from.SqmRoot;
+import org.hibernate.query.sqm.tree.insert.SqmInsertSelectStatement;
+import org.hibernate.query.sqm.tree.insert.SqmInsertValuesStatement;
+import org.hibernate.query.sqm.tree.insert.SqmValues;
+import org.hibernate.query.sqm.tree.predicate.SqmBetweenPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmBooleanExpressionPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmComparisonPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmEmptinessPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmExistsPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmGroupedPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmInListPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmInSubQueryPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmJunctionPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmLikePredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmMemberOfPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmNegatedPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmNullnessPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmWhereClause;
+import org.hibernate.query.sqm.tree.select.SqmDynamicInstantiation;
+import org.hibernate.query.sqm.tree.select.SqmDynamicInstantiationArgument;
+import org.hibernate.query.sqm.tree.select.SqmJpaCompoundSelection;
+import org.hibernate.query.sqm.tree.select.SqmOrderByClause;
+import org.hibernate.query.sqm.tree.select.SqmQueryGroup;
+import org.hibernate.query.sqm.tree.select.SqmQueryPart;
+import org.hibernate.query.sqm.tree.select.SqmQuerySpec;
+import org.hibernate.query.sqm.tree.select.SqmSelectClause;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.query.sqm.tree.select.SqmSelectableNode;
+import org.hibernate.query.sqm.tree.select.SqmSelection;
+import org.hibernate.query.sqm.tree.select.SqmSortSpecification;
+import org.hibernate.query.sqm.tree.select.SqmSubQuery;
+import org.hibernate.query.sqm.tree.update.SqmAssignment;
+import org.hibernate.query.sqm.tree.update.SqmSetClause;
+import org.hibernate.query.sqm.tree.update.SqmUpdateStatement;
+
+/**
+ * The structure of a criteria select statement, that is the statement with the values
+ * bound to its parameters left out, under which the query plan of the criteria query
+ * is cached.  Two criteria queries have equal structures if their SQM trees are equal
+ * up to the identity of the nodes: from elements are compared by their position in the
+ * statement, parameters by the position of their first occurrence, their anticipated
+ * type and whether they allow multi-valued bindings, and literals, types, attributes
+ * and aliases by equality.
+ * <p>
+ * Since a query plan refers to the parameters of the query it was built for, a plan
+ * shared between structurally equal queries is executed with the parameters of the
+ * executing query matched {@linkplain #getParameters() by position}.
+ *
+ * @see CriteriaSelectQueryPlan
+ * @see SqmInterpretationsKey
+ */
+public final class CriteriaQueryStructure {
+	private final String structure;
+	private final List<Object> operands;
+	private final List<JpaCriteriaParameter<?>> parameters;
+	private final int hashCode;
+
+	private CriteriaQueryStructure(String structure, List<Object> operands, List<JpaCriteriaParameter<?>> parameters) {
+		this.structure = structure;
+		this.operands = operands;
+		this.parameters = parameters;
+		this.hashCode = 31 * structure.hashCode() + operands.hashCode();
+	}
+
+	/**
+	 * Determine the structure of the given criteria statement.
+	 *
+	 * @return The structure, or {@code null} if the statement is not a select statement
+	 * or contains nodes for which no structure is determined, e.g. CTEs or derived roots,
+	 * in which case the query plan of the query is not cached
+	 */
+	public static CriteriaQueryStructure from(SqmStatement<?> statement, DomainParameterXref domainParameterXref) {
+		if ( !( statement instanceof SqmSelectStatement<?> ) ) {
+			return null;
+		}
+		final StructureWalker walker = new StructureWalker();
+		try {
+			walker.visitSelectStatement( (SqmSelectStatement<?>) statement );
+		}
+		catch (UnsupportedNodeException e) {
+			return null;
+		}
+		if ( walker.parameters.size() != domainParameterXref.getQueryParameterCount() ) {
+			// some parameters are not distinguishable from each other
+			return null;
+		}
+		return new CriteriaQueryStructure( walker.sb.toString(), walker.operands, walker.parameters );
+	}
+
+	/**
+	 * The parameters of the criteria query, in the order of their first occurrence
+	 */
+	public List<JpaCriteriaParameter<?>> getParameters() {
+		return parameters;
+	}
+
+	/**
+	 * The length of the rendered structure, which grows with the number of nodes of the query
+	 */
+	public int getLength() {
+		return structure.length();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if ( this == o ) {
+			return true;
+		}
+		if ( !( o instanceof CriteriaQueryStructure ) ) {
+			return false;
+		}
+		final CriteriaQueryStructure that = (CriteriaQueryStructure) o;
+		return hashCode == that.hashCode
+				&& structure.equals( that.structure )
+				&& operands.equals( that.operands );
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
+	@Override
+	public String toString() {
+		return structure;
+	}
+
+	private static class UnsupportedNodeException extends RuntimeException {
+		public UnsupportedNodeException() {
+			super( null, null, false, false );
+		}
+	}
+
+	/**
+	 * Renders the nodes of the statement to a string, while collecting the operands
+	 * which are compared by equality: literal values, types, enum values and aliases.
+	 */
+	private static class StructureWalker implements SemanticQueryWalker<Object> {
+		private final StringBuilder sb = new StringBuilder();
+		private final List<Object> operands = new ArrayList<>();
+		private final List<JpaCriteriaParameter<?>> parameters = new ArrayList<>();
+		private final Map<JpaCriteriaParameter<?>, Integer> parameterPositions = new IdentityHashMap<>();
+		private final Map<SqmFrom<?, ?>, Integer> fromPositions = new IdentityHashMap<>();
+
+		private void open(String name) {
+			sb.append( name ).append( '(' );
+		}
+
+		private void close() {
+			sb.append( ')' );
+		}
+
+		private void operand(Object operand) {
+			sb.append( '$' );
+			operands.add( operand );
+		}
+
+		private void node(SqmVisitableNode node) {
+			if ( node == null ) {
+				sb.append( '-' );
+			}
+			else {
+				node.accept( this );
+			}
+		}
+
+		private void nodes(List<? extends SqmVisitableNode> nodes) {
+			sb.append( '[' );
+			for ( SqmVisitableNode node : nodes ) {
+				node( node );
+			}
+			sb.append( ']' );
+		}
+
+		private Object unsupported() {
+			throw new UnsupportedNodeException();
+		}
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// statements
+
+		@Override
+		public Object visitSelectStatement(SqmSelectStatement<?> statement) {
+			visitCteContainer( statement );
+			open( "select" );
+			node( statement.getQueryPart() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitUpdateStatement(SqmUpdateStatement<?> statement) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitSetClause(SqmSetClause setClause) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitAssignment(SqmAssignment<?> assignment) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitInsertSelectStatement(SqmInsertSelectStatement<?> statement) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitInsertValuesStatement(SqmInsertValuesStatement<?> statement) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitDeleteStatement(SqmDeleteStatement<?> statement) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitCteStatement(SqmCteStatement<?> sqmCteStatement) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitCteContainer(SqmCteContainer consumer) {
+			if ( !consumer.getCteStatements().isEmpty() ) {
+				unsupported();
+			}
+			return null;
+		}
+
+		@Override
+		public Object visitValues(SqmValues values) {
+			return unsupported();
+		}
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// query parts
+
+		@Override
+		public Object visitQueryGroup(SqmQueryGroup<?> queryGroup) {
+			open( "group" );
+			operand( queryGroup.getSetOperator() );
+			nodes( queryGroup.getQueryParts() );
+			visitQueryPartTail( queryGroup );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitQuerySpec(SqmQuerySpec<?> querySpec) {
+			final SqmFromClause fromClause = querySpec.getFromClause();
+			if ( fromClause == null ) {
+				unsupported();
+			}
+			// register the from elements first, since they may be referenced before their declaration
+			for ( SqmRoot<?> root : fromClause.getRoots() ) {
+				registerFrom( root );
+			}
+			open( "spec" );
+			visitFromClause( fromClause );
+			visitSelectClause( querySpec.getSelectClause() );
+			visitWhereClause( querySpec.getWhereClause() );
+			visitGroupByClause( querySpec.getGroupByClauseExpressions() );
+			visitHavingClause( querySpec.getHavingClausePredicate() );
+			visitQueryPartTail( querySpec );
+			close();
+			return null;
+		}
+
+		private void visitQueryPartTail(SqmQueryPart<?> queryPart) {
+			visitOrderByClause( queryPart.getOrderByClause() );
+			visitOffsetExpression( queryPart.getOffsetExpression() );
+			visitFetchExpression( queryPart.getFetchExpression() );
+			operand( queryPart.getFetchClauseType() );
+		}
+
+		@Override
+		public Object visitSelectClause(SqmSelectClause selectClause) {
+			open( "selection" );
+			if ( selectClause != null ) {
+				operand( selectClause.isDistinct() );
+				nodes( selectClause.getSelections() );
+			}
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitSelection(SqmSelection<?> selection) {
+			node( selection.getSelectableNode() );
+			operand( selection.getAlias() );
+			return null;
+		}
+
+		@Override
+		public Object visitDynamicInstantiation(SqmDynamicInstantiation<?> sqmDynamicInstantiation) {
+			open( "new" );
+			operand( sqmDynamicInstantiation.getInstantiationTarget().getNature() );
+			operand( sqmDynamicInstantiation.getInstantiationTarget().getJavaType() );
+			for ( SqmDynamicInstantiationArgument<?> argument : sqmDynamicInstantiation.getArguments() ) {
+				node( argument.getSelectableNode() );
+				operand( argument.getAlias() );
+			}
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitJpaCompoundSelection(SqmJpaCompoundSelection<?> selection) {
+			open( "compound" );
+			operand( selection.getJavaType() );
+			for ( SqmSelectableNode<?> selectionItem : selection.getSelectionItems() ) {
+				node( selectionItem );
+				operand( selectionItem.getAlias() );
+			}
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitWhereClause(SqmWhereClause whereClause) {
+			open( "where" );
+			node( whereClause == null ? null : whereClause.getPredicate() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitGroupByClause(List<SqmExpression<?>> groupByClauseExpressions) {
+			open( "groupBy" );
+			if ( groupByClauseExpressions != null ) {
+				nodes( groupByClauseExpressions );
+			}
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitHavingClause(SqmPredicate clause) {
+			open( "having" );
+			node( clause );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitOrderByClause(SqmOrderByClause orderByClause) {
+			open( "orderBy" );
+			if ( orderByClause != null && orderByClause.getSortSpecifications() != null ) {
+				for ( SqmSortSpecification sortSpecification : orderByClause.getSortSpecifications() ) {
+					visitSortSpecification( sortSpecification );
+				}
+			}
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitSortSpecification(SqmSortSpecification sortSpecification) {
+			open( "sort" );
+			node( sortSpecification.getSortExpression() );
+			operand( sortSpecification.getSortOrder() );
+			operand( sortSpecification.getNullPrecedence() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitOffsetExpression(SqmExpression<?> expression) {
+			open( "offset" );
+			node( expression );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitFetchExpression(SqmExpression<?> expression) {
+			open( "fetch" );
+			node( expression );
+			close();
+			return null;
+		}
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// from clause
+
+		private void registerFrom(SqmFrom<?, ?> from) {
+			fromPositions.put( from, fromPositions.size() );
+			from.visitSqmJoins( this::registerFrom );
+			for ( SqmFrom<?, ?> treat : from.getSqmTreats() ) {
+				registerFrom( treat );
+			}
+		}
+
+		private void reference(SqmFrom<?, ?> from) {
+			final Integer position = fromPositions.get( from );
+			if ( position == null ) {
+				unsupported();
+			}
+			sb.append( '#' ).append( position );
+		}
+
+		@Override
+		public Object visitFromClause(SqmFromClause fromClause) {
+			open( "from" );
+			for ( SqmRoot<?> root : fromClause.getRoots() ) {
+				renderFrom( root );
+				if ( root.getOrderedJoins() != null ) {
+					open( "ordered" );
+					for ( SqmJoin<?, ?> join : root.getOrderedJoins() ) {
+						reference( join );
+					}
+					close();
+				}
+			}
+			close();
+			return null;
+		}
+
+		private void renderFrom(SqmFrom<?, ?> from) {
+			reference( from );
+			if ( from instanceof SqmTreatedPath<?, ?> ) {
+				open( "treat" );
+				operand( ( (SqmTreatedPath<?, ?>) from ).getTreatTarget() );
+			}
+			else if ( from instanceof SqmCorrelation<?, ?> ) {
+				if ( !( from instanceof SqmCorrelatedRoot<?> ) ) {
+					unsupported();
+				}
+				open( "correlation" );
+				reference( from.getCorrelationParent() );
+			}
+			else if ( from instanceof SqmDerivedRoot<?> || from instanceof SqmCteRoot<?> ) {
+				unsupported();
+			}
+			else if ( from instanceof SqmRoot<?> ) {
+				open( "root" );
+				operand( ( (SqmRoot<?>) from ).getModel() );
+			}
+			else if ( from instanceof SqmAttributeJoin<?, ?> ) {
+				final SqmAttributeJoin<?, ?> join = (SqmAttributeJoin<?, ?>) from;
+				open( "join" );
+				sb.append( join.getReferencedPathSource().getPathName() );
+				operand( join.getSqmJoinType() );
+				operand( join.isFetched() );
+				node( join.getJoinPredicate() );
+			}
+			else if ( from instanceof SqmEntityJoin<?> ) {
+				final SqmEntityJoin<?> join = (SqmEntityJoin<?>) from;
+				open( "entityJoin" );
+				operand( join.getModel() );
+				operand( join.getSqmJoinType() );
+				node( join.getJoinPredicate() );
+			}
+			else if ( from instanceof SqmCrossJoin<?> ) {
+				open( "crossJoin" );
+				operand( ( (SqmCrossJoin<?>) from ).getReferencedPathSource() );
+			}
+			else {
+				unsupported();
+			}
+			from.visitSqmJoins( this::renderFrom );
+			for ( SqmFrom<?, ?> treat : from.getSqmTreats() ) {
+				renderFrom( treat );
+			}
+			close();
+		}
+
+		@Override
+		public Object visitRootPath(SqmRoot<?> sqmRoot) {
+			reference( sqmRoot );
+			return null;
+		}
+
+		@Override
+		public Object visitRootDerived(SqmDerivedRoot<?> sqmRoot) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitRootCte(SqmCteRoot<?> sqmRoot) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitCrossJoin(SqmCrossJoin<?> joinedFromElement) {
+			reference( joinedFromElement );
+			return null;
+		}
+
+		@Override
+		public Object visitPluralPartJoin(SqmPluralPartJoin<?, ?> joinedFromElement) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitQualifiedEntityJoin(SqmEntityJoin<?> joinedFromElement) {
+			reference( joinedFromElement );
+			return null;
+		}
+
+		@Override
+		public Object visitQualifiedAttributeJoin(SqmAttributeJoin<?, ?> joinedFromElement) {
+			reference( joinedFromElement );
+			return null;
+		}
+
+		@Override
+		public Object visitQualifiedDerivedJoin(SqmDerivedJoin<?> joinedFromElement) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitQualifiedCteJoin(SqmCteJoin<?> joinedFromElement) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitCorrelation(SqmCorrelation<?, ?> correlation) {
+			reference( correlation );
+			return null;
+		}
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// paths
+
+		private void renderSimplePath(SqmPath<?> path) {
+			open( "path" );
+			node( path.getLhs() );
+			sb.append( path.getReferencedPathSource().getPathName() );
+			close();
+		}
+
+		@Override
+		public Object visitBasicValuedPath(SqmBasicValuedSimplePath<?> path) {
+			renderSimplePath( path );
+			return null;
+		}
+
+		@Override
+		public Object visitEmbeddableValuedPath(SqmEmbeddedValuedSimplePath<?> path) {
+			renderSimplePath( path );
+			return null;
+		}
+
+		@Override
+		public Object visitAnyValuedValuedPath(SqmAnyValuedSimplePath<?> path) {
+			renderSimplePath( path );
+			return null;
+		}
+
+		@Override
+		public Object visitNonAggregatedCompositeValuedPath(NonAggregatedCompositeSimplePath<?> path) {
+			renderSimplePath( path );
+			return null;
+		}
+
+		@Override
+		public Object visitEntityValuedPath(SqmEntityValuedSimplePath<?> path) {
+			renderSimplePath( path );
+			return null;
+		}
+
+		@Override
+		public Object visitPluralValuedPath(SqmPluralValuedSimplePath<?> path) {
+			renderSimplePath( path );
+			return null;
+		}
+
+		@Override
+		public Object visitFkExpression(SqmFkExpression<?> fkExpression) {
+			open( "fk" );
+			node( fkExpression.getToOnePath() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitSelfInterpretingSqmPath(SelfInterpretingSqmPath<?> sqmPath) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitIndexedPluralAccessPath(SqmIndexedCollectionAccessPath<?> path) {
+			open( "index" );
+			node( path.getLhs() );
+			node( path.getSelectorExpression() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitElementAggregateFunction(SqmElementAggregateFunction<?> path) {
+			open( "elements" );
+			operand( path.getFunctionName() );
+			node( path.getLhs() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitIndexAggregateFunction(SqmIndexAggregateFunction<?> path) {
+			open( "indices" );
+			operand( path.getFunctionName() );
+			node( path.getLhs() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitTreatedPath(SqmTreatedPath<?, ?> sqmTreatedPath) {
+			if ( sqmTreatedPath instanceof SqmFrom<?, ?> ) {
+				reference( (SqmFrom<?, ?>) sqmTreatedPath );
+			}
+			else {
+				open( "treat" );
+				node( sqmTreatedPath.getWrappedPath() );
+				operand( sqmTreatedPath.getTreatTarget() );
+				close();
+			}
+			return null;
+		}
+
+		@Override
+		public Object visitPluralAttributeSizeFunction(SqmCollectionSize function) {
+			open( "size" );
+			node( function.getPluralPath() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitMapEntryFunction(SqmMapEntryReference<?, ?> function) {
+			open( "entry" );
+			node( function.getMapPath() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitAnyDiscriminatorTypeExpression(AnyDiscriminatorSqmPath expression) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitAnyDiscriminatorTypeValueExpression(SqmAnyDiscriminatorValue expression) {
+			return unsupported();
+		}
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// parameters and literals
+
+		@Override
+		public Object visitJpaCriteriaParameter(JpaCriteriaParameter<?> expression) {
+			Integer position = parameterPositions.get( expression );
+			if ( position == null ) {
+				position = parameters.size();
+				parameterPositions.put( expression, position );
+				parameters.add( expression );
+			}
+			sb.append( expression instanceof ValueBindJpaCriteriaParameter<?> ? "?v" : "?" ).append( position );
+			operand( expression.getAnticipatedType() );
+			operand( expression.allowsMultiValuedBinding() );
+			return null;
+		}
+
+		@Override
+		public Object visitPositionalParameterExpression(SqmPositionalParameter<?> expression) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitNamedParameterExpression(SqmNamedParameter<?> expression) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitLiteral(SqmLiteral<?> literal) {
+			open( "literal" );
+			operand( literal.getNodeType() );
+			operand( literal.getLiteralValue() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitEnumLiteral(SqmEnumLiteral<?> sqmEnumLiteral) {
+			open( "enum" );
+			operand( sqmEnumLiteral.getEnumValue() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitFieldLiteral(SqmFieldLiteral<?> sqmFieldLiteral) {
+			open( "field" );
+			operand( sqmFieldLiteral.getFieldName() );
+			operand( sqmFieldLiteral.getValue() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitEntityTypeLiteralExpression(SqmLiteralEntityType<?> expression) {
+			open( "entityType" );
+			operand( expression.getNodeType() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitParameterizedEntityTypeExpression(SqmParameterizedEntityType<?> expression) {
+			open( "type" );
+			node( expression.getDiscriminatorSource() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitCollation(SqmCollation sqmCollate) {
+			open( "collation" );
+			operand( sqmCollate.getLiteralValue() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitFormat(SqmFormat sqmFormat) {
+			open( "format" );
+			operand( sqmFormat.getLiteralValue() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitFullyQualifiedClass(Class<?> namedClass) {
+			return unsupported();
+		}
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// expressions
+
+		@Override
+		public Object visitTuple(SqmTuple<?> sqmTuple) {
+			open( "tuple" );
+			nodes( sqmTuple.getGroupedExpressions() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitBinaryArithmeticExpression(SqmBinaryArithmetic<?> expression) {
+			open( "arithmetic" );
+			operand( expression.getOperator() );
+			node( expression.getLeftHandOperand() );
+			node( expression.getRightHandOperand() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitUnaryOperationExpression(SqmUnaryOperation<?> expression) {
+			open( "unary" );
+			operand( expression.getOperation() );
+			node( expression.getOperand() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitSubQueryExpression(SqmSubQuery<?> expression) {
+			visitCteContainer( expression );
+			open( "subquery" );
+			node( expression.getQueryPart() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitModifiedSubQueryExpression(SqmModifiedSubQueryExpression<?> expression) {
+			open( "modified" );
+			operand( expression.getModifier() );
+			node( expression.getSubQuery() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitAny(SqmAny<?> sqmAny) {
+			open( "any" );
+			node( sqmAny.getSubquery() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitEvery(SqmEvery<?> sqmEvery) {
+			open( "every" );
+			node( sqmEvery.getSubquery() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitSimpleCaseExpression(SqmCaseSimple<?, ?> expression) {
+			open( "case" );
+			node( expression.getFixture() );
+			for ( SqmCaseSimple.WhenFragment<?, ?> whenFragment : expression.getWhenFragments() ) {
+				node( whenFragment.getCheckValue() );
+				node( whenFragment.getResult() );
+			}
+			node( expression.getOtherwise() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitSearchedCaseExpression(SqmCaseSearched<?> expression) {
+			open( "case" );
+			for ( SqmCaseSearched.WhenFragment<?> whenFragment : expression.getWhenFragments() ) {
+				node( whenFragment.getPredicate() );
+				node( whenFragment.getResult() );
+			}
+			node( expression.getOtherwise() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitSummarization(SqmSummarization<?> sqmSummarization) {
+			open( "summarization" );
+			operand( sqmSummarization.getKind() );
+			nodes( sqmSummarization.getGroupings() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitFunction(SqmFunction<?> tSqmFunction) {
+			open( "function" );
+			operand( tSqmFunction.getFunctionName() );
+			operand( tSqmFunction.getFunctionDescriptor() );
+			operand( tSqmFunction.getNodeType() );
+			nodes( tSqmFunction.getArguments() );
+			if ( tSqmFunction instanceof SqmAggregateFunction<?> ) {
+				node( ( (SqmAggregateFunction<?>) tSqmFunction ).getFilter() );
+				if ( tSqmFunction instanceof SqmOrderedSetAggregateFunction<?> ) {
+					visitOrderByClause( ( (SqmOrderedSetAggregateFunction<?>) tSqmFunction ).getWithinGroup() );
+				}
+			}
+			if ( tSqmFunction instanceof SelfRenderingSqmWindowFunction<?> ) {
+				final SelfRenderingSqmWindowFunction<?> windowFunction = (SelfRenderingSqmWindowFunction<?>) tSqmFunction;
+				node( windowFunction.getFilter() );
+				operand( windowFunction.getRespectNulls() );
+				operand( windowFunction.getFromFirst() );
+			}
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitExtractUnit(SqmExtractUnit<?> extractUnit) {
+			open( "extract" );
+			operand( extractUnit.getUnit() );
+			operand( extractUnit.getType() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitCastTarget(SqmCastTarget<?> sqmCastTarget) {
+			open( "castTarget" );
+			operand( sqmCastTarget.getType() );
+			operand( sqmCastTarget.getLength() );
+			operand( sqmCastTarget.getPrecision() );
+			operand( sqmCastTarget.getScale() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitTrimSpecification(SqmTrimSpecification trimSpecification) {
+			open( "trim" );
+			operand( trimSpecification.getSpecification() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitDistinct(SqmDistinct<?> distinct) {
+			open( "distinct" );
+			node( distinct.getExpression() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitStar(SqmStar sqmStar) {
+			sb.append( "star()" );
+			return null;
+		}
+
+		@Override
+		public Object visitOver(SqmOver<?> over) {
+			open( "over" );
+			node( over.getExpression() );
+			nodes( over.getPartitions() );
+			for ( SqmSortSpecification sortSpecification : over.getOrderList() ) {
+				visitSortSpecification( sortSpecification );
+			}
+			operand( over.getMode() );
+			operand( over.getStartKind() );
+			node( over.getStartExpression() );
+			operand( over.getEndKind() );
+			node( over.getEndExpression() );
+			operand( over.getExclusion() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitOverflow(SqmOverflow<?> sqmOverflow) {
+			open( "overflow" );
+			node( sqmOverflow.getSeparatorExpression() );
+			node( sqmOverflow.getFillerExpression() );
+			operand( sqmOverflow.isWithCount() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitCoalesce(SqmCoalesce<?> sqmCoalesce) {
+			open( "coalesce" );
+			nodes( sqmCoalesce.getArguments() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitToDuration(SqmToDuration<?> toDuration) {
+			open( "duration" );
+			node( toDuration.getMagnitude() );
+			node( toDuration.getUnit() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitByUnit(SqmByUnit sqmByUnit) {
+			open( "by" );
+			node( sqmByUnit.getDuration() );
+			node( sqmByUnit.getUnit() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitDurationUnit(SqmDurationUnit<?> durationUnit) {
+			open( "unit" );
+			operand( durationUnit.getUnit() );
+			operand( durationUnit.getType() );
+			close();
+			return null;
+		}
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// predicates
+
+		private void openPredicate(String name, SqmPredicate predicate) {
+			open( name );
+			operand( predicate.isNegated() );
+		}
+
+		@Override
+		public Object visitGroupedPredicate(SqmGroupedPredicate predicate) {
+			openPredicate( "grouped", predicate );
+			node( predicate.getSubPredicate() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitJunctionPredicate(SqmJunctionPredicate predicate) {
+			openPredicate( "junction", predicate );
+			operand( predicate.getOperator() );
+			nodes( predicate.getPredicates() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitComparisonPredicate(SqmComparisonPredicate predicate) {
+			openPredicate( "comparison", predicate );
+			operand( predicate.getSqmOperator() );
+			node( predicate.getLeftHandExpression() );
+			node( predicate.getRightHandExpression() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitIsEmptyPredicate(SqmEmptinessPredicate predicate) {
+			openPredicate( "empty", predicate );
+			node( predicate.getPluralPath() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitIsNullPredicate(SqmNullnessPredicate predicate) {
+			openPredicate( "null", predicate );
+			node( predicate.getExpression() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitBetweenPredicate(SqmBetweenPredicate predicate) {
+			openPredicate( "between", predicate );
+			node( predicate.getExpression() );
+			node( predicate.getLowerBound() );
+			node( predicate.getUpperBound() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitLikePredicate(SqmLikePredicate predicate) {
+			openPredicate( "like", predicate );
+			operand( predicate.isCaseSensitive() );
+			node( predicate.getMatchExpression() );
+			node( predicate.getPattern() );
+			node( predicate.getEscapeCharacter() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitMemberOfPredicate(SqmMemberOfPredicate predicate) {
+			openPredicate( "memberOf", predicate );
+			node( predicate.getLeftHandExpression() );
+			node( predicate.getPluralPath() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitNegatedPredicate(SqmNegatedPredicate predicate) {
+			openPredicate( "not", predicate );
+			node( predicate.getWrappedPredicate() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitInListPredicate(SqmInListPredicate<?> predicate) {
+			openPredicate( "in", predicate );
+			node( predicate.getTestExpression() );
+			nodes( predicate.getListExpressions() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitInSubQueryPredicate(SqmInSubQueryPredicate<?> predicate) {
+			openPredicate( "inSubquery", predicate );
+			node( predicate.getTestExpression() );
+			node( predicate.getSubQueryExpression() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitBooleanExpressionPredicate(SqmBooleanExpressionPredicate predicate) {
+			openPredicate( "boolean", predicate );
+			node( predicate.getBooleanExpression() );
+			close();
+			return null;
+		}
+
+		@Override
+		public Object visitExistsPredicate(SqmExistsPredicate sqmExistsPredicate) {
+			openPredicate( "exists", sqmExistsPredicate );
+			node( sqmExistsPredicate.getExpression() );
+			close();
+			return null;
+		}
+	}
+}
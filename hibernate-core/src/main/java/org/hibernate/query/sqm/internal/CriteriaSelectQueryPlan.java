@@ -0,0 +1,213 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.internal.DelegatingDomainQueryExecutionContext;
+import org.hibernate.query.spi.DomainQueryExecutionContext;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.query.spi.QueryParameterBinding;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.spi.QueryParameterImplementor;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+import org.hibernate.query.spi.SelectQueryPlan;
+import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.query.sqm.tree.expression.JpaCriteriaParameter;
+import org.hibernate.sql.results.internal.TupleMetadata;
+
+import static org.hibernate.query.spi.AbstractSelectionQuery.CRITERIA_HQL_STRING;
+
+/**
+ * The {@link SelectQueryPlan} of a criteria query, cached under the
+ * {@linkplain CriteriaQueryStructure structure} of the query, and
+ * shared by all structurally equal criteria queries.
+ * <p>
+ * The wrapped plan refers to the parameters of the criteria query it
+ * was built for, so another query executes it through
+ * {@link #forStructure}, which looks up the bindings of the parameters
+ * of the executing query at the same positions.
+ */
+public class CriteriaSelectQueryPlan<R> implements SelectQueryPlan<R> {
+	private final SelectQueryPlan<R> queryPlan;
+	private final List<JpaCriteriaParameter<?>> parameters;
+
+	public CriteriaSelectQueryPlan(SelectQueryPlan<R> queryPlan, CriteriaQueryStructure structure) {
+		this.queryPlan = queryPlan;
+		this.parameters = structure.getParameters();
+	}
+
+	/**
+	 * The structure under which the plan of the given query is shared, or
+	 * {@code null} if the query does not share its plan.
+	 * <p>
+	 * The plan is only shared if the query has its own copy of the criteria tree,
+	 * which cannot be mutated later, and not for {@link jakarta.persistence.Tuple}
+	 * results, which are accessed by the selections of this very query.
+	 */
+	public static CriteriaQueryStructure resolveStructure(
+			String hql,
+			SqmStatement<?> sqm,
+			DomainParameterXref domainParameterXref,
+			TupleMetadata tupleMetadata,
+			SharedSessionContractImplementor session) {
+		if ( CRITERIA_HQL_STRING.equals( hql )
+				&& session.isCriteriaCopyTreeEnabled()
+				&& tupleMetadata == null ) {
+			return CriteriaQueryStructure.from( sqm, domainParameterXref );
+		}
+		else {
+			return null;
+		}
+	}
+
+	/**
+	 * The plan to execute for a criteria query with the given structure, shared
+	 * by structurally equal criteria queries through the interpretation cache.
+	 */
+	public static <R> SelectQueryPlan<R> resolveQueryPlan(
+			QueryInterpretationCache interpretationCache,
+			QueryInterpretationCache.Key cacheKey,
+			CriteriaQueryStructure structure,
+			Supplier<SelectQueryPlan<R>> creator) {
+		final SelectQueryPlan<R> queryPlan = interpretationCache.resolveSelectQueryPlan(
+				cacheKey,
+				() -> new CriteriaSelectQueryPlan<>( creator.get(), structure )
+		);
+		return ( (CriteriaSelectQueryPlan<R>) queryPlan ).forStructure( structure );
+	}
+
+	/**
+	 * The plan to execute for a criteria query with the given structure,
+	 * which is equal to the structure of the query this plan was built for
+	 */
+	public SelectQueryPlan<R> forStructure(CriteriaQueryStructure structure) {
+		final List<JpaCriteriaParameter<?>> queryParameters = structure.getParameters();
+		assert queryParameters.size() == parameters.size();
+
+		Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMapping = null;
+		for ( int i = 0; i < parameters.size(); i++ ) {
+			if ( parameters.get( i ) != queryParameters.get( i ) ) {
+				if ( parameterMapping == null ) {
+					parameterMapping = new IdentityHashMap<>( parameters.size() );
+				}
+				parameterMapping.put( parameters.get( i ), queryParameters.get( i ) );
+			}
+		}
+		return parameterMapping == null ? queryPlan : new ParameterMappingQueryPlan<>( queryPlan, parameterMapping );
+	}
+
+	@Override
+	public List<R> performList(DomainQueryExecutionContext executionContext) {
+		return queryPlan.performList( executionContext );
+	}
+
+	@Override
+	public ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, DomainQueryExecutionContext executionContext) {
+		return queryPlan.performScroll( scrollMode, executionContext );
+	}
+
+	private static class ParameterMappingQueryPlan<R> implements SelectQueryPlan<R> {
+		private final SelectQueryPlan<R> queryPlan;
+		private final Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMapping;
+
+		public ParameterMappingQueryPlan(
+				SelectQueryPlan<R> queryPlan,
+				Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMapping) {
+			this.queryPlan = queryPlan;
+			this.parameterMapping = parameterMapping;
+		}
+
+		@Override
+		public List<R> performList(DomainQueryExecutionContext executionContext) {
+			return queryPlan.performList( mapParameters( executionContext ) );
+		}
+
+		@Override
+		public ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, DomainQueryExecutionContext executionContext) {
+			return queryPlan.performScroll( scrollMode, mapParameters( executionContext ) );
+		}
+
+		private DomainQueryExecutionContext mapParameters(DomainQueryExecutionContext executionContext) {
+			final QueryParameterBindings parameterBindings = new ParameterMappingBindings(
+					executionContext.getQueryParameterBindings(),
+					parameterMapping
+			);
+			return new DelegatingDomainQueryExecutionContext( executionContext ) {
+				@Override
+				public QueryParameterBindings getQueryParameterBindings() {
+					return parameterBindings;
+				}
+			};
+		}
+	}
+
+	private static class ParameterMappingBindings implements QueryParameterBindings {
+		private final QueryParameterBindings bindings;
+		private final Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMapping;
+
+		public ParameterMappingBindings(
+				QueryParameterBindings bindings,
+				Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMapping) {
+			this.bindings = bindings;
+			this.parameterMapping = parameterMapping;
+		}
+
+		@SuppressWarnings("unchecked")
+		private <P> QueryParameterImplementor<P> map(QueryParameterImplementor<P> parameter) {
+			final QueryParameterImplementor<?> mapped = parameterMapping.get( parameter );
+			return mapped == null ? parameter : (QueryParameterImplementor<P>) mapped;
+		}
+
+		@Override
+		public boolean isBound(QueryParameterImplementor<?> parameter) {
+			return bindings.isBound( map( parameter ) );
+		}
+
+		@Override
+		public <P> QueryParameterBinding<P> getBinding(QueryParameterImplementor<P> parameter) {
+			return bindings.getBinding( map( parameter ) );
+		}
+
+		@Override
+		public <P> QueryParameterBinding<P> getBinding(String name) {
+			return bindings.getBinding( name );
+		}
+
+		@Override
+		public <P> QueryParameterBinding<P> getBinding(int position) {
+			return bindings.getBinding( position );
+		}
+
+		@Override
+		public void validate() {
+			bindings.validate();
+		}
+
+		@Override
+		public boolean hasAnyMultiValuedBindings() {
+			return bindings.hasAnyMultiValuedBindings();
+		}
+
+		@Override
+		public QueryKey.ParameterBindingsMemento generateQueryKeyMemento(SharedSessionContractImplementor persistenceContext) {
+			return bindings.generateQueryKeyMemento( persistenceContext );
+		}
+
+		@Override
+		public void visitBindings(BiConsumer<QueryParameterImplementor<?>, QueryParameterBinding<?>> action) {
+			bindings.visitBindings( action );
+		}
+	}
+}
@@ -145,6 +145,9 @@ public class QuerySqmImpl<R>
 	private final Class<R> resultType;
 	private final TupleMetadata tupleMetadata;
 
+	private CriteriaQueryStructure criteriaQueryStructure;
+	private boolean criteriaQueryStructureResolved;
+
 	/**
 	 * Creates a Query instance from a named HQL memento
 	 */
@@ -466,6 +469,21 @@ public class QuerySqmImpl<R>
 		return resultType;
 	}
 
+	@Override
+	public CriteriaQueryStructure getCriteriaQueryStructure() {
+		if ( !criteriaQueryStructureResolved ) {
+			criteriaQueryStructure = CriteriaSelectQueryPlan.resolveStructure(
+					hql,
+					sqm,
+					domainParameterXref,
+					tupleMetadata,
+					getSession()
+			);
+			criteriaQueryStructureResolved = true;
+		}
+		return criteriaQueryStructure;
+	}
+
 	@Override
 	public LoadQueryInfluencers getLoadQueryInfluencers() {
 		return getSession().getLoadQueryInfluencers();
@@ -633,10 +651,19 @@ public class QuerySqmImpl<R>
 	private SelectQueryPlan<R> resolveSelectQueryPlan() {
 		final QueryInterpretationCache.Key cacheKey = SqmInterpretationsKey.createInterpretationsKey( this );
 		if ( cacheKey != null ) {
-			return getSession().getFactory().getQueryEngine().getInterpretationCache().resolveSelectQueryPlan(
-					cacheKey,
-					this::buildSelectQueryPlan
-			);
+			final QueryInterpretationCache interpretationCache = getSession().getFactory()
+					.getQueryEngine()
+					.getInterpretationCache();
+			final CriteriaQueryStructure criteriaStructure = getCriteriaQueryStructure();
+			if ( criteriaStructure != null ) {
+				return CriteriaSelectQueryPlan.resolveQueryPlan(
+						interpretationCache,
+						cacheKey,
+						criteriaStructure,
+						this::buildSelectQueryPlan
+				);
+			}
+			return interpretationCache.resolveSelectQueryPlan( cacheKey, this::buildSelectQueryPlan );
 		}
 		else {
 			return buildSelectQueryPlan();
@@ -6,6 +6,7 @@
  */
 package org.hibernate.query.sqm.internal;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -16,6 +17,7 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.metamodel.mapping.ForeignKeyDescriptor;
 import org.hibernate.metamodel.mapping.MappingModelExpressible;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.metamodel.mapping.internal.MappingModelCreationHelper;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.spi.NonSelectQueryPlan;
@@ -48,9 +50,7 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 	private final SqmDeleteStatement<?> sqmDelete;
 	private final DomainParameterXref domainParameterXref;
 
-	private JdbcOperationQueryDelete jdbcDelete;
-	private SqmTranslation<DeleteStatement> sqmInterpretation;
-	private Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref;
+	private volatile DeleteInterpretation interpretation;
 
 	public SimpleDeleteQueryPlan(
 			EntityMappingType entityDescriptor,
@@ -63,7 +63,7 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 		this.domainParameterXref = domainParameterXref;
 	}
 
-	private SqlAstTranslator<JdbcOperationQueryDelete> createDeleteTranslator(DomainQueryExecutionContext executionContext) {
+	private DeleteInterpretation buildInterpretation(DomainQueryExecutionContext executionContext) {
 		final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
 		final QueryEngine queryEngine = factory.getQueryEngine();
 
@@ -77,33 +77,72 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 				factory
 		);
 
-		sqmInterpretation = translator.translate();
+		final SqmTranslation<DeleteStatement> sqmInterpretation = translator.translate();
 
-		this.jdbcParamsXref = SqmUtil.generateJdbcParamsXref(
-				domainParameterXref,
-				sqmInterpretation::getJdbcParamsBySqmParam
-		);
+		final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref =
+				SqmUtil.generateJdbcParamsXref( domainParameterXref, sqmInterpretation::getJdbcParamsBySqmParam );
 
-		return factory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory()
+		final SqlAstTranslator<JdbcOperationQueryDelete> deleteTranslator = factory.getJdbcServices()
+				.getJdbcEnvironment()
+				.getSqlAstTranslatorFactory()
 				.buildDeleteTranslator( factory, sqmInterpretation.getSqlAst() );
-	}
+		final JdbcParameterBindings jdbcParameterBindings = createJdbcParameterBindings(
+				sqmInterpretation,
+				jdbcParamsXref,
+				executionContext
+		);
 
-	@Override
-	public int executeUpdate(DomainQueryExecutionContext executionContext) {
-		BulkOperationCleanupAction.schedule( executionContext.getSession(), sqmDelete );
-		final SharedSessionContractImplementor session = executionContext.getSession();
-		final SessionFactoryImplementor factory = session.getFactory();
-		final JdbcServices jdbcServices = factory.getJdbcServices();
-		SqlAstTranslator<JdbcOperationQueryDelete> deleteTranslator = null;
-		if ( jdbcDelete == null ) {
-			deleteTranslator = createDeleteTranslator( executionContext );
+		// resolved once, since the expression resolver of the interpretation is not thread-safe
+		final Map<PluralAttributeMapping, Expression> fkTargetColumnExpressions = new HashMap<>();
+		if ( !isMissingRestriction() ) {
+			SqmMutationStrategyHelper.visitCollectionTables(
+					entityDescriptor,
+					attributeMapping -> fkTargetColumnExpressions.put(
+							attributeMapping,
+							MappingModelCreationHelper.buildColumnReferenceExpression(
+									createTableGroup( attributeMapping, sqmInterpretation ),
+									attributeMapping.getKeyDescriptor().getTargetPart(),
+									sqmInterpretation.getSqlExpressionResolver(),
+									factory
+							)
+					)
+			);
 		}
 
-		final JdbcParameterBindings jdbcParameterBindings = SqmUtil.createJdbcParameterBindings(
+		return new DeleteInterpretation(
+				sqmInterpretation,
+				jdbcParamsXref,
+				deleteTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() ),
+				fkTargetColumnExpressions,
+				jdbcParameterBindings
+		);
+	}
+
+	private boolean isMissingRestriction() {
+		return sqmDelete.getWhereClause() == null
+				|| sqmDelete.getWhereClause().getPredicate() == null;
+	}
+
+	private static MutatingTableReferenceGroupWrapper createTableGroup(
+			PluralAttributeMapping attributeMapping,
+			SqmTranslation<DeleteStatement> sqmInterpretation) {
+		return new MutatingTableReferenceGroupWrapper(
+				new NavigablePath( attributeMapping.getRootPathName() ),
+				attributeMapping,
+				sqmInterpretation.getSqlAst().getTargetTable()
+		);
+	}
+
+	private JdbcParameterBindings createJdbcParameterBindings(
+			SqmTranslation<DeleteStatement> sqmInterpretation,
+			Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref,
+			DomainQueryExecutionContext executionContext) {
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		return SqmUtil.createJdbcParameterBindings(
 				executionContext.getQueryParameterBindings(),
 				domainParameterXref,
 				jdbcParamsXref,
-				factory.getRuntimeMetamodels().getMappingMetamodel(),
+				session.getFactory().getRuntimeMetamodels().getMappingMetamodel(),
 				sqmInterpretation.getFromClauseAccess()::findTableGroup,
 				new SqmParameterMappingModelResolutionAccess() {
 					@Override @SuppressWarnings("unchecked")
@@ -113,24 +152,47 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 				},
 				session
 		);
+	}
 
-		if ( jdbcDelete != null
-				&& ! jdbcDelete.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
-			deleteTranslator = createDeleteTranslator( executionContext );
-		}
+	@Override
+	public int executeUpdate(DomainQueryExecutionContext executionContext) {
+		BulkOperationCleanupAction.schedule( executionContext.getSession(), sqmDelete );
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		final SessionFactoryImplementor factory = session.getFactory();
+		final JdbcServices jdbcServices = factory.getJdbcServices();
 
-		if ( deleteTranslator != null ) {
-			jdbcDelete = deleteTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
+		// this plan may be cached and executed concurrently, so the state of the
+		// interpretation is only ever replaced as a whole
+		DeleteInterpretation interpretation = this.interpretation;
+		JdbcParameterBindings jdbcParameterBindings = null;
+		if ( interpretation != null ) {
+			jdbcParameterBindings = createJdbcParameterBindings(
+					interpretation.sqmInterpretation,
+					interpretation.jdbcParamsXref,
+					executionContext
+			);
+			if ( interpretation.jdbcDelete.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
+				interpretation.jdbcDelete.bindFilterJdbcParameters( jdbcParameterBindings, session.getLoadQueryInfluencers() );
+			}
+			else {
+				interpretation = null;
+			}
 		}
-		else {
-			jdbcDelete.bindFilterJdbcParameters( jdbcParameterBindings );
+		if ( interpretation == null ) {
+			interpretation = buildInterpretation( executionContext );
+			jdbcParameterBindings = interpretation.firstParameterBindings;
+			interpretation.firstParameterBindings = null;
+			this.interpretation = interpretation;
 		}
 
-		final boolean missingRestriction = sqmDelete.getWhereClause() == null
-				|| sqmDelete.getWhereClause().getPredicate() == null;
+		final SqmTranslation<DeleteStatement> sqmInterpretation = interpretation.sqmInterpretation;
+		final JdbcOperationQueryDelete jdbcDelete = interpretation.jdbcDelete;
+		final Map<PluralAttributeMapping, Expression> fkTargetColumnExpressions = interpretation.fkTargetColumnExpressions;
+
+		final boolean missingRestriction = isMissingRestriction();
 		if ( missingRestriction ) {
 			assert domainParameterXref.getSqmParameterCount() == 0;
-			assert jdbcParamsXref.isEmpty();
+			assert interpretation.jdbcParamsXref.isEmpty();
 		}
 
 		final SqmJdbcExecutionContextAdapter executionContextAdapter = SqmJdbcExecutionContextAdapter.usingLockingAndPaging( executionContext );
@@ -151,17 +213,8 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 
 					final QuerySpec matchingIdSubQuery = new QuerySpec( false );
 
-					final MutatingTableReferenceGroupWrapper tableGroup = new MutatingTableReferenceGroupWrapper(
-							new NavigablePath( attributeMapping.getRootPathName() ),
-							attributeMapping,
-							sqmInterpretation.getSqlAst().getTargetTable()
-					);
-					final Expression fkTargetColumnExpression = MappingModelCreationHelper.buildColumnReferenceExpression(
-							tableGroup,
-							fkDescriptor.getTargetPart(),
-							sqmInterpretation.getSqlExpressionResolver(),
-							factory
-					);
+					final MutatingTableReferenceGroupWrapper tableGroup = createTableGroup( attributeMapping, sqmInterpretation );
+					final Expression fkTargetColumnExpression = fkTargetColumnExpressions.get( attributeMapping );
 					matchingIdSubQuery.getSelectClause().addSqlSelection( new SqlSelectionImpl( 1, 0, fkTargetColumnExpression ) );
 
 					matchingIdSubQuery.getFromClause().addRoot(
@@ -187,4 +240,25 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 				executionContextAdapter
 		);
 	}
+
+	private static class DeleteInterpretation {
+		private final SqmTranslation<DeleteStatement> sqmInterpretation;
+		private final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref;
+		private final JdbcOperationQueryDelete jdbcDelete;
+		private final Map<PluralAttributeMapping, Expression> fkTargetColumnExpressions;
+		private JdbcParameterBindings firstParameterBindings;
+
+		DeleteInterpretation(
+				SqmTranslation<DeleteStatement> sqmInterpretation,
+				Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref,
+				JdbcOperationQueryDelete jdbcDelete,
+				Map<PluralAttributeMapping, Expression> fkTargetColumnExpressions,
+				JdbcParameterBindings firstParameterBindings) {
+			this.sqmInterpretation = sqmInterpretation;
+			this.jdbcParamsXref = jdbcParamsXref;
+			this.jdbcDelete = jdbcDelete;
+			this.fkTargetColumnExpressions = fkTargetColumnExpressions;
+			this.firstParameterBindings = firstParameterBindings;
+		}
+	}
 }
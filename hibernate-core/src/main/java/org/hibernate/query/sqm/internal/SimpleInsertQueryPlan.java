@@ -37,11 +37,8 @@ import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 public class SimpleInsertQueryPlan implements NonSelectQueryPlan {
 	private final SqmInsertStatement<?> sqmInsert;
 	private final DomainParameterXref domainParameterXref;
-	private Map<SqmParameter<?>, MappingModelExpressible<?>> paramTypeResolutions;
 
-	private JdbcOperationQueryInsert jdbcInsert;
-	private FromClauseAccess tableGroupAccess;
-	private Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref;
+	private volatile InsertInterpretation interpretation;
 
 	public SimpleInsertQueryPlan(
 			SqmInsertStatement<?> sqmInsert,
@@ -50,7 +47,7 @@ public class SimpleInsertQueryPlan implements NonSelectQueryPlan {
 		this.domainParameterXref = domainParameterXref;
 	}
 
-	private SqlAstTranslator<JdbcOperationQueryInsert> createInsertTranslator(DomainQueryExecutionContext executionContext) {
+	private InsertInterpretation buildInterpretation(DomainQueryExecutionContext executionContext) {
 		final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
 		final QueryEngine queryEngine = factory.getQueryEngine();
 
@@ -66,63 +63,73 @@ public class SimpleInsertQueryPlan implements NonSelectQueryPlan {
 
 		final SqmTranslation<InsertStatement> sqmInterpretation = translator.translate();
 
-		tableGroupAccess = sqmInterpretation.getFromClauseAccess();
+		final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref =
+				SqmUtil.generateJdbcParamsXref( domainParameterXref, sqmInterpretation::getJdbcParamsBySqmParam );
 
-		this.jdbcParamsXref = SqmUtil.generateJdbcParamsXref(
-				domainParameterXref,
-				sqmInterpretation::getJdbcParamsBySqmParam
-		);
-
-		this.paramTypeResolutions = sqmInterpretation.getSqmParameterMappingModelTypeResolutions();
-
-		return factory.getJdbcServices()
+		final SqlAstTranslator<JdbcOperationQueryInsert> insertTranslator = factory.getJdbcServices()
 				.getJdbcEnvironment()
 				.getSqlAstTranslatorFactory()
 				.buildInsertTranslator( factory, sqmInterpretation.getSqlAst() );
+		final InsertInterpretation interpretation = new InsertInterpretation(
+				sqmInterpretation.getFromClauseAccess(),
+				jdbcParamsXref,
+				sqmInterpretation.getSqmParameterMappingModelTypeResolutions()
+		);
+		final JdbcParameterBindings jdbcParameterBindings = createJdbcParameterBindings( interpretation, executionContext );
+		interpretation.jdbcInsert = insertTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
+		interpretation.firstParameterBindings = jdbcParameterBindings;
+		return interpretation;
 	}
 
-	@Override
-	public int executeUpdate(DomainQueryExecutionContext executionContext) {
-		BulkOperationCleanupAction.schedule( executionContext.getSession(), sqmInsert );
+	private JdbcParameterBindings createJdbcParameterBindings(
+			InsertInterpretation interpretation,
+			DomainQueryExecutionContext executionContext) {
 		final SharedSessionContractImplementor session = executionContext.getSession();
-		final SessionFactoryImplementor factory = session.getFactory();
-		final JdbcServices jdbcServices = factory.getJdbcServices();
-		SqlAstTranslator<JdbcOperationQueryInsert> insertTranslator = null;
-		if ( jdbcInsert == null ) {
-			insertTranslator = createInsertTranslator( executionContext );
-		}
-
-		final JdbcParameterBindings jdbcParameterBindings = SqmUtil.createJdbcParameterBindings(
+		return SqmUtil.createJdbcParameterBindings(
 				executionContext.getQueryParameterBindings(),
 				domainParameterXref,
-				jdbcParamsXref,
-				factory.getRuntimeMetamodels().getMappingMetamodel(),
-				tableGroupAccess::findTableGroup,
+				interpretation.jdbcParamsXref,
+				session.getFactory().getRuntimeMetamodels().getMappingMetamodel(),
+				interpretation.tableGroupAccess::findTableGroup,
 				new SqmParameterMappingModelResolutionAccess() {
 					@Override @SuppressWarnings("unchecked")
 					public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T> parameter) {
-						return (MappingModelExpressible<T>) paramTypeResolutions.get(parameter);
+						return (MappingModelExpressible<T>) interpretation.paramTypeResolutions.get(parameter);
 					}
 				},
 				session
 		);
+	}
 
-		if ( jdbcInsert != null && !jdbcInsert.isCompatibleWith(
-				jdbcParameterBindings,
-				executionContext.getQueryOptions()
-		) ) {
-			insertTranslator = createInsertTranslator( executionContext );
-		}
+	@Override
+	public int executeUpdate(DomainQueryExecutionContext executionContext) {
+		BulkOperationCleanupAction.schedule( executionContext.getSession(), sqmInsert );
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		final SessionFactoryImplementor factory = session.getFactory();
+		final JdbcServices jdbcServices = factory.getJdbcServices();
 
-		if ( insertTranslator != null ) {
-			jdbcInsert = insertTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
+		// this plan may be cached and executed concurrently, so the state of the
+		// interpretation is only ever replaced as a whole
+		InsertInterpretation interpretation = this.interpretation;
+		JdbcParameterBindings jdbcParameterBindings = null;
+		if ( interpretation != null ) {
+			jdbcParameterBindings = createJdbcParameterBindings( interpretation, executionContext );
+			if ( interpretation.jdbcInsert.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
+				interpretation.jdbcInsert.bindFilterJdbcParameters( jdbcParameterBindings, session.getLoadQueryInfluencers() );
+			}
+			else {
+				interpretation = null;
+			}
 		}
-		else {
-			jdbcInsert.bindFilterJdbcParameters( jdbcParameterBindings );
+		if ( interpretation == null ) {
+			interpretation = buildInterpretation( executionContext );
+			jdbcParameterBindings = interpretation.firstParameterBindings;
+			interpretation.firstParameterBindings = null;
+			this.interpretation = interpretation;
 		}
 
 		return jdbcServices.getJdbcMutationExecutor().execute(
-				jdbcInsert,
+				interpretation.jdbcInsert,
 				jdbcParameterBindings,
 				sql -> session
 						.getJdbcCoordinator()
@@ -132,4 +139,21 @@ public class SimpleInsertQueryPlan implements NonSelectQueryPlan {
 				SqmJdbcExecutionContextAdapter.omittingLockingAndPaging( executionContext )
 		);
 	}
+
+	private static class InsertInterpretation {
+		private final FromClauseAccess tableGroupAccess;
+		private final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref;
+		private final Map<SqmParameter<?>, MappingModelExpressible<?>> paramTypeResolutions;
+		private JdbcOperationQueryInsert jdbcInsert;
+		private JdbcParameterBindings firstParameterBindings;
+
+		InsertInterpretation(
+				FromClauseAccess tableGroupAccess,
+				Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref,
+				Map<SqmParameter<?>, MappingModelExpressible<?>> paramTypeResolutions) {
+			this.tableGroupAccess = tableGroupAccess;
+			this.jdbcParamsXref = jdbcParamsXref;
+			this.paramTypeResolutions = paramTypeResolutions;
+		}
+	}
 }
@@ -6,10 +6,21 @@
  */
 package org.hibernate.query.sqm.internal;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.function.Supplier;
 
+import org.hibernate.Filter;
 import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.FilterDefinition;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.graph.GraphSemantic;
+import org.hibernate.graph.spi.AppliedGraph;
+import org.hibernate.graph.spi.GraphKey;
+import org.hibernate.internal.FilterHelper;
+import org.hibernate.internal.FilterImpl;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.spi.QueryInterpretationCache;
@@ -30,6 +41,12 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 
 	public interface InterpretationsKeySource extends CacheabilityInfluencers {
 		Class<?> getResultType();
+
+		/**
+		 * The structure of the criteria query, or {@code null} if this is not
+		 * a criteria query or its plan cannot be shared with other queries
+		 */
+		CriteriaQueryStructure getCriteriaQueryStructure();
 	}
 
 	public static SqmInterpretationsKey createInterpretationsKey(InterpretationsKeySource keySource) {
@@ -37,8 +54,15 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 			return null;
 		}
 
+		final AppliedGraph appliedGraph = keySource.getQueryOptions().getAppliedGraph();
+		final GraphSemantic graphSemantic = appliedGraph.getGraph() == null ? null : appliedGraph.getSemantic();
 		return new SqmInterpretationsKey(
 				keySource.getQueryString(),
+				keySource.getCriteriaQueryStructure(),
+				enabledFiltersKey( keySource.getLoadQueryInfluencers() ),
+				graphSemantic,
+				// the graph may be mutated after the query was executed, so the key holds a snapshot
+				graphSemantic == null ? null : GraphKey.from( appliedGraph.getGraph() ),
 				keySource.getResultType(),
 				keySource.getQueryOptions().getLockOptions(),
 				keySource.getQueryOptions().getTupleTransformer(),
@@ -49,21 +73,11 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 	private static boolean isCacheable(InterpretationsKeySource keySource) {
 		assert keySource.getQueryOptions().getAppliedGraph() != null;
 
-		if ( QuerySqmImpl.CRITERIA_HQL_STRING.equals( keySource.getQueryString() ) ) {
-			// for now at least, skip caching Criteria-based plans
-			//		- especially wrt parameters atm; this works with HQL because the parameters
-			//			are part of the query string; with Criteria, they are not.
-			return false;
-		}
-
-		if ( keySource.getLoadQueryInfluencers().hasEnabledFilters() ) {
-			// At the moment we cannot cache query plan if there is filter enabled.
-			return false;
-		}
-
-		if ( keySource.getQueryOptions().getAppliedGraph().getSemantic() != null ) {
-			// At the moment we cannot cache query plan if there is an
-			// EntityGraph enabled.
+		if ( QuerySqmImpl.CRITERIA_HQL_STRING.equals( keySource.getQueryString() )
+				&& keySource.getCriteriaQueryStructure() == null ) {
+			// Criteria-based plans are keyed by the structure of the query instead of the
+			// query string, with the parameters matched by position, which is not possible
+			// for all queries
 			return false;
 		}
 
@@ -78,16 +92,82 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 		return true;
 	}
 
-	public static QueryInterpretationCache.Key generateNonSelectKey(InterpretationsKeySource keyDetails) {
-		// todo (6.0) : do we want to cache non-select plans?  If so, what requirements?
-		//		- very minimum is that it be a "simple" (non-multi-table) statement
-		//
-		// for now... no caching of non-select plans
-		return null;
+	/**
+	 * The enabled filters influence the translation through their names and
+	 * the number of values of their parameters, since multi-valued parameters
+	 * are expanded to one JDBC parameter per value. The values themselves are
+	 * bound on each execution.
+	 *
+	 * @see org.hibernate.internal.FilterJdbcParameter#getBinding(LoadQueryInfluencers)
+	 */
+	private static Map<String, Map<String, Integer>> enabledFiltersKey(LoadQueryInfluencers loadQueryInfluencers) {
+		if ( !loadQueryInfluencers.hasEnabledFilters() ) {
+			return null;
+		}
+		final Map<String, Filter> enabledFilters = loadQueryInfluencers.getEnabledFilters();
+		final Map<String, Map<String, Integer>> enabledFiltersKey = new HashMap<>( enabledFilters.size() );
+		for ( Map.Entry<String, Filter> entry : enabledFilters.entrySet() ) {
+			final FilterImpl filter = (FilterImpl) entry.getValue();
+			final FilterDefinition filterDefinition = filter.getFilterDefinition();
+			final Map<String, Integer> parameterValueCounts = new HashMap<>();
+			for ( String parameterName : filterDefinition.getParameterNames() ) {
+				final Object parameterValue = filter.getParameter( parameterName );
+				parameterValueCounts.put(
+						parameterName,
+						FilterHelper.isMultiValued( parameterValue, filterDefinition.getParameterJdbcMapping( parameterName ) )
+								? size( (Iterable<?>) parameterValue )
+								: -1
+				);
+			}
+			enabledFiltersKey.put( entry.getKey(), parameterValueCounts );
+		}
+		return enabledFiltersKey;
+	}
+
+	private static int size(Iterable<?> values) {
+		if ( values instanceof Collection<?> ) {
+			return ( (Collection<?>) values ).size();
+		}
+		int size = 0;
+		for ( Iterator<?> iterator = values.iterator(); iterator.hasNext(); iterator.next() ) {
+			size++;
+		}
+		return size;
+	}
+
+	public static QueryInterpretationCache.Key generateNonSelectKey(InterpretationsKeySource keySource) {
+		if ( QuerySqmImpl.CRITERIA_HQL_STRING.equals( keySource.getQueryString() ) ) {
+			// only select statements of criteria queries are keyed by their structure
+			return null;
+		}
+
+		if ( keySource.hasMultiValuedParameterBindingsChecker().get() == TRUE ) {
+			// the expansion of multi-valued parameters is recorded in the shared DomainParameterXref
+			return null;
+		}
+
+		// the plans of simple mutations reuse their translation, and bind the values
+		// of the filter parameters on each execution, just like select plans
+		return new SqmInterpretationsKey(
+				keySource.getQueryString(),
+				null,
+				enabledFiltersKey( keySource.getLoadQueryInfluencers() ),
+				null,
+				null,
+				null,
+				// locking does not apply to mutations
+				LockOptions.NONE,
+				null,
+				null
+		);
 	}
 
 
 	private final String query;
+	private final CriteriaQueryStructure criteriaQueryStructure;
+	private final Map<String, Map<String, Integer>> enabledFilters;
+	private final GraphSemantic graphSemantic;
+	private final GraphKey graph;
 	private final Class<?> resultType;
 	private final LockOptions lockOptions;
 	private final TupleTransformer<?> tupleTransformer;
@@ -95,11 +175,19 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 
 	private SqmInterpretationsKey(
 			String query,
+			CriteriaQueryStructure criteriaQueryStructure,
+			Map<String, Map<String, Integer>> enabledFilters,
+			GraphSemantic graphSemantic,
+			GraphKey graph,
 			Class<?> resultType,
 			LockOptions lockOptions,
 			TupleTransformer<?> tupleTransformer,
 			ResultListTransformer resultListTransformer) {
 		this.query = query;
+		this.criteriaQueryStructure = criteriaQueryStructure;
+		this.enabledFilters = enabledFilters;
+		this.graphSemantic = graphSemantic;
+		this.graph = graph;
 		this.resultType = resultType;
 		this.lockOptions = lockOptions;
 		this.tupleTransformer = tupleTransformer;
@@ -110,6 +198,10 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 	public QueryInterpretationCache.Key prepareForStore() {
 		return new SqmInterpretationsKey(
 				query,
+				criteriaQueryStructure,
+				enabledFilters,
+				graphSemantic,
+				graph,
 				resultType,
 				// Since lock options are mutable, we need a copy for the cache key
 				lockOptions.makeCopy(),
@@ -123,6 +215,11 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 		return query;
 	}
 
+	@Override
+	public int getQueryLength() {
+		return criteriaQueryStructure == null ? query.length() : criteriaQueryStructure.getLength();
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if ( this == o ) {
@@ -134,6 +231,10 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 
 		final SqmInterpretationsKey that = (SqmInterpretationsKey) o;
 		return query.equals( that.query )
+				&& areEqual( criteriaQueryStructure, that.criteriaQueryStructure )
+				&& areEqual( enabledFilters, that.enabledFilters )
+				&& graphSemantic == that.graphSemantic
+				&& areEqual( graph, that.graph )
 				&& areEqual( resultType, that.resultType )
 				&& areEqual( lockOptions, that.lockOptions )
 				&& areEqual( tupleTransformer, that.tupleTransformer )
@@ -151,6 +252,6 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 
 	@Override
 	public int hashCode() {
-		return query.hashCode();
+		return 31 * query.hashCode() + ( criteriaQueryStructure == null ? 0 : criteriaQueryStructure.hashCode() );
 	}
 }
@@ -89,6 +89,9 @@ public class SqmSelectionQueryImpl<R> extends AbstractSelectionQuery<R> implemen
 	private final Class<R> resultType;
 	private final TupleMetadata tupleMetadata;
 
+	private CriteriaQueryStructure criteriaQueryStructure;
+	private boolean criteriaQueryStructureResolved;
+
 	public SqmSelectionQueryImpl(
 			String hql,
 			HqlInterpretation hqlInterpretation,
@@ -342,10 +345,19 @@ public class SqmSelectionQueryImpl<R> extends AbstractSelectionQuery<R> implemen
 	private SelectQueryPlan<R> resolveQueryPlan() {
 		final QueryInterpretationCache.Key cacheKey = SqmInterpretationsKey.createInterpretationsKey( this );
 		if ( cacheKey != null ) {
-			return getSession().getFactory().getQueryEngine().getInterpretationCache().resolveSelectQueryPlan(
-					cacheKey,
-					this::buildQueryPlan
-			);
+			final QueryInterpretationCache interpretationCache = getSession().getFactory()
+					.getQueryEngine()
+					.getInterpretationCache();
+			final CriteriaQueryStructure criteriaStructure = getCriteriaQueryStructure();
+			if ( criteriaStructure != null ) {
+				return CriteriaSelectQueryPlan.resolveQueryPlan(
+						interpretationCache,
+						cacheKey,
+						criteriaStructure,
+						this::buildQueryPlan
+				);
+			}
+			return interpretationCache.resolveSelectQueryPlan( cacheKey, this::buildQueryPlan );
 		}
 		else {
 			return buildQueryPlan();
@@ -407,6 +419,21 @@ public class SqmSelectionQueryImpl<R> extends AbstractSelectionQuery<R> implemen
 		return resultType;
 	}
 
+	@Override
+	public CriteriaQueryStructure getCriteriaQueryStructure() {
+		if ( !criteriaQueryStructureResolved ) {
+			criteriaQueryStructure = CriteriaSelectQueryPlan.resolveStructure(
+					hql,
+					sqm,
+					domainParameterXref,
+					tupleMetadata,
+					getSession()
+			);
+			criteriaQueryStructureResolved = true;
+		}
+		return criteriaQueryStructure;
+	}
+
 	@Override
 	public LoadQueryInfluencers getLoadQueryInfluencers() {
 		return getSession().getLoadQueryInfluencers();
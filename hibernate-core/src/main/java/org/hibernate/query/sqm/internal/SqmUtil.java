@@ -55,6 +55,7 @@ import org.hibernate.sql.ast.tree.from.TableGroup;
 import org.hibernate.sql.exec.internal.JdbcParameterBindingImpl;
 import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.type.BasicPluralType;
 import org.hibernate.type.spi.TypeConfiguration;
 
 /**
@@ -235,6 +236,21 @@ public class SqmUtil {
 						);
 					}
 				}
+				else if ( domainParamBinding.isMultiValued() && isArrayParameter( jdbcParamsBinds, domainParamBinding ) ) {
+					// the values are bound to a single JDBC array, see AvailableSettings#IN_CLAUSE_PARAMETER_ARRAY
+					final JdbcParameter jdbcParameter = jdbcParamsBinds.get( 0 ).get( 0 );
+					final JdbcMapping arrayJdbcMapping = jdbcParameter.getExpressionType().getJdbcMappings().get( 0 );
+					jdbcParameterBindings.addBinding(
+							jdbcParameter,
+							new JdbcParameterBindingImpl(
+									arrayJdbcMapping,
+									arrayJdbcMapping.getJavaTypeDescriptor().wrap(
+											domainParamBinding.getBindValues().toArray(),
+											session
+									)
+							)
+					);
+				}
 				else if ( domainParamBinding.isMultiValued() ) {
 					final Collection<?> bindValues = domainParamBinding.getBindValues();
 					final Iterator<?> valueItr = bindValues.iterator();
@@ -337,6 +353,19 @@ public class SqmUtil {
 		return jdbcParameterBindings;
 	}
 
+	private static boolean isArrayParameter(
+			List<List<JdbcParameter>> jdbcParamsBinds,
+			QueryParameterBinding<?> domainParamBinding) {
+		if ( jdbcParamsBinds.size() != 1 || jdbcParamsBinds.get( 0 ).size() != 1 ) {
+			return false;
+		}
+		// the type of the binding is the type of the values, unlike that of the JDBC parameter
+		final MappingModelExpressible<?> valueType = domainParamBinding.getType();
+		return jdbcParamsBinds.get( 0 ).get( 0 ).getExpressionType().getJdbcMappings().get( 0 ) instanceof BasicPluralType
+				&& valueType != null && valueType.getJdbcTypeCount() == 1
+				&& !( valueType.getJdbcMappings().get( 0 ) instanceof BasicPluralType );
+	}
+
 	private static void createValueBindings(
 			JdbcParameterBindings jdbcParameterBindings,
 			QueryParameterImplementor<?> domainParam,
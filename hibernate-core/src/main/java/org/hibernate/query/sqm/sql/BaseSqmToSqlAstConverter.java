@@ -346,6 +346,7 @@ import org.hibernate.sql.ast.tree.predicate.BooleanExpressionPredicate;
 import org.hibernate.sql.ast.tree.predicate.ComparisonPredicate;
 import org.hibernate.sql.ast.tree.predicate.ExistsPredicate;
 import org.hibernate.sql.ast.tree.predicate.GroupedPredicate;
+import org.hibernate.sql.ast.tree.predicate.InArrayPredicate;
 import org.hibernate.sql.ast.tree.predicate.InListPredicate;
 import org.hibernate.sql.ast.tree.predicate.InSubQueryPredicate;
 import org.hibernate.sql.ast.tree.predicate.Junction;
@@ -365,6 +366,7 @@ import org.hibernate.sql.ast.tree.update.Assignable;
 import org.hibernate.sql.ast.tree.update.Assignment;
 import org.hibernate.sql.ast.tree.update.UpdateStatement;
 import org.hibernate.sql.exec.internal.AbstractJdbcParameter;
+import org.hibernate.sql.exec.internal.ArrayParameterHelper;
 import org.hibernate.sql.exec.internal.JdbcParameterImpl;
 import org.hibernate.sql.exec.internal.JdbcParametersImpl;
 import org.hibernate.sql.exec.internal.SqlTypedMappingJdbcParameter;
@@ -6948,6 +6950,18 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 
 		final FromClauseIndex fromClauseIndex = fromClauseIndexStack.getCurrent();
 
+		// an empty array as well, so that the SQL does not depend on the number of values
+		final Predicate inArrayPredicate = processInSingleArrayParameter(
+				sqmPredicate,
+				inListPredicate.getTestExpression(),
+				sqmParameter,
+				domainParam,
+				domainParamBinding
+		);
+		if ( inArrayPredicate != null ) {
+			return inArrayPredicate;
+		}
+
 		if ( !iterator.hasNext() ) {
 			domainParamBinding.setType( (MappingModelExpressible) determineValueMapping( sqmPredicate.getTestExpression(), fromClauseIndex ) );
 			return inListPredicate;
@@ -6974,6 +6988,53 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 		}
 	}
 
+	/**
+	 * Binds the values of the multi-valued parameter to a single JDBC array parameter,
+	 * when enabled by {@link org.hibernate.cfg.AvailableSettings#IN_CLAUSE_PARAMETER_ARRAY}
+	 * and supported by the dialect and the type of the values
+	 *
+	 * @return The predicate, or {@code null} if the parameter is to be expanded
+	 */
+	private Predicate processInSingleArrayParameter(
+			SqmInListPredicate<?> sqmPredicate,
+			Expression testExpression,
+			SqmParameter<?> sqmParameter,
+			QueryParameterImplementor<?> domainParam,
+			QueryParameterBinding<?> domainParamBinding) {
+		final SessionFactoryImplementor sessionFactory = creationContext.getSessionFactory();
+		if ( !sessionFactory.getSessionFactoryOptions().inClauseParameterArrayEnabled()
+				// the JDBC parameters of other occurrences of the parameter might be retyped
+				|| domainParameterXref.getSqmParameters( domainParam ).size() != 1 ) {
+			return null;
+		}
+		final MappingModelExpressible<?> valueMapping = determineValueMapping(
+				sqmPredicate.getTestExpression(),
+				fromClauseIndexStack.getCurrent()
+		);
+		if ( !( valueMapping instanceof BasicValuedMapping ) ) {
+			return null;
+		}
+		final JdbcMapping arrayJdbcMapping = ArrayParameterHelper.resolveArrayJdbcMapping( valueMapping, sessionFactory );
+		if ( arrayJdbcMapping == null ) {
+			return null;
+		}
+
+		domainParamBinding.setType( valueMapping );
+		sqmParameterMappingModelTypes.put( sqmParameter, valueMapping );
+		final JdbcParameter jdbcParameter = new JdbcParameterImpl( arrayJdbcMapping );
+		final List<JdbcParameter> jdbcParametersForSqm = new ArrayList<>( 1 );
+		jdbcParametersForSqm.add( jdbcParameter );
+		jdbcParameters.addParameter( jdbcParameter );
+		jdbcParamsBySqmParam.computeIfAbsent( sqmParameter, k -> new ArrayList<>( 1 ) ).add( jdbcParametersForSqm );
+
+		return new InArrayPredicate(
+				testExpression,
+				jdbcParameter,
+				sqmPredicate.isNegated(),
+				getBooleanType()
+		);
+	}
+
 	@Override
 	public InSubQueryPredicate visitInSubQueryPredicate(SqmInSubQueryPredicate<?> predicate) {
 		return new InSubQueryPredicate(
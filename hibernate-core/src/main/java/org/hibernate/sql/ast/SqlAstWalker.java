@@ -53,6 +53,7 @@ import org.hibernate.sql.ast.tree.predicate.ComparisonPredicate;
 import org.hibernate.sql.ast.tree.predicate.ExistsPredicate;
 import org.hibernate.sql.ast.tree.predicate.FilterPredicate;
 import org.hibernate.sql.ast.tree.predicate.GroupedPredicate;
+import org.hibernate.sql.ast.tree.predicate.InArrayPredicate;
 import org.hibernate.sql.ast.tree.predicate.InListPredicate;
 import org.hibernate.sql.ast.tree.predicate.InSubQueryPredicate;
 import org.hibernate.sql.ast.tree.predicate.Junction;
@@ -185,6 +186,8 @@ public interface SqlAstWalker {
 
 	void visitInSubQueryPredicate(InSubQueryPredicate inSubQueryPredicate);
 
+	void visitInArrayPredicate(InArrayPredicate inArrayPredicate);
+
 	void visitExistsPredicate(ExistsPredicate existsPredicate);
 
 	void visitJunction(Junction junction);
@@ -146,6 +146,7 @@ import org.hibernate.sql.ast.tree.predicate.ComparisonPredicate;
 import org.hibernate.sql.ast.tree.predicate.ExistsPredicate;
 import org.hibernate.sql.ast.tree.predicate.FilterPredicate;
 import org.hibernate.sql.ast.tree.predicate.GroupedPredicate;
+import org.hibernate.sql.ast.tree.predicate.InArrayPredicate;
 import org.hibernate.sql.ast.tree.predicate.InListPredicate;
 import org.hibernate.sql.ast.tree.predicate.InSubQueryPredicate;
 import org.hibernate.sql.ast.tree.predicate.Junction;
@@ -761,10 +762,14 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 
 			if ( jdbcParameterBindings != null && CollectionHelper.isNotEmpty( getFilterJdbcParameters() ) ) {
 				for ( FilterJdbcParameter filterJdbcParameter : getFilterJdbcParameters() ) {
-					jdbcParameterBindings.addBinding(
-							filterJdbcParameter.getParameter(),
-							filterJdbcParameter.getBinding()
-					);
+					// the current value of the filter parameter might already be bound
+					// when an operation of a cached plan is translated again
+					if ( jdbcParameterBindings.getBinding( filterJdbcParameter.getParameter() ) == null ) {
+						jdbcParameterBindings.addBinding(
+								filterJdbcParameter.getParameter(),
+								filterJdbcParameter.getBinding()
+						);
+					}
 				}
 			}
 
@@ -6782,6 +6787,33 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 		appendSql( CLOSE_PARENTHESIS );
 	}
 
+	@Override
+	public void visitInArrayPredicate(InArrayPredicate inArrayPredicate) {
+		renderInArrayTestExpression( inArrayPredicate );
+		if ( inArrayPredicate.isNegated() ) {
+			appendSql( "<>all(" );
+		}
+		else {
+			appendSql( "=any(" );
+		}
+		inArrayPredicate.getArrayExpression().accept( this );
+		appendSql( CLOSE_PARENTHESIS );
+	}
+
+	/**
+	 * Render the test expression of the given {@link InArrayPredicate},
+	 * which may be a tuple of arity 1
+	 */
+	protected void renderInArrayTestExpression(InArrayPredicate inArrayPredicate) {
+		final SqlTuple lhsTuple = SqlTupleContainer.getSqlTuple( inArrayPredicate.getTestExpression() );
+		if ( lhsTuple != null && lhsTuple.getExpressions().size() == 1 ) {
+			lhsTuple.getExpressions().get( 0 ).accept( this );
+		}
+		else {
+			inArrayPredicate.getTestExpression().accept( this );
+		}
+	}
+
 	@Override
 	public void visitInSubQueryPredicate(InSubQueryPredicate inSubQueryPredicate) {
 		final SqlTuple lhsTuple;
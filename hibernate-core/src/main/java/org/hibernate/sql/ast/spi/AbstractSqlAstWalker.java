@@ -61,6 +61,7 @@ import org.hibernate.sql.ast.tree.predicate.ComparisonPredicate;
 import org.hibernate.sql.ast.tree.predicate.ExistsPredicate;
 import org.hibernate.sql.ast.tree.predicate.FilterPredicate;
 import org.hibernate.sql.ast.tree.predicate.GroupedPredicate;
+import org.hibernate.sql.ast.tree.predicate.InArrayPredicate;
 import org.hibernate.sql.ast.tree.predicate.InListPredicate;
 import org.hibernate.sql.ast.tree.predicate.InSubQueryPredicate;
 import org.hibernate.sql.ast.tree.predicate.Junction;
@@ -386,6 +387,12 @@ public class AbstractSqlAstWalker implements SqlAstWalker {
 		inSubQueryPredicate.getSubQuery().accept( this );
 	}
 
+	@Override
+	public void visitInArrayPredicate(InArrayPredicate inArrayPredicate) {
+		inArrayPredicate.getTestExpression().accept( this );
+		inArrayPredicate.getArrayExpression().accept( this );
+	}
+
 	@Override
 	public void visitExistsPredicate(ExistsPredicate existsPredicate) {
 		existsPredicate.getExpression().accept( this );
@@ -58,6 +58,7 @@ import org.hibernate.sql.ast.tree.predicate.ComparisonPredicate;
 import org.hibernate.sql.ast.tree.predicate.ExistsPredicate;
 import org.hibernate.sql.ast.tree.predicate.FilterPredicate;
 import org.hibernate.sql.ast.tree.predicate.GroupedPredicate;
+import org.hibernate.sql.ast.tree.predicate.InArrayPredicate;
 import org.hibernate.sql.ast.tree.predicate.InListPredicate;
 import org.hibernate.sql.ast.tree.predicate.InSubQueryPredicate;
 import org.hibernate.sql.ast.tree.predicate.Junction;
@@ -337,6 +338,24 @@ public class ExpressionReplacementWalker implements SqlAstWalker {
 		}
 	}
 
+	@Override
+	public void visitInArrayPredicate(InArrayPredicate inArrayPredicate) {
+		final Expression testExpression = replaceExpression( inArrayPredicate.getTestExpression() );
+		final Expression arrayExpression = replaceExpression( inArrayPredicate.getArrayExpression() );
+		if ( testExpression != inArrayPredicate.getTestExpression()
+				|| arrayExpression != inArrayPredicate.getArrayExpression() ) {
+			returnedNode = new InArrayPredicate(
+					testExpression,
+					arrayExpression,
+					inArrayPredicate.isNegated(),
+					inArrayPredicate.getExpressionType()
+			);
+		}
+		else {
+			returnedNode = inArrayPredicate;
+		}
+	}
+
 	@Override
 	public void visitExistsPredicate(ExistsPredicate existsPredicate) {
 		final SelectStatement selectStatement = replaceExpression( existsPredicate.getExpression() );
@@ -0,0 +1,52 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.sql.ast.tree.predicate;
+
+import org.hibernate.metamodel.mapping.JdbcMappingContainer;
+import org.hibernate.sql.ast.SqlAstWalker;
+import org.hibernate.sql.ast.tree.expression.Expression;
+
+/**
+ * An in-list predicate whose list of values is a single array expression,
+ * typically a parameter bound to a JDBC array, rendered e.g. as
+ * {@code test = any(?)}.  Since the SQL does not depend on the number
+ * of values, a single statement serves lists of all sizes.
+ * <p>
+ * Only meaningful for dialects which {@linkplain org.hibernate.dialect.Dialect#supportsStandardArrays()
+ * support standard arrays}.
+ */
+public class InArrayPredicate extends AbstractPredicate {
+	private final Expression testExpression;
+	private final Expression arrayExpression;
+
+	public InArrayPredicate(Expression testExpression, Expression arrayExpression) {
+		this( testExpression, arrayExpression, false, null );
+	}
+
+	public InArrayPredicate(
+			Expression testExpression,
+			Expression arrayExpression,
+			boolean negated,
+			JdbcMappingContainer expressionType) {
+		super( expressionType, negated );
+		this.testExpression = testExpression;
+		this.arrayExpression = arrayExpression;
+	}
+
+	public Expression getTestExpression() {
+		return testExpression;
+	}
+
+	public Expression getArrayExpression() {
+		return arrayExpression;
+	}
+
+	@Override
+	public void accept(SqlAstWalker sqlTreeWalker) {
+		sqlTreeWalker.visitInArrayPredicate( this );
+	}
+}
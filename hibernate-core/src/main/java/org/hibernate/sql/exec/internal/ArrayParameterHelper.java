@@ -0,0 +1,73 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.sql.exec.internal;
+
+import java.lang.reflect.Array;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.metamodel.mapping.JdbcMappingContainer;
+import org.hibernate.type.BasicPluralType;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.descriptor.java.BasicPluralJavaType;
+import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.spi.TypeConfiguration;
+
+/**
+ * Support for binding multiple values of a basic type to a single parameter,
+ * as a JDBC array, used both by loaders and by query translation.
+ */
+public class ArrayParameterHelper {
+	private ArrayParameterHelper() {
+	}
+
+	public static boolean supportsSqlArrayType(Dialect dialect) {
+		return dialect.supportsStandardArrays()
+				&& dialect.getPreferredSqlTypeCodeForArray() == SqlTypes.ARRAY;
+	}
+
+	/**
+	 * Resolve the mapping of the JDBC array of values of the given key, which
+	 * is a model part or the type of an expression.
+	 *
+	 * @return The array mapping, or {@code null} if the key cannot be bound as a JDBC array,
+	 * because the dialect does not support arrays or the key is not a single basic value
+	 */
+	public static JdbcMapping resolveArrayJdbcMapping(JdbcMappingContainer keyPart, SessionFactoryImplementor sessionFactory) {
+		final Dialect dialect = sessionFactory.getJdbcServices().getDialect();
+		if ( !supportsSqlArrayType( dialect ) || keyPart.getJdbcTypeCount() != 1 ) {
+			return null;
+		}
+		final JdbcMapping keyMapping = keyPart.getJdbcMappings().get( 0 );
+		if ( !( keyMapping instanceof BasicType ) || keyMapping.getValueConverter() != null ) {
+			return null;
+		}
+		final Class<?> keyClass = keyMapping.getJavaTypeDescriptor().getJavaTypeClass();
+		if ( keyClass == null || keyClass.isPrimitive() || keyClass.isArray()
+				// arrays of these are mapped as binary and character data
+				|| keyClass == Byte.class || keyClass == Character.class ) {
+			return null;
+		}
+
+		final TypeConfiguration typeConfiguration = sessionFactory.getTypeConfiguration();
+		final JavaType<Object> arrayJavaType = typeConfiguration.getJavaTypeRegistry()
+				.resolveDescriptor( Array.newInstance( keyClass, 0 ).getClass() );
+		if ( !( arrayJavaType instanceof BasicPluralJavaType ) ) {
+			return null;
+		}
+		//noinspection unchecked
+		final BasicType<?> arrayType = ( (BasicPluralJavaType<Object>) arrayJavaType ).resolveType(
+				typeConfiguration,
+				dialect,
+				(BasicType<Object>) keyMapping,
+				null
+		);
+		return arrayType instanceof BasicPluralType ? arrayType : null;
+	}
+}
@@ -8,6 +8,7 @@ package org.hibernate.sql.exec.spi;
 
 import java.util.Set;
 
+import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.internal.FilterJdbcParameter;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.query.spi.QueryOptions;
@@ -46,4 +47,21 @@ public interface JdbcOperationQuery extends JdbcOperation {
 			}
 		}
 	}
+
+	/**
+	 * Bind the values the filter parameters currently have in the given influencers,
+	 * rather than the values this operation was translated with
+	 */
+	default void bindFilterJdbcParameters(
+			JdbcParameterBindings jdbcParameterBindings,
+			LoadQueryInfluencers loadQueryInfluencers) {
+		if ( CollectionHelper.isNotEmpty( getFilterJdbcParameters() ) ) {
+			for ( FilterJdbcParameter filterJdbcParameter : getFilterJdbcParameters() ) {
+				jdbcParameterBindings.addBinding(
+						filterJdbcParameter.getParameter(),
+						filterJdbcParameter.getBinding( loadQueryInfluencers )
+				);
+			}
+		}
+	}
 }
@@ -6,10 +6,19 @@
  */
 package org.hibernate.sql.results.graph.entity.internal;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.function.Consumer;
 
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
 import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.LoadEvent;
+import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
+import org.hibernate.loader.entity.CacheEntityLoaderHelper;
 import org.hibernate.metamodel.mapping.ModelPart;
 import org.hibernate.metamodel.mapping.internal.ToOneAttributeMapping;
 import org.hibernate.persister.entity.EntityPersister;
@@ -129,6 +138,102 @@ public abstract class AbstractBatchEntitySelectFetchInitializer extends Abstract
 		);
 	}
 
+	/**
+	 * Resolve from the second-level cache, with a single call to the cache, the
+	 * entities about to be loaded one by one, and load those missing from the
+	 * cache from the database right away, so that they are not looked up in the
+	 * cache a second time.
+	 */
+	protected void loadFromSecondLevelCache(Collection<EntityKey> entityKeys, SharedSessionContractImplementor session) {
+		if ( entityKeys.size() < 2 || !session.isEventSource() || !concreteDescriptor.canReadFromCache() ) {
+			return;
+		}
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final EntityKey[] keys = entityKeys.toArray( new EntityKey[0] );
+		final Object[] ids = new Object[keys.length];
+		for ( int i = 0; i < keys.length; i++ ) {
+			if ( persistenceContext.getEntity( keys[i] ) == null && persistenceContext.getProxy( keys[i] ) == null ) {
+				ids[i] = keys[i].getIdentifier();
+			}
+		}
+		final EventSource source = session.asEventSource();
+		final Object[] cachedEntries = CacheEntityLoaderHelper.INSTANCE.getFromSecondLevelCache(
+				source,
+				LockMode.NONE,
+				concreteDescriptor,
+				ids
+		);
+		if ( cachedEntries != null ) {
+			final Object[] missedIds = new Object[keys.length];
+			int missCount = 0;
+			for ( int i = 0; i < keys.length; i++ ) {
+				if ( cachedEntries[i] != null ) {
+					final LoadEvent loadEvent = new LoadEvent(
+							ids[i],
+							keys[i].getEntityName(),
+							true,
+							source,
+							session.getLoadQueryInfluencers().getReadOnly()
+					);
+					CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
+							loadEvent,
+							concreteDescriptor,
+							keys[i],
+							cachedEntries[i]
+					);
+				}
+				else if ( ids[i] != null ) {
+					missedIds[missCount++] = ids[i];
+				}
+			}
+			if ( missCount > 0 ) {
+				// the loaded entities are then found in the session
+				concreteDescriptor.multiLoad(
+						Arrays.copyOf( missedIds, missCount ),
+						source,
+						CacheMissLoadOptions.INSTANCE
+				);
+			}
+		}
+	}
+
+	/**
+	 * Loads the entities known to be missing from the second-level cache.
+	 */
+	private static class CacheMissLoadOptions implements MultiIdLoadOptions {
+		private static final CacheMissLoadOptions INSTANCE = new CacheMissLoadOptions();
+
+		@Override
+		public boolean isSessionCheckingEnabled() {
+			return true;
+		}
+
+		@Override
+		public boolean isSecondLevelCacheCheckingEnabled() {
+			return false;
+		}
+
+		@Override
+		public boolean isReturnOfDeletedEntitiesEnabled() {
+			return false;
+		}
+
+		@Override
+		public boolean isOrderReturnEnabled() {
+			return false;
+		}
+
+		@Override
+		public LockOptions getLockOptions() {
+			return LockOptions.NONE;
+		}
+
+		@Override
+		public Integer getBatchSize() {
+			return null;
+		}
+	}
+
 	protected static int getPropertyIndex(EntityInitializer entityInitializer, String propertyName) {
 		return entityInitializer.getConcreteDescriptor().findAttributeMapping( propertyName ).getStateArrayPosition();
 	}
@@ -108,6 +108,7 @@ public class BatchEntityInsideEmbeddableSelectFetchInitializer extends AbstractB
 
 	@Override
 	public void endLoading(ExecutionContext context) {
+		loadFromSecondLevelCache( toBatchLoad.keySet(), context.getSession() );
 		toBatchLoad.forEach(
 				(entityKey, parentInfos) -> {
 					final SharedSessionContractImplementor session = context.getSession();
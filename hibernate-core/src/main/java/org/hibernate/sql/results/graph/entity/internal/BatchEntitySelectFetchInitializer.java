@@ -70,6 +70,7 @@ public class BatchEntitySelectFetchInitializer extends AbstractBatchEntitySelect
 
 	@Override
 	public void endLoading(ExecutionContext context) {
+		loadFromSecondLevelCache( toBatchLoad.keySet(), context.getSession() );
 		toBatchLoad.forEach(
 				(entityKey, parentInfos) -> {
 					final SharedSessionContractImplementor session = context.getSession();
@@ -124,15 +124,16 @@ public class EntitySelectFetchInitializer extends AbstractFetchParentAccess impl
 		final SharedSessionContractImplementor session = rowProcessingState.getSession();
 		final String entityName = concreteDescriptor.getEntityName();
 
-		final EntityKey entityKey = new EntityKey( entityIdentifier, concreteDescriptor );
-
 		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
-		entityInstance = persistenceContext.getEntity( entityKey );
+		entityInstance = persistenceContext.getEntity( entityIdentifier, concreteDescriptor );
 		if ( entityInstance != null ) {
 			isInitialized = true;
 			return;
 		}
 
+		// only materialize the key once we know the entity is not managed yet
+		final EntityKey entityKey = new EntityKey( entityIdentifier, concreteDescriptor );
+
 		Initializer initializer = rowProcessingState.getJdbcValuesSourceProcessingState()
 				.findInitializer( entityKey );
 
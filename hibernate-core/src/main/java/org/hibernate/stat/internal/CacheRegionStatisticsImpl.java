@@ -11,6 +11,8 @@ import java.util.concurrent.atomic.LongAdder;
 
 import org.hibernate.cache.spi.ExtendedStatisticsSupport;
 import org.hibernate.cache.spi.Region;
+import org.hibernate.cache.spi.support.DirectAccessRegionTemplate;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
 import org.hibernate.stat.CacheRegionStatistics;
 
 /**
@@ -20,6 +22,7 @@ import org.hibernate.stat.CacheRegionStatistics;
  */
 public class CacheRegionStatisticsImpl implements CacheRegionStatistics, Serializable {
 	private final transient Region region;
+	private final transient ExtendedStatisticsSupport extendedStatisticsSupport;
 
 	private final LongAdder hitCount = new LongAdder();
 	private final LongAdder missCount = new LongAdder();
@@ -27,6 +30,31 @@ public class CacheRegionStatisticsImpl implements CacheRegionStatistics, Seriali
 
 	CacheRegionStatisticsImpl(Region region) {
 		this.region = region;
+		this.extendedStatisticsSupport = resolveExtendedStatisticsSupport( region );
+	}
+
+	/**
+	 * The extended statistics are reported by the region itself or, for the
+	 * regions of a {@link org.hibernate.cache.spi.support.RegionFactoryTemplate},
+	 * by its storage access.
+	 */
+	private static ExtendedStatisticsSupport resolveExtendedStatisticsSupport(Region region) {
+		if ( region instanceof ExtendedStatisticsSupport ) {
+			return (ExtendedStatisticsSupport) region;
+		}
+		final Object storageAccess;
+		if ( region instanceof DomainDataRegionTemplate ) {
+			storageAccess = ( (DomainDataRegionTemplate) region ).getCacheStorageAccess();
+		}
+		else if ( region instanceof DirectAccessRegionTemplate ) {
+			storageAccess = ( (DirectAccessRegionTemplate) region ).getStorageAccess();
+		}
+		else {
+			storageAccess = null;
+		}
+		return storageAccess instanceof ExtendedStatisticsSupport
+				? (ExtendedStatisticsSupport) storageAccess
+				: null;
 	}
 
 	@Override
@@ -51,24 +79,24 @@ public class CacheRegionStatisticsImpl implements CacheRegionStatistics, Seriali
 
 	@Override
 	public long getElementCountInMemory() {
-		if ( region instanceof ExtendedStatisticsSupport ) {
-			return ( (ExtendedStatisticsSupport) region ).getElementCountInMemory();
+		if ( extendedStatisticsSupport != null ) {
+			return extendedStatisticsSupport.getElementCountInMemory();
 		}
 		return NO_EXTENDED_STAT_SUPPORT_RETURN;
 	}
 
 	@Override
 	public long getElementCountOnDisk() {
-		if ( region instanceof ExtendedStatisticsSupport ) {
-			return ( (ExtendedStatisticsSupport) region ).getElementCountOnDisk();
+		if ( extendedStatisticsSupport != null ) {
+			return extendedStatisticsSupport.getElementCountOnDisk();
 		}
 		return NO_EXTENDED_STAT_SUPPORT_RETURN;
 	}
 
 	@Override
 	public long getSizeInMemory() {
-		if ( region instanceof ExtendedStatisticsSupport ) {
-			return ( (ExtendedStatisticsSupport) region ).getSizeInMemory();
+		if ( extendedStatisticsSupport != null ) {
+			return extendedStatisticsSupport.getSizeInMemory();
 		}
 		return NO_EXTENDED_STAT_SUPPORT_RETURN;
 	}
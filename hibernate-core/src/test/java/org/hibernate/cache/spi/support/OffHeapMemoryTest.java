@@ -0,0 +1,57 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.support;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OffHeapMemoryTest {
+
+	@Test
+	public void testEmptySlabIsReusedForAnotherSize() {
+		final OffHeapMemory memory = new OffHeapMemory( OffHeapMemory.SLAB_SIZE );
+
+		// fill the only slab with small chunks
+		final List<OffHeapMemory.Chunk> small = new ArrayList<>();
+		OffHeapMemory.Chunk chunk;
+		while ( ( chunk = memory.store( new byte[10] ) ) != null ) {
+			small.add( chunk );
+		}
+		assertThat( small ).hasSize( OffHeapMemory.SLAB_SIZE / 64 );
+		assertThat( memory.store( new byte[1000] ) ).isNull();
+
+		final OffHeapMemory.Chunk stale = small.get( 0 );
+		for ( OffHeapMemory.Chunk freed : small ) {
+			memory.free( freed );
+		}
+		assertThat( memory.getAllocatedBytes() ).isZero();
+
+		// the empty slab now holds chunks of another size
+		final byte[] bytes = new byte[1000];
+		bytes[0] = 42;
+		final OffHeapMemory.Chunk large = memory.store( bytes );
+		assertThat( large ).isNotNull();
+		assertThat( memory.load( large ) ).isEqualTo( bytes );
+		assertThat( memory.load( stale ) ).isNull();
+	}
+
+	@Test
+	public void testReleasedChunkIsNotReadable() {
+		final OffHeapMemory memory = new OffHeapMemory( OffHeapMemory.SLAB_SIZE );
+		final OffHeapMemory.Chunk chunk = memory.store( new byte[] { 1, 2, 3 } );
+		assertThat( memory.load( chunk ) ).containsExactly( 1, 2, 3 );
+
+		memory.release();
+		assertThat( memory.load( chunk ) ).isNull();
+		memory.free( chunk );
+		assertThat( memory.getAllocatedBytes() ).isZero();
+	}
+}
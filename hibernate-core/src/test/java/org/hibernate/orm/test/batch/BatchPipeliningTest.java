@@ -0,0 +1,212 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that {@value AvailableSettings#STATEMENT_BATCH_PIPELINE_DEPTH} keeps the
+ * batches of independent entities open, and never reorders the rows of entities
+ * related by a foreign key.
+ */
+@DomainModel( annotatedClasses = {
+		BatchPipeliningTest.Author.class,
+		BatchPipeliningTest.Book.class,
+		BatchPipeliningTest.Tag.class,
+		BatchPipeliningTest.Shelf.class,
+		BatchPipeliningTest.Volume.class
+} )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10" ),
+		@Setting( name = AvailableSettings.STATEMENT_BATCH_PIPELINE_DEPTH, value = "4" ),
+		@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" )
+} )
+@SessionFactory
+public class BatchPipeliningTest {
+	private static final int COUNT = 5;
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createMutationQuery( "delete from Author" ).executeUpdate();
+			session.createMutationQuery( "delete from Tag" ).executeUpdate();
+			session.createMutationQuery( "delete from Volume" ).executeUpdate();
+			session.createMutationQuery( "delete from Shelf" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testIndependentBatchesAreResumed(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= COUNT; id++ ) {
+				session.persist( new Tag( id, "tag " + id ) );
+				session.persist( new Author( id, "author " + id ) );
+			}
+		} );
+		// one insert statement for each entity, instead of one per persist
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 2L );
+		assertThat( statistics.getEntityInsertCount() ).isEqualTo( 2L * COUNT );
+
+		scope.inTransaction( session -> {
+			assertThat( session.createSelectionQuery( "from Tag", Tag.class ).getResultList() ).hasSize( COUNT );
+			assertThat( session.createSelectionQuery( "from Author", Author.class ).getResultList() ).hasSize( COUNT );
+		} );
+	}
+
+	@Test
+	public void testDependentBatchesAreNotReordered(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= COUNT; id++ ) {
+				final Author author = new Author( id, "author " + id );
+				session.persist( author );
+				session.persist( new Book( id, "book " + id, author ) );
+			}
+		} );
+		assertThat( statistics.getEntityInsertCount() ).isEqualTo( 2L * COUNT );
+
+		scope.inTransaction( session -> {
+			final Book book = session.get( Book.class, 3L );
+			assertThat( book.author.name ).isEqualTo( "author 3" );
+		} );
+
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= COUNT; id++ ) {
+				final Book book = session.get( Book.class, id );
+				session.remove( book );
+				session.remove( book.author );
+			}
+		} );
+		assertThat( statistics.getEntityDeleteCount() ).isEqualTo( 2L * COUNT );
+	}
+
+	@Test
+	public void testBatchesDependentThroughJoinColumnAreNotReordered(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= COUNT; id++ ) {
+				final Shelf shelf = new Shelf( id );
+				shelf.volumes.add( new Volume( id, "volume " + id ) );
+				session.persist( shelf );
+			}
+		} );
+		assertThat( statistics.getEntityInsertCount() ).isEqualTo( 2L * COUNT );
+
+		scope.inTransaction( session -> {
+			final Shelf shelf = session.get( Shelf.class, 3L );
+			assertThat( shelf.volumes ).extracting( volume -> volume.title ).containsExactly( "volume 3" );
+		} );
+	}
+
+	@Entity( name = "Author" )
+	public static class Author {
+		@Id
+		private Long id;
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "Book" )
+	public static class Book {
+		@Id
+		private Long id;
+		private String title;
+		@ManyToOne
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+
+	@Entity( name = "Tag" )
+	public static class Tag {
+		@Id
+		private Long id;
+		private String name;
+
+		public Tag() {
+		}
+
+		public Tag(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "Shelf" )
+	public static class Shelf {
+		@Id
+		private Long id;
+		@OneToMany( cascade = CascadeType.ALL )
+		@JoinColumn( name = "shelf_id", nullable = false )
+		private List<Volume> volumes = new ArrayList<>();
+
+		public Shelf() {
+		}
+
+		public Shelf(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity( name = "Volume" )
+	public static class Volume {
+		@Id
+		private Long id;
+		private String title;
+
+		public Volume() {
+		}
+
+		public Volume(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,144 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that {@value AvailableSettings#STATEMENT_BATCH_MULTI_ROW_DELETE_SIZE}
+ * deletes the rows of a batch using statements restricted by a list of keys.
+ */
+@DomainModel( annotatedClasses = {
+		MultiRowDeleteTest.Item.class,
+		MultiRowDeleteTest.VersionedItem.class
+} )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10" ),
+		@Setting( name = AvailableSettings.STATEMENT_BATCH_MULTI_ROW_DELETE_SIZE, value = "4" )
+} )
+@SessionFactory( useCollectingStatementInspector = true )
+public class MultiRowDeleteTest {
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createSelectionQuery( "from Item", Item.class ).getResultList().forEach( session::remove );
+			session.createMutationQuery( "delete from VersionedItem" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testRowsAreDeletedInChunks(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= 10; id++ ) {
+				session.persist( new Item( id, "tag " + id ) );
+			}
+		} );
+
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= 10; id++ ) {
+				session.remove( session.getReference( Item.class, id ) );
+			}
+		} );
+
+		// 10 items and their tags, in chunks of 4
+		final List<String> keyListDeletes = keyListDeletes( statementInspector );
+		assertThat( keyListDeletes ).hasSize( 6 );
+		assertThat( keyListDeletes ).filteredOn( sql -> sql.contains( "Item_tags" ) ).hasSize( 3 );
+
+		scope.inTransaction( session -> {
+			assertThat( session.createSelectionQuery( "from Item", Item.class ).getResultList() ).isEmpty();
+		} );
+	}
+
+	@Test
+	public void testVersionedEntitiesAreDeletedOneByOne(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= 10; id++ ) {
+				session.persist( new VersionedItem( id ) );
+			}
+		} );
+
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= 10; id++ ) {
+				session.remove( session.get( VersionedItem.class, id ) );
+			}
+		} );
+
+		assertThat( keyListDeletes( statementInspector ) ).isEmpty();
+
+		scope.inTransaction( session -> {
+			assertThat( session.createSelectionQuery( "from VersionedItem", VersionedItem.class ).getResultList() )
+					.isEmpty();
+		} );
+	}
+
+	private static List<String> keyListDeletes(SQLStatementInspector statementInspector) {
+		return statementInspector.getSqlQueries()
+				.stream()
+				.filter( sql -> sql.startsWith( "delete" ) && sql.contains( " in (" ) )
+				.collect( Collectors.toList() );
+	}
+
+	@Entity( name = "Item" )
+	public static class Item {
+		@Id
+		private Long id;
+		@ElementCollection
+		private Set<String> tags = new HashSet<>();
+
+		public Item() {
+		}
+
+		public Item(Long id, String tag) {
+			this.id = id;
+			this.tags.add( tag );
+		}
+	}
+
+	@Entity( name = "VersionedItem" )
+	public static class VersionedItem {
+		@Id
+		private Long id;
+		@Version
+		private Integer version;
+
+		public VersionedItem() {
+		}
+
+		public VersionedItem(Long id) {
+			this.id = id;
+		}
+	}
+}
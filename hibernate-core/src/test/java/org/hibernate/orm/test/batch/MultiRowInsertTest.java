@@ -0,0 +1,178 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.List;
+
+import org.hibernate.annotations.SQLInsert;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that {@value AvailableSettings#STATEMENT_BATCH_MULTI_ROW_INSERT_SIZE}
+ * inserts the rows of a batch using multi-row insert statements.
+ */
+@DomainModel( annotatedClasses = {
+		MultiRowInsertTest.Vehicle.class,
+		MultiRowInsertTest.Truck.class,
+		MultiRowInsertTest.Note.class
+} )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10" ),
+		@Setting( name = AvailableSettings.STATEMENT_BATCH_MULTI_ROW_INSERT_SIZE, value = "4" )
+} )
+@SessionFactory( useCollectingStatementInspector = true )
+@RequiresDialectFeature( feature = DialectFeatureChecks.SupportsValuesListForInsert.class )
+public class MultiRowInsertTest {
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Truck" ).executeUpdate();
+			session.createMutationQuery( "delete from Vehicle" ).executeUpdate();
+			session.createMutationQuery( "delete from Note" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testRowsAreInsertedInChunks(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= 10; id++ ) {
+				session.persist( new Vehicle( id, "vehicle " + id ) );
+			}
+		} );
+
+		// 10 rows in chunks of 4
+		final List<String> inserts = statementInspector.getSqlQueries();
+		assertThat( inserts ).hasSize( 3 );
+		assertThat( valuesCount( inserts.get( 0 ) ) ).isEqualTo( 4 );
+		assertThat( valuesCount( inserts.get( 1 ) ) ).isEqualTo( 4 );
+		assertThat( valuesCount( inserts.get( 2 ) ) ).isEqualTo( 2 );
+
+		scope.inTransaction( session -> {
+			final List<Vehicle> vehicles = session.createSelectionQuery( "from Vehicle order by id", Vehicle.class )
+					.getResultList();
+			assertThat( vehicles ).extracting( vehicle -> vehicle.name )
+					.containsExactly(
+							"vehicle 1", "vehicle 2", "vehicle 3", "vehicle 4", "vehicle 5",
+							"vehicle 6", "vehicle 7", "vehicle 8", "vehicle 9", "vehicle 10"
+					);
+		} );
+	}
+
+	@Test
+	public void testSeveralTables(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= 5; id++ ) {
+				session.persist( new Truck( id, "truck " + id, 10 * id ) );
+			}
+		} );
+
+		scope.inTransaction( session -> {
+			final Truck truck = session.get( Truck.class, 5L );
+			assertThat( truck.name ).isEqualTo( "truck 5" );
+			assertThat( truck.payload ).isEqualTo( 50L );
+			assertThat( session.createSelectionQuery( "from Truck", Truck.class ).getResultList() ).hasSize( 5 );
+		} );
+	}
+
+	@Test
+	public void testQuestionMarkInLiteralIsNotAParameter(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= 4; id++ ) {
+				session.persist( new Note( id, "note " + id ) );
+			}
+		} );
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 1 );
+
+		scope.inTransaction( session -> {
+			final List<Note> notes = session.createSelectionQuery( "from Note order by id", Note.class )
+					.getResultList();
+			assertThat( notes ).extracting( note -> note.content )
+					.containsExactly( "note 1", "note 2", "note 3", "note 4" );
+			assertThat( notes ).extracting( note -> note.remark )
+					.containsOnly( "why?" );
+		} );
+	}
+
+	private static int valuesCount(String sql) {
+		return sql.split( "\\),\\(" ).length;
+	}
+
+	@Entity( name = "Vehicle" )
+	@Inheritance( strategy = InheritanceType.JOINED )
+	public static class Vehicle {
+		@Id
+		private Long id;
+		private String name;
+
+		public Vehicle() {
+		}
+
+		public Vehicle(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "Note" )
+	@Table( name = "Note" )
+	@SQLInsert( sql = "insert into Note (remark, content, id) values ('why?', ?, ?)" )
+	public static class Note {
+		@Id
+		private Long id;
+		private String content;
+		@Column( insertable = false, updatable = false )
+		private String remark;
+
+		public Note() {
+		}
+
+		public Note(Long id, String content) {
+			this.id = id;
+			this.content = content;
+		}
+	}
+
+	@Entity( name = "Truck" )
+	public static class Truck extends Vehicle {
+		private long payload;
+
+		public Truck() {
+		}
+
+		public Truck(Long id, String name, long payload) {
+			super( id, name );
+			this.payload = payload;
+		}
+	}
+}
@@ -0,0 +1,195 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.internal.util.StringHelper;
+
+import org.hibernate.sql.exec.internal.ArrayParameterHelper;
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests batch fetching and multi-loading with the keys bound as a single
+ * array parameter, on the dialects which support it
+ */
+@DomainModel(
+		annotatedClasses = {
+				ArrayParameterBatchFetchTest.Owner.class,
+				ArrayParameterBatchFetchTest.Pet.class
+		}
+)
+@SessionFactory( useCollectingStatementInspector = true )
+public class ArrayParameterBatchFetchTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 7; i++ ) {
+						final Owner owner = new Owner( i, "Owner #" + i );
+						session.persist( owner );
+						session.persist( new Pet( i, "Pet #" + i, owner ) );
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createMutationQuery( "delete Pet" ).executeUpdate();
+					session.createMutationQuery( "delete Owner" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testEntityBatchFetch(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction(
+				session -> {
+					final List<Pet> pets = session.createSelectionQuery( "from Pet order by id", Pet.class )
+							.getResultList();
+					statementInspector.clear();
+
+					// initializing one owner batch loads the others
+					Hibernate.initialize( pets.get( 0 ).getOwner() );
+					statementInspector.assertExecutedCount( 1 );
+					for ( Pet pet : pets ) {
+						assertThat( Hibernate.isInitialized( pet.getOwner() ) ).isTrue();
+					}
+					assertBoundAsArray( scope, statementInspector.getSqlQueries().get( 0 ), 7 );
+				}
+		);
+	}
+
+	@Test
+	public void testCollectionBatchFetch(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction(
+				session -> {
+					final List<Owner> owners = session.createSelectionQuery( "from Owner order by id", Owner.class )
+							.getResultList();
+					statementInspector.clear();
+
+					// initializing one collection batch loads the others
+					Hibernate.initialize( owners.get( 0 ).getPets() );
+					statementInspector.assertExecutedCount( 1 );
+					for ( Owner owner : owners ) {
+						assertThat( Hibernate.isInitialized( owner.getPets() ) ).isTrue();
+						assertThat( owner.getPets() ).hasSize( 1 );
+					}
+					assertBoundAsArray( scope, statementInspector.getSqlQueries().get( 0 ), 7 );
+				}
+		);
+	}
+
+	@Test
+	public void testMultiLoad(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction(
+				session -> {
+					statementInspector.clear();
+
+					final List<Owner> owners = session.byMultipleIds( Owner.class ).multiLoad( 1, 2, 3, 4, 5, 6, 7 );
+					assertThat( owners ).extracting( Owner::getId ).containsExactly( 1, 2, 3, 4, 5, 6, 7 );
+					statementInspector.assertExecutedCount( 1 );
+					assertBoundAsArray( scope, statementInspector.getSqlQueries().get( 0 ), 7 );
+				}
+		);
+	}
+
+	private static void assertBoundAsArray(SessionFactoryScope scope, String sql, int numberOfKeys) {
+		final int parameterCount = StringHelper.countUnquoted( sql, '?' );
+		if ( ArrayParameterHelper.supportsSqlArrayType( scope.getSessionFactory().getJdbcServices().getDialect() ) ) {
+			assertThat( parameterCount ).isEqualTo( 1 );
+		}
+		else {
+			assertThat( parameterCount ).isGreaterThanOrEqualTo( numberOfKeys );
+		}
+	}
+
+	@Entity( name = "Owner" )
+	@BatchSize( size = 10 )
+	public static class Owner {
+		@Id
+		private Integer id;
+		private String name;
+		@OneToMany( mappedBy = "owner" )
+		@BatchSize( size = 10 )
+		private List<Pet> pets = new ArrayList<>();
+
+		public Owner() {
+		}
+
+		public Owner(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public List<Pet> getPets() {
+			return pets;
+		}
+	}
+
+	@Entity( name = "Pet" )
+	public static class Pet {
+		@Id
+		private Integer id;
+		private String name;
+		@ManyToOne( fetch = FetchType.LAZY )
+		private Owner owner;
+
+		public Pet() {
+		}
+
+		public Pet(Integer id, String name, Owner owner) {
+			this.id = id;
+			this.name = name;
+			this.owner = owner;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public Owner getOwner() {
+			return owner;
+		}
+	}
+}
@@ -0,0 +1,243 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.internal.LocalCacheRegionFactory;
+import org.hibernate.cache.internal.LocalCacheStorageAccess;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel( annotatedClasses = {
+		BulkCacheGetTest.Item.class,
+		BulkCacheGetTest.Part.class,
+		BulkCacheGetTest.Shipment.class
+} )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.CACHE_REGION_FACTORY,
+				value = "org.hibernate.orm.test.cache.BulkCacheGetTest$CountingRegionFactory" ),
+		@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" )
+} )
+@SessionFactory
+public class BulkCacheGetTest {
+	private static final AtomicInteger BULK_GETS = new AtomicInteger();
+
+	@BeforeEach
+	public void createData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= 10; id++ ) {
+				session.persist( new Item( id, "item " + id ) );
+			}
+		} );
+		// leave two of the items out of the cache
+		scope.getSessionFactory().getCache().evictEntityData( Item.class, 9L );
+		scope.getSessionFactory().getCache().evictEntityData( Item.class, 10L );
+		scope.getSessionFactory().getStatistics().clear();
+		BULK_GETS.set( 0 );
+	}
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Shipment" ).executeUpdate();
+			session.createMutationQuery( "delete from Item" ).executeUpdate();
+			session.createMutationQuery( "delete from Part" ).executeUpdate();
+		} );
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testMultiLoadLooksUpTheCacheOnce(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			final List<Item> items = session.byMultipleIds( Item.class )
+					.with( CacheMode.NORMAL )
+					.multiLoad( 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L );
+			assertThat( items ).hasSize( 10 );
+			for ( int i = 0; i < 10; i++ ) {
+				assertThat( items.get( i ).name ).isEqualTo( "item " + ( i + 1 ) );
+			}
+		} );
+
+		assertThat( BULK_GETS.get() ).isEqualTo( 1 );
+		final CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics( "items" );
+		assertThat( regionStatistics.getHitCount() ).isEqualTo( 8 );
+		assertThat( regionStatistics.getMissCount() ).isEqualTo( 2 );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testBatchLoadSkipsCachedEntities(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			final Item[] items = new Item[10];
+			for ( int i = 0; i < 10; i++ ) {
+				items[i] = session.getReference( Item.class, i + 1L );
+			}
+			Hibernate.initialize( items[8] );
+
+			// the other item missing from the cache was loaded with it
+			assertThat( Hibernate.isInitialized( items[9] ) ).isTrue();
+			for ( int i = 0; i < 8; i++ ) {
+				assertThat( Hibernate.isInitialized( items[i] ) ).isFalse();
+			}
+		} );
+
+		assertThat( BULK_GETS.get() ).isEqualTo( 1 );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testBatchLoadWithMoreKeysThanTheBatchSize(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= 5; id++ ) {
+				session.persist( new Part( id, "part " + id ) );
+			}
+		} );
+		scope.getSessionFactory().getCache().evictEntityData( Part.class );
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			final Part[] parts = new Part[5];
+			for ( int i = 0; i < 5; i++ ) {
+				parts[i] = session.getReference( Part.class, i + 1L );
+			}
+			// the id being loaded is the first key after the first window of three keys
+			Hibernate.initialize( parts[3] );
+
+			assertThat( Hibernate.isInitialized( parts[3] ) ).isTrue();
+			assertThat( Hibernate.isInitialized( parts[2] ) ).isTrue();
+			assertThat( Hibernate.isInitialized( parts[4] ) ).isTrue();
+			assertThat( Hibernate.isInitialized( parts[0] ) ).isFalse();
+			assertThat( Hibernate.isInitialized( parts[1] ) ).isFalse();
+		} );
+
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testBatchFetchLoadsCacheMissesWithoutLookingThemUpAgain(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= 10; id++ ) {
+				session.persist( new Shipment( id, session.getReference( Item.class, id ) ) );
+			}
+		} );
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		BULK_GETS.set( 0 );
+
+		scope.inTransaction( session -> {
+			final List<Shipment> shipments = session.createSelectionQuery( "from Shipment order by id", Shipment.class )
+					.getResultList();
+			assertThat( shipments ).hasSize( 10 );
+			assertThat( shipments.get( 9 ).item.name ).isEqualTo( "item 10" );
+		} );
+
+		assertThat( BULK_GETS.get() ).isEqualTo( 1 );
+		final CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics( "items" );
+		assertThat( regionStatistics.getMissCount() ).isEqualTo( 2 );
+		// the shipments, and the two items missing from the cache
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 2 );
+	}
+
+	public static class CountingRegionFactory extends LocalCacheRegionFactory {
+		@Override
+		protected DomainDataStorageAccess createDomainDataStorageAccess(
+				DomainDataRegionConfig regionConfig,
+				DomainDataRegionBuildingContext buildingContext) {
+			return new LocalCacheStorageAccess( DEFAULT_MAX_SIZE, 0 ) {
+				@Override
+				public Object[] getAllFromCache(Object[] keys, SharedSessionContractImplementor session) {
+					BULK_GETS.incrementAndGet();
+					return super.getAllFromCache( keys, session );
+				}
+			};
+		}
+	}
+
+	@Entity( name = "Item" )
+	@Cacheable
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE, region = "items" )
+	@BatchSize( size = 10 )
+	public static class Item {
+		@Id
+		private Long id;
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "Part" )
+	@Cacheable
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE, region = "parts" )
+	@BatchSize( size = 3 )
+	public static class Part {
+		@Id
+		private Long id;
+		private String name;
+
+		public Part() {
+		}
+
+		public Part(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "Shipment" )
+	public static class Shipment {
+		@Id
+		private Long id;
+		@ManyToOne
+		private Item item;
+
+		public Shipment() {
+		}
+
+		public Shipment(Long id, Item item) {
+			this.id = id;
+			this.item = item;
+		}
+	}
+}
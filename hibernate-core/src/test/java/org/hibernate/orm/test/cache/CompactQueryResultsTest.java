@@ -0,0 +1,113 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel( annotatedClasses = CompactQueryResultsTest.Measurement.class )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.USE_QUERY_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.CACHE_REGION_FACTORY,
+				value = "org.hibernate.cache.internal.LocalCacheRegionFactory" ),
+		@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" )
+} )
+@SessionFactory
+public class CompactQueryResultsTest {
+
+	@BeforeEach
+	public void createData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Measurement( 1L, "first", 10, 1.5D, true ) );
+			session.persist( new Measurement( 2L, null, null, null, null ) );
+			session.persist( new Measurement( 3L, "third", -3, 0D, false ) );
+		} );
+	}
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Measurement" ).executeUpdate() );
+		scope.getSessionFactory().getCache().evictAllRegions();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@Test
+	public void testScalarResultsWithNullsAreReadBackFromCache(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> {
+				final List<Object[]> results = session.createQuery(
+						"select m.id, m.label, m.quantity, m.reading, m.valid from Measurement m order by m.id",
+						Object[].class
+				).setCacheable( true ).getResultList();
+				assertThat( results ).hasSize( 3 );
+				assertThat( results.get( 0 ) ).containsExactly( 1L, "first", 10, 1.5D, true );
+				assertThat( results.get( 1 ) ).containsExactly( 2L, null, null, null, null );
+				assertThat( results.get( 2 ) ).containsExactly( 3L, "third", -3, 0D, false );
+			} );
+		}
+		assertThat( statistics.getQueryCachePutCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testEntityResultsAreReadBackFromCache(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> {
+				final List<Measurement> results = session.createQuery(
+						"from Measurement m where m.id > 1 order by m.id",
+						Measurement.class
+				).setCacheable( true ).getResultList();
+				assertThat( results ).extracting( m -> m.id ).containsExactly( 2L, 3L );
+				assertThat( results ).extracting( m -> m.label ).containsExactly( null, "third" );
+			} );
+		}
+		assertThat( statistics.getQueryCachePutCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Entity( name = "Measurement" )
+	public static class Measurement {
+		@Id
+		private Long id;
+		private String label;
+		private Integer quantity;
+		private Double reading;
+		private Boolean valid;
+
+		public Measurement() {
+		}
+
+		public Measurement(Long id, String label, Integer quantity, Double reading, Boolean valid) {
+			this.id = id;
+			this.label = label;
+			this.quantity = quantity;
+			this.reading = reading;
+			this.valid = valid;
+		}
+	}
+}
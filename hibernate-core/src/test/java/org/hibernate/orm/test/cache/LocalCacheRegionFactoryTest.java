@@ -0,0 +1,134 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.internal.LocalCacheRegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel( annotatedClasses = {
+		LocalCacheRegionFactoryTest.Item.class,
+		LocalCacheRegionFactoryTest.BoundedItem.class
+} )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.CACHE_REGION_FACTORY,
+				value = "org.hibernate.cache.internal.LocalCacheRegionFactory" ),
+		@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" ),
+		@Setting( name = AvailableSettings.LOCAL_CACHE_MAX_SIZE + ".bounded", value = "4096" )
+} )
+@SessionFactory
+public class LocalCacheRegionFactoryTest {
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Item" ).executeUpdate();
+			session.createMutationQuery( "delete from BoundedItem" ).executeUpdate();
+		} );
+		scope.getSessionFactory().getCache().evictAllRegions();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@Test
+	public void testEntitiesAreCached(SessionFactoryScope scope) {
+		assertThat( scope.getSessionFactory().getCache().getRegionFactory() )
+				.isInstanceOf( LocalCacheRegionFactory.class );
+
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= 10; id++ ) {
+				session.persist( new Item( id, "item " + id ) );
+			}
+		} );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= 10; id++ ) {
+				assertThat( session.get( Item.class, id ).name ).isEqualTo( "item " + id );
+			}
+		} );
+
+		final CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics( "items" );
+		assertThat( regionStatistics.getHitCount() ).isEqualTo( 10 );
+		assertThat( regionStatistics.getMissCount() ).isZero();
+		assertThat( regionStatistics.getElementCountInMemory() ).isEqualTo( 10 );
+		assertThat( regionStatistics.getSizeInMemory() ).isPositive();
+	}
+
+	@Test
+	public void testRegionSizeIsBounded(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= 100; id++ ) {
+				session.persist( new BoundedItem( id, "a name long enough to weigh on the cache " + id ) );
+			}
+		} );
+
+		final CacheRegionStatistics regionStatistics =
+				scope.getSessionFactory().getStatistics().getDomainDataRegionStatistics( "bounded" );
+		assertThat( regionStatistics.getSizeInMemory() ).isPositive().isLessThanOrEqualTo( 4096 );
+		assertThat( regionStatistics.getElementCountInMemory() ).isPositive().isLessThan( 100 );
+
+		// evicted entities are loaded from the database
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= 100; id++ ) {
+				assertThat( session.get( BoundedItem.class, id ) ).isNotNull();
+			}
+		} );
+	}
+
+	@Entity( name = "Item" )
+	@Cacheable
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE, region = "items" )
+	public static class Item {
+		@Id
+		private Long id;
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "BoundedItem" )
+	@Cacheable
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE, region = "bounded" )
+	public static class BoundedItem {
+		@Id
+		private Long id;
+		private String name;
+
+		public BoundedItem() {
+		}
+
+		public BoundedItem(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.cache.spi.support.OffHeapStorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel( annotatedClasses = OffHeapCacheTest.Product.class )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.CACHE_REGION_FACTORY,
+				value = "org.hibernate.cache.internal.LocalCacheRegionFactory" ),
+		@Setting( name = AvailableSettings.LOCAL_CACHE_OFF_HEAP, value = "true" ),
+		@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" )
+} )
+@SessionFactory
+public class OffHeapCacheTest {
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Product" ).executeUpdate() );
+		scope.getSessionFactory().getCache().evictAllRegions();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@Test
+	public void testEntitiesAreReadBackFromOffHeapMemory(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Product( 1L, "hammer", Status.AVAILABLE, new BigDecimal( "12.50" ), LocalDate.of( 2020, 1, 1 ) ) );
+			session.persist( new Product( 2L, null, Status.DISCONTINUED, null, null ) );
+		} );
+
+		final DomainDataRegionTemplate region = (DomainDataRegionTemplate) scope.getSessionFactory()
+				.getCache()
+				.getRegion( "products" );
+		final OffHeapStorageAccess storageAccess = (OffHeapStorageAccess) region.getCacheStorageAccess();
+		assertThat( storageAccess.getOffHeapSize() ).isPositive();
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final Product hammer = session.get( Product.class, 1L );
+			assertThat( hammer.name ).isEqualTo( "hammer" );
+			assertThat( hammer.status ).isEqualTo( Status.AVAILABLE );
+			assertThat( hammer.price ).isEqualTo( new BigDecimal( "12.50" ) );
+			assertThat( hammer.introduced ).isEqualTo( LocalDate.of( 2020, 1, 1 ) );
+			assertThat( hammer.version ).isZero();
+
+			final Product other = session.get( Product.class, 2L );
+			assertThat( other.name ).isNull();
+			assertThat( other.status ).isEqualTo( Status.DISCONTINUED );
+			assertThat( other.price ).isNull();
+			assertThat( other.introduced ).isNull();
+
+			hammer.name = "claw hammer";
+		} );
+
+		final CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics( "products" );
+		assertThat( regionStatistics.getHitCount() ).isEqualTo( 2 );
+		assertThat( regionStatistics.getMissCount() ).isZero();
+
+		scope.inTransaction( session -> {
+			final Product hammer = session.get( Product.class, 1L );
+			assertThat( hammer.name ).isEqualTo( "claw hammer" );
+			assertThat( hammer.version ).isEqualTo( 1 );
+		} );
+		assertThat( regionStatistics.getHitCount() ).isEqualTo( 3 );
+
+		scope.getSessionFactory().getCache().evictAllRegions();
+		assertThat( storageAccess.getOffHeapSize() ).isZero();
+	}
+
+	public enum Status {
+		AVAILABLE,
+		DISCONTINUED
+	}
+
+	@Entity( name = "Product" )
+	@Cacheable
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE, region = "products" )
+	public static class Product {
+		@Id
+		private Long id;
+		private String name;
+		@Enumerated( EnumType.STRING )
+		private Status status;
+		private BigDecimal price;
+		private LocalDate introduced;
+		@Version
+		private int version;
+
+		public Product() {
+		}
+
+		public Product(Long id, String name, Status status, BigDecimal price, LocalDate introduced) {
+			this.id = id;
+			this.name = name;
+			this.status = status;
+			this.price = price;
+			this.introduced = introduced;
+		}
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.customstructures;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.hibernate.internal.util.collections.OpenAddressingMap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class OpenAddressingMapTest {
+
+	@Test
+	public void basicOperations() {
+		final OpenAddressingMap<String, Integer> map = new OpenAddressingMap<>( 2 );
+		assertThat( map.put( "a", 1 ) ).isNull();
+		assertThat( map.put( "b", 2 ) ).isNull();
+		assertThat( map.put( "c", 3 ) ).isNull();
+		assertThat( map.put( "a", 10 ) ).isEqualTo( 1 );
+		assertThat( map.put( null, 0 ) ).isNull();
+
+		assertThat( map ).hasSize( 4 );
+		assertThat( map.get( "a" ) ).isEqualTo( 10 );
+		assertThat( map.get( null ) ).isEqualTo( 0 );
+		assertThat( map.containsKey( "d" ) ).isFalse();
+
+		assertThat( map.remove( "b" ) ).isEqualTo( 2 );
+		assertThat( map.remove( "b" ) ).isNull();
+		assertThat( map.keySet() ).containsExactly( "a", "c", null );
+		assertThat( map.values() ).containsExactly( 10, 3, 0 );
+
+		map.clear();
+		assertThat( map ).isEmpty();
+		assertThat( map.get( "a" ) ).isNull();
+	}
+
+	@Test
+	public void identityKeys() {
+		final OpenAddressingMap<String, Integer> map = OpenAddressingMap.identity( 4 );
+		final String first = new String( "key" );
+		final String second = new String( "key" );
+		map.put( first, 1 );
+		map.put( second, 2 );
+
+		assertThat( map ).hasSize( 2 );
+		assertThat( map.get( first ) ).isEqualTo( 1 );
+		assertThat( map.get( second ) ).isEqualTo( 2 );
+		assertThat( map.get( "key" ) ).isNull();
+	}
+
+	@Test
+	public void behavesLikeLinkedHashMap() {
+		final Random random = new Random( 1234 );
+		final OpenAddressingMap<Integer, Integer> map = new OpenAddressingMap<>();
+		final Map<Integer, Integer> reference = new LinkedHashMap<>();
+		for ( int i = 0; i < 100_000; i++ ) {
+			final Integer key = random.nextInt( 5_000 );
+			if ( random.nextInt( 3 ) == 0 ) {
+				assertThat( map.remove( key ) ).isEqualTo( reference.remove( key ) );
+			}
+			else {
+				assertThat( map.put( key, i ) ).isEqualTo( reference.put( key, i ) );
+			}
+			assertThat( map.size() ).isEqualTo( reference.size() );
+		}
+		assertThat( map ).isEqualTo( reference );
+		assertThat( map.entrySet() ).containsExactlyElementsOf( reference.entrySet() );
+	}
+
+	@Test
+	public void iteratorRemove() {
+		final OpenAddressingMap<Integer, String> map = new OpenAddressingMap<>();
+		for ( int i = 0; i < 1_000; i++ ) {
+			map.put( i, String.valueOf( i ) );
+		}
+		final Iterator<Integer> keys = map.keySet().iterator();
+		while ( keys.hasNext() ) {
+			if ( keys.next() % 2 == 0 ) {
+				keys.remove();
+			}
+		}
+		assertThat( map ).hasSize( 500 );
+		for ( int i = 0; i < 1_000; i++ ) {
+			assertThat( map.containsKey( i ) ).isEqualTo( i % 2 != 0 );
+		}
+	}
+
+	@Test
+	public void iteratorIsFailFast() {
+		final OpenAddressingMap<Integer, String> map = new OpenAddressingMap<>();
+		map.put( 1, "one" );
+		map.put( 2, "two" );
+		final Iterator<Integer> keys = map.keySet().iterator();
+		keys.next();
+		map.put( 3, "three" );
+		assertThatThrownBy( keys::next ).isInstanceOf( ConcurrentModificationException.class );
+	}
+}
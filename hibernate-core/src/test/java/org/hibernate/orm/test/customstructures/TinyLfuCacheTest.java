@@ -0,0 +1,95 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.customstructures;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.internal.util.collections.TinyLfuCache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TinyLfuCacheTest {
+
+	@Test
+	public void basicOperations() {
+		final TinyLfuCache<String, Integer> cache = new TinyLfuCache<>( 100, (key, value) -> 1 );
+		cache.put( "a", 1 );
+		cache.put( "b", 2 );
+		cache.put( "a", 10 );
+
+		assertThat( cache.size() ).isEqualTo( 2 );
+		assertThat( cache.weightedSize() ).isEqualTo( 2 );
+		assertThat( cache.get( "a" ) ).isEqualTo( 10 );
+		assertThat( cache.get( "c" ) ).isNull();
+		assertThat( cache.containsKey( "b" ) ).isTrue();
+		assertThat( cache.getHitCount() ).isEqualTo( 1 );
+		assertThat( cache.getMissCount() ).isEqualTo( 1 );
+
+		assertThat( cache.remove( "b" ) ).isEqualTo( 2 );
+		assertThat( cache.remove( "b" ) ).isNull();
+		assertThat( cache.weightedSize() ).isEqualTo( 1 );
+
+		cache.clear();
+		assertThat( cache.size() ).isZero();
+		assertThat( cache.weightedSize() ).isZero();
+		assertThat( cache.get( "a" ) ).isNull();
+	}
+
+	@Test
+	public void boundedByWeight() {
+		final TinyLfuCache<Integer, String> cache = new TinyLfuCache<>( 1000, (key, value) -> value.length() );
+		for ( int i = 0; i < 1000; i++ ) {
+			cache.put( i, "0123456789" );
+		}
+
+		assertThat( cache.weightedSize() ).isLessThanOrEqualTo( 1000 );
+		assertThat( cache.size() ).isLessThanOrEqualTo( 100 );
+		assertThat( cache.getEvictionCount() ).isGreaterThanOrEqualTo( 900 );
+	}
+
+	@Test
+	public void frequentlyUsedEntriesSurviveScans() {
+		final TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>( 100, (key, value) -> 1 );
+		for ( int i = 0; i < 10; i++ ) {
+			cache.put( i, i );
+		}
+		for ( int round = 0; round < 20; round++ ) {
+			for ( int i = 0; i < 10; i++ ) {
+				cache.get( i );
+			}
+		}
+
+		// entries used only once must not push the others out
+		for ( int i = 1000; i < 2000; i++ ) {
+			cache.put( i, i );
+		}
+
+		for ( int i = 0; i < 10; i++ ) {
+			assertThat( cache.containsKey( i ) ).isTrue();
+		}
+		assertThat( cache.weightedSize() ).isLessThanOrEqualTo( 100 );
+	}
+
+	@Test
+	public void entriesExpire() throws InterruptedException {
+		final TinyLfuCache<String, String> cache = new TinyLfuCache<>(
+				100,
+				1,
+				TimeUnit.MILLISECONDS,
+				(key, value) -> 1
+		);
+		cache.put( "a", "value" );
+		Thread.sleep( 10 );
+
+		assertThat( cache.containsKey( "a" ) ).isFalse();
+		assertThat( cache.get( "a" ) ).isNull();
+		assertThat( cache.size() ).isZero();
+		assertThat( cache.weightedSize() ).isZero();
+	}
+}
@@ -0,0 +1,208 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.dirtiness;
+
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.bytecode.internal.bytebuddy.BytecodeProviderImpl;
+import org.hibernate.bytecode.spi.DirtyCheckOptimizer;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the generated dirty checkers enabled by
+ * {@value AvailableSettings#GENERATE_DIRTY_CHECKERS} agree with the standard dirty checking.
+ */
+@DomainModel( annotatedClasses = {
+		GeneratedDirtyCheckerTest.Document.class,
+		GeneratedDirtyCheckerTest.Author.class
+} )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.GENERATE_DIRTY_CHECKERS, value = "true" ),
+		@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" )
+} )
+@SessionFactory
+public class GeneratedDirtyCheckerTest {
+
+	@BeforeEach
+	public void createData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Author author = new Author( 1L, "Gavin" );
+			session.persist( author );
+			session.persist( new Author( 2L, "Steve" ) );
+			session.persist( new Document( 1L, "ORM", "D-1", 100, author ) );
+			session.persist( new Document( 2L, "Reactive", "D-2", 50, author ) );
+		} );
+	}
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Document" ).executeUpdate();
+			session.createMutationQuery( "delete from Author" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testFindDirty(SessionFactoryScope scope) {
+		final AbstractEntityPersister persister = (AbstractEntityPersister) scope.getSessionFactory()
+				.getMappingMetamodel()
+				.getEntityDescriptor( Document.class );
+		final int titleIndex = persister.getPropertyIndex( "title" );
+		final int codeIndex = persister.getPropertyIndex( "code" );
+		final int pagesIndex = persister.getPropertyIndex( "pages" );
+		final int authorIndex = persister.getPropertyIndex( "author" );
+
+		scope.inTransaction( session -> {
+			final Document document = session.get( Document.class, 1L );
+			final Object[] loadedState = loadedState( session, document );
+
+			assertThat( persister.findDirty( persister.getValues( document ), loadedState, document, session ) )
+					.isNull();
+
+			document.setTitle( "Hibernate ORM" );
+			document.setPages( 101 );
+			assertThat( persister.findDirty( persister.getValues( document ), loadedState, document, session ) )
+					.containsExactlyInAnyOrder( titleIndex, pagesIndex );
+
+			document.setAuthor( session.getReference( Author.class, 2L ) );
+			assertThat( persister.findDirty( persister.getValues( document ), loadedState, document, session ) )
+					.containsExactlyInAnyOrder( titleIndex, pagesIndex, authorIndex );
+
+			// non-updatable columns do not take part in dirty checking
+			final Object[] currentState = persister.getValues( document );
+			currentState[codeIndex] = "D-42";
+			assertThat( persister.findDirty( currentState, loadedState, document, session ) )
+					.containsExactlyInAnyOrder( titleIndex, pagesIndex, authorIndex );
+
+			// an unfetched current value is never dirty, an unfetched loaded value always is
+			currentState[titleIndex] = LazyPropertyInitializer.UNFETCHED_PROPERTY;
+			final Object[] previousState = loadedState.clone();
+			previousState[pagesIndex] = LazyPropertyInitializer.UNFETCHED_PROPERTY;
+			currentState[pagesIndex] = 100;
+			assertThat( persister.findDirty( currentState, previousState, document, session ) )
+					.containsExactlyInAnyOrder( pagesIndex, authorIndex );
+		} );
+	}
+
+	@Test
+	public void testFlushUpdatesDirtyEntitiesOnly(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			session.get( Document.class, 1L ).setTitle( "Hibernate ORM" );
+			session.get( Document.class, 2L );
+		} );
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 1L );
+
+		scope.inTransaction( session -> {
+			assertThat( session.get( Document.class, 1L ).getTitle() ).isEqualTo( "Hibernate ORM" );
+			assertThat( session.get( Document.class, 2L ).getTitle() ).isEqualTo( "Reactive" );
+		} );
+	}
+
+	@Test
+	public void testGeneratedOptimizer(SessionFactoryScope scope) {
+		final AbstractEntityPersister persister = (AbstractEntityPersister) scope.getSessionFactory()
+				.getMappingMetamodel()
+				.getEntityDescriptor( Document.class );
+		final DirtyCheckOptimizer optimizer = new BytecodeProviderImpl().getDirtyCheckOptimizer(
+				Document.class,
+				persister.getPropertyTypes(),
+				persister.getPropertyCheckability(),
+				persister.getPropertyColumnUpdateable()
+		);
+		assertThat( optimizer ).isNotNull();
+
+		final int titleIndex = persister.getPropertyIndex( "title" );
+		scope.inTransaction( session -> {
+			final Document document = session.get( Document.class, 2L );
+			final Object[] loadedState = loadedState( session, document );
+			assertThat( optimizer.findDirty( persister.getValues( document ), loadedState, session ) ).isNull();
+
+			document.setTitle( "Hibernate Reactive" );
+			assertThat( optimizer.findDirty( persister.getValues( document ), loadedState, session ) )
+					.containsExactly( titleIndex );
+		} );
+	}
+
+	private static Object[] loadedState(SessionImplementor session, Object entity) {
+		return session.getPersistenceContextInternal().getEntry( entity ).getLoadedState();
+	}
+
+	@Entity( name = "Document" )
+	public static class Document {
+		@Id
+		private Long id;
+		private String title;
+		@Column( updatable = false )
+		private String code;
+		private int pages;
+		@ManyToOne
+		private Author author;
+
+		public Document() {
+		}
+
+		public Document(Long id, String title, String code, int pages, Author author) {
+			this.id = id;
+			this.title = title;
+			this.code = code;
+			this.pages = pages;
+			this.author = author;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public void setTitle(String title) {
+			this.title = title;
+		}
+
+		public void setPages(int pages) {
+			this.pages = pages;
+		}
+
+		public void setAuthor(Author author) {
+			this.author = author;
+		}
+	}
+
+	@Entity( name = "Author" )
+	public static class Author {
+		@Id
+		private Long id;
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
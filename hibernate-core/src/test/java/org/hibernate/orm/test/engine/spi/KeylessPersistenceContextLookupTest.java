@@ -0,0 +1,154 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.engine.spi;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.engine.spi.CollectionKey;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that looking up entities and collections by their key components
+ * behaves exactly like looking them up by {@link EntityKey} / {@link CollectionKey}.
+ */
+@DomainModel( annotatedClasses = {
+		KeylessPersistenceContextLookupTest.Parent.class,
+		KeylessPersistenceContextLookupTest.SpecialParent.class,
+		KeylessPersistenceContextLookupTest.Child.class
+} )
+@SessionFactory
+public class KeylessPersistenceContextLookupTest {
+
+	@BeforeEach
+	public void createData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Parent parent = new Parent( 1L );
+			final SpecialParent special = new SpecialParent( 2L );
+			session.persist( parent );
+			session.persist( special );
+			session.persist( new Child( 1L, parent ) );
+			session.persist( new Child( 2L, special ) );
+		} );
+	}
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Child" ).executeUpdate();
+			session.createMutationQuery( "delete from Parent" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testEntityLookup(SessionFactoryScope scope) {
+		final SessionFactoryImplementor factory = scope.getSessionFactory();
+		final EntityPersister parentPersister = factory.getMappingMetamodel().getEntityDescriptor( Parent.class );
+		final EntityPersister specialPersister = factory.getMappingMetamodel().getEntityDescriptor( SpecialParent.class );
+		scope.inTransaction( session -> {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			assertThat( persistenceContext.getEntity( 1L, parentPersister ) ).isNull();
+			assertThat( persistenceContext.containsEntity( 1L, parentPersister ) ).isFalse();
+
+			final Parent parent = session.get( Parent.class, 1L );
+			final Parent special = session.get( Parent.class, 2L );
+
+			assertThat( persistenceContext.getEntity( 1L, parentPersister ) ).isSameAs( parent );
+			assertThat( persistenceContext.containsEntity( 1L, parentPersister ) ).isTrue();
+			// keys are equal across the hierarchy
+			assertThat( persistenceContext.getEntity( 2L, parentPersister ) ).isSameAs( special );
+			assertThat( persistenceContext.getEntity( 2L, specialPersister ) ).isSameAs( special );
+			assertThat( persistenceContext.getEntity( 3L, parentPersister ) ).isNull();
+
+			assertThat( EntityKey.hashCode( 1L, parentPersister ) )
+					.isEqualTo( new EntityKey( 1L, parentPersister ).hashCode() );
+		} );
+	}
+
+	@Test
+	public void testCollectionLookup(SessionFactoryScope scope) {
+		final CollectionPersister childrenPersister = scope.getSessionFactory()
+				.getMappingMetamodel()
+				.getCollectionDescriptor( Parent.class.getName() + ".children" );
+		scope.inTransaction( session -> {
+			final Parent parent = session.get( Parent.class, 1L );
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+
+			assertThat( persistenceContext.getCollection( childrenPersister, 1L ) )
+					.isSameAs( parent.getChildren() )
+					.isSameAs( persistenceContext.getCollection( new CollectionKey( childrenPersister, 1L ) ) );
+			assertThat( persistenceContext.getCollection( childrenPersister, 3L ) ).isNull();
+		} );
+	}
+
+	@Entity( name = "Parent" )
+	@Inheritance
+	public static class Parent {
+		@Id
+		private Long id;
+
+		@OneToMany( mappedBy = "parent" )
+		private List<Child> children = new ArrayList<>();
+
+		public Parent() {
+		}
+
+		public Parent(Long id) {
+			this.id = id;
+		}
+
+		public List<Child> getChildren() {
+			return children;
+		}
+	}
+
+	@Entity( name = "SpecialParent" )
+	public static class SpecialParent extends Parent {
+		public SpecialParent() {
+		}
+
+		public SpecialParent(Long id) {
+			super( id );
+		}
+	}
+
+	@Entity( name = "Child" )
+	public static class Child {
+		@Id
+		private Long id;
+
+		@ManyToOne
+		private Parent parent;
+
+		public Child() {
+		}
+
+		public Child(Long id, Parent parent) {
+			this.id = id;
+			this.parent = parent;
+		}
+	}
+}
@@ -0,0 +1,216 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.entitygraph;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.graph.GraphSemantic;
+import org.hibernate.graph.RootGraph;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that query plans are cached for queries with an applied entity graph
+ */
+@ServiceRegistry(
+		settings = @Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" )
+)
+@DomainModel(
+		annotatedClasses = {
+				EntityGraphQueryPlanCachingTest.Author.class,
+				EntityGraphQueryPlanCachingTest.Book.class
+		}
+)
+@SessionFactory
+public class EntityGraphQueryPlanCachingTest {
+
+	private static final String QUERY = "select a from Author a order by a.id";
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i < 4; i++ ) {
+						final Author author = new Author( i, "Author nr " + i );
+						author.getBooks().add( new Book( i, "Book nr " + i, author ) );
+						session.persist( author );
+					}
+				}
+		);
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createMutationQuery( "delete Book" ).executeUpdate();
+					session.createMutationQuery( "delete Author" ).executeUpdate();
+				}
+		);
+	}
+
+	@BeforeEach
+	public void clearStatistics(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		sessionFactory.getStatistics().clear();
+		sessionFactory.getQueryEngine().getInterpretationCache().close();
+	}
+
+	@Test
+	public void testEqualGraphs(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		for ( int i = 0; i < 3; i++ ) {
+			scope.inTransaction(
+					session -> {
+						final RootGraph<Author> graph = session.createEntityGraph( Author.class );
+						graph.addAttributeNodes( "books" );
+						final List<Author> authors = session.createSelectionQuery( QUERY, Author.class )
+								.setHint( GraphSemantic.FETCH.getJakartaHintName(), graph )
+								.getResultList();
+						assertThat( authors ).hasSize( 3 );
+						assertThat( authors ).allMatch( author -> Hibernate.isInitialized( author.getBooks() ) );
+					}
+			);
+		}
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testDifferentGraphs(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction(
+				session -> {
+					final RootGraph<Author> graph = session.createEntityGraph( Author.class );
+					graph.addAttributeNodes( "books" );
+					final List<Author> authors = session.createSelectionQuery( QUERY, Author.class )
+							.setHint( GraphSemantic.FETCH.getJakartaHintName(), graph )
+							.getResultList();
+					assertThat( authors ).allMatch( author -> Hibernate.isInitialized( author.getBooks() ) );
+				}
+		);
+		scope.inTransaction(
+				session -> {
+					final RootGraph<Author> graph = session.createEntityGraph( Author.class );
+					final List<Author> authors = session.createSelectionQuery( QUERY, Author.class )
+							.setHint( GraphSemantic.FETCH.getJakartaHintName(), graph )
+							.getResultList();
+					assertThat( authors ).noneMatch( author -> Hibernate.isInitialized( author.getBooks() ) );
+				}
+		);
+		scope.inTransaction(
+				session -> {
+					final List<Author> authors = session.createSelectionQuery( QUERY, Author.class )
+							.getResultList();
+					assertThat( authors ).noneMatch( author -> Hibernate.isInitialized( author.getBooks() ) );
+				}
+		);
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 3 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testGraphMutatedAfterExecution(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final RootGraph<Author> graph = session.createEntityGraph( Author.class );
+					List<Author> authors = session.createSelectionQuery( QUERY, Author.class )
+							.setHint( GraphSemantic.FETCH.getJakartaHintName(), graph )
+							.getResultList();
+					assertThat( authors ).noneMatch( author -> Hibernate.isInitialized( author.getBooks() ) );
+
+					session.clear();
+					graph.addAttributeNodes( "books" );
+					authors = session.createSelectionQuery( QUERY, Author.class )
+							.setHint( GraphSemantic.FETCH.getJakartaHintName(), graph )
+							.getResultList();
+					assertThat( authors ).allMatch( author -> Hibernate.isInitialized( author.getBooks() ) );
+				}
+		);
+	}
+
+	@Entity( name = "Author" )
+	public static class Author {
+		@Id
+		private Integer id;
+		private String name;
+		@OneToMany( mappedBy = "author", cascade = CascadeType.PERSIST )
+		private List<Book> books = new ArrayList<>();
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public List<Book> getBooks() {
+			return books;
+		}
+	}
+
+	@Entity( name = "Book" )
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+		@ManyToOne( fetch = FetchType.LAZY )
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public Author getAuthor() {
+			return author;
+		}
+	}
+}
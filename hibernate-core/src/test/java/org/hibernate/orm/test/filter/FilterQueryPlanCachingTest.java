@@ -0,0 +1,174 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.filter;
+
+import java.util.List;
+
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.ParamDef;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that query plans are cached when filters are enabled,
+ * with the filter parameter values bound on each execution
+ */
+@ServiceRegistry(
+		settings = @Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" )
+)
+@DomainModel( annotatedClasses = FilterQueryPlanCachingTest.Item.class )
+@SessionFactory
+public class FilterQueryPlanCachingTest {
+
+	private static final String QUERY = "select i.id from Item i order by i.id";
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i < 10; i++ ) {
+						session.persist( new Item( i, i % 3, i % 2 == 0 ? "active" : "deleted" ) );
+					}
+				}
+		);
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.createMutationQuery( "delete Item" ).executeUpdate()
+		);
+	}
+
+	@BeforeEach
+	public void clearStatistics(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		sessionFactory.getStatistics().clear();
+		sessionFactory.getQueryEngine().getInterpretationCache().close();
+	}
+
+	@Test
+	public void testFilterParameterValues(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction(
+				session -> {
+					session.enableFilter( "tenant" ).setParameter( "tenantId", 1 );
+					assertThat( session.createSelectionQuery( QUERY, Integer.class ).getResultList() )
+							.containsExactly( 1, 4, 7 );
+				}
+		);
+		scope.inTransaction(
+				session -> {
+					session.enableFilter( "tenant" ).setParameter( "tenantId", 2 );
+					assertThat( session.createSelectionQuery( QUERY, Integer.class ).getResultList() )
+							.containsExactly( 2, 5, 8 );
+					session.enableFilter( "tenant" ).setParameter( "tenantId", 0 );
+					assertThat( session.createSelectionQuery( QUERY, Integer.class ).getResultList() )
+							.containsExactly( 3, 6, 9 );
+				}
+		);
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testEnabledFilters(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction(
+				session -> {
+					assertThat( session.createSelectionQuery( QUERY, Integer.class ).getResultList() )
+							.hasSize( 9 );
+
+					session.enableFilter( "tenant" ).setParameter( "tenantId", 1 );
+					assertThat( session.createSelectionQuery( QUERY, Integer.class ).getResultList() )
+							.containsExactly( 1, 4, 7 );
+
+					session.enableFilter( "status" ).setParameterList( "statuses", List.of( "active" ) );
+					assertThat( session.createSelectionQuery( QUERY, Integer.class ).getResultList() )
+							.containsExactly( 4 );
+
+					session.disableFilter( "tenant" );
+					assertThat( session.createSelectionQuery( QUERY, Integer.class ).getResultList() )
+							.containsExactly( 2, 4, 6, 8 );
+				}
+		);
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 4 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testMultiValuedFilterParameter(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction(
+				session -> {
+					session.enableFilter( "status" ).setParameterList( "statuses", List.of( "active" ) );
+					assertThat( session.createSelectionQuery( QUERY, Integer.class ).getResultList() )
+							.containsExactly( 2, 4, 6, 8 );
+
+					session.enableFilter( "status" ).setParameterList( "statuses", List.of( "deleted" ) );
+					assertThat( session.createSelectionQuery( QUERY, Integer.class ).getResultList() )
+							.containsExactly( 1, 3, 5, 7, 9 );
+
+					session.enableFilter( "status" ).setParameterList( "statuses", List.of( "active", "deleted" ) );
+					assertThat( session.createSelectionQuery( QUERY, Integer.class ).getResultList() )
+							.hasSize( 9 );
+				}
+		);
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 2 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Entity( name = "Item" )
+	@FilterDef( name = "tenant", parameters = @ParamDef( name = "tenantId", type = Integer.class ) )
+	@FilterDef( name = "status", parameters = @ParamDef( name = "statuses", type = String.class ) )
+	@Filter( name = "tenant", condition = "tenantId = :tenantId" )
+	@Filter( name = "status", condition = "status in (:statuses)" )
+	public static class Item {
+		@Id
+		private Integer id;
+		private Integer tenantId;
+		private String status;
+
+		public Item() {
+		}
+
+		public Item(Integer id, Integer tenantId, String status) {
+			this.id = id;
+			this.tenantId = tenantId;
+			this.status = status;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public Integer getTenantId() {
+			return tenantId;
+		}
+
+		public String getStatus() {
+			return status;
+		}
+	}
+}
@@ -0,0 +1,219 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.flush;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Interceptor;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+import org.hibernate.type.Type;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that comparing the entity snapshots in parallel during flush
+ * schedules exactly the same updates as the sequential dirty check.
+ */
+@DomainModel( annotatedClasses = {
+		ParallelDirtyCheckingTest.Warehouse.class,
+		ParallelDirtyCheckingTest.Item.class
+} )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.PARALLEL_DIRTY_CHECKING_THRESHOLD, value = "2" ),
+		@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" ),
+		// the Bean Validation listener would disable the parallel comparison
+		@Setting( name = AvailableSettings.JAKARTA_VALIDATION_MODE, value = "none" )
+} )
+@SessionFactory
+public class ParallelDirtyCheckingTest {
+	private static final int ITEM_COUNT = 1_000;
+
+	@BeforeEach
+	public void createData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Warehouse first = new Warehouse( 1L, "first" );
+			final Warehouse second = new Warehouse( 2L, "second" );
+			session.persist( first );
+			session.persist( second );
+			for ( long id = 0; id < ITEM_COUNT; id++ ) {
+				session.persist( new Item( id, "item " + id, new Dimensions( 1, 1 ), first ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Item" ).executeUpdate();
+			session.createMutationQuery( "delete from Warehouse" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testOnlyModifiedEntitiesAreUpdated(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			final List<Item> items = session.createSelectionQuery( "from Item order by id", Item.class )
+					.getResultList();
+			items.get( 10 ).name = "renamed";
+			items.get( 500 ).dimensions = new Dimensions( 2, 3 );
+			items.get( 999 ).dimensions.width = 7;
+		} );
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 3L );
+
+		scope.inTransaction( session -> {
+			assertThat( session.get( Item.class, 10L ).name ).isEqualTo( "renamed" );
+			assertThat( session.get( Item.class, 500L ).dimensions.height ).isEqualTo( 3 );
+			assertThat( session.get( Item.class, 999L ).dimensions.width ).isEqualTo( 7 );
+			assertThat( session.get( Item.class, 11L ).name ).isEqualTo( "item 11" );
+		} );
+	}
+
+	@Test
+	public void testChangedAssociationsAreUpdated(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			final Warehouse second = session.getReference( Warehouse.class, 2L );
+			final List<Item> items = session.createSelectionQuery( "from Item order by id", Item.class )
+					.getResultList();
+			items.get( 1 ).warehouse = second;
+			items.get( 2 ).warehouse = second;
+			items.get( 2 ).name = "moved";
+		} );
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 2L );
+
+		scope.inTransaction( session -> {
+			assertThat( session.get( Warehouse.class, 2L ).items )
+					.extracting( item -> item.id )
+					.containsExactlyInAnyOrder( 1L, 2L );
+			assertThat( session.get( Item.class, 2L ).name ).isEqualTo( "moved" );
+		} );
+	}
+
+	@Test
+	public void testEntitiesModifiedByInterceptorAreUpdated(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		final List<Item> items = new ArrayList<>();
+		final Interceptor interceptor = new Interceptor() {
+			@Override
+			public boolean onFlushDirty(
+					Object entity,
+					Object id,
+					Object[] currentState,
+					Object[] previousState,
+					String[] propertyNames,
+					Type[] types) {
+				if ( entity == items.get( 10 ) ) {
+					// modifies an entity which is flushed later
+					items.get( 20 ).name = "modified by interceptor";
+				}
+				return false;
+			}
+		};
+		try ( Session session = scope.getSessionFactory().withOptions().interceptor( interceptor ).openSession() ) {
+			session.getTransaction().begin();
+			items.addAll( session.createSelectionQuery( "from Item order by id", Item.class ).getResultList() );
+			items.get( 10 ).name = "renamed";
+			session.getTransaction().commit();
+		}
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 2L );
+
+		scope.inTransaction( session -> {
+			assertThat( session.get( Item.class, 10L ).name ).isEqualTo( "renamed" );
+			assertThat( session.get( Item.class, 20L ).name ).isEqualTo( "modified by interceptor" );
+		} );
+	}
+
+	@Test
+	public void testUnmodifiedSessionIsNotUpdated(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			session.createSelectionQuery( "from Warehouse w join fetch w.items", Warehouse.class ).getResultList();
+		} );
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 0L );
+	}
+
+	@Entity( name = "Warehouse" )
+	public static class Warehouse {
+		@Id
+		private Long id;
+		private String name;
+		@OneToMany( mappedBy = "warehouse", cascade = CascadeType.PERSIST )
+		private List<Item> items = new ArrayList<>();
+
+		public Warehouse() {
+		}
+
+		public Warehouse(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "Item" )
+	public static class Item {
+		@Id
+		private Long id;
+		private String name;
+		@Embedded
+		private Dimensions dimensions;
+		@ManyToOne
+		private Warehouse warehouse;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name, Dimensions dimensions, Warehouse warehouse) {
+			this.id = id;
+			this.name = name;
+			this.dimensions = dimensions;
+			this.warehouse = warehouse;
+		}
+	}
+
+	@Embeddable
+	public static class Dimensions {
+		private int width;
+		private int height;
+
+		public Dimensions() {
+		}
+
+		public Dimensions(int width, int height) {
+			this.width = width;
+			this.height = height;
+		}
+	}
+}
@@ -0,0 +1,166 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.flush;
+
+import java.util.Date;
+import java.util.Map;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.bytecode.enhancement.BytecodeEnhancerRunner;
+import org.hibernate.testing.bytecode.enhancement.EnhancementOptions;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Temporal;
+import jakarta.persistence.TemporalType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that, with {@value AvailableSettings#TRACK_TOUCHED_ENTITIES} enabled,
+ * only the entities enhanced for lazy loading which were touched since the last
+ * flush are dirty-checked.
+ */
+@RunWith( BytecodeEnhancerRunner.class )
+@EnhancementOptions( lazyLoading = true )
+public class TouchedEntityTrackingEnhancedTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Book.class };
+	}
+
+	@Override
+	protected void addSettings(Map<String, Object> settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.TRACK_TOUCHED_ENTITIES, "true" );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Before
+	public void createData() {
+		inTransaction( session -> {
+			session.persist( new Book( 1L, "Hibernate in Action" ) );
+			session.persist( new Book( 2L, "Java Persistence with Hibernate" ) );
+		} );
+	}
+
+	@After
+	public void dropData() {
+		inTransaction( session -> session.createMutationQuery( "delete from Book" ).executeUpdate() );
+	}
+
+	@Test
+	public void testWrittenEntityIsFlushed() {
+		final StatisticsImplementor statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		inTransaction( session -> {
+			session.get( Book.class, 1L ).setTitle( "Hibernate in Action, 2nd edition" );
+			session.get( Book.class, 2L );
+		} );
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 1L );
+
+		inTransaction( session -> {
+			assertThat( session.get( Book.class, 1L ).getTitle() ).isEqualTo( "Hibernate in Action, 2nd edition" );
+			assertThat( session.get( Book.class, 2L ).getTitle() ).isEqualTo( "Java Persistence with Hibernate" );
+		} );
+	}
+
+	@Test
+	public void testInPlaceModificationNeedsMarking() {
+		final StatisticsImplementor statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		inTransaction( session -> {
+			final Book book = session.get( Book.class, 1L );
+			book.getPublished().setTime( 0L );
+			session.flush();
+			assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 0L );
+
+			session.markTouched( book );
+		} );
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 1L );
+
+		inTransaction( session ->
+				assertThat( session.get( Book.class, 1L ).getPublished().getTime() ).isEqualTo( 0L ) );
+	}
+
+	@Test
+	public void testTouchesAreClearedByFlush() {
+		final StatisticsImplementor statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		inTransaction( session -> {
+			final Book book = session.get( Book.class, 1L );
+			book.setTitle( "first" );
+			session.flush();
+			// not a write, and the book is no longer touched after the flush
+			book.getPublished().setTime( 0L );
+		} );
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 1L );
+
+		inTransaction( session -> {
+			final Book book = session.get( Book.class, 1L );
+			assertThat( book.getTitle() ).isEqualTo( "first" );
+			assertThat( book.getPublished().getTime() ).isEqualTo( 1_000_000L );
+		} );
+	}
+
+	@Test
+	public void testMergedEntityIsFlushed() {
+		final StatisticsImplementor statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		inTransaction( session -> {
+			session.get( Book.class, 2L );
+			// the merged values are copied without writing the attributes
+			session.merge( new Book( 2L, "Merged" ) );
+		} );
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 1L );
+
+		inTransaction( session ->
+				assertThat( session.get( Book.class, 2L ).getTitle() ).isEqualTo( "Merged" ) );
+	}
+
+	@Entity( name = "Book" )
+	public static class Book {
+		@Id
+		private Long id;
+		private String title;
+		@Temporal( TemporalType.TIMESTAMP )
+		private Date published;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+			this.published = new Date( 1_000_000L );
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public void setTitle(String title) {
+			this.title = title;
+		}
+
+		public Date getPublished() {
+			return published;
+		}
+	}
+}
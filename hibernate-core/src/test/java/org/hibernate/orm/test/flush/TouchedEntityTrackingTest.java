@@ -0,0 +1,137 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.flush;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that, with {@value AvailableSettings#TRACK_TOUCHED_ENTITIES} enabled,
+ * entities which are not enhanced are still dirty-checked.
+ *
+ * @see TouchedEntityTrackingEnhancedTest
+ */
+@DomainModel( annotatedClasses = TouchedEntityTrackingTest.Book.class )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.TRACK_TOUCHED_ENTITIES, value = "true" ),
+		@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" )
+} )
+@SessionFactory
+public class TouchedEntityTrackingTest {
+
+	@BeforeEach
+	public void createData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Book( 1L, "Hibernate in Action" ) );
+			session.persist( new Book( 2L, "Java Persistence with Hibernate" ) );
+		} );
+	}
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Book" ).executeUpdate() );
+	}
+
+	@Test
+	public void testModificationOfEntityWithoutEnhancementIsFlushed(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		// writes to an entity which is not enhanced cannot be tracked, so it is always dirty-checked
+		scope.inTransaction( session -> session.get( Book.class, 1L ).title = "Hibernate in Action, 2nd edition" );
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 1L );
+
+		scope.inTransaction( session -> {
+			assertThat( session.get( Book.class, 1L ).title ).isEqualTo( "Hibernate in Action, 2nd edition" );
+			assertThat( session.get( Book.class, 2L ).title ).isEqualTo( "Java Persistence with Hibernate" );
+		} );
+	}
+
+	@Test
+	public void testMarkedEntityIsFlushed(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			final Book book = session.get( Book.class, 1L );
+			book.title = "Hibernate in Action, 2nd edition";
+			session.markTouched( book );
+			session.get( Book.class, 2L );
+		} );
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 1L );
+
+		scope.inTransaction( session -> {
+			assertThat( session.get( Book.class, 1L ).title ).isEqualTo( "Hibernate in Action, 2nd edition" );
+			assertThat( session.get( Book.class, 2L ).title ).isEqualTo( "Java Persistence with Hibernate" );
+		} );
+	}
+
+	@Test
+	public void testSetterOnProxyIsFlushed(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> session.getReference( Book.class, 2L ).setTitle( "JPwH" ) );
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 1L );
+
+		scope.inTransaction( session ->
+				assertThat( session.get( Book.class, 2L ).title ).isEqualTo( "JPwH" ) );
+	}
+
+	@Test
+	public void testPersistedAndMergedEntitiesAreFlushed(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+
+		scope.inTransaction( session -> {
+			final Book book = new Book( 3L, "Draft" );
+			session.persist( book );
+			book.title = "High-Performance Java Persistence";
+		} );
+
+		statistics.clear();
+		scope.inTransaction( session -> session.merge( new Book( 2L, "Merged" ) ) );
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 1L );
+
+		scope.inTransaction( session -> {
+			assertThat( session.get( Book.class, 3L ).title ).isEqualTo( "High-Performance Java Persistence" );
+			assertThat( session.get( Book.class, 2L ).title ).isEqualTo( "Merged" );
+		} );
+	}
+
+	@Entity( name = "Book" )
+	public static class Book {
+		@Id
+		private Long id;
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		public void setTitle(String title) {
+			this.title = title;
+		}
+	}
+}
@@ -304,6 +304,79 @@ public class OptimizerUnitTest {
 
 	}
 
+	@Test
+	public void testBasicPooledConcurrentOptimizerUsage() {
+		final SourceMock sequence = new SourceMock( 1, 8 );
+		final Optimizer optimizer = buildPooledConcurrentOptimizer( -1, 8 );
+
+		// the first value is the initial value, and reaches the mark prefetching the next block
+		Long next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 1, next.intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+		assertEquals( 9, sequence.getCurrentValue() );
+
+		// the block [2, 9] is current, and the block [10, 17] is prefetched when 7 is generated
+		for ( int i = 2; i <= 6; i++ ) {
+			next = ( Long ) optimizer.generate( sequence );
+			assertEquals( i, next.intValue() );
+		}
+		assertEquals( 2, sequence.getTimesCalled() );
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 7, next.intValue() );
+		assertEquals( 3, sequence.getTimesCalled() );
+		assertEquals( 17, sequence.getCurrentValue() );
+
+		// switching to the prefetched block does not access the sequence
+		for ( int i = 8; i <= 10; i++ ) {
+			next = ( Long ) optimizer.generate( sequence );
+			assertEquals( i, next.intValue() );
+		}
+		assertEquals( 3, sequence.getTimesCalled() );
+		assertEquals( 17, optimizer.getLastSourceValue().makeValue().intValue() );
+	}
+
+	@Test
+	public void testPooledConcurrentOptimizerPrefetchFailure() {
+		final SourceMock sequence = new SourceMock( 1, 8 );
+		final boolean[] failing = { false };
+		final AccessCallback callback = new AccessCallback() {
+			@Override
+			public IntegralDataTypeHolder getNextValue() {
+				if ( failing[0] ) {
+					throw new IllegalStateException( "sequence unavailable" );
+				}
+				return sequence.getNextValue();
+			}
+
+			@Override
+			public String getTenantIdentifier() {
+				return null;
+			}
+		};
+		final Optimizer optimizer = buildPooledConcurrentOptimizer( -1, 8 );
+
+		for ( int i = 1; i <= 6; i++ ) {
+			assertEquals( i, ( (Long) optimizer.generate( callback ) ).intValue() );
+		}
+		assertEquals( 2, sequence.getTimesCalled() );
+
+		// the prefetch at 7 fails, but the value is still handed out
+		failing[0] = true;
+		assertEquals( 7, ( (Long) optimizer.generate( callback ) ).intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+
+		// and the prefetch is attempted again with the next value
+		failing[0] = false;
+		assertEquals( 8, ( (Long) optimizer.generate( callback ) ).intValue() );
+		assertEquals( 3, sequence.getTimesCalled() );
+		assertEquals( 17, sequence.getCurrentValue() );
+
+		for ( int i = 9; i <= 11; i++ ) {
+			assertEquals( i, ( (Long) optimizer.generate( callback ) ).intValue() );
+		}
+		assertEquals( 3, sequence.getTimesCalled() );
+	}
+
 	private static Optimizer buildNoneOptimizer(long initial, int increment) {
 		return buildOptimizer( StandardOptimizerDescriptor.NONE, initial, increment );
 	}
@@ -324,6 +397,10 @@ public class OptimizerUnitTest {
 		return buildOptimizer( StandardOptimizerDescriptor.POOLED_LOTL, initial, increment );
 	}
 
+	private static Optimizer buildPooledConcurrentOptimizer(long initial, int increment) {
+		return buildOptimizer( StandardOptimizerDescriptor.POOLED_CONCURRENT, initial, increment );
+	}
+
 	private static Optimizer buildOptimizer(
 			StandardOptimizerDescriptor descriptor,
 			long initial,
@@ -0,0 +1,127 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.insertordering;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.Environment;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+/**
+ * Interleaved inserts and deletes of entities forming a chain of foreign keys are
+ * grouped by entity, in the order required by the foreign keys.
+ */
+public class InsertOrderingWithDependencyChain extends BaseInsertOrderingTest {
+	private static final int COUNT = 5;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Street.class, City.class, Country.class };
+	}
+
+	@Override
+	protected void applySettings(StandardServiceRegistryBuilder builer) {
+		super.applySettings( builer );
+		builer.applySetting( Environment.ORDER_UPDATES, "true" );
+	}
+
+	@Test
+	public void testBatching() {
+		sessionFactoryScope().inTransaction( session -> {
+			for ( long id = 1; id <= COUNT; id++ ) {
+				final Country country = new Country( id );
+				final City city = new City( id, country );
+				final Street street = new Street( id, city );
+				session.persist( country );
+				session.persist( city );
+				session.persist( street );
+			}
+
+			clearBatches();
+		} );
+
+		verifyContainsBatches(
+				new Batch( "insert into Country (id) values (?)", COUNT ),
+				new Batch( "insert into City (country_id,id) values (?,?)", COUNT ),
+				new Batch( "insert into Street (city_id,id) values (?,?)", COUNT )
+		);
+		verifyPreparedStatementCount( 3 );
+
+		sessionFactoryScope().inTransaction( session -> {
+			final List<Object> entities = new ArrayList<>();
+			for ( long id = 1; id <= COUNT; id++ ) {
+				final Street street = session.get( Street.class, id );
+				entities.add( street );
+				entities.add( street.city );
+				entities.add( street.city.country );
+			}
+			clearBatches();
+			entities.forEach( session::remove );
+		} );
+
+		verifyContainsBatches(
+				new Batch( "delete from Street where id=?", COUNT ),
+				new Batch( "delete from City where id=?", COUNT ),
+				new Batch( "delete from Country where id=?", COUNT )
+		);
+		verifyPreparedStatementCount( 3 );
+	}
+
+	@Entity(name = "Country")
+	public static class Country {
+		@Id
+		private Long id;
+
+		public Country() {
+		}
+
+		public Country(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "City")
+	public static class City {
+		@Id
+		private Long id;
+
+		@ManyToOne
+		private Country country;
+
+		public City() {
+		}
+
+		public City(Long id, Country country) {
+			this.id = id;
+			this.country = country;
+		}
+	}
+
+	@Entity(name = "Street")
+	public static class Street {
+		@Id
+		private Long id;
+
+		@ManyToOne
+		private City city;
+
+		public Street() {
+		}
+
+		public Street(Long id, City city) {
+			this.id = id;
+			this.city = city;
+		}
+	}
+}
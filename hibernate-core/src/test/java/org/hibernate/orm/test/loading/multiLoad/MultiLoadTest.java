@@ -19,6 +19,7 @@ import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.Status;
 import org.hibernate.internal.util.StringHelper;
+import org.hibernate.sql.exec.internal.ArrayParameterHelper;
 import org.hibernate.stat.Statistics;
 
 import org.hibernate.testing.TestForIssue;
@@ -100,7 +101,7 @@ public class MultiLoadTest {
 							statementInspector.getSqlQueries().get( 0 ),
 							'?'
 					);
-					assertThat( paramCount, is( 5 ) );
+					assertThat( paramCount, is( expectedParameterCount( scope, 5 ) ) );
 				}
 		);
 	}
@@ -314,7 +315,7 @@ public class MultiLoadTest {
 							statementInspector.getSqlQueries().get( 0 ),
 							'?'
 					);
-					assertThat( paramCount, is( 2 ) );
+					assertThat( paramCount, is( expectedParameterCount( scope, 2 ) ) );
 				}
 		);
 	}
@@ -369,7 +370,7 @@ public class MultiLoadTest {
 							statementInspector.getSqlQueries().get( 0 ),
 							'?'
 					);
-					assertThat( paramCount, is( 2 ) );
+					assertThat( paramCount, is( expectedParameterCount( scope, 2 ) ) );
 				}
 		);
 	}
@@ -400,7 +401,7 @@ public class MultiLoadTest {
 							statementInspector.getSqlQueries().get( 0 ),
 							'?'
 					);
-					assertThat( paramCount, is( 2 ) );
+					assertThat( paramCount, is( expectedParameterCount( scope, 2 ) ) );
 				}
 		);
 	}
@@ -437,7 +438,7 @@ public class MultiLoadTest {
 							statementInspector.getSqlQueries().get( 0 ),
 							'?'
 					);
-					assertThat( paramCount, is( 2 ) );
+					assertThat( paramCount, is( expectedParameterCount( scope, 2 ) ) );
 				} );
 	}
 
@@ -467,7 +468,7 @@ public class MultiLoadTest {
 							statementInspector.getSqlQueries().get( 0 ),
 							'?'
 					);
-					assertThat( paramCount, is( 2 ) );
+					assertThat( paramCount, is( expectedParameterCount( scope, 2 ) ) );
 				} );
 	}
 
@@ -504,7 +505,7 @@ public class MultiLoadTest {
 							statementInspector.getSqlQueries().get( 0 ),
 							'?'
 					);
-					assertThat( paramCount, is( 2 ) );
+					assertThat( paramCount, is( expectedParameterCount( scope, 2 ) ) );
 				} );
 	}
 
@@ -553,6 +554,13 @@ public class MultiLoadTest {
 		);
 	}
 
+	private static int expectedParameterCount(SessionFactoryScope scope, int numberOfIds) {
+		// the ids are bound as a single array parameter when the dialect supports it
+		return ArrayParameterHelper.supportsSqlArrayType( scope.getSessionFactory().getJdbcServices().getDialect() )
+				? 1
+				: numberOfIds;
+	}
+
 	private Integer[] ids(int count) {
 		Integer[] ids = new Integer[count];
 		for ( int i = 1; i <= count; i++ ) {
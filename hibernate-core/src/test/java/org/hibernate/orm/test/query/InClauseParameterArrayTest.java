@@ -0,0 +1,244 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.internal.util.StringHelper;
+import org.hibernate.sql.exec.internal.ArrayParameterHelper;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.ParameterExpression;
+import jakarta.persistence.criteria.Root;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AvailableSettings#IN_CLAUSE_PARAMETER_ARRAY}
+ */
+@ServiceRegistry(
+		settings = @Setting( name = AvailableSettings.IN_CLAUSE_PARAMETER_ARRAY, value = "true" )
+)
+@DomainModel( annotatedClasses = InClauseParameterArrayTest.Person.class )
+@SessionFactory( useCollectingStatementInspector = true )
+public class InClauseParameterArrayTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i < 10; i++ ) {
+						session.persist( new Person( i, "Person nr " + i ) );
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.createMutationQuery( "delete Person" ).executeUpdate()
+		);
+	}
+
+	@Test
+	public void testHqlInList(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction(
+				session -> {
+					for ( int count = 1; count < 10; count++ ) {
+						final List<Integer> ids = ids( count );
+						final List<Integer> result = session.createSelectionQuery(
+										"select p.id from Person p where p.id in :ids order by p.id",
+										Integer.class
+								)
+								.setParameter( "ids", ids )
+								.getResultList();
+						assertThat( result ).isEqualTo( ids );
+					}
+				}
+		);
+		assertSameSql( scope, statementInspector, 9 );
+	}
+
+	@Test
+	public void testHqlNotInList(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction(
+				session -> {
+					final List<Integer> result = session.createSelectionQuery(
+									"select p.id from Person p where p.id not in :ids order by p.id",
+									Integer.class
+							)
+							.setParameterList( "ids", ids( 7 ) )
+							.getResultList();
+					assertThat( result ).containsExactly( 8, 9 );
+				}
+		);
+		assertSameSql( scope, statementInspector, 7 );
+	}
+
+	@Test
+	public void testHqlEmptyList(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction(
+				session -> {
+					// = any() of an empty array is false, and <> all() of it is true
+					final List<Integer> in = session.createSelectionQuery(
+									"select p.id from Person p where p.id in :ids order by p.id",
+									Integer.class
+							)
+							.setParameterList( "ids", Collections.emptyList() )
+							.getResultList();
+					assertThat( in ).isEmpty();
+					final List<Integer> notIn = session.createSelectionQuery(
+									"select p.id from Person p where p.id not in :ids order by p.id",
+									Integer.class
+							)
+							.setParameterList( "ids", Collections.emptyList() )
+							.getResultList();
+					assertThat( notIn ).isEqualTo( ids( 9 ) );
+				}
+		);
+		assertArrayParameter( scope, statementInspector );
+	}
+
+	@Test
+	public void testHqlListWithNull(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction(
+				session -> {
+					// a null element never matches, and makes not in unknown for the values it does not contain
+					final List<Integer> in = session.createSelectionQuery(
+									"select p.id from Person p where p.id in :ids order by p.id",
+									Integer.class
+							)
+							.setParameterList( "ids", Arrays.asList( 1, null, 3 ) )
+							.getResultList();
+					assertThat( in ).containsExactly( 1, 3 );
+					final List<Integer> notIn = session.createSelectionQuery(
+									"select p.id from Person p where p.id not in :ids order by p.id",
+									Integer.class
+							)
+							.setParameterList( "ids", Arrays.asList( 1, null ) )
+							.getResultList();
+					assertThat( notIn ).isEmpty();
+				}
+		);
+		assertArrayParameter( scope, statementInspector );
+	}
+
+	@Test
+	public void testCriteriaInList(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction(
+				session -> {
+					final CriteriaBuilder cb = session.getCriteriaBuilder();
+					for ( int count = 2; count < 5; count++ ) {
+						final CriteriaQuery<Person> criteria = cb.createQuery( Person.class );
+						final Root<Person> root = criteria.from( Person.class );
+						final ParameterExpression<List> ids = cb.parameter( List.class );
+						criteria.where( root.get( "id" ).in( ids ) );
+						final List<Person> result = session.createQuery( criteria )
+								.setParameter( ids, ids( count ) )
+								.getResultList();
+						assertThat( result ).hasSize( count );
+					}
+				}
+		);
+		assertSameSql( scope, statementInspector, 2 );
+	}
+
+	@Test
+	public void testParameterOccurringTwiceIsExpanded(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction(
+				session -> {
+					final List<Integer> result = session.createSelectionQuery(
+									"select p.id from Person p where p.id in :ids or p.id + 1 in :ids order by p.id",
+									Integer.class
+							)
+							.setParameter( "ids", ids( 3 ) )
+							.getResultList();
+					assertThat( result ).containsExactly( 1, 2, 3 );
+				}
+		);
+		assertThat( StringHelper.countUnquoted( statementInspector.getSqlQueries().get( 0 ), '?' ) ).isEqualTo( 6 );
+	}
+
+	private static void assertSameSql(SessionFactoryScope scope, SQLStatementInspector statementInspector, int maxCount) {
+		final List<String> sqlQueries = statementInspector.getSqlQueries();
+		if ( ArrayParameterHelper.supportsSqlArrayType( scope.getSessionFactory().getJdbcServices().getDialect() ) ) {
+			assertThat( sqlQueries ).allMatch( sql -> sql.equals( sqlQueries.get( 0 ) ) );
+			assertThat( StringHelper.countUnquoted( sqlQueries.get( 0 ), '?' ) ).isEqualTo( 1 );
+		}
+		else {
+			assertThat( StringHelper.countUnquoted( sqlQueries.get( sqlQueries.size() - 1 ), '?' ) )
+					.isGreaterThanOrEqualTo( maxCount );
+		}
+	}
+
+	private static void assertArrayParameter(SessionFactoryScope scope, SQLStatementInspector statementInspector) {
+		if ( ArrayParameterHelper.supportsSqlArrayType( scope.getSessionFactory().getJdbcServices().getDialect() ) ) {
+			assertThat( statementInspector.getSqlQueries() )
+					.allMatch( sql -> StringHelper.countUnquoted( sql, '?' ) == 1 );
+		}
+	}
+
+	private static List<Integer> ids(int count) {
+		final Integer[] ids = new Integer[count];
+		for ( int i = 0; i < count; i++ ) {
+			ids[i] = i + 1;
+		}
+		return Arrays.asList( ids );
+	}
+
+	@Entity( name = "Person" )
+	public static class Person {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Person() {
+		}
+
+		public Person(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
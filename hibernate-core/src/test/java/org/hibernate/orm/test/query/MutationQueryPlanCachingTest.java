@@ -0,0 +1,289 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the plans of HQL update, delete and insert statements are cached
+ */
+@ServiceRegistry(
+		settings = @Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" )
+)
+@DomainModel(
+		annotatedClasses = {
+				MutationQueryPlanCachingTest.Person.class,
+				MutationQueryPlanCachingTest.Vehicle.class,
+				MutationQueryPlanCachingTest.Car.class,
+				MutationQueryPlanCachingTest.Team.class
+		}
+)
+@SessionFactory
+public class MutationQueryPlanCachingTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i < 10; i++ ) {
+						session.persist( new Person( i, "Person nr " + i, 20 + i ) );
+						session.persist( new Car( i, "Car nr " + i, i ) );
+					}
+					for ( int i = 1; i <= 20; i++ ) {
+						session.persist( new Team( i, "Member " + i + "a", "Member " + i + "b" ) );
+					}
+				}
+		);
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		sessionFactory.getStatistics().clear();
+		sessionFactory.getQueryEngine().getInterpretationCache().close();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createMutationQuery( "delete Person" ).executeUpdate();
+					session.createMutationQuery( "delete Car" ).executeUpdate();
+					session.createMutationQuery( "delete Team" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testSimpleUpdate(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		for ( int age = 22; age < 25; age++ ) {
+			final int maxAge = age;
+			scope.inTransaction(
+					session -> assertThat(
+							session.createMutationQuery( "update Person p set p.name = :name where p.age < :age" )
+									.setParameter( "name", "Young" )
+									.setParameter( "age", maxAge )
+									.executeUpdate()
+					).isEqualTo( maxAge - 21 )
+			);
+		}
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 2 );
+		scope.inTransaction(
+				session -> assertThat(
+						session.createSelectionQuery( "select count(*) from Person p where p.name = 'Young'", Long.class )
+								.getSingleResult()
+				).isEqualTo( 3L )
+		);
+	}
+
+	@Test
+	public void testSimpleDeleteAndInsert(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction(
+				session -> {
+					for ( int id = 1; id < 4; id++ ) {
+						assertThat(
+								session.createMutationQuery( "delete Person p where p.id = :id" )
+										.setParameter( "id", id )
+										.executeUpdate()
+						).isEqualTo( 1 );
+						assertThat(
+								session.createMutationQuery( "insert into Person (id, name, age) values (:id, :name, 50)" )
+										.setParameter( "id", id + 100 )
+										.setParameter( "name", "New person nr " + id )
+										.executeUpdate()
+						).isEqualTo( 1 );
+					}
+				}
+		);
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 2 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 4 );
+		scope.inTransaction(
+				session -> assertThat(
+						session.createSelectionQuery( "select count(*) from Person p where p.age = 50", Long.class )
+								.getSingleResult()
+				).isEqualTo( 3L )
+		);
+	}
+
+	@Test
+	public void testMultiTableUpdateAndDelete(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction(
+				session -> {
+					for ( int doors = 1; doors < 4; doors++ ) {
+						assertThat(
+								session.createMutationQuery( "update Car c set c.name = :name, c.doors = 0 where c.doors = :doors" )
+										.setParameter( "name", "Updated" )
+										.setParameter( "doors", doors )
+										.executeUpdate()
+						).isEqualTo( 1 );
+					}
+					for ( int doors = 7; doors < 10; doors++ ) {
+						assertThat(
+								session.createMutationQuery( "delete Car c where c.doors = :doors" )
+										.setParameter( "doors", doors )
+										.executeUpdate()
+						).isEqualTo( 1 );
+					}
+				}
+		);
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 2 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 4 );
+		scope.inTransaction(
+				session -> {
+					assertThat(
+							session.createSelectionQuery( "select count(*) from Car c where c.name = 'Updated' and c.doors = 0", Long.class )
+									.getSingleResult()
+					).isEqualTo( 3L );
+					assertThat(
+							session.createSelectionQuery( "select count(*) from Car c", Long.class )
+									.getSingleResult()
+					).isEqualTo( 6L );
+				}
+		);
+	}
+
+	@Test
+	public void testCachedDeleteExecutedConcurrently(SessionFactoryScope scope) throws Exception {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final String delete = "delete Team t where t.id = :id";
+		// the plan also deletes from the collection table
+		scope.inTransaction(
+				session -> assertThat( session.createMutationQuery( delete ).setParameter( "id", 1 ).executeUpdate() )
+						.isEqualTo( 1 )
+		);
+
+		final ExecutorService executor = Executors.newFixedThreadPool( 2 );
+		try {
+			final CountDownLatch start = new CountDownLatch( 1 );
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int thread = 0; thread < 2; thread++ ) {
+				final int firstId = 2 + thread;
+				futures.add( executor.submit( (Callable<Void>) () -> {
+					start.await();
+					for ( int id = firstId; id <= 20; id += 2 ) {
+						final int teamId = id;
+						scope.inTransaction(
+								session -> assertThat(
+										session.createMutationQuery( delete ).setParameter( "id", teamId ).executeUpdate()
+								).isEqualTo( 1 )
+						);
+					}
+					return null;
+				} ) );
+			}
+			start.countDown();
+			for ( Future<?> future : futures ) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 19 );
+		scope.inTransaction(
+				session -> {
+					assertThat( session.createSelectionQuery( "select count(*) from Team t", Long.class ).getSingleResult() )
+							.isEqualTo( 0L );
+					assertThat(
+							( (Number) session.createNativeQuery( "select count(*) from Team_members" ).getSingleResult() )
+									.longValue()
+					).isEqualTo( 0L );
+				}
+		);
+	}
+
+	@Entity( name = "Person" )
+	public static class Person {
+		@Id
+		private Integer id;
+		private String name;
+		private int age;
+
+		public Person() {
+		}
+
+		public Person(Integer id, String name, int age) {
+			this.id = id;
+			this.name = name;
+			this.age = age;
+		}
+	}
+
+	@Entity( name = "Vehicle" )
+	@Inheritance( strategy = InheritanceType.JOINED )
+	public static class Vehicle {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Vehicle() {
+		}
+
+		public Vehicle(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "Car" )
+	public static class Car extends Vehicle {
+		private int doors;
+
+		public Car() {
+		}
+
+		public Car(Integer id, String name, int doors) {
+			super( id, name );
+			this.doors = doors;
+		}
+	}
+
+	@Entity( name = "Team" )
+	public static class Team {
+		@Id
+		private Integer id;
+		@ElementCollection
+		private List<String> members = new ArrayList<>();
+
+		public Team() {
+		}
+
+		public Team(Integer id, String... members) {
+			this.id = id;
+			this.members.addAll( List.of( members ) );
+		}
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.query.internal.QueryInterpretationCacheStandardImpl;
+import org.hibernate.query.spi.QueryInterpretationCacheStorage;
+import org.hibernate.query.spi.QueryInterpretationCacheStorageFactory;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AvailableSettings#QUERY_PLAN_CACHE_STORAGE_FACTORY}
+ */
+@ServiceRegistry(
+		settings = @Setting(
+				name = AvailableSettings.QUERY_PLAN_CACHE_STORAGE_FACTORY,
+				value = "org.hibernate.orm.test.query.QueryPlanCacheStorageFactoryTest$MapStorageFactory"
+		)
+)
+@DomainModel( annotatedClasses = QueryPlanCacheStorageFactoryTest.Person.class )
+@SessionFactory
+public class QueryPlanCacheStorageFactoryTest {
+
+	@Test
+	public void testCustomStorage(SessionFactoryScope scope) {
+		final QueryInterpretationCacheStandardImpl interpretationCache =
+				(QueryInterpretationCacheStandardImpl) scope.getSessionFactory()
+						.getQueryEngine()
+						.getInterpretationCache();
+		assertThat( interpretationCache.getQueryPlanStorage() ).isInstanceOf( MapStorage.class );
+		assertThat( ( (MapStorage<?, ?>) interpretationCache.getQueryPlanStorage() ).cacheName )
+				.isEqualTo( QueryInterpretationCacheStorageFactory.QUERY_PLANS );
+		assertThat( ( (MapStorage<?, ?>) interpretationCache.getHqlInterpretationStorage() ).cacheName )
+				.isEqualTo( QueryInterpretationCacheStorageFactory.HQL_INTERPRETATIONS );
+		assertThat( ( (MapStorage<?, ?>) interpretationCache.getNativeQueryParameterStorage() ).cacheName )
+				.isEqualTo( QueryInterpretationCacheStorageFactory.NATIVE_QUERY_PARAMETERS );
+
+		interpretationCache.close();
+		for ( int i = 0; i < 3; i++ ) {
+			scope.inTransaction(
+					session -> session.createSelectionQuery( "from Person p where p.name = :name", Person.class )
+							.setParameter( "name", "Gavin" )
+							.getResultList()
+			);
+		}
+		assertThat( interpretationCache.getQueryPlanStorage().size() ).isEqualTo( 1 );
+		assertThat( interpretationCache.getQueryPlanStorage().getMissCount() ).isEqualTo( 1 );
+		assertThat( interpretationCache.getQueryPlanStorage().getHitCount() ).isEqualTo( 2 );
+	}
+
+	public static class MapStorageFactory implements QueryInterpretationCacheStorageFactory {
+		@Override
+		public <K, V> QueryInterpretationCacheStorage<K, V> createStorage(
+				String cacheName,
+				int maximumWeight,
+				QueryInterpretationCacheStorage.Weigher<? super K, ? super V> weigher) {
+			return new MapStorage<>( cacheName );
+		}
+	}
+
+	private static class MapStorage<K, V> implements QueryInterpretationCacheStorage<K, V> {
+		private final String cacheName;
+		private final Map<K, V> map = new ConcurrentHashMap<>();
+		private final LongAdder hitCount = new LongAdder();
+		private final LongAdder missCount = new LongAdder();
+
+		private MapStorage(String cacheName) {
+			this.cacheName = cacheName;
+		}
+
+		@Override
+		public V get(K key) {
+			final V value = map.get( key );
+			( value == null ? missCount : hitCount ).increment();
+			return value;
+		}
+
+		@Override
+		public void put(K key, V value) {
+			map.put( key, value );
+		}
+
+		@Override
+		public int size() {
+			return map.size();
+		}
+
+		@Override
+		public void clear() {
+			map.clear();
+		}
+
+		@Override
+		public long getHitCount() {
+			return hitCount.sum();
+		}
+
+		@Override
+		public long getMissCount() {
+			return missCount.sum();
+		}
+
+		@Override
+		public long getEvictionCount() {
+			return 0;
+		}
+	}
+
+	@Entity( name = "Person" )
+	public static class Person {
+		@Id
+		private Integer id;
+		private String name;
+	}
+}
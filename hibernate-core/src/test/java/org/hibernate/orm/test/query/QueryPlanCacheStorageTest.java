@@ -0,0 +1,149 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.query.internal.QueryInterpretationCacheStandardImpl;
+import org.hibernate.query.internal.TinyLfuQueryInterpretationCacheStorage;
+import org.hibernate.query.spi.QueryInterpretationCacheStorage;
+import org.hibernate.query.spi.QueryPlan;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the default, weighted W-TinyLFU storage of the query plan cache
+ */
+@ServiceRegistry(
+		settings = @Setting( name = AvailableSettings.QUERY_PLAN_CACHE_MAX_SIZE, value = "8" )
+)
+@DomainModel( annotatedClasses = QueryPlanCacheStorageTest.Person.class )
+@SessionFactory
+public class QueryPlanCacheStorageTest {
+	private static final String HOT_QUERY = "select p.id from Person p where p.name = :name";
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i < 10; i++ ) {
+						session.persist( new Person( i, "Person nr " + i ) );
+					}
+				}
+		);
+		interpretationCache( scope ).close();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.createMutationQuery( "delete Person" ).executeUpdate()
+		);
+	}
+
+	@Test
+	public void testOneOffQueriesDoNotEvictFrequentQuery(SessionFactoryScope scope) {
+		final QueryInterpretationCacheStorage<?, QueryPlan> planStorage = interpretationCache( scope ).getQueryPlanStorage();
+		assertThat( planStorage ).isInstanceOf( TinyLfuQueryInterpretationCacheStorage.class );
+
+		scope.inTransaction(
+				session -> {
+					for ( int i = 0; i < 5; i++ ) {
+						executeHotQuery( session );
+					}
+					for ( int i = 0; i < 50; i++ ) {
+						session.createSelectionQuery( "select p.id from Person p where p.id = " + i, Integer.class )
+								.getResultList();
+					}
+				}
+		);
+		assertThat( planStorage.getEvictionCount() ).isGreaterThan( 0 );
+		assertThat( planStorage.size() ).isLessThanOrEqualTo( 8 );
+
+		final long hitCount = planStorage.getHitCount();
+		final long hqlHitCount = interpretationCache( scope ).getHqlInterpretationStorage().getHitCount();
+		scope.inTransaction( QueryPlanCacheStorageTest::executeHotQuery );
+		assertThat( planStorage.getHitCount() ).isEqualTo( hitCount + 1 );
+		assertThat( interpretationCache( scope ).getHqlInterpretationStorage().getHitCount() )
+				.isEqualTo( hqlHitCount + 1 );
+	}
+
+	@Test
+	public void testLongQueriesWeighMore(SessionFactoryScope scope) {
+		final TinyLfuQueryInterpretationCacheStorage<?, ?> planStorage =
+				(TinyLfuQueryInterpretationCacheStorage<?, ?>) interpretationCache( scope ).getQueryPlanStorage();
+
+		scope.inTransaction( QueryPlanCacheStorageTest::executeHotQuery );
+		assertThat( planStorage.size() ).isEqualTo( 1 );
+		assertThat( planStorage.getWeightedSize() ).isEqualTo( 1 );
+
+		final StringBuilder longQuery = new StringBuilder( "select p.id from Person p where p.id in (0" );
+		for ( int i = 1; i < 500; i++ ) {
+			longQuery.append( ", " ).append( i );
+		}
+		longQuery.append( ')' );
+		assertThat( longQuery.length() ).isGreaterThan( 4 * QueryInterpretationCacheStandardImpl.QUERY_LENGTH_PER_WEIGHT );
+
+		scope.inTransaction(
+				session -> assertThat(
+						session.createSelectionQuery( longQuery.toString(), Integer.class ).getResultList()
+				).hasSize( 9 )
+		);
+		assertThat( planStorage.getWeightedSize() ).isGreaterThan( 5 );
+		assertThat( planStorage.getWeightedSize() ).isLessThanOrEqualTo( planStorage.getMaximumWeight() );
+	}
+
+	private static void executeHotQuery(Session session) {
+		final List<Integer> result = session.createSelectionQuery( HOT_QUERY, Integer.class )
+				.setParameter( "name", "Person nr 1" )
+				.getResultList();
+		assertThat( result ).containsExactly( 1 );
+	}
+
+	private static QueryInterpretationCacheStandardImpl interpretationCache(SessionFactoryScope scope) {
+		return (QueryInterpretationCacheStandardImpl) scope.getSessionFactory()
+				.getQueryEngine()
+				.getInterpretationCache();
+	}
+
+	@Entity( name = "Person" )
+	public static class Person {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Person() {
+		}
+
+		public Person(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
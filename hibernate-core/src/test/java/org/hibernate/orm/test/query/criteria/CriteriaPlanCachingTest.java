@@ -0,0 +1,190 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query.criteria;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.ParameterExpression;
+import jakarta.persistence.criteria.Root;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that structurally equal criteria queries share a query plan
+ */
+@ServiceRegistry(
+		settings = {
+				@Setting( name = AvailableSettings.CRITERIA_COPY_TREE, value = "true" ),
+				@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" )
+		}
+)
+@DomainModel( annotatedClasses = CriteriaPlanCachingTest.Person.class )
+@SessionFactory
+public class CriteriaPlanCachingTest {
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i < 10; i++ ) {
+						session.persist( new Person( i, "Person nr " + i, 20 + i ) );
+					}
+				}
+		);
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.createMutationQuery( "delete Person" ).executeUpdate()
+		);
+	}
+
+	@BeforeEach
+	public void clearStatistics(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		sessionFactory.getStatistics().clear();
+		sessionFactory.getQueryEngine().getInterpretationCache().close();
+	}
+
+	@Test
+	public void testParameterExpression(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction(
+				session -> {
+					final CriteriaBuilder cb = session.getCriteriaBuilder();
+					for ( int age = 22; age < 26; age++ ) {
+						final CriteriaQuery<Integer> criteria = cb.createQuery( Integer.class );
+						final Root<Person> root = criteria.from( Person.class );
+						final ParameterExpression<Integer> ageParameter = cb.parameter( Integer.class );
+						criteria.select( root.get( "id" ) )
+								.where( cb.lessThan( root.get( "age" ), ageParameter ) )
+								.orderBy( cb.asc( root.get( "id" ) ) );
+						final List<Integer> result = session.createQuery( criteria )
+								.setParameter( ageParameter, age )
+								.getResultList();
+						assertThat( result ).hasSize( age - 21 );
+					}
+				}
+		);
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void testValueBoundParameters(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction(
+				session -> {
+					final CriteriaBuilder cb = session.getCriteriaBuilder();
+					for ( int id = 1; id < 5; id++ ) {
+						final CriteriaQuery<Person> criteria = cb.createQuery( Person.class );
+						final Root<Person> root = criteria.from( Person.class );
+						criteria.where(
+								cb.equal( root.get( "id" ), id ),
+								cb.equal( root.get( "name" ), "Person nr " + id )
+						);
+						final List<Person> result = session.createQuery( criteria ).getResultList();
+						assertThat( result ).hasSize( 1 );
+						assertThat( result.get( 0 ).getId() ).isEqualTo( id );
+					}
+				}
+		);
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void testDifferentStructure(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction(
+				session -> {
+					final CriteriaBuilder cb = session.getCriteriaBuilder();
+
+					final CriteriaQuery<Person> lessThan = cb.createQuery( Person.class );
+					final Root<Person> lessThanRoot = lessThan.from( Person.class );
+					lessThan.where( cb.lessThan( lessThanRoot.get( "id" ), 3 ) );
+					assertThat( session.createQuery( lessThan ).getResultList() ).hasSize( 2 );
+
+					final CriteriaQuery<Person> greaterThan = cb.createQuery( Person.class );
+					final Root<Person> greaterThanRoot = greaterThan.from( Person.class );
+					greaterThan.where( cb.greaterThan( greaterThanRoot.get( "id" ), 3 ) );
+					assertThat( session.createQuery( greaterThan ).getResultList() ).hasSize( 6 );
+				}
+		);
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 2 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testTupleQueryIsNotShared(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction(
+				session -> {
+					final CriteriaBuilder cb = session.getCriteriaBuilder();
+					for ( int id = 1; id < 3; id++ ) {
+						final CriteriaQuery<Tuple> criteria = cb.createTupleQuery();
+						final Root<Person> root = criteria.from( Person.class );
+						criteria.multiselect( root.get( "id" ), root.get( "name" ) )
+								.where( cb.equal( root.get( "id" ), id ) );
+						final List<Tuple> result = session.createQuery( criteria ).getResultList();
+						assertThat( result ).hasSize( 1 );
+						assertThat( result.get( 0 ).get( 0 ) ).isEqualTo( id );
+					}
+				}
+		);
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 0 );
+	}
+
+	@Entity( name = "Person" )
+	public static class Person {
+		@Id
+		private Integer id;
+		private String name;
+		private int age;
+
+		public Person() {
+		}
+
+		public Person(Integer id, String name, int age) {
+			this.id = id;
+			this.name = name;
+			this.age = age;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public int getAge() {
+			return age;
+		}
+	}
+}
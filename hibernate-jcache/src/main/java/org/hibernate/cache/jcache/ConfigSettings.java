@@ -44,4 +44,39 @@ public interface ConfigSettings {
 	 * @see javax.cache.spi.CachingProvider#getCacheManager(URI, ClassLoader)
 	 */
 	String CONFIG_URI = PROP_PREFIX + "uri";
+
+	/**
+	 * The maximum number of entries kept on the local heap by the near cache
+	 * placed in front of the JCache cache of each entity, collection and
+	 * natural id region.  The limit of a specific region may be set by
+	 * appending its name to the setting name.
+	 *
+	 * Default value is {@code 0}, meaning no near cache.
+	 *
+	 * @see org.hibernate.cache.jcache.internal.JCacheNearCacheAccessImpl
+	 */
+	String NEAR_CACHE_MAX_ENTRIES = PROP_PREFIX + "near_cache.max_entries";
+
+	/**
+	 * The number of seconds after which the entries of the near cache of each
+	 * region expire, bounding how long they may stay stale when the JCache cache
+	 * is cleared by another node, which notifies no listener.  The expiration of
+	 * a specific region may be set by appending its name to the setting name.
+	 *
+	 * By default, entries of the near cache do not expire.
+	 */
+	String NEAR_CACHE_EXPIRE_AFTER_WRITE = PROP_PREFIX + "near_cache.expire_after_write";
+
+	/**
+	 * Whether the last update timestamps of the query spaces, read from the
+	 * JCache cache of the update timestamps region, should be mirrored on the
+	 * local heap, and invalidated as the JCache cache notifies changes to them.
+	 * Checking whether cached query results are up-to-date then no longer
+	 * accesses the JCache cache, which matters when it is remote.
+	 *
+	 * Default value is {@code false}.
+	 *
+	 * @see org.hibernate.cache.spi.support.ObservableStorageAccess
+	 */
+	String TIMESTAMPS_MIRROR = PROP_PREFIX + "timestamps_mirror";
 }
@@ -0,0 +1,127 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.jcache.internal;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.cache.Cache;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.TinyLfuCache;
+
+/**
+ * StorageAccess implementation wrapping a JCache {@link Cache} reference,
+ * with a bounded near cache keeping the entries read from it on the local heap.
+ * <p>
+ * The JCache cache remains the source of truth: writes go to it, and then
+ * invalidate the local copy of the entry, which is only ever populated with a
+ * value read from the JCache cache.  Changes made to the JCache cache by other
+ * nodes invalidate the local copies as they are notified by the
+ * {@link JCacheObservableAccessImpl}.  Since clearing a JCache cache notifies
+ * no listener, the local copies may also be given a maximum age.
+ */
+public class JCacheNearCacheAccessImpl extends JCacheObservableAccessImpl {
+	private final TinyLfuCache<Object, Object> nearCache;
+	// incremented by every invalidation, so that values read from the JCache cache
+	// concurrently with an invalidation are not kept in the near cache
+	private final AtomicLong invalidations = new AtomicLong();
+
+	/**
+	 * @param underlyingCache The JCache cache
+	 * @param maxEntries The maximum number of entries of the near cache
+	 * @param expireAfterWrite The maximum age of the entries of the near cache, in seconds, or {@code 0} for no limit
+	 */
+	public JCacheNearCacheAccessImpl(Cache underlyingCache, long maxEntries, long expireAfterWrite) {
+		super( underlyingCache );
+		this.nearCache = new TinyLfuCache<>( maxEntries, expireAfterWrite, TimeUnit.SECONDS, (key, value) -> 1 );
+		addChangeListener(
+				new ChangeListener() {
+					@Override
+					public void entryChanged(Object key) {
+						invalidate( key );
+					}
+
+					@Override
+					public void cleared() {
+						invalidateAll();
+					}
+				}
+		);
+	}
+
+	public TinyLfuCache<Object, Object> getNearCache() {
+		return nearCache;
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return nearCache.containsKey( key ) || super.contains( key );
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final Object localValue = nearCache.get( key );
+		if ( localValue != null ) {
+			return localValue;
+		}
+		final long invalidationCount = invalidations.get();
+		final Object value = super.getFromCache( key, session );
+		if ( value != null ) {
+			keepLocally( key, value, invalidationCount );
+		}
+		return value;
+	}
+
+	@Override
+	public Object[] getAllFromCache(Object[] keys, SharedSessionContractImplementor session) {
+		final Object[] values = new Object[keys.length];
+		int missCount = 0;
+		for ( int i = 0; i < keys.length; i++ ) {
+			values[i] = nearCache.get( keys[i] );
+			if ( values[i] == null ) {
+				missCount++;
+			}
+		}
+		if ( missCount > 0 ) {
+			final Object[] missedKeys = new Object[missCount];
+			for ( int i = 0, j = 0; i < keys.length; i++ ) {
+				if ( values[i] == null ) {
+					missedKeys[j++] = keys[i];
+				}
+			}
+			final long invalidationCount = invalidations.get();
+			final Object[] missedValues = super.getAllFromCache( missedKeys, session );
+			for ( int i = 0, j = 0; i < keys.length; i++ ) {
+				if ( values[i] == null ) {
+					values[i] = missedValues[j++];
+					if ( values[i] != null ) {
+						keepLocally( keys[i], values[i], invalidationCount );
+					}
+				}
+			}
+		}
+		return values;
+	}
+
+	private void keepLocally(Object key, Object value, long invalidationCount) {
+		nearCache.put( key, value );
+		// checked after the put, since an invalidation between the check and the put would be missed
+		if ( invalidations.get() != invalidationCount ) {
+			nearCache.remove( key );
+		}
+	}
+
+	private void invalidate(Object key) {
+		invalidations.incrementAndGet();
+		nearCache.remove( key );
+	}
+
+	private void invalidateAll() {
+		invalidations.incrementAndGet();
+		nearCache.clear();
+	}
+}
@@ -0,0 +1,149 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.jcache.internal;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.cache.Cache;
+import javax.cache.configuration.CacheEntryListenerConfiguration;
+import javax.cache.configuration.FactoryBuilder;
+import javax.cache.configuration.MutableCacheEntryListenerConfiguration;
+import javax.cache.event.CacheEntryCreatedListener;
+import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.CacheEntryExpiredListener;
+import javax.cache.event.CacheEntryRemovedListener;
+import javax.cache.event.CacheEntryUpdatedListener;
+
+import org.hibernate.cache.spi.support.ObservableStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * StorageAccess implementation wrapping a JCache {@link Cache} reference,
+ * notifying the changes made to the JCache cache, by this node through this
+ * storage or by other nodes through a listener of the created, updated,
+ * removed and expired entries.  Since clearing a JCache cache notifies no
+ * listener, only the clearing done through this storage is notified.
+ */
+@SuppressWarnings("unchecked")
+public class JCacheObservableAccessImpl extends JCacheAccessImpl implements ObservableStorageAccess {
+	private final List<ChangeListener> changeListeners = new CopyOnWriteArrayList<>();
+	private final CacheEntryListenerConfiguration<Object, Object> listenerConfiguration;
+
+	public JCacheObservableAccessImpl(Cache underlyingCache) {
+		super( underlyingCache );
+		this.listenerConfiguration = new MutableCacheEntryListenerConfiguration<>(
+				FactoryBuilder.factoryOf( new NotifyingListener( this ) ),
+				null,
+				false,
+				true
+		);
+		underlyingCache.registerCacheEntryListener( listenerConfiguration );
+	}
+
+	@Override
+	public void addChangeListener(ChangeListener listener) {
+		changeListeners.add( listener );
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		super.putIntoCache( key, value, session );
+		entryChanged( key );
+	}
+
+	@Override
+	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		super.removeFromCache( key, session );
+		entryChanged( key );
+	}
+
+	@Override
+	public void evictData(Object key) {
+		super.evictData( key );
+		entryChanged( key );
+	}
+
+	@Override
+	public void clearCache(SharedSessionContractImplementor session) {
+		super.clearCache( session );
+		cleared();
+	}
+
+	@Override
+	public void evictData() {
+		super.evictData();
+		cleared();
+	}
+
+	@Override
+	public void release() {
+		try {
+			getUnderlyingCache().deregisterCacheEntryListener( listenerConfiguration );
+		}
+		finally {
+			cleared();
+			changeListeners.clear();
+			super.release();
+		}
+	}
+
+	private void entryChanged(Object key) {
+		for ( ChangeListener listener : changeListeners ) {
+			listener.entryChanged( key );
+		}
+	}
+
+	private void cleared() {
+		for ( ChangeListener listener : changeListeners ) {
+			listener.cleared();
+		}
+	}
+
+	/**
+	 * Notifies the changes made to the entries of the JCache cache.  Only
+	 * meaningful in the JVM where it was registered, should the cache
+	 * provider serialize it.
+	 */
+	private static class NotifyingListener
+			implements CacheEntryCreatedListener<Object, Object>, CacheEntryUpdatedListener<Object, Object>,
+			CacheEntryRemovedListener<Object, Object>, CacheEntryExpiredListener<Object, Object>, Serializable {
+		private final transient JCacheObservableAccessImpl access;
+
+		private NotifyingListener(JCacheObservableAccessImpl access) {
+			this.access = access;
+		}
+
+		@Override
+		public void onCreated(Iterable<CacheEntryEvent<? extends Object, ? extends Object>> events) {
+			changed( events );
+		}
+
+		@Override
+		public void onUpdated(Iterable<CacheEntryEvent<? extends Object, ? extends Object>> events) {
+			changed( events );
+		}
+
+		@Override
+		public void onRemoved(Iterable<CacheEntryEvent<? extends Object, ? extends Object>> events) {
+			changed( events );
+		}
+
+		@Override
+		public void onExpired(Iterable<CacheEntryEvent<? extends Object, ? extends Object>> events) {
+			changed( events );
+		}
+
+		private void changed(Iterable<CacheEntryEvent<? extends Object, ? extends Object>> events) {
+			if ( access != null ) {
+				for ( CacheEntryEvent<?, ?> event : events ) {
+					access.entryChanged( event.getKey() );
+				}
+			}
+		}
+	}
+}
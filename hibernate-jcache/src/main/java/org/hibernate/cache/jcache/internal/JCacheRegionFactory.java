@@ -34,6 +34,7 @@ import org.hibernate.cache.spi.support.RegionFactoryTemplate;
 import org.hibernate.cache.spi.support.RegionNameQualifier;
 import org.hibernate.cache.spi.support.StorageAccess;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 
 import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
 
@@ -45,6 +46,7 @@ public class JCacheRegionFactory extends RegionFactoryTemplate {
 
 	private volatile CacheManager cacheManager;
 	private volatile MissingCacheStrategy missingCacheStrategy;
+	private volatile Map<String,Object> configValues;
 
 	@SuppressWarnings("unused")
 	public JCacheRegionFactory() {
@@ -81,9 +83,22 @@ public class JCacheRegionFactory extends RegionFactoryTemplate {
 	protected DomainDataStorageAccess createDomainDataStorageAccess(
 			DomainDataRegionConfig regionConfig,
 			DomainDataRegionBuildingContext buildingContext) {
-		return new JCacheAccessImpl(
-				getOrCreateCache( regionConfig.getRegionName(), buildingContext.getSessionFactory() )
-		);
+		final String regionName = regionConfig.getRegionName();
+		final Cache<Object, Object> cache = getOrCreateCache( regionName, buildingContext.getSessionFactory() );
+		final long nearCacheMaxEntries = getRegionSetting( ConfigSettings.NEAR_CACHE_MAX_ENTRIES, regionName );
+		if ( nearCacheMaxEntries > 0 ) {
+			return new JCacheNearCacheAccessImpl(
+					cache,
+					nearCacheMaxEntries,
+					getRegionSetting( ConfigSettings.NEAR_CACHE_EXPIRE_AFTER_WRITE, regionName )
+			);
+		}
+		return new JCacheAccessImpl( cache );
+	}
+
+	private long getRegionSetting(String settingName, String regionName) {
+		final long defaultValue = ConfigurationHelper.getLong( settingName, configValues, 0 );
+		return ConfigurationHelper.getLong( settingName + '.' + regionName, configValues, defaultValue );
 	}
 
 	protected Cache<Object, Object> getOrCreateCache(String unqualifiedRegionName, SessionFactoryImplementor sessionFactory) {
@@ -152,9 +167,11 @@ public class JCacheRegionFactory extends RegionFactoryTemplate {
 				DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
 				LEGACY_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAMES
 		);
-		return new JCacheAccessImpl(
-				getOrCreateCache( defaultedRegionName, sessionFactory )
-		);
+		final Cache<Object, Object> cache = getOrCreateCache( defaultedRegionName, sessionFactory );
+		if ( ConfigurationHelper.getBoolean( ConfigSettings.TIMESTAMPS_MIRROR, configValues ) ) {
+			return new JCacheObservableAccessImpl( cache );
+		}
+		return new JCacheAccessImpl( cache );
 	}
 
 	protected final String defaultRegionName(String regionName, SessionFactoryImplementor sessionFactory,
@@ -193,6 +210,7 @@ public class JCacheRegionFactory extends RegionFactoryTemplate {
 		this.missingCacheStrategy = MissingCacheStrategy.interpretSetting(
 				getProp( configValues, ConfigSettings.MISSING_CACHE_STRATEGY )
 		);
+		this.configValues = configValues;
 	}
 
 	protected CacheManager resolveCacheManager(SessionFactoryOptions settings, Map<String,Object> properties) {
@@ -289,6 +307,7 @@ public class JCacheRegionFactory extends RegionFactoryTemplate {
 		}
 		finally {
 			cacheManager = null;
+			configValues = null;
 		}
 	}
 }
@@ -0,0 +1,84 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.jcache;
+
+import javax.cache.Cache;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.internal.JCacheAccessImpl;
+import org.hibernate.cache.jcache.internal.JCacheNearCacheAccessImpl;
+import org.hibernate.cache.spi.Region;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.hibernate.testing.orm.junit.BaseUnitTest;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hibernate.testing.transaction.TransactionUtil2.inSession;
+
+/**
+ * Tests around {@link JCacheNearCacheAccessImpl}
+ */
+@BaseUnitTest
+public class NearCacheTest {
+
+	@Test
+	public void testNearCacheIsInvalidatedByChangesToTheJCacheCache() {
+		TestHelper.preBuildAllCaches();
+		try (final SessionFactoryImplementor sessionFactory = TestHelper.buildStandardSessionFactory(
+				builder -> builder.applySetting( ConfigSettings.NEAR_CACHE_MAX_ENTRIES, "100" )
+		) ) {
+			final Region region = sessionFactory.getCache().getRegion( TestHelper.entityRegionNames[0] );
+			final DomainDataRegionTemplate domainDataRegion = (DomainDataRegionTemplate) region;
+			assertThat( domainDataRegion.getCacheStorageAccess(), instanceOf( JCacheNearCacheAccessImpl.class ) );
+
+			final JCacheNearCacheAccessImpl access = (JCacheNearCacheAccessImpl) domainDataRegion.getCacheStorageAccess();
+			final Cache jcache = access.getUnderlyingCache();
+
+			inSession(
+					sessionFactory,
+					s -> {
+						access.putIntoCache( "key", "value", s );
+						assertThat( access.getFromCache( "key", s ), equalTo( "value" ) );
+						assertThat( access.getNearCache().containsKey( "key" ), is( true ) );
+
+						// changes made by another node
+						jcache.put( "key", "other value" );
+						assertThat( access.getNearCache().containsKey( "key" ), is( false ) );
+						assertThat( access.getFromCache( "key", s ), equalTo( "other value" ) );
+
+						jcache.remove( "key" );
+						assertThat( access.getFromCache( "key", s ), nullValue() );
+
+						access.putIntoCache( "key", "value", s );
+						assertThat( access.getAllFromCache( new Object[] { "key", "missing" }, s ),
+								equalTo( new Object[] { "value", null } ) );
+						access.evictData();
+						assertThat( access.getNearCache().size(), is( 0L ) );
+						assertThat( access.getFromCache( "key", s ), nullValue() );
+					}
+			);
+		}
+	}
+
+	@Test
+	public void testNearCacheDisabledByDefault() {
+		TestHelper.preBuildAllCaches();
+		try (final SessionFactoryImplementor sessionFactory = TestHelper.buildStandardSessionFactory() ) {
+			final Region region = sessionFactory.getCache().getRegion( TestHelper.entityRegionNames[0] );
+			final Object access = ( (DomainDataRegionTemplate) region ).getCacheStorageAccess();
+			assertThat( access, instanceOf( JCacheAccessImpl.class ) );
+			assertThat( access, not( instanceOf( JCacheNearCacheAccessImpl.class ) ) );
+		}
+	}
+}
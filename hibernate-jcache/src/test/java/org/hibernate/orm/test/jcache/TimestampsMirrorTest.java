@@ -0,0 +1,78 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.jcache;
+
+import javax.cache.Cache;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.internal.JCacheAccessImpl;
+import org.hibernate.cache.jcache.internal.JCacheObservableAccessImpl;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.cache.spi.support.TimestampsRegionTemplate;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.hibernate.testing.orm.junit.BaseUnitTest;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hibernate.testing.transaction.TransactionUtil2.inSession;
+
+/**
+ * Tests around the local mirror of the update timestamps kept by
+ * {@link org.hibernate.cache.spi.TimestampsCache} over a {@link JCacheObservableAccessImpl}
+ */
+@BaseUnitTest
+public class TimestampsMirrorTest {
+
+	@Test
+	public void testMirrorIsInvalidatedByChangesToTheJCacheCache() {
+		TestHelper.preBuildAllCaches();
+		try (final SessionFactoryImplementor sessionFactory = TestHelper.buildStandardSessionFactory(
+				builder -> builder.applySetting( ConfigSettings.TIMESTAMPS_MIRROR, "true" )
+		) ) {
+			final TimestampsCache timestampsCache = sessionFactory.getCache().getTimestampsCache();
+			final TimestampsRegionTemplate region = (TimestampsRegionTemplate) timestampsCache.getRegion();
+			assertThat( region.getStorageAccess(), instanceOf( JCacheObservableAccessImpl.class ) );
+			final Cache jcache = ( (JCacheObservableAccessImpl) region.getStorageAccess() ).getUnderlyingCache();
+
+			inSession(
+					sessionFactory,
+					s -> {
+						final String[] spaces = { "space" };
+						final Long timestamp = sessionFactory.getCache().getRegionFactory().nextTimestamp();
+						assertThat( timestampsCache.isUpToDate( spaces, timestamp, s ), is( true ) );
+
+						// an update made by another node
+						jcache.put( "space", timestamp + 1 );
+						assertThat( timestampsCache.isUpToDate( spaces, timestamp, s ), is( false ) );
+						assertThat( timestampsCache.isUpToDate( spaces, timestamp + 2, s ), is( true ) );
+
+						timestampsCache.preInvalidate( spaces, s );
+						assertThat( timestampsCache.isUpToDate( spaces, timestamp + 2, s ), is( false ) );
+
+						jcache.remove( "space" );
+						assertThat( timestampsCache.isUpToDate( spaces, timestamp + 2, s ), is( true ) );
+					}
+			);
+		}
+	}
+
+	@Test
+	public void testMirrorDisabledByDefault() {
+		TestHelper.preBuildAllCaches();
+		try (final SessionFactoryImplementor sessionFactory = TestHelper.buildStandardSessionFactory() ) {
+			final TimestampsRegionTemplate region = (TimestampsRegionTemplate) sessionFactory.getCache()
+					.getTimestampsCache()
+					.getRegion();
+			assertThat( region.getStorageAccess(), instanceOf( JCacheAccessImpl.class ) );
+			assertThat( region.getStorageAccess(), not( instanceOf( JCacheObservableAccessImpl.class ) ) );
+		}
+	}
+}